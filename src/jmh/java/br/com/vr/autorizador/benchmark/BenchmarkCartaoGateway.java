@@ -0,0 +1,107 @@
+package br.com.vr.autorizador.benchmark;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+final class BenchmarkCartaoGateway implements CartaoGateway {
+
+    private final Map<String, Cartao> cartoes = new ConcurrentHashMap<>();
+    private final Map<String, Reserva> reservas = new ConcurrentHashMap<>();
+
+    void seed(Cartao cartao) {
+        cartoes.put(cartao.getNumeroCartao(), cartao);
+    }
+
+    @Override
+    public Optional<Cartao> create(Cartao cartao) {
+        return cartoes.containsKey(cartao.getNumeroCartao())
+                ? Optional.empty()
+                : Optional.of(cartao);
+    }
+
+    @Override
+    public Optional<Cartao> findBy(String numeroCartao) {
+        return Optional.ofNullable(cartoes.get(numeroCartao));
+    }
+
+    @Override
+    public DebitResult debit(String numeroCartao, String senha, long valor) {
+        final var result = new DebitResult[]{DebitResult.CARTAO_INEXISTENTE};
+        cartoes.computeIfPresent(numeroCartao, (key, cartao) -> {
+            result[0] = cartao.authorize(valor, senha);
+            return result[0].isApproved()
+                    ? Cartao.with(key, cartao.getSenha(), cartao.getSaldo() - valor)
+                    : cartao;
+        });
+        return result[0];
+    }
+
+    @Override
+    public void forEachNumeroCartao(Consumer<String> action) {
+        cartoes.keySet().forEach(action);
+    }
+
+    @Override
+    public DebitResult hold(Reserva reserva, String senha) {
+        final var result = new DebitResult[]{DebitResult.CARTAO_INEXISTENTE};
+        cartoes.computeIfPresent(reserva.numeroCartao(), (key, cartao) -> {
+            final var updated = Cartao.with(key, cartao.getSenha(), cartao.getSaldo(), cartao.getSaldoReservado());
+            result[0] = updated.hold(reserva.valor(), senha);
+            if (result[0].isApproved()) {
+                reservas.put(reserva.id(), reserva);
+            }
+            return updated;
+        });
+        return result[0];
+    }
+
+    @Override
+    public DebitResult capture(Reserva reserva, long valor) {
+        final var authorized = reserva.authorizeCapture(valor);
+        if (!authorized.isApproved()) {
+            return authorized;
+        }
+        final var result = new DebitResult[]{DebitResult.RESERVA_INEXISTENTE};
+        cartoes.computeIfPresent(reserva.numeroCartao(), (key, cartao) -> {
+            if (reservas.remove(reserva.id()) == null) {
+                return cartao;
+            }
+            final var updated = Cartao.with(key, cartao.getSenha(), cartao.getSaldo(), cartao.getSaldoReservado());
+            result[0] = updated.capture(reserva, valor);
+            return updated;
+        });
+        return result[0];
+    }
+
+    @Override
+    public boolean release(Reserva reserva) {
+        final var released = new boolean[1];
+        cartoes.computeIfPresent(reserva.numeroCartao(), (key, cartao) -> {
+            released[0] = reservas.remove(reserva.id()) != null;
+            if (!released[0]) {
+                return cartao;
+            }
+            final var updated = Cartao.with(key, cartao.getSenha(), cartao.getSaldo(), cartao.getSaldoReservado());
+            updated.release(reserva);
+            return updated;
+        });
+        return released[0];
+    }
+
+    @Override
+    public Optional<Reserva> findReserva(String reservaId) {
+        return Optional.ofNullable(reservas.get(reservaId));
+    }
+
+    @Override
+    public void forEachReserva(Consumer<Reserva> action) {
+        reservas.values().forEach(action);
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.vr.autorizador.benchmark;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoValidator;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.validation.handler.NotificationHandler;
+import br.com.vr.autorizador.domain.validation.handler.ThrowsValidationHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CartaoBenchmark {
+
+    private static final String NUMERO_CARTAO = "6549873025634501";
+    private static final String SENHA = "1234";
+
+    private final ThrowsValidationHandler throwsHandler = new ThrowsValidationHandler();
+    private Cartao cartao;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        cartao = Cartao.with(NUMERO_CARTAO, SENHA, Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public Cartao debit() {
+        cartao.debit(1L, SENHA, throwsHandler);
+        return cartao;
+    }
+
+    @Benchmark
+    public DebitResult authorizeSenhaInvalida() {
+        return cartao.authorize(1L, "4321");
+    }
+
+    @Benchmark
+    public NotificationHandler validate() {
+        final var notification = NotificationHandler.create();
+        new CartaoValidator(cartao, notification).validate();
+        return notification;
+    }
+
+    @Benchmark
+    public NotificationHandler validateInvalido() {
+        final var notification = NotificationHandler.create();
+        new CartaoValidator(Cartao.newCartao("65498730256345AB", " "), notification).validate();
+        return notification;
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.vr.autorizador.benchmark;
+
+import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoCentavosRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoRestInput;
+import br.com.vr.autorizador.infrastructure.rest.converters.RestInputReader;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JacksonBenchmark {
+
+    private final byte[] json = """
+            {"numeroCartao":"6549873025634501","senhaCartao":"1234","valor":10.50}"""
+            .getBytes(StandardCharsets.UTF_8);
+    private final DebitCartaoRestInput input = new DebitCartaoRestInput("6549873025634501", "1234", new BigDecimal("10.50"));
+
+    private JsonFactory factory;
+    private ObjectReader reader;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        final var objectMapper = new ObjectMapper();
+        factory = objectMapper.getFactory();
+        reader = objectMapper.readerFor(DebitCartaoRestInput.class);
+        writer = objectMapper.writerFor(DebitCartaoRestInput.class);
+    }
+
+    @Benchmark
+    public DebitCartaoRestInput deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    @Benchmark
+    public DebitCartaoCentavosRestInput deserializeStreaming() throws IOException {
+        try (var parser = factory.createParser(json)) {
+            return RestInputReader.readDebit(parser);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(input);
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.vr.autorizador.benchmark;
+
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.domain.validation.handler.NotificationHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationBenchmark {
+
+    private static final String MESSAGE = "Saldo insuficiente";
+
+    @Benchmark
+    public NotificationHandler notificationHandler() {
+        final var notification = NotificationHandler.create();
+        notification.append(MESSAGE);
+        return notification;
+    }
+
+    @Benchmark
+    public NotificationException notificationException() {
+        final var notification = NotificationHandler.create();
+        notification.append(MESSAGE);
+        return NotificationException.with("Não foi possível debitar do cartão", notification);
+    }
+
+    @Benchmark
+    public NotificationException notificationExceptionSimples() {
+        return new NotificationException(MESSAGE);
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.vr.autorizador.benchmark;
+
+import br.com.vr.autorizador.application.cartao.create.CreateCartaoInput;
+import br.com.vr.autorizador.application.cartao.create.CreateCartaoOutput;
+import br.com.vr.autorizador.application.cartao.create.CreateCartaoUseCaseImpl;
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCaseImpl;
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UseCaseBenchmark {
+
+    private static final String SENHA = "1234";
+    private static final int NEW_CARD_NUMBERS = 1024;
+
+    @State(Scope.Benchmark)
+    public static class Gateway {
+        final BenchmarkCartaoGateway cartaoGateway = new BenchmarkCartaoGateway();
+        final DebitCartaoUseCaseImpl debitCartaoUseCase = new DebitCartaoUseCaseImpl(cartaoGateway);
+        final CreateCartaoUseCaseImpl createCartaoUseCase = new CreateCartaoUseCaseImpl(cartaoGateway);
+        final AtomicInteger threads = new AtomicInteger();
+    }
+
+    @State(Scope.Thread)
+    public static class Card {
+        DebitCartaoInput approved;
+        DebitCartaoInput declined;
+        CreateCartaoInput existing;
+        CreateCartaoInput[] newCards;
+        int next;
+
+        @Setup
+        public void setUp(Gateway gateway) {
+            final int thread = gateway.threads.getAndIncrement();
+            final var numeroCartao = "65498730%08d".formatted(thread);
+            gateway.cartaoGateway.seed(Cartao.with(numeroCartao, SENHA, Long.MAX_VALUE));
+
+            approved = DebitCartaoInput.with(numeroCartao, SENHA, 1L);
+            declined = DebitCartaoInput.with(numeroCartao, "4321", 1L);
+            existing = CreateCartaoInput.with(numeroCartao, SENHA);
+            newCards = new CreateCartaoInput[NEW_CARD_NUMBERS];
+            for (int i = 0; i < NEW_CARD_NUMBERS; i++) {
+                newCards[i] = CreateCartaoInput.with("7%03d%012d".formatted(thread, i), SENHA);
+            }
+
+            try {
+                gateway.createCartaoUseCase.execute(existing);
+                throw new IllegalStateException("'createExistente' deve medir a recusa de cartão duplicado");
+            } catch (NotificationException expected) {
+                gateway.createCartaoUseCase.execute(newCards[0]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void debitAprovado(Gateway gateway, Card card) {
+        gateway.debitCartaoUseCase.execute(card.approved);
+    }
+
+    @Benchmark
+    public NotificationException debitRecusado(Gateway gateway, Card card) {
+        try {
+            gateway.debitCartaoUseCase.execute(card.declined);
+            return null;
+        } catch (NotificationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public CreateCartaoOutput createNovo(Gateway gateway, Card card) {
+        return gateway.createCartaoUseCase.execute(card.newCards[card.next++ & (NEW_CARD_NUMBERS - 1)]);
+    }
+
+    @Benchmark
+    public NotificationException createExistente(Gateway gateway, Card card) {
+        try {
+            gateway.createCartaoUseCase.execute(card.existing);
+            return null;
+        } catch (NotificationException e) {
+            return e;
+        }
+    }
+}
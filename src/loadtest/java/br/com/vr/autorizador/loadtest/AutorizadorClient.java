@@ -0,0 +1,61 @@
+package br.com.vr.autorizador.loadtest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+public class AutorizadorClient {
+
+    private static final String SENHA = "1234";
+
+    private final HttpClient httpClient;
+    private final URI baseUrl;
+    private final Duration timeout;
+
+    public AutorizadorClient(URI baseUrl, Duration timeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(timeout)
+                .build();
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+    }
+
+    public static String numeroCartao(long index) {
+        return "5%015d".formatted(index);
+    }
+
+    public int create(String numeroCartao) throws IOException, InterruptedException {
+        return post("/cartoes", """
+                {"numeroCartao":"%s","senha":"%s"}""".formatted(numeroCartao, SENHA));
+    }
+
+    public int debit(String numeroCartao, BigDecimal valor) throws IOException, InterruptedException {
+        return post("/transacoes", """
+                {"numeroCartao":"%s","senhaCartao":"%s","valor":%s}""".formatted(numeroCartao, SENHA, valor.toPlainString()));
+    }
+
+    public int read(String numeroCartao) throws IOException, InterruptedException {
+        final var request = HttpRequest.newBuilder(baseUrl.resolve("/cartoes/" + numeroCartao))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int post(String path, String body) throws IOException, InterruptedException {
+        final var request = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.vr.autorizador.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public interface KeyDistribution {
+
+    int next(SplittableRandom random);
+
+    static KeyDistribution uniform(int cards) {
+        return new Named("uniform", random -> random.nextInt(cards));
+    }
+
+    static KeyDistribution hot(int cards, double hotFraction) {
+        return new Named("hot(%.2f)".formatted(hotFraction),
+                random -> random.nextDouble() < hotFraction ? 0 : random.nextInt(cards));
+    }
+
+    static KeyDistribution zipf(int cards, double exponent) {
+        final double[] cdf = new double[cards];
+        double sum = 0;
+        for (int rank = 0; rank < cards; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cdf[rank] = sum;
+        }
+        for (int rank = 0; rank < cards; rank++) {
+            cdf[rank] /= sum;
+        }
+        return new Named("zipf(%.2f)".formatted(exponent), random -> {
+            final int index = Arrays.binarySearch(cdf, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cards - 1);
+        });
+    }
+
+    record Named(String name, KeyDistribution distribution) implements KeyDistribution {
+        @Override
+        public int next(SplittableRandom random) {
+            return distribution.next(random);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.vr.autorizador.loadtest;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public record LoadConfig(
+        URI baseUrl,
+        int cards,
+        Mode mode,
+        int rate,
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        OperationMix mix,
+        KeyDistribution distribution,
+        BigDecimal amount,
+        Duration timeout,
+        int maxInFlight,
+        String output
+) {
+
+    public enum Mode {
+        OPEN, CLOSED
+    }
+
+    public static LoadConfig parse(String[] args) {
+        final Map<String, String> values = new HashMap<>();
+        for (var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento inválido '%s', use --chave=valor".formatted(arg));
+            }
+            final int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        final int cards = Integer.parseInt(values.getOrDefault("cards", "1000"));
+        final var distribution = switch (values.getOrDefault("distribution", "uniform")) {
+            case "uniform" -> KeyDistribution.uniform(cards);
+            case "zipf" -> KeyDistribution.zipf(cards, Double.parseDouble(values.getOrDefault("zipf-exponent", "1.0")));
+            case "hot" -> KeyDistribution.hot(cards, Double.parseDouble(values.getOrDefault("hot-fraction", "1.0")));
+            default -> throw new IllegalArgumentException("'distribution' deve ser uniform, zipf ou hot");
+        };
+
+        return new LoadConfig(
+                URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+                cards,
+                Mode.valueOf(values.getOrDefault("mode", "closed").toUpperCase()),
+                Integer.parseInt(values.getOrDefault("rate", "1000")),
+                Integer.parseInt(values.getOrDefault("concurrency", "64")),
+                duration(values.getOrDefault("duration", "30s")),
+                duration(values.getOrDefault("warmup", "5s")),
+                OperationMix.parse(values.getOrDefault("mix", "debit:80,read:15,create:5")),
+                distribution,
+                new BigDecimal(values.getOrDefault("amount", "0.01")),
+                duration(values.getOrDefault("timeout", "5s")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "10000")),
+                values.getOrDefault("output", "target/loadtest")
+        );
+    }
+
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        final long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Duração inválida '%s', use ms, s ou m".formatted(value));
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.vr.autorizador.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public final class LoadGenerator {
+
+    private final LoadConfig config;
+    private final AutorizadorClient client;
+    private final LoadReport report = new LoadReport();
+    private final AtomicLong nextNewCard;
+
+    private LoadGenerator(LoadConfig config) {
+        this.config = config;
+        this.client = new AutorizadorClient(config.baseUrl(), config.timeout());
+        this.nextNewCard = new AtomicLong(config.cards() + System.currentTimeMillis() % 1_000_000_000L * 1000);
+    }
+
+    public static void main(String[] args) throws Exception {
+        final var config = LoadConfig.parse(args);
+        new LoadGenerator(config).run();
+    }
+
+    private void run() throws Exception {
+        System.out.printf("Criando %d cartões em %s...%n", config.cards(), config.baseUrl());
+        createCards();
+
+        System.out.printf("Aquecimento de %ds...%n", config.warmup().toSeconds());
+        drive(config.warmup().toNanos());
+        report.reset();
+
+        System.out.printf("Medindo por %ds...%n", config.duration().toSeconds());
+        final long elapsed = drive(config.duration().toNanos());
+        report.print(System.out, config, elapsed, Path.of(config.output()));
+    }
+
+    private void createCards() throws InterruptedException {
+        final var permits = new Semaphore(config.concurrency());
+        final var failures = new AtomicLong();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.cards(); i++) {
+                final var numeroCartao = AutorizadorClient.numeroCartao(i);
+                permits.acquire();
+                executor.submit(() -> {
+                    try {
+                        final int status = client.create(numeroCartao);
+                        if (status != 201 && status != 422) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (IOException | InterruptedException e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        if (failures.get() > 0) {
+            throw new IllegalStateException("Falha ao criar %d cartões".formatted(failures.get()));
+        }
+    }
+
+    private long drive(long durationNanos) throws InterruptedException {
+        final long start = System.nanoTime();
+        final long end = start + durationNanos;
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (config.mode() == LoadConfig.Mode.OPEN) {
+                openLoop(executor, start, end);
+            } else {
+                closedLoop(executor, end);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void openLoop(ExecutorService executor, long start, long end) {
+        final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        final var inFlight = new Semaphore(config.maxInFlight());
+        final var random = new SplittableRandom();
+
+        for (long i = 0; ; i++) {
+            final long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                return;
+            }
+            final long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                report.drop();
+                continue;
+            }
+
+            final var operation = config.mix().next(random);
+            final int key = config.distribution().next(random);
+            executor.submit(() -> {
+                try {
+                    execute(operation, key, intended);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    private void closedLoop(ExecutorService executor, long end) {
+        for (int i = 0; i < config.concurrency(); i++) {
+            executor.submit(() -> {
+                final var random = new SplittableRandom();
+                while (System.nanoTime() < end) {
+                    execute(config.mix().next(random), config.distribution().next(random), System.nanoTime());
+                }
+            });
+        }
+    }
+
+    private void execute(Operation operation, int key, long startNanos) {
+        String status;
+        try {
+            status = String.valueOf(switch (operation) {
+                case DEBIT -> client.debit(AutorizadorClient.numeroCartao(key), config.amount());
+                case READ -> client.read(AutorizadorClient.numeroCartao(key));
+                case CREATE -> client.create(AutorizadorClient.numeroCartao(nextNewCard.getAndIncrement()));
+            });
+        } catch (IOException e) {
+            status = e.getClass().getSimpleName();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        report.record(operation, status, System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.vr.autorizador.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LoadReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    public LoadReport() {
+        for (var operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+        }
+    }
+
+    public void record(Operation operation, String status, long latencyNanos) {
+        recorders.get(operation).recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        statuses.computeIfAbsent(operation + " " + status, key -> new LongAdder()).increment();
+    }
+
+    public void drop() {
+        dropped.increment();
+    }
+
+    public void reset() {
+        recorders.values().forEach(Recorder::reset);
+        statuses.clear();
+        dropped.reset();
+    }
+
+    public void print(PrintStream out, LoadConfig config, long elapsedNanos, Path output) throws IOException {
+        final double seconds = elapsedNanos / 1e9;
+        final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+
+        Files.createDirectories(output);
+        final long total = histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+        out.printf("%nmodo=%s distribuicao=%s mix=%s cartoes=%d duracao=%.1fs%n",
+                config.mode(), config.distribution(), config.mix(), config.cards(), seconds);
+        out.printf("total=%d throughput=%.1f req/s nao-enviadas=%d%n%n", total, total / seconds, dropped.sum());
+        out.printf("%-7s %10s %10s %9s %9s %9s %9s %9s %9s%n",
+                "op", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "p99.99", "max ms");
+
+        for (var entry : histograms.entrySet()) {
+            final var histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            out.printf("%-7s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99.99) / MICROS_PER_MILLI,
+                    histogram.getMaxValue() / MICROS_PER_MILLI);
+
+            try (var file = new PrintStream(Files.newOutputStream(output.resolve(entry.getKey().name().toLowerCase() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(file, MICROS_PER_MILLI);
+            }
+        }
+
+        out.println();
+        new TreeMap<>(statuses).forEach((status, count) -> out.printf("%-20s %d%n", status, count.sum()));
+        out.printf("%nDistribuições de percentis (ms) em %s/*.hgrm%n", output);
+    }
+}
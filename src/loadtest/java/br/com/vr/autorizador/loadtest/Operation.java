@@ -0,0 +1,5 @@
+package br.com.vr.autorizador.loadtest;
+
+public enum Operation {
+    DEBIT, READ, CREATE
+}
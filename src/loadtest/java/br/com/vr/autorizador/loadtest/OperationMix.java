@@ -0,0 +1,49 @@
+package br.com.vr.autorizador.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+public final class OperationMix {
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final int[] cumulative = new int[OPERATIONS.length];
+    private final Map<Operation, Integer> weights;
+
+    private OperationMix(Map<Operation, Integer> weights) {
+        this.weights = weights;
+        int total = 0;
+        for (var operation : OPERATIONS) {
+            total += weights.getOrDefault(operation, 0);
+            cumulative[operation.ordinal()] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("'mix' deve ter ao menos uma operação com peso positivo");
+        }
+    }
+
+    public static OperationMix parse(String value) {
+        final Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (var entry : value.split(",")) {
+            final var parts = entry.split(":");
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return new OperationMix(weights);
+    }
+
+    public Operation next(SplittableRandom random) {
+        final int value = random.nextInt(cumulative[cumulative.length - 1]);
+        for (var operation : OPERATIONS) {
+            if (value < cumulative[operation.ordinal()]) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public String toString() {
+        return weights.toString();
+    }
+}
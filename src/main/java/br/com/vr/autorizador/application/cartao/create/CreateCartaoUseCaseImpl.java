@@ -26,11 +26,8 @@ public class CreateCartaoUseCaseImpl implements CreateCartaoUseCase {
             throw NotificationException.with("Não foi possível criar o cartão", notification);
         }
 
-        final var registeredCard = cartaoGateway.findBy(input.numeroCartao());
-        if (registeredCard.isPresent()) {
-            throw NotificationException.with("Cartão já existente", notification);
-        }
-
-        return CreateCartaoOutput.from(this.cartaoGateway.create(cartao));
+        return this.cartaoGateway.create(cartao)
+                .map(CreateCartaoOutput::from)
+                .orElseThrow(() -> NotificationException.with("Cartão já existente", notification));
     }
 }
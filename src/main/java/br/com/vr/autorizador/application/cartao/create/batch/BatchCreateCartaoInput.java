@@ -0,0 +1,11 @@
+package br.com.vr.autorizador.application.cartao.create.batch;
+
+import br.com.vr.autorizador.application.cartao.create.CreateCartaoInput;
+
+import java.util.List;
+
+public record BatchCreateCartaoInput(List<CreateCartaoInput> cartoes) {
+    public static BatchCreateCartaoInput with(List<CreateCartaoInput> cartoes) {
+        return new BatchCreateCartaoInput(cartoes);
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.vr.autorizador.application.cartao.create.batch;
+
+import java.util.List;
+
+public record BatchCreateCartaoOutput(List<Item> items) {
+
+    public static BatchCreateCartaoOutput from(List<Item> items) {
+        return new BatchCreateCartaoOutput(items);
+    }
+
+    public enum Resultado {
+        CRIADO,
+        CARTAO_EXISTENTE,
+        INVALIDO
+    }
+
+    public record Item(String numeroCartao, Resultado resultado, String mensagem) {
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.vr.autorizador.application.cartao.create.batch;
+
+import br.com.vr.autorizador.application.UseCase;
+
+public interface BatchCreateCartaoUseCase extends UseCase<BatchCreateCartaoInput, BatchCreateCartaoOutput> {
+}
@@ -0,0 +1,55 @@
+package br.com.vr.autorizador.application.cartao.create.batch;
+
+import br.com.vr.autorizador.application.cartao.create.CreateCartaoInput;
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.validation.handler.NotificationHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class BatchCreateCartaoUseCaseImpl implements BatchCreateCartaoUseCase {
+
+    private final CartaoGateway cartaoGateway;
+
+    public BatchCreateCartaoUseCaseImpl(CartaoGateway cartaoGateway) {
+        this.cartaoGateway = Objects.requireNonNull(cartaoGateway);
+    }
+
+    @Override
+    public BatchCreateCartaoOutput execute(BatchCreateCartaoInput input) {
+        final var cartoes = input.cartoes();
+        final var items = new BatchCreateCartaoOutput.Item[cartoes.size()];
+        final List<Integer> valid = new ArrayList<>(cartoes.size());
+        final List<Cartao> pending = new ArrayList<>(cartoes.size());
+
+        for (int i = 0; i < cartoes.size(); i++) {
+            final CreateCartaoInput cartaoInput = cartoes.get(i);
+            final var notification = NotificationHandler.create();
+            final var cartao = Cartao.newCartao(cartaoInput.numeroCartao(), cartaoInput.senha());
+            cartao.validate(notification);
+
+            if (notification.hasError()) {
+                items[i] = new BatchCreateCartaoOutput.Item(cartaoInput.numeroCartao(),
+                        BatchCreateCartaoOutput.Resultado.INVALIDO, notification.getErrors().get(0).message());
+                continue;
+            }
+            valid.add(i);
+            pending.add(cartao);
+        }
+
+        if (!pending.isEmpty()) {
+            final var results = cartaoGateway.createAll(pending);
+            for (int i = 0; i < pending.size(); i++) {
+                items[valid.get(i)] = results.get(i).isPresent()
+                        ? new BatchCreateCartaoOutput.Item(pending.get(i).getNumeroCartao(), BatchCreateCartaoOutput.Resultado.CRIADO, null)
+                        : new BatchCreateCartaoOutput.Item(pending.get(i).getNumeroCartao(), BatchCreateCartaoOutput.Resultado.CARTAO_EXISTENTE, "Cartão já existente");
+            }
+        }
+
+        return BatchCreateCartaoOutput.from(List.of(items));
+    }
+}
@@ -1,6 +1,36 @@
 package br.com.vr.autorizador.application.cartao.debit;
 
 import br.com.vr.autorizador.application.VoidUseCase;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.domain.validation.handler.NotificationHandler;
 
 public interface DebitCartaoUseCase extends VoidUseCase<DebitCartaoInput> {
+
+    DebitResult authorize(DebitCartaoInput input);
+
+    @Override
+    default void execute(DebitCartaoInput input) {
+        final var result = authorize(input);
+        if (!result.isApproved()) {
+            throw toException(input.numeroCartao(), result);
+        }
+    }
+
+    static String rejectionMessage(String numeroCartao, DebitResult result) {
+        if (result == DebitResult.CARTAO_INEXISTENTE) {
+            return "Cartao %s nao encontrado".formatted(numeroCartao);
+        }
+        return result.message();
+    }
+
+    static NotificationException toException(String numeroCartao, DebitResult result) {
+        if (result == DebitResult.CARTAO_INEXISTENTE) {
+            return new NotificationException(rejectionMessage(numeroCartao, result));
+        }
+
+        final var notification = NotificationHandler.create();
+        notification.append(result.message());
+        return NotificationException.with("Não foi possível debitar do cartão", notification);
+    }
 }
@@ -1,8 +1,7 @@
 package br.com.vr.autorizador.application.cartao.debit;
 
 import br.com.vr.autorizador.domain.cartao.CartaoGateway;
-import br.com.vr.autorizador.domain.exceptions.NotificationException;
-import br.com.vr.autorizador.domain.validation.handler.NotificationHandler;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
@@ -17,18 +16,7 @@ public class DebitCartaoUseCaseImpl implements DebitCartaoUseCase {
     }
 
     @Override
-    public void execute(DebitCartaoInput input) {
-        final String numeroCartao = input.numeroCartao();
-        final var cartao = cartaoGateway.findBy(numeroCartao)
-                .orElseThrow(() -> new NotificationException("Cartao %s nao encontrado".formatted(input.numeroCartao())));
-
-        final var notification = NotificationHandler.create();
-        cartao.debit(input.valor(), input.senhaCartao(), notification);
-
-        if (notification.hasError()) {
-            throw NotificationException.with("Não foi possível debitar do cartão", notification);
-        }
-
-        this.cartaoGateway.debit(cartao);
+    public DebitResult authorize(DebitCartaoInput input) {
+        return cartaoGateway.debit(input.numeroCartao(), input.senhaCartao(), input.valor());
     }
 }
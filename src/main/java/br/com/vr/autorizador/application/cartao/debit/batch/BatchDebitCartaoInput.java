@@ -0,0 +1,11 @@
+package br.com.vr.autorizador.application.cartao.debit.batch;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+
+import java.util.List;
+
+public record BatchDebitCartaoInput(List<DebitCartaoInput> debits) {
+    public static BatchDebitCartaoInput with(List<DebitCartaoInput> debits) {
+        return new BatchDebitCartaoInput(debits);
+    }
+}
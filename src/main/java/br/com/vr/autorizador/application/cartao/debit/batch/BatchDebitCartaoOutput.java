@@ -0,0 +1,15 @@
+package br.com.vr.autorizador.application.cartao.debit.batch;
+
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+
+import java.util.List;
+
+public record BatchDebitCartaoOutput(List<Item> items) {
+
+    public static BatchDebitCartaoOutput from(List<Item> items) {
+        return new BatchDebitCartaoOutput(items);
+    }
+
+    public record Item(String numeroCartao, DebitResult resultado) {
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.vr.autorizador.application.cartao.debit.batch;
+
+import br.com.vr.autorizador.application.UseCase;
+
+public interface BatchDebitCartaoUseCase extends UseCase<BatchDebitCartaoInput, BatchDebitCartaoOutput> {
+}
@@ -0,0 +1,48 @@
+package br.com.vr.autorizador.application.cartao.debit.batch;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+@Component
+public class BatchDebitCartaoUseCaseImpl implements BatchDebitCartaoUseCase {
+
+    private final CartaoGateway cartaoGateway;
+    private final int chunkSize;
+
+    public BatchDebitCartaoUseCaseImpl(
+            CartaoGateway cartaoGateway,
+            @Value("${autorizador.debit.batch.chunk-size:200}") int chunkSize
+    ) {
+        this.cartaoGateway = Objects.requireNonNull(cartaoGateway);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("'chunk-size' deve ser maior que zero");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BatchDebitCartaoOutput execute(BatchDebitCartaoInput input) {
+        final var debits = input.debits();
+        final var items = new ArrayList<BatchDebitCartaoOutput.Item>(debits.size());
+
+        for (int from = 0; from < debits.size(); from += chunkSize) {
+            final var chunk = debits.subList(from, Math.min(from + chunkSize, debits.size()));
+            final var results = cartaoGateway.debitAll(chunk.stream().map(BatchDebitCartaoUseCaseImpl::toDebit).toList());
+            for (int i = 0; i < chunk.size(); i++) {
+                items.add(new BatchDebitCartaoOutput.Item(chunk.get(i).numeroCartao(), results.get(i)));
+            }
+        }
+
+        return BatchDebitCartaoOutput.from(items);
+    }
+
+    private static Debit toDebit(DebitCartaoInput input) {
+        return Debit.with(input.numeroCartao(), input.senhaCartao(), input.valor());
+    }
+}
@@ -2,10 +2,8 @@ package br.com.vr.autorizador.application.cartao.get;
 
 import br.com.vr.autorizador.domain.cartao.Cartao;
 
-import java.math.BigDecimal;
-
-public record GetCartaoByNumeroOutput(String numeroCartao, BigDecimal saldo) {
+public record GetCartaoByNumeroOutput(String numeroCartao, long saldo, long saldoDisponivel) {
     public static GetCartaoByNumeroOutput from(Cartao cartao) {
-        return new GetCartaoByNumeroOutput(cartao.getNumeroCartao(), cartao.getSaldo());
+        return new GetCartaoByNumeroOutput(cartao.getNumeroCartao(), cartao.getSaldo(), cartao.getSaldoDisponivel());
     }
 }
@@ -0,0 +1,7 @@
+package br.com.vr.autorizador.application.reserva.capture;
+
+public record CaptureReservaInput(String reservaId, long valor) {
+    public static CaptureReservaInput with(String reservaId, long valor) {
+        return new CaptureReservaInput(reservaId, valor);
+    }
+}
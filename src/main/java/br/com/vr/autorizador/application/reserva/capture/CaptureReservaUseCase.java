@@ -0,0 +1,6 @@
+package br.com.vr.autorizador.application.reserva.capture;
+
+import br.com.vr.autorizador.application.VoidUseCase;
+
+public interface CaptureReservaUseCase extends VoidUseCase<CaptureReservaInput> {
+}
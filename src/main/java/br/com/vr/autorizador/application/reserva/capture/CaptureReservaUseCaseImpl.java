@@ -0,0 +1,45 @@
+package br.com.vr.autorizador.application.reserva.capture;
+
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.exceptions.NotFoundException;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import br.com.vr.autorizador.domain.reserva.ReservaScheduler;
+import br.com.vr.autorizador.domain.validation.handler.NotificationHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class CaptureReservaUseCaseImpl implements CaptureReservaUseCase {
+
+    private final CartaoGateway cartaoGateway;
+    private final ReservaScheduler reservaScheduler;
+
+    public CaptureReservaUseCaseImpl(CartaoGateway cartaoGateway, ReservaScheduler reservaScheduler) {
+        this.cartaoGateway = Objects.requireNonNull(cartaoGateway);
+        this.reservaScheduler = Objects.requireNonNull(reservaScheduler);
+    }
+
+    @Override
+    public void execute(CaptureReservaInput input) {
+        final String reservaId = input.reservaId();
+        final var reserva = cartaoGateway.findReserva(reservaId)
+                .orElseThrow(() -> NotFoundException.with(Reserva.class, reservaId));
+        final var result = cartaoGateway.capture(reserva, input.valor());
+
+        if (result.isApproved()) {
+            reservaScheduler.cancel(reservaId);
+            return;
+        }
+
+        if (result == DebitResult.RESERVA_INEXISTENTE) {
+            throw NotFoundException.with(Reserva.class, reservaId);
+        }
+
+        final var notification = NotificationHandler.create();
+        notification.append(result.message());
+        throw NotificationException.with("Não foi possível capturar a reserva", notification);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.vr.autorizador.application.reserva.create;
+
+public record CreateReservaInput(String numeroCartao, String senhaCartao, long valor) {
+    public static CreateReservaInput with(String numeroCartao, String senhaCartao, long valor) {
+        return new CreateReservaInput(numeroCartao, senhaCartao, valor);
+    }
+}
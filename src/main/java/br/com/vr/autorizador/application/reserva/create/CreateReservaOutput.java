@@ -0,0 +1,11 @@
+package br.com.vr.autorizador.application.reserva.create;
+
+import br.com.vr.autorizador.domain.reserva.Reserva;
+
+import java.time.Instant;
+
+public record CreateReservaOutput(String id, String numeroCartao, long valor, Instant expiraEm) {
+    public static CreateReservaOutput from(Reserva reserva) {
+        return new CreateReservaOutput(reserva.id(), reserva.numeroCartao(), reserva.valor(), reserva.expiraEm());
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.vr.autorizador.application.reserva.create;
+
+import br.com.vr.autorizador.application.UseCase;
+
+public interface CreateReservaUseCase extends UseCase<CreateReservaInput, CreateReservaOutput> {
+}
@@ -0,0 +1,52 @@
+package br.com.vr.autorizador.application.reserva.create;
+
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import br.com.vr.autorizador.domain.reserva.ReservaScheduler;
+import br.com.vr.autorizador.domain.validation.handler.NotificationHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+@Component
+public class CreateReservaUseCaseImpl implements CreateReservaUseCase {
+
+    private final CartaoGateway cartaoGateway;
+    private final ReservaScheduler reservaScheduler;
+    private final Duration validade;
+
+    public CreateReservaUseCaseImpl(
+            CartaoGateway cartaoGateway,
+            ReservaScheduler reservaScheduler,
+            @Value("${autorizador.reserva.validade:30m}") Duration validade
+    ) {
+        this.cartaoGateway = Objects.requireNonNull(cartaoGateway);
+        this.reservaScheduler = Objects.requireNonNull(reservaScheduler);
+        this.validade = Objects.requireNonNull(validade);
+    }
+
+    @Override
+    public CreateReservaOutput execute(CreateReservaInput input) {
+        final String numeroCartao = input.numeroCartao();
+        final var reserva = Reserva.newReserva(numeroCartao, input.valor(), Instant.now().plus(validade));
+        final var result = cartaoGateway.hold(reserva, input.senhaCartao());
+
+        if (result.isApproved()) {
+            reservaScheduler.schedule(reserva);
+            return CreateReservaOutput.from(reserva);
+        }
+
+        if (result == DebitResult.CARTAO_INEXISTENTE) {
+            throw new NotificationException("Cartao %s nao encontrado".formatted(numeroCartao));
+        }
+
+        final var notification = NotificationHandler.create();
+        notification.append(result.message());
+        throw NotificationException.with("Não foi possível reservar saldo do cartão", notification);
+    }
+}
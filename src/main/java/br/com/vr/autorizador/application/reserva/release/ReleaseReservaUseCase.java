@@ -0,0 +1,6 @@
+package br.com.vr.autorizador.application.reserva.release;
+
+import br.com.vr.autorizador.application.VoidUseCase;
+
+public interface ReleaseReservaUseCase extends VoidUseCase<String> {
+}
@@ -0,0 +1,32 @@
+package br.com.vr.autorizador.application.reserva.release;
+
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.exceptions.NotFoundException;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import br.com.vr.autorizador.domain.reserva.ReservaScheduler;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class ReleaseReservaUseCaseImpl implements ReleaseReservaUseCase {
+
+    private final CartaoGateway cartaoGateway;
+    private final ReservaScheduler reservaScheduler;
+
+    public ReleaseReservaUseCaseImpl(CartaoGateway cartaoGateway, ReservaScheduler reservaScheduler) {
+        this.cartaoGateway = Objects.requireNonNull(cartaoGateway);
+        this.reservaScheduler = Objects.requireNonNull(reservaScheduler);
+    }
+
+    @Override
+    public void execute(String reservaId) {
+        final var reserva = cartaoGateway.findReserva(reservaId)
+                .orElseThrow(() -> NotFoundException.with(Reserva.class, reservaId));
+
+        if (!cartaoGateway.release(reserva)) {
+            throw NotFoundException.with(Reserva.class, reservaId);
+        }
+        reservaScheduler.cancel(reservaId);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.vr.autorizador.application.transacao.list;
+
+public record ListTransacaoByCartaoInput(String numeroCartao, Long antesDe, int limite) {
+    public static ListTransacaoByCartaoInput with(String numeroCartao, Long antesDe, int limite) {
+        return new ListTransacaoByCartaoInput(numeroCartao, antesDe, limite);
+    }
+}
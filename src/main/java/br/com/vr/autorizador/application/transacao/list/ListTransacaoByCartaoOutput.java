@@ -0,0 +1,19 @@
+package br.com.vr.autorizador.application.transacao.list;
+
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.transacao.Transacao;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ListTransacaoByCartaoOutput(List<Item> transacoes, Long proximo) {
+    public static ListTransacaoByCartaoOutput from(List<Transacao> transacoes, Long proximo) {
+        return new ListTransacaoByCartaoOutput(transacoes.stream().map(Item::from).toList(), proximo);
+    }
+
+    public record Item(long sequencia, long valor, DebitResult resultado, Instant criadoEm) {
+        public static Item from(Transacao transacao) {
+            return new Item(transacao.sequencia(), transacao.valor(), transacao.resultado(), transacao.criadoEm());
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.vr.autorizador.application.transacao.list;
+
+import br.com.vr.autorizador.application.UseCase;
+
+public interface ListTransacaoByCartaoUseCase extends UseCase<ListTransacaoByCartaoInput, ListTransacaoByCartaoOutput> {
+}
@@ -0,0 +1,39 @@
+package br.com.vr.autorizador.application.transacao.list;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.exceptions.NotFoundException;
+import br.com.vr.autorizador.domain.transacao.TransacaoGateway;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class ListTransacaoByCartaoUseCaseImpl implements ListTransacaoByCartaoUseCase {
+
+    static final int LIMITE_MAXIMO = 500;
+
+    private final CartaoGateway cartaoGateway;
+    private final TransacaoGateway transacaoGateway;
+
+    public ListTransacaoByCartaoUseCaseImpl(CartaoGateway cartaoGateway, TransacaoGateway transacaoGateway) {
+        this.cartaoGateway = Objects.requireNonNull(cartaoGateway);
+        this.transacaoGateway = Objects.requireNonNull(transacaoGateway);
+    }
+
+    @Override
+    public ListTransacaoByCartaoOutput execute(ListTransacaoByCartaoInput input) {
+        if (input.antesDe() == null && cartaoGateway.findBy(input.numeroCartao()).isEmpty()) {
+            throw NotFoundException.with(Cartao.class, input.numeroCartao());
+        }
+
+        final int limite = Math.max(1, Math.min(input.limite(), LIMITE_MAXIMO));
+        final var transacoes = transacaoGateway.findBy(input.numeroCartao(), input.antesDe(), limite + 1);
+        if (transacoes.size() <= limite) {
+            return ListTransacaoByCartaoOutput.from(transacoes, null);
+        }
+
+        final var pagina = transacoes.subList(0, limite);
+        return ListTransacaoByCartaoOutput.from(pagina, pagina.get(limite - 1).sequencia());
+    }
+}
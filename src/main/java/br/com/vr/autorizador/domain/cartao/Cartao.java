@@ -1,56 +1,105 @@
 package br.com.vr.autorizador.domain.cartao;
 
+import br.com.vr.autorizador.domain.reserva.Reserva;
 import br.com.vr.autorizador.domain.validation.ValidationHandler;
 import org.apache.commons.lang3.StringUtils;
 
-import java.math.BigDecimal;
-
 public class Cartao {
 
-    private static final BigDecimal NEW_CARD_INITIAL_BALANCE = new BigDecimal(500);
+    private static final long NEW_CARD_INITIAL_BALANCE = 500_00L;
 
     private String numeroCartao;
     private String senha;
-    private BigDecimal saldo;
+    private long saldo;
+    private long saldoReservado;
 
-    private Cartao(String numeroCartao, String senha, BigDecimal saldo) {
+    private Cartao(String numeroCartao, String senha, long saldo, long saldoReservado) {
         this.numeroCartao = numeroCartao;
         this.senha = senha;
         this.saldo = saldo;
+        this.saldoReservado = saldoReservado;
     }
 
     public static Cartao newCartao(String numeroCartao, String senha) {
-        return new Cartao(numeroCartao, senha, NEW_CARD_INITIAL_BALANCE);
+        return new Cartao(numeroCartao, senha, NEW_CARD_INITIAL_BALANCE, 0L);
+    }
+
+    public static Cartao with(String numeroCartao, String senha, long saldo) {
+        return new Cartao(numeroCartao, senha, saldo, 0L);
     }
 
-    public static Cartao with(String numeroCartao, String senha, BigDecimal saldo) {
-        return new Cartao(numeroCartao, senha, saldo);
+    public static Cartao with(String numeroCartao, String senha, long saldo, long saldoReservado) {
+        return new Cartao(numeroCartao, senha, saldo, saldoReservado);
     }
 
     public void validate(ValidationHandler handler) {
         new CartaoValidator(this, handler).validate();
     }
 
-    public void debit(BigDecimal debitValue, String password, ValidationHandler handler) {
+    public void debit(long debitValue, String password, ValidationHandler handler) {
+        append(debit(debitValue, password), handler);
+    }
+
+    public DebitResult debit(long debitValue, String password) {
+        final var result = authorize(debitValue, password);
+        if (result.isApproved()) {
+            updateBalance(saldo - debitValue);
+        }
+        return result;
+    }
+
+    public void hold(long holdValue, String password, ValidationHandler handler) {
+        append(hold(holdValue, password), handler);
+    }
+
+    public DebitResult hold(long holdValue, String password) {
+        final var result = authorize(holdValue, password);
+        if (result.isApproved()) {
+            this.saldoReservado += holdValue;
+        }
+        return result;
+    }
+
+    public void capture(Reserva reserva, long captureValue, ValidationHandler handler) {
+        append(capture(reserva, captureValue), handler);
+    }
+
+    public DebitResult capture(Reserva reserva, long captureValue) {
+        final var result = reserva.authorizeCapture(captureValue);
+        if (result.isApproved()) {
+            this.saldoReservado -= reserva.valor();
+            updateBalance(saldo - captureValue);
+        }
+        return result;
+    }
+
+    public void release(Reserva reserva) {
+        this.saldoReservado -= reserva.valor();
+    }
+
+    public DebitResult authorize(long debitValue, String password) {
         if (!validateSenha(password)) {
-            handler.append("Senha incorreta");
-            return;
+            return DebitResult.SENHA_INVALIDA;
         }
 
-        if (debitValue == null || debitValue.compareTo(BigDecimal.ZERO) <= 0) {
-            handler.append("Valor da transação inválido");
-            return;
+        if (debitValue <= 0) {
+            return DebitResult.VALOR_INVALIDO;
         }
 
-        if (saldo.compareTo(debitValue) < 0) {
-            handler.append("Saldo insuficiente");
-            return;
+        if (getSaldoDisponivel() < debitValue) {
+            return DebitResult.SALDO_INSUFICIENTE;
         }
 
-        updateBalance(saldo.subtract(debitValue));
+        return DebitResult.OK;
     }
 
-    private void updateBalance(BigDecimal newBalance) {
+    private static void append(DebitResult result, ValidationHandler handler) {
+        if (!result.isApproved()) {
+            handler.append(result.message());
+        }
+    }
+
+    private void updateBalance(long newBalance) {
         this.saldo = newBalance;
     }
 
@@ -66,7 +115,15 @@ public class Cartao {
         return senha;
     }
 
-    public BigDecimal getSaldo() {
+    public long getSaldo() {
         return saldo;
     }
+
+    public long getSaldoReservado() {
+        return saldoReservado;
+    }
+
+    public long getSaldoDisponivel() {
+        return saldo - saldoReservado;
+    }
 }
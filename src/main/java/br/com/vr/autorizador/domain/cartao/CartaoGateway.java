@@ -1,9 +1,36 @@
 package br.com.vr.autorizador.domain.cartao;
 
+import br.com.vr.autorizador.domain.reserva.Reserva;
+
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CartaoGateway {
-    Cartao create(Cartao cartao);
+    Optional<Cartao> create(Cartao cartao);
     Optional<Cartao> findBy(String numeroCartao);
-    void debit(Cartao cartao);
+    DebitResult debit(String numeroCartao, String senha, long valor);
+    void forEachNumeroCartao(Consumer<String> action);
+
+    default List<Optional<Cartao>> createAll(List<Cartao> cartoes) {
+        return cartoes.stream()
+                .map(this::create)
+                .toList();
+    }
+
+    default List<DebitResult> debitAll(List<Debit> debits) {
+        return debits.stream()
+                .map(debit -> debit(debit.numeroCartao(), debit.senha(), debit.valor()))
+                .toList();
+    }
+
+    DebitResult hold(Reserva reserva, String senha);
+
+    DebitResult capture(Reserva reserva, long valor);
+
+    boolean release(Reserva reserva);
+
+    Optional<Reserva> findReserva(String reservaId);
+
+    void forEachReserva(Consumer<Reserva> action);
 }
@@ -0,0 +1,7 @@
+package br.com.vr.autorizador.domain.cartao;
+
+public record Debit(String numeroCartao, String senha, long valor) {
+    public static Debit with(String numeroCartao, String senha, long valor) {
+        return new Debit(numeroCartao, senha, valor);
+    }
+}
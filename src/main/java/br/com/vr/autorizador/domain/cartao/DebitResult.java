@@ -0,0 +1,24 @@
+package br.com.vr.autorizador.domain.cartao;
+
+public enum DebitResult {
+    OK(null),
+    SENHA_INVALIDA("Senha incorreta"),
+    VALOR_INVALIDO("Valor da transação inválido"),
+    SALDO_INSUFICIENTE("Saldo insuficiente"),
+    CARTAO_INEXISTENTE(null),
+    RESERVA_INEXISTENTE(null);
+
+    private final String message;
+
+    DebitResult(String message) {
+        this.message = message;
+    }
+
+    public boolean isApproved() {
+        return this == OK;
+    }
+
+    public String message() {
+        return message;
+    }
+}
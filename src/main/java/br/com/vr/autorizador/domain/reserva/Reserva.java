@@ -0,0 +1,23 @@
+package br.com.vr.autorizador.domain.reserva;
+
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record Reserva(String id, String numeroCartao, long valor, Instant expiraEm) {
+    public static Reserva newReserva(String numeroCartao, long valor, Instant expiraEm) {
+        return new Reserva(UUID.randomUUID().toString(), numeroCartao, valor, expiraEm);
+    }
+
+    public static Reserva with(String id, String numeroCartao, long valor, Instant expiraEm) {
+        return new Reserva(id, numeroCartao, valor, expiraEm);
+    }
+
+    public DebitResult authorizeCapture(long captureValue) {
+        if (captureValue <= 0 || captureValue > valor) {
+            return DebitResult.VALOR_INVALIDO;
+        }
+        return DebitResult.OK;
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.vr.autorizador.domain.reserva;
+
+public interface ReservaScheduler {
+    void schedule(Reserva reserva);
+    void cancel(String reservaId);
+}
@@ -0,0 +1,11 @@
+package br.com.vr.autorizador.domain.transacao;
+
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+
+import java.time.Instant;
+
+public record Transacao(long sequencia, String numeroCartao, long valor, DebitResult resultado, Instant criadoEm) {
+    public static Transacao newTransacao(String numeroCartao, long valor, DebitResult resultado, Instant criadoEm) {
+        return new Transacao(0L, numeroCartao, valor, resultado, criadoEm);
+    }
+}
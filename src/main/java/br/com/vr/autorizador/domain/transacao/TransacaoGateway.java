@@ -0,0 +1,8 @@
+package br.com.vr.autorizador.domain.transacao;
+
+import java.util.List;
+
+public interface TransacaoGateway {
+    void appendAll(List<Transacao> transacoes);
+    List<Transacao> findBy(String numeroCartao, Long antesDe, int limite);
+}
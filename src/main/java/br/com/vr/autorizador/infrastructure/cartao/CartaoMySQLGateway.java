@@ -2,24 +2,141 @@ package br.com.vr.autorizador.infrastructure.cartao;
 
 import br.com.vr.autorizador.domain.cartao.Cartao;
 import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.reserva.Reserva;
 import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoJpaEntity;
 import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.BatchUpdateException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
+@Qualifier("cartaoStore")
+@ConditionalOnProperty(name = "autorizador.gateway.type", havingValue = "mysql", matchIfMissing = true)
 public class CartaoMySQLGateway implements CartaoGateway {
 
+    private static final String FIND_ALL_SQL = """
+            select numero_cartao, senha, saldo_centavos, saldo_reservado_centavos from cartao
+            where numero_cartao in (:numerosCartao)""";
+    private static final String FIND_NUMEROS_SQL = """
+            select numero_cartao from cartao
+            where numero_cartao > ?
+            order by numero_cartao
+            limit ?""";
+    private static final int FIND_NUMEROS_PAGE_SIZE = 10_000;
+    private static final int FIND_RESERVAS_PAGE_SIZE = 10_000;
+    private static final String INSERT_SQL = """
+            insert into cartao (numero_cartao, senha, saldo_centavos)
+            values (?, ?, ?)""";
+    private static final String DEBIT_SQL = """
+            update cartao set saldo_centavos = saldo_centavos - ?
+            where numero_cartao = ? and saldo_centavos - saldo_reservado_centavos >= ?""";
+    private static final String HOLD_SQL = """
+            update cartao set saldo_reservado_centavos = saldo_reservado_centavos + ?
+            where numero_cartao = ? and saldo_centavos - saldo_reservado_centavos >= ?""";
+    private static final String CAPTURE_SQL = """
+            update cartao set saldo_centavos = saldo_centavos - ?, saldo_reservado_centavos = saldo_reservado_centavos - ?
+            where numero_cartao = ?""";
+    private static final String RELEASE_SQL = """
+            update cartao set saldo_reservado_centavos = saldo_reservado_centavos - ?
+            where numero_cartao = ?""";
+    private static final String INSERT_RESERVA_SQL = """
+            insert into reserva (id, numero_cartao, valor_centavos, expira_em)
+            values (?, ?, ?, ?)""";
+    private static final String DELETE_RESERVA_SQL = """
+            delete from reserva where id = ?""";
+    private static final String FIND_RESERVA_SQL = """
+            select id, numero_cartao, valor_centavos, expira_em from reserva
+            where id = ?""";
+    private static final String FIND_RESERVAS_SQL = """
+            select id, numero_cartao, valor_centavos, expira_em from reserva
+            where id > ?
+            order by id
+            limit ?""";
+
     private final CartaoRepository repository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
-    public CartaoMySQLGateway(CartaoRepository repository) {
+    public CartaoMySQLGateway(CartaoRepository repository, NamedParameterJdbcTemplate jdbcTemplate, EntityManager entityManager) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
     }
 
     @Override
-    public Cartao create(Cartao cartao) {
-        return save(cartao);
+    @Transactional
+    public Optional<Cartao> create(Cartao cartao) {
+        entityManager.flush();
+        try {
+            jdbcTemplate.getJdbcTemplate()
+                    .update(INSERT_SQL, cartao.getNumeroCartao(), cartao.getSenha(), cartao.getSaldo());
+            return Optional.of(cartao);
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<Optional<Cartao>> createAll(List<Cartao> cartoes) {
+        entityManager.flush();
+        final var novos = new HashSet<String>(cartoes.size());
+        final List<Integer> pending = new ArrayList<>(cartoes.size());
+        final List<Optional<Cartao>> results = new ArrayList<>(cartoes.size());
+        for (var cartao : cartoes) {
+            if (!novos.add(cartao.getNumeroCartao())) {
+                results.add(Optional.empty());
+                continue;
+            }
+            pending.add(results.size());
+            results.add(Optional.of(cartao));
+        }
+        if (pending.isEmpty()) {
+            return results;
+        }
+
+        final int[] updateCounts = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<int[]>) connection -> {
+            try (var ps = connection.prepareStatement(INSERT_SQL)) {
+                for (var index : pending) {
+                    final var cartao = cartoes.get(index);
+                    ps.setString(1, cartao.getNumeroCartao());
+                    ps.setString(2, cartao.getSenha());
+                    ps.setLong(3, cartao.getSaldo());
+                    ps.addBatch();
+                }
+                return ps.executeBatch();
+            } catch (BatchUpdateException e) {
+                return e.getUpdateCounts();
+            }
+        });
+        for (int i = 0; i < pending.size(); i++) {
+            if (i >= updateCounts.length || updateCounts[i] == Statement.EXECUTE_FAILED) {
+                final int index = pending.get(i);
+                results.set(index, create(cartoes.get(index)));
+            }
+        }
+        return results;
     }
 
     @Override
@@ -28,11 +145,172 @@ public class CartaoMySQLGateway implements CartaoGateway {
     }
 
     @Override
-    public void debit(Cartao cartao) {
-        save(cartao);
+    public DebitResult debit(String numeroCartao, String senha, long valor) {
+        if (repository.debit(numeroCartao, senha, valor) == 1) {
+            return DebitResult.OK;
+        }
+
+        final var result = findBy(numeroCartao)
+                .map(cartao -> cartao.authorize(valor, senha))
+                .orElse(DebitResult.CARTAO_INEXISTENTE);
+
+        if (result.isApproved() && repository.debit(numeroCartao, senha, valor) != 1) {
+            return DebitResult.SALDO_INSUFICIENTE;
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public List<DebitResult> debitAll(List<Debit> debits) {
+        entityManager.flush();
+        final var cartoes = findAll(debits.stream()
+                .map(Debit::numeroCartao)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList());
+
+        final var results = new DebitResult[debits.size()];
+        final List<Integer> pending = new ArrayList<>(debits.size());
+        for (int i = 0; i < debits.size(); i++) {
+            final var debit = debits.get(i);
+            final var cartao = debit.numeroCartao() == null ? null : cartoes.get(debit.numeroCartao());
+            if (cartao == null) {
+                results[i] = DebitResult.CARTAO_INEXISTENTE;
+                continue;
+            }
+
+            final var result = cartao.authorize(debit.valor(), debit.senha());
+            if (result == DebitResult.SENHA_INVALIDA || result == DebitResult.VALOR_INVALIDO) {
+                results[i] = result;
+                continue;
+            }
+            pending.add(i);
+        }
+
+        if (!pending.isEmpty()) {
+            final var updated = jdbcTemplate.getJdbcTemplate().batchUpdate(DEBIT_SQL, pending, pending.size(), (ps, index) -> {
+                final var debit = debits.get(index);
+                ps.setLong(1, debit.valor());
+                ps.setString(2, debit.numeroCartao());
+                ps.setLong(3, debit.valor());
+            })[0];
+            for (int i = 0; i < pending.size(); i++) {
+                results[pending.get(i)] = updated[i] > 0 ? DebitResult.OK : DebitResult.SALDO_INSUFICIENTE;
+            }
+            entityManager.clear();
+        }
+
+        return List.of(results);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachNumeroCartao(Consumer<String> action) {
+        entityManager.flush();
+        var last = "";
+        while (true) {
+            final var page = jdbcTemplate.getJdbcTemplate()
+                    .queryForList(FIND_NUMEROS_SQL, String.class, last, FIND_NUMEROS_PAGE_SIZE);
+            page.forEach(action);
+            if (page.size() < FIND_NUMEROS_PAGE_SIZE) {
+                return;
+            }
+            last = page.get(page.size() - 1);
+        }
+    }
+
+    @Override
+    @Transactional
+    public DebitResult hold(Reserva reserva, String senha) {
+        entityManager.flush();
+        final var cartao = findAll(List.of(reserva.numeroCartao())).get(reserva.numeroCartao());
+        if (cartao == null) {
+            return DebitResult.CARTAO_INEXISTENTE;
+        }
+
+        final var result = cartao.authorize(reserva.valor(), senha);
+        if (!result.isApproved()) {
+            return result;
+        }
+
+        final var jdbc = jdbcTemplate.getJdbcTemplate();
+        if (jdbc.update(HOLD_SQL, reserva.valor(), reserva.numeroCartao(), reserva.valor()) != 1) {
+            return DebitResult.SALDO_INSUFICIENTE;
+        }
+        jdbc.update(INSERT_RESERVA_SQL, reserva.id(), reserva.numeroCartao(), reserva.valor(), Timestamp.from(reserva.expiraEm()));
+        entityManager.clear();
+        return DebitResult.OK;
+    }
+
+    @Override
+    @Transactional
+    public DebitResult capture(Reserva reserva, long valor) {
+        final var result = reserva.authorizeCapture(valor);
+        if (!result.isApproved()) {
+            return result;
+        }
+
+        entityManager.flush();
+        final var jdbc = jdbcTemplate.getJdbcTemplate();
+        if (jdbc.update(DELETE_RESERVA_SQL, reserva.id()) != 1) {
+            return DebitResult.RESERVA_INEXISTENTE;
+        }
+        jdbc.update(CAPTURE_SQL, valor, reserva.valor(), reserva.numeroCartao());
+        entityManager.clear();
+        return DebitResult.OK;
+    }
+
+    @Override
+    @Transactional
+    public boolean release(Reserva reserva) {
+        entityManager.flush();
+        final var jdbc = jdbcTemplate.getJdbcTemplate();
+        if (jdbc.update(DELETE_RESERVA_SQL, reserva.id()) != 1) {
+            return false;
+        }
+        jdbc.update(RELEASE_SQL, reserva.valor(), reserva.numeroCartao());
+        entityManager.clear();
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Reserva> findReserva(String reservaId) {
+        entityManager.flush();
+        return jdbcTemplate.getJdbcTemplate()
+                .query(FIND_RESERVA_SQL, (rs, rowNum) -> toReserva(rs), reservaId)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachReserva(Consumer<Reserva> action) {
+        entityManager.flush();
+        var last = "";
+        while (true) {
+            final var page = jdbcTemplate.getJdbcTemplate()
+                    .query(FIND_RESERVAS_SQL, (rs, rowNum) -> toReserva(rs), last, FIND_RESERVAS_PAGE_SIZE);
+            page.forEach(action);
+            if (page.size() < FIND_RESERVAS_PAGE_SIZE) {
+                return;
+            }
+            last = page.get(page.size() - 1).id();
+        }
+    }
+
+    private static Reserva toReserva(ResultSet rs) throws SQLException {
+        return Reserva.with(rs.getString(1), rs.getString(2), rs.getLong(3), rs.getTimestamp(4).toInstant());
     }
 
-    private Cartao save(Cartao cartao) {
-        return repository.save(CartaoJpaEntity.from(cartao)).toCartao();
+    private Map<String, Cartao> findAll(List<String> numerosCartao) {
+        final Map<String, Cartao> cartoes = new HashMap<>();
+        if (!numerosCartao.isEmpty()) {
+            jdbcTemplate.query(FIND_ALL_SQL, Map.of("numerosCartao", numerosCartao), rs -> {
+                cartoes.put(rs.getString(1), Cartao.with(rs.getString(1), rs.getString(2), rs.getLong(3), rs.getLong(4)));
+            });
+        }
+        return cartoes;
     }
 }
@@ -0,0 +1,165 @@
+package br.com.vr.autorizador.infrastructure.cartao.cache;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CachingCartaoGateway implements CartaoGateway, MeterBinder {
+
+    private final CartaoGateway delegate;
+    private final Cache<String, CachedCartao> cache;
+
+    public CachingCartaoGateway(CartaoGateway delegate, long maximumSize, Duration expireAfterWrite) {
+        this(delegate, maximumSize, expireAfterWrite, Ticker.systemTicker());
+    }
+
+    CachingCartaoGateway(CartaoGateway delegate, long maximumSize, Duration expireAfterWrite, Ticker ticker) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<Cartao> create(Cartao cartao) {
+        try {
+            return delegate.create(cartao);
+        } finally {
+            cache.invalidate(cartao.getNumeroCartao());
+        }
+    }
+
+    @Override
+    public List<Optional<Cartao>> createAll(List<Cartao> cartoes) {
+        try {
+            return delegate.createAll(cartoes);
+        } finally {
+            cache.invalidateAll(cartoes.stream()
+                    .map(Cartao::getNumeroCartao)
+                    .filter(Objects::nonNull)
+                    .toList());
+        }
+    }
+
+    @Override
+    public Optional<Cartao> findBy(String numeroCartao) {
+        if (numeroCartao == null) {
+            return delegate.findBy(null);
+        }
+        return Optional.ofNullable(cache.get(numeroCartao, key -> delegate.findBy(key).map(CachedCartao::from).orElse(null)))
+                .map(CachedCartao::toCartao);
+    }
+
+    @Override
+    public DebitResult debit(String numeroCartao, String senha, long valor) {
+        var result = DebitResult.OK;
+        try {
+            result = delegate.debit(numeroCartao, senha, valor);
+            return result;
+        } finally {
+            if (result.isApproved() && numeroCartao != null) {
+                cache.invalidate(numeroCartao);
+            }
+        }
+    }
+
+    @Override
+    public List<DebitResult> debitAll(List<Debit> debits) {
+        try {
+            return delegate.debitAll(debits);
+        } finally {
+            cache.invalidateAll(debits.stream()
+                    .map(Debit::numeroCartao)
+                    .filter(Objects::nonNull)
+                    .toList());
+        }
+    }
+
+    @Override
+    public void forEachNumeroCartao(Consumer<String> action) {
+        delegate.forEachNumeroCartao(action);
+    }
+
+    @Override
+    public DebitResult hold(Reserva reserva, String senha) {
+        try {
+            return delegate.hold(reserva, senha);
+        } finally {
+            cache.invalidate(reserva.numeroCartao());
+        }
+    }
+
+    @Override
+    public DebitResult capture(Reserva reserva, long valor) {
+        try {
+            return delegate.capture(reserva, valor);
+        } finally {
+            cache.invalidate(reserva.numeroCartao());
+        }
+    }
+
+    @Override
+    public boolean release(Reserva reserva) {
+        try {
+            return delegate.release(reserva);
+        } finally {
+            cache.invalidate(reserva.numeroCartao());
+        }
+    }
+
+    @Override
+    public Optional<Reserva> findReserva(String reservaId) {
+        return delegate.findReserva(reservaId);
+    }
+
+    @Override
+    public void forEachReserva(Consumer<Reserva> action) {
+        delegate.forEachReserva(action);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "cartao");
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    private record CachedCartao(String numeroCartao, String senha, long saldo, long saldoReservado) {
+        private static CachedCartao from(Cartao cartao) {
+            return new CachedCartao(cartao.getNumeroCartao(), cartao.getSenha(), cartao.getSaldo(), cartao.getSaldoReservado());
+        }
+
+        private Cartao toCartao() {
+            return Cartao.with(numeroCartao, senha, saldo, saldoReservado);
+        }
+    }
+}
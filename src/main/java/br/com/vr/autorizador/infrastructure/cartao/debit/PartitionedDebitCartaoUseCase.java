@@ -0,0 +1,203 @@
+package br.com.vr.autorizador.infrastructure.cartao.debit;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PartitionedDebitCartaoUseCase implements DebitCartaoUseCase, AutoCloseable, MeterBinder {
+
+    private final DebitCartaoUseCase delegate;
+    private final Lane[] lanes;
+    private final long timeoutNanos;
+
+    public PartitionedDebitCartaoUseCase(DebitCartaoUseCase delegate, int laneCount, int queueCapacity, Duration timeout) {
+        this(delegate, laneCount, queueCapacity, timeout, false);
+    }
+
+    public PartitionedDebitCartaoUseCase(DebitCartaoUseCase delegate, int laneCount, int queueCapacity, Duration timeout, boolean virtualThreads) {
+        if (laneCount < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("laneCount e queueCapacity devem ser maiores que zero");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.timeoutNanos = timeout.toNanos();
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            this.lanes[i] = new Lane(i, queueCapacity, threadFactory(i, virtualThreads));
+        }
+    }
+
+    @Override
+    public DebitResult authorize(DebitCartaoInput input) {
+        final var lane = laneFor(input.numeroCartao());
+        return lane.await(lane.submit(() -> delegate.authorize(input)), timeoutNanos);
+    }
+
+    public int laneOf(String numeroCartao) {
+        final int hash = Objects.hashCode(numeroCartao);
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    public List<LaneStats> stats() {
+        return Arrays.stream(lanes).map(Lane::stats).toList();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (var lane : lanes) {
+            final var tag = String.valueOf(lane.index);
+            Gauge.builder("autorizador.debit.lane.queue", lane.executor, executor -> executor.getQueue().size())
+                    .tag("lane", tag)
+                    .register(registry);
+            FunctionCounter.builder("autorizador.debit.lane.completed", lane.completed, LongAdder::sum)
+                    .tag("lane", tag)
+                    .register(registry);
+            FunctionCounter.builder("autorizador.debit.lane.rejected", lane.rejected, LongAdder::sum)
+                    .tag("lane", tag)
+                    .register(registry);
+            FunctionTimer.builder("autorizador.debit.lane.latency", lane,
+                            l -> l.completed.sum(), l -> l.totalLatencyNanos.sum(), TimeUnit.NANOSECONDS)
+                    .description("Tempo entre entrar na fila da lane e concluir o débito")
+                    .tag("lane", tag)
+                    .register(registry);
+            TimeGauge.builder("autorizador.debit.lane.latency.max", lane.maxLatencyNanos, TimeUnit.NANOSECONDS, AtomicLong::get)
+                    .description("Maior tempo entre entrar na fila da lane e concluir o débito")
+                    .tag("lane", tag)
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void close() {
+        Arrays.stream(lanes).forEach(lane -> lane.executor.shutdown());
+    }
+
+    private static ThreadFactory threadFactory(int index, boolean virtualThreads) {
+        final var name = "debit-lane-" + index;
+        if (virtualThreads) {
+            return Thread.ofVirtual().name(name).factory();
+        }
+        return Thread.ofPlatform().name(name).daemon(true).factory();
+    }
+
+    private Lane laneFor(String numeroCartao) {
+        return lanes[laneOf(numeroCartao)];
+    }
+
+    public record LaneStats(
+            int lane,
+            int queueSize,
+            long completed,
+            long rejected,
+            long meanLatencyNanos,
+            long maxLatencyNanos
+    ) {
+    }
+
+    private record QueuedTask<T>(Future<T> future, AtomicBoolean started) {
+    }
+
+    private static final class Lane {
+        private final int index;
+        private final ThreadPoolExecutor executor;
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalLatencyNanos = new LongAdder();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+        private Lane(int index, int queueCapacity, ThreadFactory threadFactory) {
+            this.index = index;
+            this.executor = new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    threadFactory);
+        }
+
+        private <T> QueuedTask<T> submit(Callable<T> task) {
+            final long enqueuedAt = System.nanoTime();
+            final var started = new AtomicBoolean();
+            try {
+                final Future<T> future = executor.submit(() -> {
+                    if (!started.compareAndSet(false, true)) {
+                        return null;
+                    }
+                    try {
+                        return task.call();
+                    } finally {
+                        record(System.nanoTime() - enqueuedAt);
+                    }
+                });
+                return new QueuedTask<>(future, started);
+            } catch (RejectedExecutionException ree) {
+                rejected.increment();
+                throw ree;
+            }
+        }
+
+        private <T> T await(QueuedTask<T> task, long timeoutNanos) {
+            try {
+                try {
+                    return task.future().get(timeoutNanos, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException te) {
+                    if (task.started().compareAndSet(false, true)) {
+                        task.future().cancel(false);
+                        rejected.increment();
+                        throw new RejectedExecutionException("Tempo de espera na fila de débito esgotado");
+                    }
+                    return task.future().get();
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ie);
+            } catch (ExecutionException ee) {
+                if (ee.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                if (ee.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(ee.getCause());
+            }
+        }
+
+        private void record(long latencyNanos) {
+            completed.increment();
+            totalLatencyNanos.add(latencyNanos);
+            maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+        }
+
+        private LaneStats stats() {
+            final long count = completed.sum();
+            return new LaneStats(
+                    index,
+                    executor.getQueue().size(),
+                    count,
+                    rejected.sum(),
+                    count == 0 ? 0 : totalLatencyNanos.sum() / count,
+                    maxLatencyNanos.get()
+            );
+        }
+    }
+}
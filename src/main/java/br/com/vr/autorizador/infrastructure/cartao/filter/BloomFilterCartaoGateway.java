@@ -0,0 +1,227 @@
+package br.com.vr.autorizador.infrastructure.cartao.filter;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+public class BloomFilterCartaoGateway implements CartaoGateway, MeterBinder, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BloomFilterCartaoGateway.class);
+
+    private final CartaoGateway delegate;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder refreshed = new LongAdder();
+    private final ScheduledExecutorService refresher;
+
+    private volatile CartaoBloomFilter filter;
+    private volatile CartaoBloomFilter rebuilding;
+
+    public BloomFilterCartaoGateway(CartaoGateway delegate, CartaoBloomFilter filter) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.filter = Objects.requireNonNull(filter);
+        this.refresher = null;
+    }
+
+    public BloomFilterCartaoGateway(CartaoGateway delegate, CartaoBloomFilter filter, CartaoGateway store, Duration refreshInterval) {
+        if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+            throw new IllegalArgumentException("refreshInterval deve ser maior que zero");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.filter = Objects.requireNonNull(filter);
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "cartao-filter-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long period = refreshInterval.toMillis();
+        this.refresher.scheduleWithFixedDelay(() -> {
+            try {
+                refresh(store);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Falha ao recarregar o filtro de cartões; o filtro atual continua em uso", e);
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public void load(CartaoGateway store) {
+        store.forEachNumeroCartao(filter::put);
+    }
+
+    public synchronized void refresh(CartaoGateway store) {
+        final var next = filter.emptyCopy();
+        rebuilding = next;
+        try {
+            store.forEachNumeroCartao(next::put);
+            filter = next;
+            refreshed.increment();
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    @Override
+    public Optional<Cartao> create(Cartao cartao) {
+        put(cartao.getNumeroCartao());
+        final var created = delegate.create(cartao);
+        put(cartao.getNumeroCartao());
+        return created;
+    }
+
+    @Override
+    public List<Optional<Cartao>> createAll(List<Cartao> cartoes) {
+        cartoes.forEach(cartao -> put(cartao.getNumeroCartao()));
+        final var created = delegate.createAll(cartoes);
+        cartoes.forEach(cartao -> put(cartao.getNumeroCartao()));
+        return created;
+    }
+
+    @Override
+    public Optional<Cartao> findBy(String numeroCartao) {
+        if (isUnknown(numeroCartao)) {
+            return Optional.empty();
+        }
+        return delegate.findBy(numeroCartao);
+    }
+
+    @Override
+    public DebitResult debit(String numeroCartao, String senha, long valor) {
+        if (isUnknown(numeroCartao)) {
+            return DebitResult.CARTAO_INEXISTENTE;
+        }
+        return delegate.debit(numeroCartao, senha, valor);
+    }
+
+    @Override
+    public List<DebitResult> debitAll(List<Debit> debits) {
+        final var unknown = new boolean[debits.size()];
+        final List<Debit> known = new ArrayList<>(debits.size());
+        for (int i = 0; i < debits.size(); i++) {
+            unknown[i] = isUnknown(debits.get(i).numeroCartao());
+            if (!unknown[i]) {
+                known.add(debits.get(i));
+            }
+        }
+        if (known.size() == debits.size()) {
+            return delegate.debitAll(debits);
+        }
+
+        final var knownResults = known.isEmpty() ? List.<DebitResult>of() : delegate.debitAll(known);
+        final List<DebitResult> results = new ArrayList<>(debits.size());
+        int next = 0;
+        for (int i = 0; i < debits.size(); i++) {
+            results.add(unknown[i] ? DebitResult.CARTAO_INEXISTENTE : knownResults.get(next++));
+        }
+        return results;
+    }
+
+    @Override
+    public void forEachNumeroCartao(Consumer<String> action) {
+        delegate.forEachNumeroCartao(action);
+    }
+
+    @Override
+    public DebitResult hold(Reserva reserva, String senha) {
+        if (isUnknown(reserva.numeroCartao())) {
+            return DebitResult.CARTAO_INEXISTENTE;
+        }
+        return delegate.hold(reserva, senha);
+    }
+
+    @Override
+    public DebitResult capture(Reserva reserva, long valor) {
+        return delegate.capture(reserva, valor);
+    }
+
+    @Override
+    public boolean release(Reserva reserva) {
+        return delegate.release(reserva);
+    }
+
+    @Override
+    public Optional<Reserva> findReserva(String reservaId) {
+        return delegate.findReserva(reservaId);
+    }
+
+    @Override
+    public void forEachReserva(Consumer<Reserva> action) {
+        delegate.forEachReserva(action);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("autorizador.cartao.filter.false-positive-rate", this, gateway -> gateway.filter().expectedFalsePositiveRate())
+                .description("Taxa estimada de falso positivo do filtro de cartões")
+                .register(registry);
+        Gauge.builder("autorizador.cartao.filter.memory", this, gateway -> gateway.filter().memoryBytes())
+                .description("Memória ocupada pelo filtro de cartões")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder("autorizador.cartao.filter.size", this, gateway -> gateway.filter().approximateCount())
+                .description("Quantidade aproximada de cartões no filtro")
+                .register(registry);
+        FunctionCounter.builder("autorizador.cartao.filter.rejected", rejected, LongAdder::sum)
+                .description("Consultas recusadas pelo filtro sem acessar o armazenamento")
+                .register(registry);
+        FunctionCounter.builder("autorizador.cartao.filter.refreshed", refreshed, LongAdder::sum)
+                .description("Recargas completas do filtro a partir do armazenamento")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    public CartaoBloomFilter filter() {
+        return filter;
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    public long refreshed() {
+        return refreshed.sum();
+    }
+
+    private void put(String numeroCartao) {
+        if (numeroCartao == null) {
+            return;
+        }
+        final var next = rebuilding;
+        if (next != null) {
+            next.put(numeroCartao);
+        }
+        filter.put(numeroCartao);
+    }
+
+    private boolean isUnknown(String numeroCartao) {
+        if (numeroCartao == null || filter.mightContain(numeroCartao)) {
+            return false;
+        }
+        rejected.increment();
+        return true;
+    }
+}
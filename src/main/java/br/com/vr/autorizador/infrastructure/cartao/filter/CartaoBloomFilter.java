@@ -0,0 +1,104 @@
+package br.com.vr.autorizador.infrastructure.cartao.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class CartaoBloomFilter {
+
+    private static final long SEED_1 = 0x9E3779B97F4A7C15L;
+    private static final long SEED_2 = 0xC2B2AE3D27D4EB4FL;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLong bitCount = new AtomicLong();
+
+    public CartaoBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("expectedInsertions deve ser maior que zero");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate deve estar entre 0 e 1");
+        }
+        final long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        final int length = Math.toIntExact(Math.max(1, (bits + Long.SIZE - 1) / Long.SIZE));
+        this.words = new AtomicLongArray(length);
+        this.bitSize = (long) length * Long.SIZE;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    private CartaoBloomFilter(int length, int hashFunctions) {
+        this.words = new AtomicLongArray(length);
+        this.bitSize = (long) length * Long.SIZE;
+        this.hashFunctions = hashFunctions;
+    }
+
+    public CartaoBloomFilter emptyCopy() {
+        return new CartaoBloomFilter(words.length(), hashFunctions);
+    }
+
+    public void put(String value) {
+        final long hash1 = hash(value, SEED_1);
+        final long hash2 = hash(value, SEED_2);
+        for (int i = 0; i < hashFunctions; i++) {
+            final long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            final int word = (int) (index >>> 6);
+            final long mask = 1L << index;
+            long current = words.get(word);
+            while ((current & mask) == 0) {
+                final long witness = words.compareAndExchange(word, current, current | mask);
+                if (witness == current) {
+                    bitCount.incrementAndGet();
+                    break;
+                }
+                current = witness;
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        final long hash1 = hash(value, SEED_1);
+        final long hash2 = hash(value, SEED_2);
+        for (int i = 0; i < hashFunctions; i++) {
+            final long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount.get() / bitSize, hashFunctions);
+    }
+
+    public long approximateCount() {
+        final double fill = (double) bitCount.get() / bitSize;
+        return Math.round(-bitSize / (double) hashFunctions * Math.log1p(-fill));
+    }
+
+    public long memoryBytes() {
+        return bitSize / Byte.SIZE;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private static long hash(String value, long seed) {
+        long hash = seed ^ value.length();
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0xBF58476D1CE4E5B9L;
+            hash ^= hash >>> 29;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
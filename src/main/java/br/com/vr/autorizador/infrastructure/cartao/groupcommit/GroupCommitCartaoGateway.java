@@ -0,0 +1,205 @@
+package br.com.vr.autorizador.infrastructure.cartao.groupcommit;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+public class GroupCommitCartaoGateway implements CartaoGateway, AutoCloseable {
+
+    private static final PendingDebit SHUTDOWN = new PendingDebit(null, null);
+
+    private final CartaoGateway delegate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingDebit> queue;
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private final Thread committer;
+
+    private boolean closed;
+
+    public GroupCommitCartaoGateway(CartaoGateway delegate, Duration window, int maxBatchSize) {
+        this(delegate, window, maxBatchSize, 1024);
+    }
+
+    public GroupCommitCartaoGateway(CartaoGateway delegate, Duration window, int maxBatchSize, int queueCapacity) {
+        if (maxBatchSize < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("maxBatchSize e queueCapacity devem ser maiores que zero");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.committer = new Thread(this::commitLoop, "debit-group-commit");
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    @Override
+    public Optional<Cartao> create(Cartao cartao) {
+        return delegate.create(cartao);
+    }
+
+    @Override
+    public List<Optional<Cartao>> createAll(List<Cartao> cartoes) {
+        return delegate.createAll(cartoes);
+    }
+
+    @Override
+    public Optional<Cartao> findBy(String numeroCartao) {
+        return delegate.findBy(numeroCartao);
+    }
+
+    @Override
+    public DebitResult debit(String numeroCartao, String senha, long valor) {
+        final var pending = new PendingDebit(Debit.with(numeroCartao, senha, valor), new CompletableFuture<>());
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                return delegate.debit(numeroCartao, senha, valor);
+            }
+            if (!queue.offer(pending)) {
+                throw new RejectedExecutionException("Fila de group commit cheia");
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+
+        try {
+            return pending.result().join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (ce.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ce;
+        }
+    }
+
+    @Override
+    public List<DebitResult> debitAll(List<Debit> debits) {
+        return delegate.debitAll(debits);
+    }
+
+    @Override
+    public void forEachNumeroCartao(Consumer<String> action) {
+        delegate.forEachNumeroCartao(action);
+    }
+
+    @Override
+    public DebitResult hold(Reserva reserva, String senha) {
+        return delegate.hold(reserva, senha);
+    }
+
+    @Override
+    public DebitResult capture(Reserva reserva, long valor) {
+        return delegate.capture(reserva, valor);
+    }
+
+    @Override
+    public boolean release(Reserva reserva) {
+        return delegate.release(reserva);
+    }
+
+    @Override
+    public Optional<Reserva> findReserva(String reservaId) {
+        return delegate.findReserva(reservaId);
+    }
+
+    @Override
+    public void forEachReserva(Consumer<Reserva> action) {
+        delegate.forEachReserva(action);
+    }
+
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.put(SHUTDOWN);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            committer.interrupt();
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void commitLoop() {
+        final List<PendingDebit> batch = new ArrayList<>(maxBatchSize + 1);
+        boolean shutdown = false;
+        while (!shutdown) {
+            try {
+                batch.add(queue.take());
+                final long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize && batch.get(batch.size() - 1) != SHUTDOWN) {
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    final long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    final var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                shutdown = true;
+            }
+
+            if (!batch.isEmpty() && batch.get(batch.size() - 1) == SHUTDOWN) {
+                batch.remove(batch.size() - 1);
+                shutdown = true;
+            }
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    private void commit(List<PendingDebit> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            final var results = delegate.debitAll(batch.stream().map(PendingDebit::debit).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+        } catch (Throwable t) {
+            batch.forEach(pending -> pending.result().completeExceptionally(t));
+        }
+    }
+
+    private record PendingDebit(Debit debit, CompletableFuture<DebitResult> result) {
+    }
+}
@@ -0,0 +1,369 @@
+package br.com.vr.autorizador.infrastructure.cartao.hotcard;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+public class HotCardCartaoGateway implements CartaoGateway, MeterBinder, AutoCloseable {
+
+    private final CartaoGateway delegate;
+    private final int sampleRate;
+    private final int threshold;
+    private final int maxHotCards;
+    private final int maxBatchSize;
+    private final long coolDownNanos;
+    private final LongSupplier ticker;
+    private final Map<String, Integer> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, HotLane> hotLanes = new ConcurrentHashMap<>();
+    private final LongAdder promoted = new LongAdder();
+    private final LongAdder serialized = new LongAdder();
+    private final ExecutorService drainers;
+    private final ScheduledExecutorService sweeper;
+
+    private volatile MultiGauge queued;
+    private volatile boolean closed;
+
+    public HotCardCartaoGateway(CartaoGateway delegate, int sampleRate, int threshold, int maxHotCards,
+                                int maxBatchSize, Duration coolDown) {
+        this(delegate, sampleRate, threshold, maxHotCards, maxBatchSize, coolDown, System::nanoTime);
+        final long period = Math.max(1, coolDown.toMillis() / 2);
+        this.sweeper.scheduleAtFixedRate(this::sweep, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    HotCardCartaoGateway(CartaoGateway delegate, int sampleRate, int threshold, int maxHotCards,
+                         int maxBatchSize, Duration coolDown, LongSupplier ticker) {
+        if (sampleRate < 1 || threshold < 1 || maxBatchSize < 1) {
+            throw new IllegalArgumentException("sampleRate, threshold e maxBatchSize devem ser maiores que zero");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.sampleRate = sampleRate;
+        this.threshold = threshold;
+        this.maxHotCards = maxHotCards;
+        this.maxBatchSize = maxBatchSize;
+        this.coolDownNanos = coolDown.toNanos();
+        this.ticker = Objects.requireNonNull(ticker);
+
+        final var drainerId = new AtomicInteger();
+        this.drainers = Executors.newCachedThreadPool(runnable -> {
+            final var thread = new Thread(runnable, "hot-card-" + drainerId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "hot-card-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Optional<Cartao> create(Cartao cartao) {
+        return delegate.create(cartao);
+    }
+
+    @Override
+    public List<Optional<Cartao>> createAll(List<Cartao> cartoes) {
+        return delegate.createAll(cartoes);
+    }
+
+    @Override
+    public Optional<Cartao> findBy(String numeroCartao) {
+        return delegate.findBy(numeroCartao);
+    }
+
+    @Override
+    public DebitResult debit(String numeroCartao, String senha, long valor) {
+        if (numeroCartao == null) {
+            return delegate.debit(null, senha, valor);
+        }
+
+        final var lane = hotLanes.get(numeroCartao);
+        if (lane != null) {
+            final var result = lane.submit(Debit.with(numeroCartao, senha, valor));
+            if (result != null) {
+                return result;
+            }
+        }
+
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return delegate.debit(numeroCartao, senha, valor);
+        }
+
+        final int contention = inFlight.merge(numeroCartao, 1, Integer::sum);
+        try {
+            if (contention >= threshold) {
+                final var promotedLane = promote(numeroCartao);
+                if (promotedLane != null) {
+                    final var result = promotedLane.submit(Debit.with(numeroCartao, senha, valor));
+                    if (result != null) {
+                        return result;
+                    }
+                }
+            }
+            return delegate.debit(numeroCartao, senha, valor);
+        } finally {
+            inFlight.computeIfPresent(numeroCartao, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    @Override
+    public List<DebitResult> debitAll(List<Debit> debits) {
+        return delegate.debitAll(debits);
+    }
+
+    @Override
+    public void forEachNumeroCartao(Consumer<String> action) {
+        delegate.forEachNumeroCartao(action);
+    }
+
+    @Override
+    public DebitResult hold(Reserva reserva, String senha) {
+        return delegate.hold(reserva, senha);
+    }
+
+    @Override
+    public DebitResult capture(Reserva reserva, long valor) {
+        return delegate.capture(reserva, valor);
+    }
+
+    @Override
+    public boolean release(Reserva reserva) {
+        return delegate.release(reserva);
+    }
+
+    @Override
+    public Optional<Reserva> findReserva(String reservaId) {
+        return delegate.findReserva(reservaId);
+    }
+
+    @Override
+    public void forEachReserva(Consumer<Reserva> action) {
+        delegate.forEachReserva(action);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("autorizador.cartao.hot", hotLanes, Map::size)
+                .description("Cartões com débitos serializados por contenção")
+                .register(registry);
+        FunctionCounter.builder("autorizador.cartao.hot.promoted", promoted, LongAdder::sum)
+                .description("Cartões detectados como disputados")
+                .register(registry);
+        FunctionCounter.builder("autorizador.cartao.hot.serialized", serialized, LongAdder::sum)
+                .description("Débitos processados pela fila de cartões disputados")
+                .register(registry);
+        queued = MultiGauge.builder("autorizador.cartao.hot.queued")
+                .description("Débitos aguardando na fila de cada cartão disputado")
+                .register(registry);
+        refreshQueuedGauge();
+    }
+
+    public Set<String> hotCards() {
+        return Set.copyOf(hotLanes.keySet());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        sweeper.shutdownNow();
+        hotLanes.values().forEach(HotLane::retire);
+        hotLanes.clear();
+        drainers.shutdown();
+        try {
+            drainers.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void sweep() {
+        final long now = ticker.getAsLong();
+        hotLanes.forEach((numeroCartao, lane) -> {
+            if (lane.retireIfIdle(now)) {
+                hotLanes.remove(numeroCartao, lane);
+            }
+        });
+        refreshQueuedGauge();
+    }
+
+    private HotLane promote(String numeroCartao) {
+        if (closed) {
+            return null;
+        }
+        final var existing = hotLanes.get(numeroCartao);
+        if (existing != null || hotLanes.size() >= maxHotCards) {
+            return existing;
+        }
+
+        final var lane = hotLanes.computeIfAbsent(numeroCartao, key -> {
+            promoted.increment();
+            return new HotLane();
+        });
+        refreshQueuedGauge();
+        return lane;
+    }
+
+    private void refreshQueuedGauge() {
+        final var gauge = queued;
+        if (gauge == null) {
+            return;
+        }
+        gauge.register(hotLanes.entrySet().stream()
+                .<MultiGauge.Row<?>>map(entry -> MultiGauge.Row.of(Tags.of("cartao", mask(entry.getKey())), entry.getValue(), HotLane::queued))
+                .toList(), true);
+    }
+
+    private static String mask(String numeroCartao) {
+        if (numeroCartao.length() <= 10) {
+            return numeroCartao;
+        }
+        return numeroCartao.substring(0, 6)
+                + "*".repeat(numeroCartao.length() - 10)
+                + numeroCartao.substring(numeroCartao.length() - 4);
+    }
+
+    private static DebitResult join(CompletableFuture<DebitResult> result) {
+        try {
+            return result.join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (ce.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ce;
+        }
+    }
+
+    private final class HotLane {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<PendingDebit> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean retired;
+        private long lastActivity = ticker.getAsLong();
+
+        private DebitResult submit(Debit debit) {
+            final var pending = new PendingDebit(debit, new CompletableFuture<>());
+            lock.lock();
+            try {
+                if (retired) {
+                    return null;
+                }
+                queue.add(pending);
+                if (!draining) {
+                    draining = true;
+                    drainers.execute(this::drain);
+                }
+            } finally {
+                lock.unlock();
+            }
+            return join(pending.result());
+        }
+
+        private void drain() {
+            var batch = nextBatch();
+            while (!batch.isEmpty()) {
+                final var completion = commit(batch);
+                batch = nextBatch();
+                completion.run();
+            }
+        }
+
+        private List<PendingDebit> nextBatch() {
+            lock.lock();
+            try {
+                if (queue.isEmpty()) {
+                    draining = false;
+                    lastActivity = ticker.getAsLong();
+                    return List.of();
+                }
+                final List<PendingDebit> batch = new ArrayList<>(Math.min(queue.size(), maxBatchSize));
+                while (batch.size() < maxBatchSize && !queue.isEmpty()) {
+                    batch.add(queue.poll());
+                }
+                return batch;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Runnable commit(List<PendingDebit> batch) {
+            try {
+                final var results = delegate.debitAll(batch.stream().map(PendingDebit::debit).toList());
+                serialized.add(batch.size());
+                return () -> {
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).result().complete(results.get(i));
+                    }
+                };
+            } catch (Throwable t) {
+                return () -> batch.forEach(pending -> pending.result().completeExceptionally(t));
+            }
+        }
+
+        private boolean retireIfIdle(long now) {
+            lock.lock();
+            try {
+                if (draining || !queue.isEmpty() || now - lastActivity < coolDownNanos) {
+                    return false;
+                }
+                retired = true;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void retire() {
+            lock.lock();
+            try {
+                retired = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private double queued() {
+            lock.lock();
+            try {
+                return queue.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private record PendingDebit(Debit debit, CompletableFuture<DebitResult> result) {
+    }
+}
@@ -0,0 +1,156 @@
+package br.com.vr.autorizador.infrastructure.cartao.importacao;
+
+import br.com.vr.autorizador.application.cartao.create.CreateCartaoInput;
+import br.com.vr.autorizador.application.cartao.create.batch.BatchCreateCartaoInput;
+import br.com.vr.autorizador.application.cartao.create.batch.BatchCreateCartaoOutput;
+import br.com.vr.autorizador.application.cartao.create.batch.BatchCreateCartaoUseCase;
+import br.com.vr.autorizador.infrastructure.cartao.models.CreateCartaoRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.models.ImportCartaoRestOutput;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class CartaoImporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CartaoImporter.class);
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final String CSV_HEADER = "numeroCartao";
+    private static final String ERRO = "ERRO";
+
+    private final BatchCreateCartaoUseCase batchCreateCartaoUseCase;
+    private final ObjectReader inputReader;
+    private final ObjectWriter outputWriter;
+    private final int chunkSize;
+
+    public CartaoImporter(BatchCreateCartaoUseCase batchCreateCartaoUseCase, ObjectMapper objectMapper, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("'chunk-size' deve ser maior que zero");
+        }
+        this.batchCreateCartaoUseCase = Objects.requireNonNull(batchCreateCartaoUseCase);
+        this.inputReader = objectMapper.readerFor(CreateCartaoRestInput.class);
+        this.outputWriter = objectMapper.writerFor(ImportCartaoRestOutput.class);
+        this.chunkSize = chunkSize;
+    }
+
+    public void importFrom(InputStream input, MediaType contentType, OutputStream output) throws IOException {
+        final boolean csv = MediaType.parseMediaType(TEXT_CSV_VALUE).includes(contentType);
+        final var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        final List<Linha> chunk = new ArrayList<>(chunkSize);
+
+        long numero = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            numero++;
+            if (line.isBlank() || (csv && numero == 1 && line.strip().startsWith(CSV_HEADER))) {
+                continue;
+            }
+
+            chunk.add(csv ? parseCsv(numero, line) : parseNdjson(numero, line));
+            if (chunk.size() == chunkSize) {
+                write(chunk, output);
+                chunk.clear();
+            }
+        }
+        write(chunk, output);
+    }
+
+    private Linha parseNdjson(long numero, String line) {
+        try {
+            final CreateCartaoRestInput cartao = inputReader.readValue(line);
+            if (cartao == null) {
+                return new Linha(numero, null, "JSON inválido");
+            }
+            return new Linha(numero, CreateCartaoInput.with(cartao.numeroCartao(), cartao.senha()), null);
+        } catch (JsonProcessingException e) {
+            return new Linha(numero, null, "JSON inválido");
+        }
+    }
+
+    private static Linha parseCsv(long numero, String line) {
+        final var fields = line.split(",", -1);
+        if (fields.length != 2) {
+            return new Linha(numero, null, "Linha deve conter 'numeroCartao,senha'");
+        }
+        return new Linha(numero, CreateCartaoInput.with(unquote(fields[0]), unquote(fields[1])), null);
+    }
+
+    private static String unquote(String field) {
+        final var value = field.strip();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private void write(List<Linha> chunk, OutputStream output) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        final var parsed = chunk.stream()
+                .filter(Linha::parsed)
+                .map(Linha::cartao)
+                .toList();
+
+        List<ImportCartaoRestOutput> results;
+        try {
+            final var items = parsed.isEmpty()
+                    ? List.<BatchCreateCartaoOutput.Item>of()
+                    : batchCreateCartaoUseCase.execute(BatchCreateCartaoInput.with(parsed)).items();
+            results = merge(chunk, items);
+        } catch (RuntimeException e) {
+            LOGGER.error("Falha ao importar o lote das linhas {} a {}", chunk.get(0).numero(), chunk.get(chunk.size() - 1).numero(), e);
+            results = chunk.stream()
+                    .map(linha -> new ImportCartaoRestOutput(linha.numero(), linha.numeroCartao(), ERRO,
+                            linha.parsed() ? "Não foi possível importar o lote" : linha.erro()))
+                    .toList();
+        }
+
+        for (var result : results) {
+            output.write(outputWriter.writeValueAsBytes(result));
+            output.write('\n');
+        }
+        output.flush();
+    }
+
+    private static List<ImportCartaoRestOutput> merge(List<Linha> chunk, List<BatchCreateCartaoOutput.Item> items) {
+        final List<ImportCartaoRestOutput> results = new ArrayList<>(chunk.size());
+        int next = 0;
+        for (var linha : chunk) {
+            if (!linha.parsed()) {
+                results.add(new ImportCartaoRestOutput(linha.numero(), null, ERRO, linha.erro()));
+                continue;
+            }
+            final var item = items.get(next++);
+            results.add(new ImportCartaoRestOutput(linha.numero(), item.numeroCartao(), item.resultado().name(), item.mensagem()));
+        }
+        return results;
+    }
+
+    private record Linha(long numero, CreateCartaoInput cartao, String erro) {
+        private boolean parsed() {
+            return erro == null;
+        }
+
+        private String numeroCartao() {
+            return cartao == null ? null : cartao.numeroCartao();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.vr.autorizador.infrastructure.cartao.ledger;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import br.com.vr.autorizador.domain.transacao.Transacao;
+import br.com.vr.autorizador.infrastructure.transacao.TransacaoLedgerWriter;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class LedgerCartaoGateway implements CartaoGateway {
+
+    private final CartaoGateway delegate;
+    private final TransacaoLedgerWriter writer;
+    private final Clock clock;
+
+    public LedgerCartaoGateway(CartaoGateway delegate, TransacaoLedgerWriter writer) {
+        this(delegate, writer, Clock.systemUTC());
+    }
+
+    LedgerCartaoGateway(CartaoGateway delegate, TransacaoLedgerWriter writer, Clock clock) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.writer = Objects.requireNonNull(writer);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public Optional<Cartao> create(Cartao cartao) {
+        return delegate.create(cartao);
+    }
+
+    @Override
+    public List<Optional<Cartao>> createAll(List<Cartao> cartoes) {
+        return delegate.createAll(cartoes);
+    }
+
+    @Override
+    public Optional<Cartao> findBy(String numeroCartao) {
+        return delegate.findBy(numeroCartao);
+    }
+
+    @Override
+    public DebitResult debit(String numeroCartao, String senha, long valor) {
+        final var result = delegate.debit(numeroCartao, senha, valor);
+        record(numeroCartao, valor, result);
+        return result;
+    }
+
+    @Override
+    public List<DebitResult> debitAll(List<Debit> debits) {
+        final var results = delegate.debitAll(debits);
+        for (int i = 0; i < debits.size(); i++) {
+            record(debits.get(i).numeroCartao(), debits.get(i).valor(), results.get(i));
+        }
+        return results;
+    }
+
+    @Override
+    public void forEachNumeroCartao(Consumer<String> action) {
+        delegate.forEachNumeroCartao(action);
+    }
+
+    @Override
+    public DebitResult hold(Reserva reserva, String senha) {
+        return delegate.hold(reserva, senha);
+    }
+
+    @Override
+    public DebitResult capture(Reserva reserva, long valor) {
+        final var result = delegate.capture(reserva, valor);
+        if (result != DebitResult.RESERVA_INEXISTENTE) {
+            record(reserva.numeroCartao(), valor, result);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean release(Reserva reserva) {
+        return delegate.release(reserva);
+    }
+
+    @Override
+    public Optional<Reserva> findReserva(String reservaId) {
+        return delegate.findReserva(reservaId);
+    }
+
+    @Override
+    public void forEachReserva(Consumer<Reserva> action) {
+        delegate.forEachReserva(action);
+    }
+
+    private void record(String numeroCartao, long valor, DebitResult result) {
+        if (result == DebitResult.CARTAO_INEXISTENTE) {
+            return;
+        }
+        writer.append(Transacao.newTransacao(numeroCartao, valor, result, clock.instant()));
+    }
+}
@@ -0,0 +1,414 @@
+package br.com.vr.autorizador.infrastructure.cartao.memory;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class CartaoInMemoryGateway implements CartaoGateway, AutoCloseable {
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final String JOURNAL_PREFIX = "journal-";
+    private static final String JOURNAL_SUFFIX = ".log";
+    private static final int CONCURRENCY = 64;
+
+    private final Path directory;
+    private final int journalCapacity;
+    private final long flushIntervalNanos;
+    private final LongConcurrentMap<Conta> contas = new LongConcurrentMap<>(CONCURRENCY);
+    private final Map<String, Reserva> reservas = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock rotationLock = new ReentrantReadWriteLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler;
+
+    private CartaoJournal journal;
+    private long generation;
+
+    public CartaoInMemoryGateway(Path directory, int journalCapacity, Duration flushInterval, Duration snapshotInterval) {
+        this.directory = directory;
+        this.journalCapacity = journalCapacity;
+        this.flushIntervalNanos = flushInterval.toNanos();
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        recover();
+        snapshot();
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "cartao-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long period = snapshotInterval.toMillis();
+        this.scheduler.scheduleAtFixedRate(this::snapshot, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<Cartao> create(Cartao cartao) {
+        final long key = NumeroCartaoKey.of(cartao.getNumeroCartao());
+        if (key == NumeroCartaoKey.INVALID) {
+            throw new IllegalArgumentException("'numeroCartao' deve possuir 16 dígitos: " + cartao.getNumeroCartao());
+        }
+
+        final var conta = contas.computeIfAbsent(key, numeroCartao -> new Conta());
+        return mutate(conta, (current, state) -> {
+            if (state.exists()) {
+                return Outcome.done(Optional.empty());
+            }
+            final int position = current.appendCreate(cartao.getNumeroCartao(), cartao.getSenha(), cartao.getSaldo());
+            if (position >= 0) {
+                state.senha = cartao.getSenha();
+                state.saldo = cartao.getSaldo();
+            }
+            return new Outcome<>(Optional.of(cartao), position);
+        });
+    }
+
+    @Override
+    public Optional<Cartao> findBy(String numeroCartao) {
+        final var conta = contas.get(NumeroCartaoKey.of(numeroCartao));
+        if (conta == null) {
+            return Optional.empty();
+        }
+        synchronized (conta) {
+            return conta.exists()
+                    ? Optional.of(conta.toCartao(numeroCartao))
+                    : Optional.empty();
+        }
+    }
+
+    @Override
+    public DebitResult debit(String numeroCartao, String senha, long valor) {
+        final var conta = contas.get(NumeroCartaoKey.of(numeroCartao));
+        if (conta == null) {
+            return DebitResult.CARTAO_INEXISTENTE;
+        }
+
+        return mutate(conta, (current, state) -> {
+            if (!state.exists()) {
+                return Outcome.done(DebitResult.CARTAO_INEXISTENTE);
+            }
+            final var result = state.toCartao(numeroCartao).authorize(valor, senha);
+            if (!result.isApproved()) {
+                return Outcome.done(result);
+            }
+            final int position = current.appendDebit(numeroCartao, valor);
+            if (position >= 0) {
+                state.saldo -= valor;
+            }
+            return new Outcome<>(DebitResult.OK, position);
+        });
+    }
+
+    @Override
+    public DebitResult hold(Reserva reserva, String senha) {
+        final var conta = contas.get(NumeroCartaoKey.of(reserva.numeroCartao()));
+        if (conta == null) {
+            return DebitResult.CARTAO_INEXISTENTE;
+        }
+
+        return mutate(conta, (current, state) -> {
+            if (!state.exists()) {
+                return Outcome.done(DebitResult.CARTAO_INEXISTENTE);
+            }
+            final var result = state.toCartao(reserva.numeroCartao()).authorize(reserva.valor(), senha);
+            if (!result.isApproved()) {
+                return Outcome.done(result);
+            }
+            final int position = current.appendHold(reserva);
+            if (position >= 0) {
+                state.saldoReservado += reserva.valor();
+                reservas.put(reserva.id(), reserva);
+            }
+            return new Outcome<>(DebitResult.OK, position);
+        });
+    }
+
+    @Override
+    public DebitResult capture(Reserva reserva, long valor) {
+        final var result = reserva.authorizeCapture(valor);
+        if (!result.isApproved()) {
+            return result;
+        }
+        final var conta = contas.get(NumeroCartaoKey.of(reserva.numeroCartao()));
+        if (conta == null) {
+            return DebitResult.RESERVA_INEXISTENTE;
+        }
+
+        return mutate(conta, (current, state) -> {
+            final var held = reservas.get(reserva.id());
+            if (held == null) {
+                return Outcome.done(DebitResult.RESERVA_INEXISTENTE);
+            }
+            final int position = current.appendCapture(held, valor);
+            if (position >= 0) {
+                reservas.remove(held.id());
+                state.saldoReservado -= held.valor();
+                state.saldo -= valor;
+            }
+            return new Outcome<>(DebitResult.OK, position);
+        });
+    }
+
+    @Override
+    public boolean release(Reserva reserva) {
+        final var conta = contas.get(NumeroCartaoKey.of(reserva.numeroCartao()));
+        if (conta == null) {
+            return false;
+        }
+
+        return mutate(conta, (current, state) -> {
+            final var held = reservas.get(reserva.id());
+            if (held == null) {
+                return Outcome.done(false);
+            }
+            final int position = current.appendRelease(held);
+            if (position >= 0) {
+                reservas.remove(held.id());
+                state.saldoReservado -= held.valor();
+            }
+            return new Outcome<>(true, position);
+        });
+    }
+
+    @Override
+    public Optional<Reserva> findReserva(String reservaId) {
+        return Optional.ofNullable(reservas.get(reservaId));
+    }
+
+    @Override
+    public void forEachReserva(Consumer<Reserva> action) {
+        reservas.values().forEach(action);
+    }
+
+    @Override
+    public void forEachNumeroCartao(Consumer<String> action) {
+        contas.forEach((key, conta) -> {
+            synchronized (conta) {
+                if (!conta.exists()) {
+                    return;
+                }
+            }
+            action.accept(NumeroCartaoKey.toNumeroCartao(key));
+        });
+    }
+
+    public void snapshot() {
+        snapshotLock.lock();
+        try {
+            final long next;
+            final CartaoJournal previous;
+            final List<CartaoSnapshot.Entry> entries = new ArrayList<>(contas.size());
+            final List<Reserva> held;
+
+            rotationLock.writeLock().lock();
+            try {
+                if (journal != null && journal.failed()) {
+                    throw new IllegalStateException("Journal indisponível após falha de gravação; reinicie para recuperar do disco");
+                }
+                next = ++generation;
+                contas.forEach((key, conta) -> {
+                    if (conta.exists()) {
+                        entries.add(new CartaoSnapshot.Entry(key, conta.senha, conta.saldo));
+                    }
+                });
+                held = List.copyOf(reservas.values());
+                previous = journal;
+                journal = new CartaoJournal(file(JOURNAL_PREFIX, next, JOURNAL_SUFFIX), journalCapacity, flushIntervalNanos);
+            } finally {
+                rotationLock.writeLock().unlock();
+            }
+
+            if (previous != null) {
+                previous.close();
+            }
+            CartaoSnapshot.write(file(SNAPSHOT_PREFIX, next, SNAPSHOT_SUFFIX), entries, held);
+            deleteOlderThan(next);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        snapshotLock.lock();
+        try {
+            journal.close();
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    private void recover() {
+        final CartaoJournal.RecordVisitor visitor = new CartaoJournal.RecordVisitor() {
+            @Override
+            public void create(String numeroCartao, String senha, long saldo) {
+                restore(NumeroCartaoKey.of(numeroCartao), senha, saldo);
+            }
+
+            @Override
+            public void debit(String numeroCartao, long valor) {
+                final var conta = contas.get(NumeroCartaoKey.of(numeroCartao));
+                conta.saldo -= valor;
+            }
+
+            @Override
+            public void hold(Reserva reserva) {
+                restore(reserva);
+            }
+
+            @Override
+            public void capture(String numeroCartao, String reservaId, long valor) {
+                final var reserva = reservas.remove(reservaId);
+                final var conta = contas.get(NumeroCartaoKey.of(numeroCartao));
+                conta.saldoReservado -= reserva.valor();
+                conta.saldo -= valor;
+            }
+
+            @Override
+            public void release(String numeroCartao, String reservaId) {
+                final var reserva = reservas.remove(reservaId);
+                contas.get(NumeroCartaoKey.of(numeroCartao)).saldoReservado -= reserva.valor();
+            }
+        };
+
+        final var snapshots = generations(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        final long base = snapshots.isEmpty() ? 0 : snapshots.get(snapshots.size() - 1);
+        if (base > 0) {
+            CartaoSnapshot.read(file(SNAPSHOT_PREFIX, base, SNAPSHOT_SUFFIX), new CartaoSnapshot.EntryVisitor() {
+                @Override
+                public void entry(long numeroCartao, String senha, long saldo) {
+                    restore(numeroCartao, senha, saldo);
+                }
+
+                @Override
+                public void reserva(Reserva reserva) {
+                    restore(reserva);
+                }
+            });
+        }
+
+        final var journals = generations(JOURNAL_PREFIX, JOURNAL_SUFFIX);
+        journals.stream()
+                .filter(journalGeneration -> journalGeneration >= base)
+                .forEach(journalGeneration -> CartaoJournal.replay(file(JOURNAL_PREFIX, journalGeneration, JOURNAL_SUFFIX), visitor));
+
+        generation = Math.max(base, journals.isEmpty() ? 0 : journals.get(journals.size() - 1));
+    }
+
+    private void restore(long key, String senha, long saldo) {
+        final var conta = contas.computeIfAbsent(key, numeroCartao -> new Conta());
+        conta.senha = senha;
+        conta.saldo = saldo;
+    }
+
+    private void restore(Reserva reserva) {
+        reservas.put(reserva.id(), reserva);
+        contas.get(NumeroCartaoKey.of(reserva.numeroCartao())).saldoReservado += reserva.valor();
+    }
+
+    private <T> T mutate(Conta conta, Mutation<T> mutation) {
+        while (true) {
+            final CartaoJournal current;
+            final Outcome<T> outcome;
+
+            rotationLock.readLock().lock();
+            try {
+                current = journal;
+                synchronized (conta) {
+                    outcome = mutation.apply(current, conta);
+                }
+            } finally {
+                rotationLock.readLock().unlock();
+            }
+
+            if (outcome.position() < 0) {
+                snapshot();
+                continue;
+            }
+
+            if (outcome.position() > 0) {
+                current.awaitDurable(outcome.position());
+            }
+            return outcome.result();
+        }
+    }
+
+    private void deleteOlderThan(long current) {
+        try {
+            for (var prefix : List.of(SNAPSHOT_PREFIX, JOURNAL_PREFIX)) {
+                final var suffix = prefix.equals(SNAPSHOT_PREFIX) ? SNAPSHOT_SUFFIX : JOURNAL_SUFFIX;
+                for (var older : generations(prefix, suffix)) {
+                    if (older < current) {
+                        Files.deleteIfExists(file(prefix, older, suffix));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Long> generations(String prefix, String suffix) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path file(String prefix, long fileGeneration, String suffix) {
+        return directory.resolve("%s%020d%s".formatted(prefix, fileGeneration, suffix));
+    }
+
+    private interface Mutation<T> {
+        Outcome<T> apply(CartaoJournal journal, Conta conta);
+    }
+
+    private record Outcome<T>(T result, int position) {
+        private static <T> Outcome<T> done(T result) {
+            return new Outcome<>(result, 0);
+        }
+    }
+
+    private static final class Conta {
+        private String senha;
+        private long saldo;
+        private long saldoReservado;
+
+        private boolean exists() {
+            return senha != null;
+        }
+
+        private Cartao toCartao(String numeroCartao) {
+            return Cartao.with(numeroCartao, senha, saldo, saldoReservado);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package br.com.vr.autorizador.infrastructure.cartao.memory;
+
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+final class CartaoJournal implements AutoCloseable {
+
+    static final byte CREATE = 1;
+    static final byte DEBIT = 2;
+    static final byte HOLD = 3;
+    static final byte CAPTURE = 4;
+    static final byte RELEASE = 5;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CartaoJournal.class);
+
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long flushIntervalNanos;
+    private final Consumer<MappedByteBuffer> force;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition flushed = flushLock.newCondition();
+    private final Condition pending = flushLock.newCondition();
+    private final Thread flusher;
+
+    private volatile int written;
+    private volatile int durable;
+    private volatile boolean closed;
+    private volatile RuntimeException failure;
+
+    CartaoJournal(Path file, int capacity, long flushIntervalNanos) {
+        this(file, capacity, flushIntervalNanos, MappedByteBuffer::force);
+    }
+
+    CartaoJournal(Path file, int capacity, long flushIntervalNanos, Consumer<MappedByteBuffer> force) {
+        try {
+            this.file = file;
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            this.flushIntervalNanos = flushIntervalNanos;
+            this.force = force;
+            this.flusher = new Thread(this::flushLoop, "cartao-journal-" + file.getFileName());
+            this.flusher.setDaemon(true);
+            this.flusher.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Path file() {
+        return file;
+    }
+
+    boolean failed() {
+        return failure != null;
+    }
+
+    int appendCreate(String numeroCartao, String senha, long saldo) {
+        return append(CREATE, saldo, numeroCartao, senha);
+    }
+
+    int appendDebit(String numeroCartao, long valor) {
+        return append(DEBIT, valor, numeroCartao);
+    }
+
+    int appendHold(Reserva reserva) {
+        return append(HOLD, reserva.valor(), reserva.numeroCartao(), reserva.id(), reserva.expiraEm().toString());
+    }
+
+    int appendCapture(Reserva reserva, long valor) {
+        return append(CAPTURE, valor, reserva.numeroCartao(), reserva.id());
+    }
+
+    int appendRelease(Reserva reserva) {
+        return append(RELEASE, reserva.valor(), reserva.numeroCartao(), reserva.id());
+    }
+
+    void awaitDurable(int position) {
+        if (durable >= position) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            pending.signal();
+            while (durable < position) {
+                checkFailure();
+                flushed.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando a gravação do journal", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        flushLock.lock();
+        try {
+            pending.signal();
+        } finally {
+            flushLock.unlock();
+        }
+        try {
+            flusher.join();
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int append(byte type, long amount, String... fields) {
+        final var payload = encode(type, amount, fields);
+        final var crc = new CRC32();
+        crc.update(payload);
+
+        appendLock.lock();
+        try {
+            checkFailure();
+            if (closed || buffer.remaining() < HEADER_SIZE + payload.length + Integer.BYTES) {
+                return -1;
+            }
+            final int start = buffer.position();
+            buffer.position(start + Integer.BYTES);
+            buffer.putInt((int) crc.getValue());
+            buffer.put(payload);
+            buffer.putInt(start, payload.length);
+            written = buffer.position();
+            return written;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            flushLock.lock();
+            try {
+                while (!closed && written == durable) {
+                    pending.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                flushLock.unlock();
+            }
+
+            if (!closed && flushIntervalNanos > 0) {
+                parkGroupCommitWindow();
+            }
+
+            final int target = written;
+            try {
+                force.accept(buffer);
+            } catch (RuntimeException e) {
+                LOGGER.error("Falha ao gravar o journal {}; novas alterações serão recusadas", file, e);
+                flushLock.lock();
+                try {
+                    failure = e;
+                    flushed.signalAll();
+                } finally {
+                    flushLock.unlock();
+                }
+                return;
+            }
+
+            flushLock.lock();
+            try {
+                durable = target;
+                flushed.signalAll();
+            } finally {
+                flushLock.unlock();
+            }
+
+            if (closed && durable == written) {
+                return;
+            }
+        }
+    }
+
+    private void checkFailure() {
+        final var cause = failure;
+        if (cause != null) {
+            throw new IllegalStateException("Journal " + file + " indisponível após falha de gravação", cause);
+        }
+    }
+
+    private void parkGroupCommitWindow() {
+        final long deadline = System.nanoTime() + flushIntervalNanos;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static byte[] encode(byte type, long amount, String... fields) {
+        int size = 1 + Long.BYTES;
+        final var encoded = new byte[fields.length][];
+        for (int i = 0; i < fields.length; i++) {
+            encoded[i] = fields[i].getBytes(StandardCharsets.UTF_8);
+            size += Short.BYTES + encoded[i].length;
+        }
+
+        final var payload = ByteBuffer.allocate(size);
+        payload.put(type);
+        for (var field : encoded) {
+            payload.putShort((short) field.length);
+            payload.put(field);
+        }
+        payload.putLong(amount);
+        return payload.array();
+    }
+
+    static void replay(Path file, RecordVisitor visitor) {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (buffer.remaining() >= HEADER_SIZE) {
+                final int length = buffer.getInt();
+                final int checksum = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    return;
+                }
+
+                final var payload = new byte[length];
+                buffer.get(payload);
+                final var crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    return;
+                }
+
+                final var record = ByteBuffer.wrap(payload);
+                final byte type = record.get();
+                final var numeroCartao = readField(record);
+                switch (type) {
+                    case CREATE -> visitor.create(numeroCartao, readField(record), record.getLong());
+                    case DEBIT -> visitor.debit(numeroCartao, record.getLong());
+                    case HOLD -> {
+                        final var id = readField(record);
+                        final var expiraEm = Instant.parse(readField(record));
+                        visitor.hold(Reserva.with(id, numeroCartao, record.getLong(), expiraEm));
+                    }
+                    case CAPTURE -> visitor.capture(numeroCartao, readField(record), record.getLong());
+                    case RELEASE -> visitor.release(numeroCartao, readField(record));
+                    default -> {
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readField(ByteBuffer record) {
+        final var field = new byte[record.getShort() & 0xFFFF];
+        record.get(field);
+        return new String(field, StandardCharsets.UTF_8);
+    }
+
+    interface RecordVisitor {
+        void create(String numeroCartao, String senha, long saldo);
+
+        void debit(String numeroCartao, long valor);
+
+        void hold(Reserva reserva);
+
+        void capture(String numeroCartao, String reservaId, long valor);
+
+        void release(String numeroCartao, String reservaId);
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.vr.autorizador.infrastructure.cartao.memory;
+
+import br.com.vr.autorizador.domain.reserva.Reserva;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+final class CartaoSnapshot {
+
+    private static final int MAGIC = 0x43415254;
+    private static final int LEGACY_VERSION = 2;
+    private static final int KEYED_VERSION = 3;
+    private static final int VERSION = 4;
+
+    private CartaoSnapshot() {
+    }
+
+    static void write(Path file, List<Entry> entries, List<Reserva> reservas) {
+        final var temp = file.resolveSibling(file.getFileName() + ".tmp");
+        final var crc = new CRC32();
+        try (var out = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp)), crc))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            for (var entry : entries) {
+                out.writeLong(entry.numeroCartao());
+                out.writeUTF(entry.senha());
+                out.writeLong(entry.saldo());
+            }
+            out.writeInt(reservas.size());
+            for (var reserva : reservas) {
+                out.writeUTF(reserva.id());
+                out.writeLong(NumeroCartaoKey.of(reserva.numeroCartao()));
+                out.writeLong(reserva.valor());
+                out.writeLong(reserva.expiraEm().getEpochSecond());
+                out.writeInt(reserva.expiraEm().getNano());
+            }
+            out.flush();
+            out.writeLong(crc.getValue());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            try (var channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void read(Path file, EntryVisitor visitor) {
+        final var crc = new CRC32();
+        try (var in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(file)), crc))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalStateException("Snapshot inválido: " + file);
+            }
+            final int version = in.readInt();
+            if (version != VERSION && version != KEYED_VERSION && version != LEGACY_VERSION) {
+                throw new IllegalStateException("Snapshot inválido: " + file);
+            }
+
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final long numeroCartao = version == LEGACY_VERSION ? legacyKey(in.readUTF(), file) : in.readLong();
+                visitor.entry(numeroCartao, in.readUTF(), in.readLong());
+            }
+
+            final int reservas = version == VERSION ? in.readInt() : 0;
+            for (int i = 0; i < reservas; i++) {
+                final var id = in.readUTF();
+                final var numeroCartao = NumeroCartaoKey.toNumeroCartao(in.readLong());
+                final long valor = in.readLong();
+                visitor.reserva(Reserva.with(id, numeroCartao, valor, Instant.ofEpochSecond(in.readLong(), in.readInt())));
+            }
+
+            final long expected = crc.getValue();
+            if (in.readLong() != expected) {
+                throw new IllegalStateException("Snapshot corrompido: " + file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long legacyKey(String numeroCartao, Path file) {
+        final long key = NumeroCartaoKey.of(numeroCartao);
+        if (key == NumeroCartaoKey.INVALID) {
+            throw new IllegalStateException("Snapshot com numeroCartao inválido: " + file);
+        }
+        return key;
+    }
+
+    interface EntryVisitor {
+        void entry(long numeroCartao, String senha, long saldo);
+
+        void reserva(Reserva reserva);
+    }
+
+    record Entry(long numeroCartao, String senha, long saldo) {
+    }
+}
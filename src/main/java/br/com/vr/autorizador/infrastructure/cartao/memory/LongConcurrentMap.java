@@ -0,0 +1,214 @@
+package br.com.vr.autorizador.infrastructure.cartao.memory;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongFunction;
+
+final class LongConcurrentMap<V> {
+
+    private static final long EMPTY = -1L;
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    private final Segment<V>[] segments;
+    private final int segmentMask;
+
+    @SuppressWarnings("unchecked")
+    LongConcurrentMap(int concurrency) {
+        final int count = Integer.highestOneBit(Math.max(1, concurrency - 1) << 1);
+        this.segments = new Segment[count];
+        this.segmentMask = count - 1;
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(INITIAL_SEGMENT_CAPACITY);
+        }
+    }
+
+    V get(long key) {
+        if (key < 0) {
+            return null;
+        }
+        final long hash = hash(key);
+        return segmentFor(hash).get(key, (int) hash);
+    }
+
+    V computeIfAbsent(long key, LongFunction<? extends V> factory) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Chave negativa: " + key);
+        }
+        final long hash = hash(key);
+        return segmentFor(hash).computeIfAbsent(key, (int) hash, factory);
+    }
+
+    void forEach(EntryConsumer<? super V> action) {
+        for (var segment : segments) {
+            segment.forEach(action);
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (var segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment<V> segmentFor(long hash) {
+        return segments[(int) (hash >>> 32) & segmentMask];
+    }
+
+    private static long hash(long key) {
+        long hash = key;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private static final class Segment<V> {
+        private final StampedLock lock = new StampedLock();
+        private long[] keys;
+        private Object[] values;
+        private int size;
+
+        private Segment(int capacity) {
+            this.keys = emptyKeys(capacity);
+            this.values = new Object[capacity];
+        }
+
+        private V get(long key, int hash) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                final V value = find(key, hash);
+                if (lock.validate(stamp)) {
+                    return value;
+                }
+            }
+
+            stamp = lock.readLock();
+            try {
+                return find(key, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private V computeIfAbsent(long key, int hash, LongFunction<? extends V> factory) {
+            final V existing = get(key, hash);
+            if (existing != null) {
+                return existing;
+            }
+
+            final long stamp = lock.writeLock();
+            try {
+                final int mask = keys.length - 1;
+                int index = hash & mask;
+                while (keys[index] != EMPTY) {
+                    if (keys[index] == key) {
+                        return value(values, index);
+                    }
+                    index = (index + 1) & mask;
+                }
+
+                final V value = factory.apply(key);
+                values[index] = value;
+                keys[index] = key;
+                if (++size * 2 > keys.length) {
+                    resize();
+                }
+                return value;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private void forEach(EntryConsumer<? super V> action) {
+            final long[] currentKeys;
+            final Object[] currentValues;
+
+            final long stamp = lock.readLock();
+            try {
+                currentKeys = keys.clone();
+                currentValues = values.clone();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+
+            for (int i = 0; i < currentKeys.length; i++) {
+                if (currentKeys[i] != EMPTY) {
+                    action.accept(currentKeys[i], value(currentValues, i));
+                }
+            }
+        }
+
+        private int size() {
+            final long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private V find(long key, int hash) {
+            final long[] currentKeys = keys;
+            final Object[] currentValues = values;
+            if (currentKeys.length != currentValues.length) {
+                return null;
+            }
+
+            final int mask = currentKeys.length - 1;
+            int index = hash & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                final long candidate = currentKeys[index];
+                if (candidate == key) {
+                    return value(currentValues, index);
+                }
+                if (candidate == EMPTY) {
+                    return null;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        private void resize() {
+            final long[] oldKeys = keys;
+            final Object[] oldValues = values;
+            final long[] newKeys = emptyKeys(oldKeys.length << 1);
+            final Object[] newValues = new Object[newKeys.length];
+            final int mask = newKeys.length - 1;
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == EMPTY) {
+                    continue;
+                }
+                int index = (int) hash(oldKeys[i]) & mask;
+                while (newKeys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                newKeys[index] = oldKeys[i];
+                newValues[index] = oldValues[i];
+            }
+
+            keys = newKeys;
+            values = newValues;
+        }
+
+        private static long[] emptyKeys(int capacity) {
+            final var keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> V value(Object[] values, int index) {
+            return (V) values[index];
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.vr.autorizador.infrastructure.cartao.memory;
+
+import br.com.vr.autorizador.domain.cartao.CartaoValidator;
+
+import java.nio.charset.StandardCharsets;
+
+final class NumeroCartaoKey {
+
+    static final long INVALID = -1L;
+
+    private static final int LENGTH = CartaoValidator.CARD_NUMBER_SIZE;
+
+    private NumeroCartaoKey() {
+    }
+
+    static long of(String numeroCartao) {
+        if (numeroCartao == null || numeroCartao.length() != LENGTH) {
+            return INVALID;
+        }
+
+        long key = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            final char digit = numeroCartao.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return INVALID;
+            }
+            key = key * 10 + (digit - '0');
+        }
+        return key;
+    }
+
+    static String toNumeroCartao(long key) {
+        final var digits = new byte[LENGTH];
+        long remaining = key;
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            digits[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return new String(digits, StandardCharsets.ISO_8859_1);
+    }
+}
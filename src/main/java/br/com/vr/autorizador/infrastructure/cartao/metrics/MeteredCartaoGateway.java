@@ -0,0 +1,113 @@
+package br.com.vr.autorizador.infrastructure.cartao.metrics;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class MeteredCartaoGateway implements CartaoGateway {
+
+    public static final String STAGE_TIMER = "autorizador.cartao.stage";
+    public static final String DEBIT_COUNTER = "autorizador.debit";
+
+    private final CartaoGateway delegate;
+    private final Timer createTimer;
+    private final Timer createBatchTimer;
+    private final Timer lookupTimer;
+    private final Timer persistTimer;
+    private final Timer persistBatchTimer;
+    private final Map<DebitResult, Counter> outcomes = new EnumMap<>(DebitResult.class);
+
+    public MeteredCartaoGateway(CartaoGateway delegate, MeterRegistry registry) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.createTimer = stageTimer("create", registry);
+        this.createBatchTimer = stageTimer("create-batch", registry);
+        this.lookupTimer = stageTimer("lookup", registry);
+        this.persistTimer = stageTimer("persist", registry);
+        this.persistBatchTimer = stageTimer("persist-batch", registry);
+        for (var result : DebitResult.values()) {
+            outcomes.put(result, Counter.builder(DEBIT_COUNTER)
+                    .description("Autorizações de débito por resultado")
+                    .tag("resultado", result.name())
+                    .register(registry));
+        }
+    }
+
+    @Override
+    public Optional<Cartao> create(Cartao cartao) {
+        return createTimer.record(() -> delegate.create(cartao));
+    }
+
+    @Override
+    public List<Optional<Cartao>> createAll(List<Cartao> cartoes) {
+        return createBatchTimer.record(() -> delegate.createAll(cartoes));
+    }
+
+    @Override
+    public Optional<Cartao> findBy(String numeroCartao) {
+        return lookupTimer.record(() -> delegate.findBy(numeroCartao));
+    }
+
+    @Override
+    public DebitResult debit(String numeroCartao, String senha, long valor) {
+        final var result = persistTimer.record(() -> delegate.debit(numeroCartao, senha, valor));
+        outcomes.get(result).increment();
+        return result;
+    }
+
+    @Override
+    public List<DebitResult> debitAll(List<Debit> debits) {
+        final var results = persistBatchTimer.record(() -> delegate.debitAll(debits));
+        results.forEach(result -> outcomes.get(result).increment());
+        return results;
+    }
+
+    @Override
+    public void forEachNumeroCartao(Consumer<String> action) {
+        delegate.forEachNumeroCartao(action);
+    }
+
+    @Override
+    public DebitResult hold(Reserva reserva, String senha) {
+        return delegate.hold(reserva, senha);
+    }
+
+    @Override
+    public DebitResult capture(Reserva reserva, long valor) {
+        return delegate.capture(reserva, valor);
+    }
+
+    @Override
+    public boolean release(Reserva reserva) {
+        return delegate.release(reserva);
+    }
+
+    @Override
+    public Optional<Reserva> findReserva(String reservaId) {
+        return delegate.findReserva(reservaId);
+    }
+
+    @Override
+    public void forEachReserva(Consumer<Reserva> action) {
+        delegate.forEachReserva(action);
+    }
+
+    private static Timer stageTimer(String stage, MeterRegistry registry) {
+        return Timer.builder(STAGE_TIMER)
+                .description("Latência de cada etapa de acesso ao cartão")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
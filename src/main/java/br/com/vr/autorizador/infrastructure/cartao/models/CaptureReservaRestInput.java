@@ -0,0 +1,6 @@
+package br.com.vr.autorizador.infrastructure.cartao.models;
+
+import java.math.BigDecimal;
+
+public record CaptureReservaRestInput(BigDecimal valor) {
+}
@@ -0,0 +1,27 @@
+package br.com.vr.autorizador.infrastructure.cartao.models;
+
+import java.math.BigDecimal;
+
+public final class Centavos {
+
+    public static final int SCALE = 2;
+    public static final long INVALID = 0L;
+
+    private Centavos() {
+    }
+
+    public static long from(BigDecimal valor) {
+        if (valor == null) {
+            return INVALID;
+        }
+        try {
+            return valor.movePointRight(SCALE).longValueExact();
+        } catch (ArithmeticException e) {
+            return INVALID;
+        }
+    }
+
+    public static BigDecimal toDecimal(long centavos) {
+        return BigDecimal.valueOf(centavos, SCALE);
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.vr.autorizador.infrastructure.cartao.models;
+
+import java.math.BigDecimal;
+
+public record CreateReservaRestInput(
+        String numeroCartao,
+        String senhaCartao,
+        BigDecimal valor
+) {
+}
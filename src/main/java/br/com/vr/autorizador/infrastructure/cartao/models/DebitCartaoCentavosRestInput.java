@@ -0,0 +1,8 @@
+package br.com.vr.autorizador.infrastructure.cartao.models;
+
+public record DebitCartaoCentavosRestInput(
+        String numeroCartao,
+        String senhaCartao,
+        long valor
+) {
+}
@@ -0,0 +1,9 @@
+package br.com.vr.autorizador.infrastructure.cartao.models;
+
+import java.util.List;
+
+public record ExtratoRestOutput(
+        List<TransacaoRestOutput> transacoes,
+        Long proximo
+) {
+}
@@ -0,0 +1,9 @@
+package br.com.vr.autorizador.infrastructure.cartao.models;
+
+public record ImportCartaoRestOutput(
+        long linha,
+        String numeroCartao,
+        String resultado,
+        String mensagem
+) {
+}
@@ -0,0 +1,12 @@
+package br.com.vr.autorizador.infrastructure.cartao.models;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record TransacaoRestOutput(
+        long sequencia,
+        BigDecimal valor,
+        String resultado,
+        Instant criadoEm
+) {
+}
@@ -6,8 +6,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 
-import java.math.BigDecimal;
-
 @Entity
 @Table(name = "cartao")
 public class CartaoJpaEntity {
@@ -16,23 +14,26 @@ public class CartaoJpaEntity {
     private String numeroCartao;
     @Column(nullable = false)
     private String senha;
-    @Column(nullable = false)
-    private BigDecimal saldo;
+    @Column(name = "saldo_centavos", nullable = false)
+    private long saldo;
+    @Column(name = "saldo_reservado_centavos", nullable = false, columnDefinition = "bigint default 0 not null")
+    private long saldoReservado;
 
     public CartaoJpaEntity(){}
 
-    private CartaoJpaEntity(String numeroCartao, String senha, BigDecimal saldo) {
+    private CartaoJpaEntity(String numeroCartao, String senha, long saldo, long saldoReservado) {
         this.numeroCartao = numeroCartao;
         this.senha = senha;
         this.saldo = saldo;
+        this.saldoReservado = saldoReservado;
     }
 
     public static CartaoJpaEntity from(Cartao cartao){
-        return new CartaoJpaEntity(cartao.getNumeroCartao(), cartao.getSenha(), cartao.getSaldo());
+        return new CartaoJpaEntity(cartao.getNumeroCartao(), cartao.getSenha(), cartao.getSaldo(), cartao.getSaldoReservado());
     }
 
     public Cartao toCartao(){
-        return Cartao.with(getNumeroCartao(), getSenha(), getSaldo());
+        return Cartao.with(getNumeroCartao(), getSenha(), getSaldo(), getSaldoReservado());
     }
 
     public String getNumeroCartao() {
@@ -51,11 +52,19 @@ public class CartaoJpaEntity {
         this.senha = senha;
     }
 
-    public BigDecimal getSaldo() {
+    public long getSaldo() {
         return saldo;
     }
 
-    public void setSaldo(BigDecimal saldo) {
+    public void setSaldo(long saldo) {
         this.saldo = saldo;
     }
+
+    public long getSaldoReservado() {
+        return saldoReservado;
+    }
+
+    public void setSaldoReservado(long saldoReservado) {
+        this.saldoReservado = saldoReservado;
+    }
 }
@@ -1,6 +1,20 @@
 package br.com.vr.autorizador.infrastructure.cartao.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CartaoRepository extends JpaRepository<CartaoJpaEntity, String> {
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update CartaoJpaEntity c set c.saldo = c.saldo - :valor
+            where c.numeroCartao = :numeroCartao
+              and cast(c.senha as Binary) = cast(:senha as Binary)
+              and c.saldo - c.saldoReservado >= :valor
+              and :valor > 0""")
+    int debit(@Param("numeroCartao") String numeroCartao, @Param("senha") String senha, @Param("valor") long valor);
 }
@@ -0,0 +1,57 @@
+package br.com.vr.autorizador.infrastructure.cartao.persistence;
+
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "reserva", indexes = @Index(name = "idx_reserva_cartao", columnList = "numero_cartao"))
+public class ReservaJpaEntity {
+    @Id
+    @Column(nullable = false, length = 36)
+    private String id;
+    @Column(name = "numero_cartao", nullable = false)
+    private String numeroCartao;
+    @Column(name = "valor_centavos", nullable = false)
+    private long valor;
+    @Column(name = "expira_em", nullable = false)
+    private Instant expiraEm;
+
+    public ReservaJpaEntity() {}
+
+    private ReservaJpaEntity(String id, String numeroCartao, long valor, Instant expiraEm) {
+        this.id = id;
+        this.numeroCartao = numeroCartao;
+        this.valor = valor;
+        this.expiraEm = expiraEm;
+    }
+
+    public static ReservaJpaEntity from(Reserva reserva) {
+        return new ReservaJpaEntity(reserva.id(), reserva.numeroCartao(), reserva.valor(), reserva.expiraEm());
+    }
+
+    public Reserva toReserva() {
+        return Reserva.with(id, numeroCartao, valor, expiraEm);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getNumeroCartao() {
+        return numeroCartao;
+    }
+
+    public long getValor() {
+        return valor;
+    }
+
+    public Instant getExpiraEm() {
+        return expiraEm;
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.vr.autorizador.infrastructure.cartao.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReservaRepository extends JpaRepository<ReservaJpaEntity, String> {
+}
@@ -0,0 +1,169 @@
+package br.com.vr.autorizador.infrastructure.cartao.reserva;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+public class HashedTimingWheel implements AutoCloseable {
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final long tickNanos;
+    private final int mask;
+    private final Queue<Timeout>[] buckets;
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final Executor executor;
+    private final LongSupplier ticker;
+    private final long startNanos;
+    private final AtomicLong active = new AtomicLong();
+    private final Thread worker;
+
+    private long tick;
+    private volatile boolean closed;
+
+    public HashedTimingWheel(Duration tickDuration, int ticksPerWheel, Executor executor) {
+        this(tickDuration, ticksPerWheel, executor, System::nanoTime, true);
+    }
+
+    HashedTimingWheel(Duration tickDuration, int ticksPerWheel, Executor executor, LongSupplier ticker) {
+        this(tickDuration, ticksPerWheel, executor, ticker, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private HashedTimingWheel(Duration tickDuration, int ticksPerWheel, Executor executor, LongSupplier ticker, boolean start) {
+        if (tickDuration.isNegative() || tickDuration.isZero() || ticksPerWheel < 1) {
+            throw new IllegalArgumentException("tickDuration e ticksPerWheel devem ser maiores que zero");
+        }
+        final int size = Integer.highestOneBit(Math.max(1, ticksPerWheel - 1) << 1);
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = size - 1;
+        this.buckets = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.executor = Objects.requireNonNull(executor);
+        this.ticker = Objects.requireNonNull(ticker);
+        this.startNanos = ticker.getAsLong();
+
+        if (start) {
+            this.worker = new Thread(this::run, "reserva-timing-wheel");
+            this.worker.setDaemon(true);
+            this.worker.start();
+        } else {
+            this.worker = null;
+        }
+    }
+
+    public Timeout schedule(Runnable task, Duration delay) {
+        final long deadline = ticker.getAsLong() - startNanos + Math.max(0, delay.toNanos());
+        final var timeout = new Timeout(task, deadline);
+        active.incrementAndGet();
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    public long active() {
+        return active.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    void advance() {
+        final long elapsed = ticker.getAsLong() - startNanos;
+        while ((tick + 1) * tickNanos <= elapsed) {
+            transferScheduled();
+            expire(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            final long wait = startNanos + (tick + 1) * tickNanos - ticker.getAsLong();
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+                continue;
+            }
+            advance();
+        }
+    }
+
+    private void transferScheduled() {
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (timeout.state.get() != PENDING) {
+                continue;
+            }
+            final long deadlineTick = timeout.deadlineNanos / tickNanos;
+            timeout.remainingRounds = (deadlineTick - tick) / buckets.length;
+            buckets[(int) (Math.max(deadlineTick, tick) & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout> bucket) {
+        final Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            final var timeout = iterator.next();
+            if (timeout.state.get() == CANCELLED) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                if (timeout.state.compareAndSet(PENDING, EXPIRED)) {
+                    active.decrementAndGet();
+                    executor.execute(timeout.task);
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    public final class Timeout {
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private long remainingRounds;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = Objects.requireNonNull(task);
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public boolean cancel() {
+            if (state.compareAndSet(PENDING, CANCELLED)) {
+                active.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+    }
+}
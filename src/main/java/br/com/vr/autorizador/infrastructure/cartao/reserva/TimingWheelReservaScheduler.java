@@ -0,0 +1,114 @@
+package br.com.vr.autorizador.infrastructure.cartao.reserva;
+
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import br.com.vr.autorizador.domain.reserva.ReservaScheduler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class TimingWheelReservaScheduler implements ReservaScheduler, MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimingWheelReservaScheduler.class);
+
+    private final CartaoGateway cartaoGateway;
+    private final HashedTimingWheel wheel;
+    private final Clock clock;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Map<String, HashedTimingWheel.Timeout> timeouts = new ConcurrentHashMap<>();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+
+    public TimingWheelReservaScheduler(CartaoGateway cartaoGateway, HashedTimingWheel wheel) {
+        this(cartaoGateway, wheel, Duration.ofSeconds(1), Duration.ofMinutes(1));
+    }
+
+    public TimingWheelReservaScheduler(CartaoGateway cartaoGateway, HashedTimingWheel wheel, Duration retryBackoff, Duration maxRetryBackoff) {
+        this(cartaoGateway, wheel, retryBackoff, maxRetryBackoff, Clock.systemUTC());
+    }
+
+    TimingWheelReservaScheduler(CartaoGateway cartaoGateway, HashedTimingWheel wheel, Duration retryBackoff, Duration maxRetryBackoff, Clock clock) {
+        if (retryBackoff.isNegative() || retryBackoff.isZero() || maxRetryBackoff.compareTo(retryBackoff) < 0) {
+            throw new IllegalArgumentException("retryBackoff deve ser maior que zero e menor ou igual a maxRetryBackoff");
+        }
+        this.cartaoGateway = Objects.requireNonNull(cartaoGateway);
+        this.wheel = Objects.requireNonNull(wheel);
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public void load() {
+        cartaoGateway.forEachReserva(this::schedule);
+    }
+
+    @Override
+    public void schedule(Reserva reserva) {
+        final var delay = Duration.between(clock.instant(), reserva.expiraEm());
+        final var timeout = wheel.schedule(() -> expire(reserva, retryBackoff), delay);
+        final var previous = timeouts.put(reserva.id(), timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    @Override
+    public void cancel(String reservaId) {
+        final var timeout = timeouts.remove(reservaId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    public long expired() {
+        return expired.sum();
+    }
+
+    public long retried() {
+        return retried.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("autorizador.reserva.active", wheel, HashedTimingWheel::active)
+                .description("Reservas aguardando captura ou expiração")
+                .register(registry);
+        FunctionCounter.builder("autorizador.reserva.expired", expired, LongAdder::sum)
+                .description("Reservas liberadas por expiração")
+                .register(registry);
+        FunctionCounter.builder("autorizador.reserva.expire.retried", retried, LongAdder::sum)
+                .description("Liberações por expiração reagendadas após falha")
+                .register(registry);
+    }
+
+    private void expire(Reserva reserva, Duration backoff) {
+        final boolean released;
+        try {
+            released = cartaoGateway.release(reserva);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Falha ao liberar reserva {} expirada do cartão {}; nova tentativa em {}",
+                    reserva.id(), reserva.numeroCartao(), backoff, e);
+            final var next = backoff.multipliedBy(2).compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff.multipliedBy(2);
+            timeouts.computeIfPresent(reserva.id(), (id, timeout) -> {
+                retried.increment();
+                return wheel.schedule(() -> expire(reserva, next), backoff);
+            });
+            return;
+        }
+        timeouts.remove(reserva.id());
+        if (released) {
+            expired.increment();
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package br.com.vr.autorizador.infrastructure.cartao.shard;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CartaoShard implements AutoCloseable {
+
+    private static final String CREATE_TABLE_SQL = """
+            create table if not exists cartao (
+                numero_cartao varchar(255) not null primary key,
+                senha varchar(255) not null,
+                saldo_centavos bigint not null,
+                saldo_reservado_centavos bigint default 0 not null,
+                bucket integer not null
+            )""";
+    private static final String CREATE_INDEX_SQL = """
+            create index if not exists idx_cartao_bucket on cartao (bucket)""";
+    private static final String CREATE_RESERVA_TABLE_SQL = """
+            create table if not exists reserva (
+                id varchar(36) not null primary key,
+                numero_cartao varchar(255) not null,
+                valor_centavos bigint not null,
+                expira_em timestamp(6) not null,
+                bucket integer not null
+            )""";
+    private static final String CREATE_RESERVA_INDEX_SQL = """
+            create index if not exists idx_reserva_bucket on reserva (bucket)""";
+    private static final String FIND_SQL = """
+            select numero_cartao, senha, saldo_centavos, saldo_reservado_centavos from cartao
+            where numero_cartao = ?""";
+    private static final String FIND_ALL_SQL = """
+            select numero_cartao, senha, saldo_centavos, saldo_reservado_centavos from cartao
+            where numero_cartao in (:numerosCartao)""";
+    private static final String FIND_BUCKET_SQL = """
+            select numero_cartao, senha, saldo_centavos, saldo_reservado_centavos from cartao
+            where bucket = ?""";
+    private static final String FIND_BUCKETS_SQL = """
+            select distinct bucket from cartao
+            union
+            select distinct bucket from reserva""";
+    private static final String FIND_NUMEROS_SQL = """
+            select numero_cartao from cartao
+            where numero_cartao > ?
+            order by numero_cartao
+            limit ?""";
+    private static final int FIND_NUMEROS_PAGE_SIZE = 10_000;
+    private static final int FIND_RESERVAS_PAGE_SIZE = 10_000;
+    private static final String INSERT_SQL = """
+            insert into cartao (numero_cartao, senha, saldo_centavos, saldo_reservado_centavos, bucket)
+            values (?, ?, ?, ?, ?)""";
+    private static final String DEBIT_SQL = """
+            update cartao set saldo_centavos = saldo_centavos - ?
+            where numero_cartao = ? and saldo_centavos - saldo_reservado_centavos >= ?""";
+    private static final String DELETE_BUCKET_SQL = """
+            delete from cartao
+            where bucket = ?""";
+    private static final String HOLD_SQL = """
+            update cartao set saldo_reservado_centavos = saldo_reservado_centavos + ?
+            where numero_cartao = ? and saldo_centavos - saldo_reservado_centavos >= ?""";
+    private static final String CAPTURE_SQL = """
+            update cartao set saldo_centavos = saldo_centavos - ?, saldo_reservado_centavos = saldo_reservado_centavos - ?
+            where numero_cartao = ?""";
+    private static final String RELEASE_SQL = """
+            update cartao set saldo_reservado_centavos = saldo_reservado_centavos - ?
+            where numero_cartao = ?""";
+    private static final String INSERT_RESERVA_SQL = """
+            insert into reserva (id, numero_cartao, valor_centavos, expira_em, bucket)
+            values (?, ?, ?, ?, ?)""";
+    private static final String DELETE_RESERVA_SQL = """
+            delete from reserva where id = ?""";
+    private static final String FIND_RESERVA_SQL = """
+            select id, numero_cartao, valor_centavos, expira_em from reserva
+            where id = ?""";
+    private static final String FIND_RESERVAS_SQL = """
+            select id, numero_cartao, valor_centavos, expira_em from reserva
+            where id > ?
+            order by id
+            limit ?""";
+    private static final String FIND_BUCKET_RESERVAS_SQL = """
+            select id, numero_cartao, valor_centavos, expira_em from reserva
+            where bucket = ?""";
+    private static final String DELETE_BUCKET_RESERVAS_SQL = """
+            delete from reserva
+            where bucket = ?""";
+
+    private final int id;
+    private final int buckets;
+    private final DataSource dataSource;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public CartaoShard(int id, int buckets, DataSource dataSource) {
+        this.id = id;
+        this.buckets = buckets;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public void initializeSchema() {
+        jdbc().execute(CREATE_TABLE_SQL);
+        jdbc().execute(CREATE_INDEX_SQL);
+        jdbc().execute(CREATE_RESERVA_TABLE_SQL);
+        jdbc().execute(CREATE_RESERVA_INDEX_SQL);
+    }
+
+    public Optional<Cartao> create(Cartao cartao) {
+        try {
+            jdbc().update(INSERT_SQL, cartao.getNumeroCartao(), cartao.getSenha(), cartao.getSaldo(),
+                    cartao.getSaldoReservado(), ShardMap.bucketOf(cartao.getNumeroCartao(), buckets));
+            return Optional.of(cartao);
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    public List<Optional<Cartao>> createAll(List<Cartao> cartoes) {
+        return transactionTemplate.execute(status -> {
+            final var novos = new HashSet<String>(cartoes.size());
+            final List<Integer> pending = new ArrayList<>(cartoes.size());
+            final List<Optional<Cartao>> results = new ArrayList<>(cartoes.size());
+            for (var cartao : cartoes) {
+                if (!novos.add(cartao.getNumeroCartao())) {
+                    results.add(Optional.empty());
+                    continue;
+                }
+                pending.add(results.size());
+                results.add(Optional.of(cartao));
+            }
+            if (pending.isEmpty()) {
+                return results;
+            }
+
+            final int[] updateCounts = jdbc().execute((ConnectionCallback<int[]>) connection -> {
+                try (var ps = connection.prepareStatement(INSERT_SQL)) {
+                    for (var index : pending) {
+                        setInsertParameters(ps, cartoes.get(index));
+                        ps.addBatch();
+                    }
+                    return ps.executeBatch();
+                } catch (BatchUpdateException e) {
+                    return e.getUpdateCounts();
+                }
+            });
+            for (int i = 0; i < pending.size(); i++) {
+                if (i >= updateCounts.length || updateCounts[i] == Statement.EXECUTE_FAILED) {
+                    final int index = pending.get(i);
+                    results.set(index, create(cartoes.get(index)));
+                }
+            }
+            return results;
+        });
+    }
+
+    public Optional<Cartao> findBy(String numeroCartao) {
+        return jdbc().query(FIND_SQL, (rs, rowNum) -> toCartao(rs), numeroCartao)
+                .stream()
+                .findFirst();
+    }
+
+    public DebitResult debit(String numeroCartao, String senha, long valor) {
+        final var result = findBy(numeroCartao)
+                .map(cartao -> cartao.authorize(valor, senha))
+                .orElse(DebitResult.CARTAO_INEXISTENTE);
+        if (!result.isApproved()) {
+            return result;
+        }
+        return jdbc().update(DEBIT_SQL, valor, numeroCartao, valor) == 1
+                ? DebitResult.OK
+                : DebitResult.SALDO_INSUFICIENTE;
+    }
+
+    public List<DebitResult> debitAll(List<Debit> debits) {
+        return transactionTemplate.execute(status -> {
+            final var cartoes = findAll(debits.stream().map(Debit::numeroCartao).distinct().toList());
+            final var results = new DebitResult[debits.size()];
+            final List<Integer> pending = new ArrayList<>(debits.size());
+            for (int i = 0; i < debits.size(); i++) {
+                final var debit = debits.get(i);
+                final var cartao = cartoes.get(debit.numeroCartao());
+                results[i] = cartao == null ? DebitResult.CARTAO_INEXISTENTE : cartao.authorize(debit.valor(), debit.senha());
+                if (results[i].isApproved()) {
+                    pending.add(i);
+                }
+            }
+
+            if (!pending.isEmpty()) {
+                final var updated = jdbc().batchUpdate(DEBIT_SQL, pending, pending.size(), (ps, index) -> {
+                    final var debit = debits.get(index);
+                    ps.setLong(1, debit.valor());
+                    ps.setString(2, debit.numeroCartao());
+                    ps.setLong(3, debit.valor());
+                })[0];
+                for (int i = 0; i < pending.size(); i++) {
+                    results[pending.get(i)] = updated[i] > 0 ? DebitResult.OK : DebitResult.SALDO_INSUFICIENTE;
+                }
+            }
+            return List.of(results);
+        });
+    }
+
+    public void forEachNumeroCartao(Consumer<String> action) {
+        var last = "";
+        while (true) {
+            final var page = jdbc().queryForList(FIND_NUMEROS_SQL, String.class, last, FIND_NUMEROS_PAGE_SIZE);
+            page.forEach(action);
+            if (page.size() < FIND_NUMEROS_PAGE_SIZE) {
+                return;
+            }
+            last = page.get(page.size() - 1);
+        }
+    }
+
+    public DebitResult hold(Reserva reserva, String senha) {
+        return transactionTemplate.execute(status -> {
+            final var result = findBy(reserva.numeroCartao())
+                    .map(cartao -> cartao.authorize(reserva.valor(), senha))
+                    .orElse(DebitResult.CARTAO_INEXISTENTE);
+            if (!result.isApproved()) {
+                return result;
+            }
+            if (jdbc().update(HOLD_SQL, reserva.valor(), reserva.numeroCartao(), reserva.valor()) != 1) {
+                return DebitResult.SALDO_INSUFICIENTE;
+            }
+            insertReservas(List.of(reserva));
+            return DebitResult.OK;
+        });
+    }
+
+    public DebitResult capture(Reserva reserva, long valor) {
+        final var result = reserva.authorizeCapture(valor);
+        if (!result.isApproved()) {
+            return result;
+        }
+        return transactionTemplate.execute(status -> {
+            if (jdbc().update(DELETE_RESERVA_SQL, reserva.id()) != 1) {
+                return DebitResult.RESERVA_INEXISTENTE;
+            }
+            jdbc().update(CAPTURE_SQL, valor, reserva.valor(), reserva.numeroCartao());
+            return DebitResult.OK;
+        });
+    }
+
+    public boolean release(Reserva reserva) {
+        return transactionTemplate.execute(status -> {
+            if (jdbc().update(DELETE_RESERVA_SQL, reserva.id()) != 1) {
+                return false;
+            }
+            jdbc().update(RELEASE_SQL, reserva.valor(), reserva.numeroCartao());
+            return true;
+        });
+    }
+
+    public Optional<Reserva> findReserva(String reservaId) {
+        return jdbc().query(FIND_RESERVA_SQL, (rs, rowNum) -> toReserva(rs), reservaId)
+                .stream()
+                .findFirst();
+    }
+
+    public void forEachReserva(Consumer<Reserva> action) {
+        var last = "";
+        while (true) {
+            final var page = jdbc().query(FIND_RESERVAS_SQL, (rs, rowNum) -> toReserva(rs), last, FIND_RESERVAS_PAGE_SIZE);
+            page.forEach(action);
+            if (page.size() < FIND_RESERVAS_PAGE_SIZE) {
+                return;
+            }
+            last = page.get(page.size() - 1).id();
+        }
+    }
+
+    public void copyBucket(int bucket, CartaoShard target) {
+        final var cartoes = jdbc().query(FIND_BUCKET_SQL, (rs, rowNum) -> toCartao(rs), bucket);
+        final var reservas = jdbc().query(FIND_BUCKET_RESERVAS_SQL, (rs, rowNum) -> toReserva(rs), bucket);
+        target.transactionTemplate.executeWithoutResult(status -> {
+            target.jdbc().update(DELETE_BUCKET_RESERVAS_SQL, bucket);
+            target.jdbc().update(DELETE_BUCKET_SQL, bucket);
+            target.insert(cartoes);
+            target.insertReservas(reservas);
+        });
+    }
+
+    public List<Integer> buckets() {
+        return jdbc().queryForList(FIND_BUCKETS_SQL, Integer.class);
+    }
+
+    public int deleteBucket(int bucket) {
+        return transactionTemplate.execute(status -> {
+            jdbc().update(DELETE_BUCKET_RESERVAS_SQL, bucket);
+            return jdbc().update(DELETE_BUCKET_SQL, bucket);
+        });
+    }
+
+    @Override
+    public void close() {
+        if (dataSource instanceof HikariDataSource hikari) {
+            hikari.close();
+        }
+    }
+
+    private void insert(List<Cartao> cartoes) {
+        if (cartoes.isEmpty()) {
+            return;
+        }
+        jdbc().batchUpdate(INSERT_SQL, cartoes, cartoes.size(), this::setInsertParameters);
+    }
+
+    private void setInsertParameters(PreparedStatement ps, Cartao cartao) throws SQLException {
+        ps.setString(1, cartao.getNumeroCartao());
+        ps.setString(2, cartao.getSenha());
+        ps.setLong(3, cartao.getSaldo());
+        ps.setLong(4, cartao.getSaldoReservado());
+        ps.setInt(5, ShardMap.bucketOf(cartao.getNumeroCartao(), buckets));
+    }
+
+    private void insertReservas(List<Reserva> reservas) {
+        if (reservas.isEmpty()) {
+            return;
+        }
+        jdbc().batchUpdate(INSERT_RESERVA_SQL, reservas, reservas.size(), (ps, reserva) -> {
+            ps.setString(1, reserva.id());
+            ps.setString(2, reserva.numeroCartao());
+            ps.setLong(3, reserva.valor());
+            ps.setTimestamp(4, Timestamp.from(reserva.expiraEm()));
+            ps.setInt(5, ShardMap.bucketOf(reserva.numeroCartao(), buckets));
+        });
+    }
+
+    private Map<String, Cartao> findAll(List<String> numerosCartao) {
+        final Map<String, Cartao> cartoes = new HashMap<>();
+        if (!numerosCartao.isEmpty()) {
+            jdbcTemplate.query(FIND_ALL_SQL, Map.of("numerosCartao", numerosCartao), rs -> {
+                cartoes.put(rs.getString(1), toCartao(rs));
+            });
+        }
+        return cartoes;
+    }
+
+    private static Cartao toCartao(ResultSet rs) throws SQLException {
+        return Cartao.with(rs.getString(1), rs.getString(2), rs.getLong(3), rs.getLong(4));
+    }
+
+    private static Reserva toReserva(ResultSet rs) throws SQLException {
+        return Reserva.with(rs.getString(1), rs.getString(2), rs.getLong(3), rs.getTimestamp(4).toInstant());
+    }
+
+    private JdbcTemplate jdbc() {
+        return jdbcTemplate.getJdbcTemplate();
+    }
+}
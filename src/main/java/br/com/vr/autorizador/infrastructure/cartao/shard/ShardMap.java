@@ -0,0 +1,70 @@
+package br.com.vr.autorizador.infrastructure.cartao.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.zip.CRC32C;
+
+public class ShardMap {
+
+    private final AtomicIntegerArray assignments;
+
+    public ShardMap(int buckets, int shards) {
+        if (buckets < 1 || shards < 1) {
+            throw new IllegalArgumentException("'buckets' e 'shards' devem ser maiores que zero");
+        }
+        this.assignments = new AtomicIntegerArray(buckets);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            assignments.set(bucket, bucket % shards);
+        }
+    }
+
+    public static ShardMap from(int buckets, int shards, Map<Integer, Integer> assignments) {
+        final var map = new ShardMap(buckets, shards);
+        assignments.forEach((bucket, shard) -> {
+            if (bucket >= 0 && bucket < buckets) {
+                map.assign(bucket, shard);
+            }
+        });
+        return map;
+    }
+
+    public static int bucketOf(String numeroCartao, int buckets) {
+        final var crc = new CRC32C();
+        crc.update(numeroCartao.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % buckets);
+    }
+
+    public int bucketOf(String numeroCartao) {
+        return bucketOf(numeroCartao, buckets());
+    }
+
+    public int shardOf(int bucket) {
+        return assignments.get(bucket);
+    }
+
+    public void assign(int bucket, int shard) {
+        assignments.set(bucket, shard);
+    }
+
+    public int buckets() {
+        return assignments.length();
+    }
+
+    public Map<Integer, Integer> assignments() {
+        final Map<Integer, Integer> values = new HashMap<>(buckets());
+        for (int bucket = 0; bucket < buckets(); bucket++) {
+            values.put(bucket, shardOf(bucket));
+        }
+        return values;
+    }
+
+    public int[] bucketsPerShard(int shards) {
+        final var counts = new int[shards];
+        for (int bucket = 0; bucket < buckets(); bucket++) {
+            counts[shardOf(bucket)]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.vr.autorizador.infrastructure.cartao.shard;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+public class ShardMapMySQLGateway implements ShardMapStore {
+
+    private static final String FIND_ALL_SQL = """
+            select bucket, shard from cartao_shard_map""";
+    private static final String UPDATE_SQL = """
+            update cartao_shard_map set shard = ?
+            where bucket = ?""";
+    private static final String INSERT_SQL = """
+            insert into cartao_shard_map (bucket, shard)
+            values (?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public ShardMapMySQLGateway(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, Integer> load() {
+        entityManager.flush();
+        final Map<Integer, Integer> assignments = new HashMap<>();
+        jdbcTemplate.query(FIND_ALL_SQL, rs -> {
+            assignments.put(rs.getInt(1), rs.getInt(2));
+        });
+        return assignments;
+    }
+
+    @Override
+    @Transactional
+    public void save(int bucket, int shard) {
+        entityManager.flush();
+        if (jdbcTemplate.update(UPDATE_SQL, shard, bucket) == 0) {
+            jdbcTemplate.update(INSERT_SQL, bucket, shard);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(Map<Integer, Integer> assignments) {
+        entityManager.flush();
+        final var entries = new ArrayList<>(assignments.entrySet());
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getKey());
+            ps.setInt(2, entry.getValue());
+        });
+    }
+}
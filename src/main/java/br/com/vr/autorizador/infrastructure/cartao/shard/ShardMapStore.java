@@ -0,0 +1,9 @@
+package br.com.vr.autorizador.infrastructure.cartao.shard;
+
+import java.util.Map;
+
+public interface ShardMapStore {
+    Map<Integer, Integer> load();
+    void save(int bucket, int shard);
+    void saveAll(Map<Integer, Integer> assignments);
+}
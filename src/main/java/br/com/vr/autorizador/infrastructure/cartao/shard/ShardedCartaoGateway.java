@@ -0,0 +1,281 @@
+package br.com.vr.autorizador.infrastructure.cartao.shard;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class ShardedCartaoGateway implements CartaoGateway, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardedCartaoGateway.class);
+
+    private final List<CartaoShard> shards;
+    private final ShardMapStore store;
+    private final ShardMap shardMap;
+    private final ReentrantReadWriteLock[] locks;
+
+    public ShardedCartaoGateway(List<CartaoShard> shards, int buckets, ShardMapStore store) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("Ao menos um shard deve ser configurado");
+        }
+        this.shards = List.copyOf(shards);
+        this.store = store;
+        final var assignments = store.load();
+        this.shardMap = load(buckets, assignments);
+        this.locks = new ReentrantReadWriteLock[buckets];
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            locks[bucket] = new ReentrantReadWriteLock();
+        }
+        if (!assignments.isEmpty()) {
+            purgeForeignBuckets();
+        }
+    }
+
+    @Override
+    public Optional<Cartao> create(Cartao cartao) {
+        return withBucket(cartao.getNumeroCartao(), shard -> shard.create(cartao));
+    }
+
+    @Override
+    public List<Optional<Cartao>> createAll(List<Cartao> cartoes) {
+        return routeAll(cartoes, Cartao::getNumeroCartao, CartaoShard::createAll, Optional.empty());
+    }
+
+    @Override
+    public Optional<Cartao> findBy(String numeroCartao) {
+        if (numeroCartao == null) {
+            return Optional.empty();
+        }
+        return withBucket(numeroCartao, shard -> shard.findBy(numeroCartao));
+    }
+
+    @Override
+    public DebitResult debit(String numeroCartao, String senha, long valor) {
+        if (numeroCartao == null) {
+            return DebitResult.CARTAO_INEXISTENTE;
+        }
+        return withBucket(numeroCartao, shard -> shard.debit(numeroCartao, senha, valor));
+    }
+
+    @Override
+    public List<DebitResult> debitAll(List<Debit> debits) {
+        return routeAll(debits, Debit::numeroCartao, CartaoShard::debitAll, DebitResult.CARTAO_INEXISTENTE);
+    }
+
+    @Override
+    public void forEachNumeroCartao(Consumer<String> action) {
+        for (var shard : shards) {
+            shard.forEachNumeroCartao(numeroCartao -> {
+                if (owns(shard, numeroCartao)) {
+                    action.accept(numeroCartao);
+                }
+            });
+        }
+    }
+
+    @Override
+    public DebitResult hold(Reserva reserva, String senha) {
+        return withBucket(reserva.numeroCartao(), shard -> shard.hold(reserva, senha));
+    }
+
+    @Override
+    public DebitResult capture(Reserva reserva, long valor) {
+        return withBucket(reserva.numeroCartao(), shard -> shard.capture(reserva, valor));
+    }
+
+    @Override
+    public boolean release(Reserva reserva) {
+        return withBucket(reserva.numeroCartao(), shard -> shard.release(reserva));
+    }
+
+    @Override
+    public Optional<Reserva> findReserva(String reservaId) {
+        for (var shard : shards) {
+            final var reserva = shard.findReserva(reservaId)
+                    .filter(found -> owns(shard, found.numeroCartao()));
+            if (reserva.isPresent()) {
+                return reserva;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void forEachReserva(Consumer<Reserva> action) {
+        for (var shard : shards) {
+            shard.forEachReserva(reserva -> {
+                if (owns(shard, reserva.numeroCartao())) {
+                    action.accept(reserva);
+                }
+            });
+        }
+    }
+
+    public boolean moveBucket(int bucket, int target) {
+        final var lock = locks[bucket].writeLock();
+        lock.lock();
+        try {
+            final int source = shardMap.shardOf(bucket);
+            if (source == target) {
+                return false;
+            }
+            shards.get(source).copyBucket(bucket, shards.get(target));
+            store.save(bucket, target);
+            shardMap.assign(bucket, target);
+            try {
+                shards.get(source).deleteBucket(bucket);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Bucket {} movido para o shard {}, mas a remoção no shard {} falhou; será refeita na próxima limpeza", bucket, target, source, e);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int purgeForeignBuckets() {
+        int purged = 0;
+        for (var shard : shards) {
+            for (var bucket : shard.buckets()) {
+                final var lock = locks[bucket].writeLock();
+                lock.lock();
+                try {
+                    if (shardMap.shardOf(bucket) != shard.id()) {
+                        shard.deleteBucket(bucket);
+                        purged++;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+        return purged;
+    }
+
+    public int rebalance() {
+        purgeForeignBuckets();
+        final var counts = shardMap.bucketsPerShard(shards.size());
+        final int base = shardMap.buckets() / shards.size();
+        final int remainder = shardMap.buckets() % shards.size();
+        final var desired = new int[shards.size()];
+        for (int shard = 0; shard < shards.size(); shard++) {
+            desired[shard] = base + (shard < remainder ? 1 : 0);
+        }
+
+        int moved = 0;
+        int target = 0;
+        for (int bucket = 0; bucket < shardMap.buckets(); bucket++) {
+            final int source = shardMap.shardOf(bucket);
+            if (counts[source] <= desired[source]) {
+                continue;
+            }
+            while (counts[target] >= desired[target]) {
+                target++;
+            }
+            if (moveBucket(bucket, target)) {
+                counts[source]--;
+                counts[target]++;
+                moved++;
+            }
+        }
+        return moved;
+    }
+
+    public int buckets() {
+        return shardMap.buckets();
+    }
+
+    public int[] bucketsPerShard() {
+        return shardMap.bucketsPerShard(shards.size());
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(CartaoShard::close);
+    }
+
+    private ShardMap load(int buckets, Map<Integer, Integer> assignments) {
+        if (assignments.isEmpty()) {
+            final var initial = new ShardMap(buckets, shards.size());
+            store.saveAll(initial.assignments());
+            return initial;
+        }
+        if (assignments.size() != buckets) {
+            throw new IllegalStateException("Mapa de shards possui %d buckets, mas foram configurados %d"
+                    .formatted(assignments.size(), buckets));
+        }
+        if (assignments.values().stream().anyMatch(shard -> shard < 0 || shard >= shards.size())) {
+            throw new IllegalStateException("Mapa de shards referencia um shard não configurado");
+        }
+        return ShardMap.from(buckets, shards.size(), assignments);
+    }
+
+    private boolean owns(CartaoShard shard, String numeroCartao) {
+        return shardMap.shardOf(shardMap.bucketOf(numeroCartao)) == shard.id();
+    }
+
+    private <T> T withBucket(String numeroCartao, Function<CartaoShard, T> operation) {
+        final int bucket = shardMap.bucketOf(numeroCartao);
+        final var lock = locks[bucket].readLock();
+        lock.lock();
+        try {
+            return operation.apply(shards.get(shardMap.shardOf(bucket)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T, R> List<R> routeAll(List<T> items, Function<T, String> numeroCartao, BiFunction<CartaoShard, List<T>, List<R>> operation, R missing) {
+        final List<R> results = new ArrayList<>(items.size());
+        final var buckets = new int[items.size()];
+        final var involved = new TreeSet<Integer>();
+        for (int i = 0; i < items.size(); i++) {
+            final var numero = numeroCartao.apply(items.get(i));
+            buckets[i] = numero == null ? -1 : shardMap.bucketOf(numero);
+            if (buckets[i] >= 0) {
+                involved.add(buckets[i]);
+            }
+            results.add(missing);
+        }
+
+        final List<Lock> acquired = new ArrayList<>(involved.size());
+        try {
+            for (var bucket : involved) {
+                final var lock = locks[bucket].readLock();
+                lock.lock();
+                acquired.add(lock);
+            }
+
+            final Map<Integer, List<Integer>> byShard = new TreeMap<>();
+            for (int i = 0; i < items.size(); i++) {
+                if (buckets[i] >= 0) {
+                    byShard.computeIfAbsent(shardMap.shardOf(buckets[i]), shard -> new ArrayList<>()).add(i);
+                }
+            }
+            byShard.forEach((shard, indexes) -> {
+                final var partial = operation.apply(shards.get(shard), indexes.stream().map(items::get).toList());
+                for (int i = 0; i < indexes.size(); i++) {
+                    results.set(indexes.get(i), partial.get(i));
+                }
+            });
+            return results;
+        } finally {
+            acquired.forEach(Lock::unlock);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.vr.autorizador.infrastructure.cartao.shard;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.Objects;
+
+@Endpoint(id = "shards")
+public class ShardsEndpoint {
+
+    private final ShardedCartaoGateway gateway;
+
+    public ShardsEndpoint(ShardedCartaoGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @ReadOperation
+    public Shards shards() {
+        return new Shards(gateway.buckets(), gateway.bucketsPerShard(), 0);
+    }
+
+    @WriteOperation
+    public Shards rebalance() {
+        final int moved = gateway.rebalance();
+        return new Shards(gateway.buckets(), gateway.bucketsPerShard(), moved);
+    }
+
+    public record Shards(int buckets, int[] bucketsPerShard, int moved) {
+    }
+}
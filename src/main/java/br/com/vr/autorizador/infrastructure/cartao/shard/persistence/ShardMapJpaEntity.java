@@ -0,0 +1,26 @@
+package br.com.vr.autorizador.infrastructure.cartao.shard.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "cartao_shard_map")
+public class ShardMapJpaEntity {
+    @Id
+    @Column(nullable = false)
+    private Integer bucket;
+    @Column(nullable = false)
+    private int shard;
+
+    public ShardMapJpaEntity() {}
+
+    public Integer getBucket() {
+        return bucket;
+    }
+
+    public int getShard() {
+        return shard;
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.vr.autorizador.infrastructure.cartao.shard.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ShardMapRepository extends JpaRepository<ShardMapJpaEntity, Integer> {
+}
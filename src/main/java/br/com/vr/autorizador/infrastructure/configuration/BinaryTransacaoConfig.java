@@ -0,0 +1,36 @@
+package br.com.vr.autorizador.infrastructure.configuration;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
+import br.com.vr.autorizador.infrastructure.tcp.BinaryTransacaoListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class BinaryTransacaoConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "autorizador.tcp.enabled", havingValue = "true")
+    public BinaryTransacaoListener binaryTransacaoListener(
+            DebitCartaoUseCase debitCartaoUseCase,
+            @Value("${autorizador.tcp.host:0.0.0.0}") String host,
+            @Value("${autorizador.tcp.port:9091}") int port,
+            @Value("${autorizador.tcp.max-in-flight:256}") int maxInFlight,
+            @Value("${autorizador.tcp.worker-threads:20}") int workerThreads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        return new BinaryTransacaoListener(debitCartaoUseCase, new InetSocketAddress(host, port), maxInFlight, executor(workerThreads, virtualThreads));
+    }
+
+    private static ExecutorService executor(int workerThreads, boolean virtualThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("tcp-worker-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(workerThreads, Thread.ofPlatform().name("tcp-worker-", 0).daemon(true).factory());
+    }
+}
@@ -0,0 +1,168 @@
+package br.com.vr.autorizador.infrastructure.configuration;
+
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.infrastructure.cartao.cache.CachingCartaoGateway;
+import br.com.vr.autorizador.infrastructure.cartao.filter.BloomFilterCartaoGateway;
+import br.com.vr.autorizador.infrastructure.cartao.filter.CartaoBloomFilter;
+import br.com.vr.autorizador.infrastructure.cartao.groupcommit.GroupCommitCartaoGateway;
+import br.com.vr.autorizador.infrastructure.cartao.hotcard.HotCardCartaoGateway;
+import br.com.vr.autorizador.infrastructure.cartao.ledger.LedgerCartaoGateway;
+import br.com.vr.autorizador.infrastructure.cartao.memory.CartaoInMemoryGateway;
+import br.com.vr.autorizador.infrastructure.cartao.metrics.MeteredCartaoGateway;
+import br.com.vr.autorizador.infrastructure.cartao.shard.CartaoShard;
+import br.com.vr.autorizador.infrastructure.cartao.shard.ShardMapMySQLGateway;
+import br.com.vr.autorizador.infrastructure.cartao.shard.ShardedCartaoGateway;
+import br.com.vr.autorizador.infrastructure.cartao.shard.ShardsEndpoint;
+import br.com.vr.autorizador.infrastructure.transacao.TransacaoLedgerWriter;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(CartaoShardProperties.class)
+public class CartaoGatewayConfig {
+
+    @Bean(destroyMethod = "close")
+    @Qualifier("cartaoStore")
+    @ConditionalOnProperty(name = "autorizador.gateway.type", havingValue = "memory")
+    public CartaoInMemoryGateway cartaoInMemoryGateway(
+            @Value("${autorizador.gateway.memory.directory:data}") Path directory,
+            @Value("${autorizador.gateway.memory.journal-capacity:64MB}") DataSize journalCapacity,
+            @Value("${autorizador.gateway.memory.flush-interval:1ms}") Duration flushInterval,
+            @Value("${autorizador.gateway.memory.snapshot-interval:5m}") Duration snapshotInterval
+    ) {
+        return new CartaoInMemoryGateway(directory, Math.toIntExact(journalCapacity.toBytes()), flushInterval, snapshotInterval);
+    }
+
+    @Bean(destroyMethod = "close")
+    @Qualifier("cartaoStore")
+    @ConditionalOnProperty(name = "autorizador.gateway.type", havingValue = "sharded")
+    public ShardedCartaoGateway shardedCartaoGateway(CartaoShardProperties properties, ShardMapMySQLGateway shardMapGateway) {
+        final List<CartaoShard> shards = new ArrayList<>(properties.datasources().size());
+        for (var datasource : properties.datasources()) {
+            final var config = new HikariConfig();
+            config.setPoolName("shard-%d".formatted(shards.size()));
+            config.setJdbcUrl(datasource.url());
+            config.setUsername(datasource.username());
+            config.setPassword(datasource.password());
+            config.setMaximumPoolSize(datasource.maximumPoolSize());
+            config.setMinimumIdle(datasource.minimumIdle());
+
+            final var shard = new CartaoShard(shards.size(), properties.buckets(), new HikariDataSource(config));
+            if (properties.initializeSchema()) {
+                shard.initializeSchema();
+            }
+            shards.add(shard);
+        }
+        return new ShardedCartaoGateway(shards, properties.buckets(), shardMapGateway);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "autorizador.gateway.type", havingValue = "sharded")
+    public ShardsEndpoint shardsEndpoint(ShardedCartaoGateway shardedCartaoGateway) {
+        return new ShardsEndpoint(shardedCartaoGateway);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "autorizador.gateway.group-commit.enabled", havingValue = "true")
+    public GroupCommitCartaoGateway groupCommitCartaoGateway(
+            @Qualifier("cartaoStore") CartaoGateway cartaoStore,
+            @Value("${autorizador.gateway.group-commit.window:500us}") Duration window,
+            @Value("${autorizador.gateway.group-commit.max-batch-size:64}") int maxBatchSize,
+            @Value("${autorizador.gateway.group-commit.queue-capacity:1024}") int queueCapacity
+    ) {
+        return new GroupCommitCartaoGateway(cartaoStore, window, maxBatchSize, queueCapacity);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "autorizador.gateway.hot-card.enabled", havingValue = "true")
+    public HotCardCartaoGateway hotCardCartaoGateway(
+            @Qualifier("cartaoStore") CartaoGateway cartaoStore,
+            ObjectProvider<GroupCommitCartaoGateway> groupCommit,
+            @Value("${autorizador.gateway.hot-card.sample-rate:4}") int sampleRate,
+            @Value("${autorizador.gateway.hot-card.threshold:2}") int threshold,
+            @Value("${autorizador.gateway.hot-card.max-cards:1024}") int maxCards,
+            @Value("${autorizador.gateway.hot-card.max-batch-size:64}") int maxBatchSize,
+            @Value("${autorizador.gateway.hot-card.cool-down:5s}") Duration coolDown
+    ) {
+        CartaoGateway store = groupCommit.getIfAvailable();
+        if (store == null) {
+            store = cartaoStore;
+        }
+        return new HotCardCartaoGateway(store, sampleRate, threshold, maxCards, maxBatchSize, coolDown);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "autorizador.gateway.filter.enabled", havingValue = "true")
+    public BloomFilterCartaoGateway bloomFilterCartaoGateway(
+            @Qualifier("cartaoStore") CartaoGateway cartaoStore,
+            ObjectProvider<GroupCommitCartaoGateway> groupCommit,
+            ObjectProvider<HotCardCartaoGateway> hotCard,
+            @Value("${autorizador.gateway.filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${autorizador.gateway.filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${autorizador.gateway.filter.refresh-interval:1m}") Duration refreshInterval
+    ) {
+        CartaoGateway store = hotCard.getIfAvailable();
+        if (store == null) {
+            store = groupCommit.getIfAvailable();
+        }
+        if (store == null) {
+            store = cartaoStore;
+        }
+        final var filtered = new BloomFilterCartaoGateway(store, new CartaoBloomFilter(expectedInsertions, falsePositiveRate),
+                cartaoStore, refreshInterval);
+        filtered.load(cartaoStore);
+        return filtered;
+    }
+
+    @Bean
+    @Primary
+    public CartaoGateway cartaoGateway(
+            @Qualifier("cartaoStore") CartaoGateway cartaoStore,
+            ObjectProvider<GroupCommitCartaoGateway> groupCommit,
+            ObjectProvider<HotCardCartaoGateway> hotCard,
+            ObjectProvider<BloomFilterCartaoGateway> filter,
+            ObjectProvider<TransacaoLedgerWriter> ledger,
+            MeterRegistry meterRegistry,
+            @Value("${autorizador.gateway.cache.enabled:false}") boolean cacheEnabled,
+            @Value("${autorizador.gateway.cache.maximum-size:100000}") long maximumSize,
+            @Value("${autorizador.gateway.cache.expire-after-write:30s}") Duration expireAfterWrite
+    ) {
+        CartaoGateway store = filter.getIfAvailable();
+        if (store == null) {
+            store = hotCard.getIfAvailable();
+        }
+        if (store == null) {
+            store = groupCommit.getIfAvailable();
+        }
+        if (store == null) {
+            store = cartaoStore;
+        }
+
+        final var ledgerWriter = ledger.getIfAvailable();
+        if (ledgerWriter != null) {
+            store = new LedgerCartaoGateway(store, ledgerWriter);
+        }
+
+        final var metered = new MeteredCartaoGateway(store, meterRegistry);
+        if (!cacheEnabled) {
+            return metered;
+        }
+
+        return new CachingCartaoGateway(metered, maximumSize, expireAfterWrite);
+    }
+}
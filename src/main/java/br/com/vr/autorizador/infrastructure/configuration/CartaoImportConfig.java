@@ -0,0 +1,21 @@
+package br.com.vr.autorizador.infrastructure.configuration;
+
+import br.com.vr.autorizador.application.cartao.create.batch.BatchCreateCartaoUseCase;
+import br.com.vr.autorizador.infrastructure.cartao.importacao.CartaoImporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CartaoImportConfig {
+
+    @Bean
+    public CartaoImporter cartaoImporter(
+            BatchCreateCartaoUseCase batchCreateCartaoUseCase,
+            ObjectMapper objectMapper,
+            @Value("${autorizador.cartao.import.chunk-size:1000}") int chunkSize
+    ) {
+        return new CartaoImporter(batchCreateCartaoUseCase, objectMapper, chunkSize);
+    }
+}
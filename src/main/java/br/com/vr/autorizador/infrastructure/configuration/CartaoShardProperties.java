@@ -0,0 +1,22 @@
+package br.com.vr.autorizador.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "autorizador.gateway.shards")
+public record CartaoShardProperties(
+        @DefaultValue("1024") int buckets,
+        @DefaultValue("false") boolean initializeSchema,
+        @DefaultValue List<Shard> datasources
+) {
+    public record Shard(
+            String url,
+            String username,
+            String password,
+            @DefaultValue("20") int maximumPoolSize,
+            @DefaultValue("10") int minimumIdle
+    ) {
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.vr.autorizador.infrastructure.configuration;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCaseImpl;
+import br.com.vr.autorizador.infrastructure.cartao.debit.PartitionedDebitCartaoUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+@Configuration
+public class DebitCartaoConfig {
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    @ConditionalOnProperty(name = "autorizador.debit.lanes.enabled", havingValue = "true")
+    public PartitionedDebitCartaoUseCase partitionedDebitCartaoUseCase(
+            DebitCartaoUseCaseImpl debitCartaoUseCase,
+            @Value("${autorizador.debit.lanes.count:0}") int laneCount,
+            @Value("${autorizador.debit.lanes.queue-capacity:1024}") int queueCapacity,
+            @Value("${autorizador.debit.lanes.timeout:2s}") Duration timeout,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        final int lanes = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+        return new PartitionedDebitCartaoUseCase(debitCartaoUseCase, lanes, queueCapacity, timeout, virtualThreads);
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.vr.autorizador.infrastructure.configuration;
+
+import br.com.vr.autorizador.infrastructure.idempotency.IdempotencyKeyMySQLGateway;
+import br.com.vr.autorizador.infrastructure.idempotency.IdempotencyService;
+import br.com.vr.autorizador.infrastructure.idempotency.IdempotencyTable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean(destroyMethod = "close")
+    public IdempotencyService idempotencyService(
+            IdempotencyKeyMySQLGateway idempotencyKeyGateway,
+            @Value("${autorizador.transacao.idempotency.stripes:256}") int stripes,
+            @Value("${autorizador.transacao.idempotency.maximum-size:100000}") int maximumSize,
+            @Value("${autorizador.transacao.idempotency.ttl:24h}") Duration ttl
+    ) {
+        return new IdempotencyService(new IdempotencyTable(stripes, maximumSize, ttl), idempotencyKeyGateway, ttl);
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.vr.autorizador.infrastructure.configuration;
+
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.infrastructure.cartao.reserva.HashedTimingWheel;
+import br.com.vr.autorizador.infrastructure.cartao.reserva.TimingWheelReservaScheduler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ReservaConfig {
+
+    @Bean(destroyMethod = "close")
+    public HashedTimingWheel reservaTimingWheel(
+            @Value("${autorizador.reserva.tick:100ms}") Duration tick,
+            @Value("${autorizador.reserva.ticks-per-wheel:512}") int ticksPerWheel
+    ) {
+        return new HashedTimingWheel(tick, ticksPerWheel, Executors.newSingleThreadExecutor(runnable -> {
+            final var thread = new Thread(runnable, "reserva-expiry");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    @Bean(initMethod = "load")
+    public TimingWheelReservaScheduler reservaScheduler(
+            CartaoGateway cartaoGateway,
+            HashedTimingWheel reservaTimingWheel,
+            @Value("${autorizador.reserva.retry-backoff:1s}") Duration retryBackoff,
+            @Value("${autorizador.reserva.max-retry-backoff:1m}") Duration maxRetryBackoff
+    ) {
+        return new TimingWheelReservaScheduler(cartaoGateway, reservaTimingWheel, retryBackoff, maxRetryBackoff);
+    }
+}
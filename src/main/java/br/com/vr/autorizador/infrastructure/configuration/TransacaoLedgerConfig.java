@@ -0,0 +1,30 @@
+package br.com.vr.autorizador.infrastructure.configuration;
+
+import br.com.vr.autorizador.infrastructure.transacao.TransacaoLedgerWriter;
+import br.com.vr.autorizador.infrastructure.transacao.TransacaoMySQLGateway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class TransacaoLedgerConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "autorizador.transacao.ledger.enabled", havingValue = "true")
+    public TransacaoLedgerWriter transacaoLedgerWriter(
+            TransacaoMySQLGateway transacaoGateway,
+            @Value("${autorizador.transacao.ledger.batch-size:500}") int batchSize,
+            @Value("${autorizador.transacao.ledger.flush-interval:10ms}") Duration flushInterval,
+            @Value("${autorizador.transacao.ledger.queue-capacity:65536}") int queueCapacity,
+            @Value("${autorizador.transacao.ledger.retry-attempts:5}") int retryAttempts,
+            @Value("${autorizador.transacao.ledger.retry-backoff:100ms}") Duration retryBackoff,
+            @Value("${autorizador.transacao.ledger.enqueue-timeout:5ms}") Duration enqueueTimeout
+    ) {
+        return new TransacaoLedgerWriter(
+                transacaoGateway, batchSize, flushInterval, queueCapacity, retryAttempts, retryBackoff, enqueueTimeout
+        );
+    }
+}
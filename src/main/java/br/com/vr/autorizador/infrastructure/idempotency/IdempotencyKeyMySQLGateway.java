@@ -0,0 +1,80 @@
+package br.com.vr.autorizador.infrastructure.idempotency;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+@Service
+public class IdempotencyKeyMySQLGateway {
+
+    private static final String RESERVE_SQL = """
+            insert into idempotency_key (chave, fingerprint, criado_em)
+            values (?, ?, ?)""";
+    private static final String COMPLETE_SQL = """
+            update idempotency_key set status = ?, corpo = ?
+            where chave = ?""";
+    private static final String FIND_SQL = """
+            select fingerprint, status, corpo from idempotency_key
+            where chave = ?""";
+    private static final String RELEASE_SQL = """
+            delete from idempotency_key
+            where chave = ? and status is null""";
+    private static final String PURGE_SQL = """
+            delete from idempotency_key
+            where criado_em < ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public IdempotencyKeyMySQLGateway(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional
+    public boolean reserve(String key, String fingerprint) {
+        entityManager.flush();
+        try {
+            jdbcTemplate.update(RESERVE_SQL, key, fingerprint, Timestamp.from(Instant.now()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Transactional
+    public void complete(String key, IdempotentResponse response) {
+        jdbcTemplate.update(COMPLETE_SQL, response.status(), response.body(), key);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<IdempotentResponse> findCompleted(String key) {
+        return jdbcTemplate.query(FIND_SQL, rs -> {
+            if (!rs.next()) {
+                return Optional.empty();
+            }
+            final int status = rs.getInt(2);
+            return rs.wasNull()
+                    ? Optional.empty()
+                    : Optional.of(new IdempotentResponse(rs.getString(1), status, rs.getString(3)));
+        }, key);
+    }
+
+    @Transactional
+    public void release(String key) {
+        entityManager.flush();
+        jdbcTemplate.update(RELEASE_SQL, key);
+    }
+
+    @Transactional
+    public int purgeOlderThan(Instant instant) {
+        entityManager.flush();
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.from(instant));
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.vr.autorizador.infrastructure.idempotency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class IdempotencyService implements AutoCloseable {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final int MAXIMUM_KEY_LENGTH = 128;
+
+    static final String UNKNOWN_OUTCOME = "Resultado da transação desconhecido. Consulte o extrato antes de repetir com outra '%s'".formatted(HEADER);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdempotencyService.class);
+    private static final long MAX_COMPLETE_BACKOFF_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final IdempotencyTable table;
+    private final IdempotencyKeyMySQLGateway gateway;
+    private final Duration ttl;
+    private final ScheduledExecutorService scheduler;
+
+    public IdempotencyService(IdempotencyTable table, IdempotencyKeyMySQLGateway gateway, Duration ttl) {
+        this.table = Objects.requireNonNull(table);
+        this.gateway = Objects.requireNonNull(gateway);
+        this.ttl = ttl;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "idempotency-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long period = Math.max(1, ttl.toMillis() / 10);
+        this.scheduler.scheduleAtFixedRate(this::purge, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public ResponseEntity<String> execute(String key, String fingerprint, Supplier<ResponseEntity<String>> action) {
+        if (key.isBlank() || key.length() > MAXIMUM_KEY_LENGTH) {
+            return ResponseEntity.badRequest().body("'%s' deve possuir entre 1 e %d caracteres".formatted(HEADER, MAXIMUM_KEY_LENGTH));
+        }
+
+        final var cached = table.get(key);
+        if (cached.isPresent()) {
+            return replay(cached.get(), fingerprint);
+        }
+        if (!inFlight.add(key)) {
+            return inProgress();
+        }
+        try {
+            return reserveAndExecute(key, fingerprint, action);
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    private ResponseEntity<String> reserveAndExecute(String key, String fingerprint, Supplier<ResponseEntity<String>> action) {
+        final var cached = table.get(key);
+        if (cached.isPresent()) {
+            return replay(cached.get(), fingerprint);
+        }
+
+        if (!gateway.reserve(key, fingerprint)) {
+            return gateway.findCompleted(key)
+                    .map(stored -> {
+                        table.put(key, stored);
+                        return replay(stored, fingerprint);
+                    })
+                    .orElseGet(IdempotencyService::inProgress);
+        }
+
+        final ResponseEntity<String> response;
+        try {
+            response = action.get();
+        } catch (RejectedExecutionException e) {
+            gateway.release(key);
+            throw e;
+        } catch (RuntimeException | Error e) {
+            markUnknown(key, fingerprint, e);
+            throw e;
+        }
+
+        final var completed = new IdempotentResponse(fingerprint, response.getStatusCode().value(), response.getBody());
+        table.put(key, completed);
+        try {
+            gateway.complete(key, completed);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Falha ao gravar resposta da '{}' {}. Nova tentativa agendada", HEADER, key, e);
+            scheduleComplete(key, completed, 1_000L);
+        }
+        return response;
+    }
+
+    public static String fingerprint(Object... parts) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256")
+                    .digest(Arrays.toString(parts).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void markUnknown(String key, String fingerprint, Throwable cause) {
+        final var unknown = new IdempotentResponse(fingerprint, HttpStatus.INTERNAL_SERVER_ERROR.value(), UNKNOWN_OUTCOME);
+        LOGGER.error("Débito com '{}' {} terminou com resultado desconhecido. A chave não será liberada", HEADER, key, cause);
+        table.put(key, unknown);
+        try {
+            gateway.complete(key, unknown);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            scheduleComplete(key, unknown, 1_000L);
+        }
+    }
+
+    private void scheduleComplete(String key, IdempotentResponse response, long delayMillis) {
+        try {
+            scheduler.schedule(() -> {
+                try {
+                    gateway.complete(key, response);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Falha ao gravar resposta da '{}' {}. Nova tentativa em {} ms", HEADER, key, delayMillis * 2, e);
+                    scheduleComplete(key, response, Math.min(delayMillis * 2, MAX_COMPLETE_BACKOFF_MILLIS));
+                }
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            LOGGER.error("Resposta da '{}' {} não gravada: serviço encerrado", HEADER, key);
+        }
+    }
+
+    void purge() {
+        gateway.purgeOlderThan(Instant.now().minus(ttl));
+    }
+
+    private static ResponseEntity<String> inProgress() {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body("Transação com esta '%s' ainda em processamento".formatted(HEADER));
+    }
+
+    private static ResponseEntity<String> replay(IdempotentResponse response, String fingerprint) {
+        if (!Objects.equals(response.fingerprint(), fingerprint)) {
+            return ResponseEntity.unprocessableEntity()
+                    .body("'%s' já utilizada em outra transação".formatted(HEADER));
+        }
+        return ResponseEntity.status(response.status()).body(response.body());
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.vr.autorizador.infrastructure.idempotency;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+public class IdempotencyTable {
+
+    private final ReentrantLock[] locks;
+    private final Stripe[] stripes;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+
+    public IdempotencyTable(int stripes, int maximumSize, Duration ttl) {
+        this(stripes, maximumSize, ttl, System::nanoTime);
+    }
+
+    IdempotencyTable(int stripes, int maximumSize, Duration ttl, LongSupplier ticker) {
+        if (stripes < 1 || maximumSize < stripes) {
+            throw new IllegalArgumentException("'maximum-size' deve ser maior ou igual a 'stripes' e 'stripes' maior que zero");
+        }
+        this.locks = new ReentrantLock[stripes];
+        this.stripes = new Stripe[stripes];
+        final int stripeCapacity = maximumSize / stripes;
+        for (int i = 0; i < stripes; i++) {
+            this.locks[i] = new ReentrantLock();
+            this.stripes[i] = new Stripe(stripeCapacity);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+    }
+
+    public Optional<IdempotentResponse> get(String key) {
+        final int index = index(key);
+        locks[index].lock();
+        try {
+            final var stripe = stripes[index];
+            stripe.evictExpired(ticker.getAsLong());
+            final var entry = stripe.get(key);
+            return entry == null ? Optional.empty() : Optional.of(entry.response());
+        } finally {
+            locks[index].unlock();
+        }
+    }
+
+    public void put(String key, IdempotentResponse response) {
+        final int index = index(key);
+        locks[index].lock();
+        try {
+            final long now = ticker.getAsLong();
+            final var stripe = stripes[index];
+            stripe.evictExpired(now);
+            stripe.remove(key);
+            stripe.put(key, new Entry(response, now + ttlNanos));
+        } finally {
+            locks[index].unlock();
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (int i = 0; i < stripes.length; i++) {
+            locks[i].lock();
+            try {
+                size += stripes[i].size();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return size;
+    }
+
+    private int index(String key) {
+        final int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+
+    private record Entry(IdempotentResponse response, long expiresAt) {
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, Entry> {
+        private final int capacity;
+
+        private Stripe(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void evictExpired(long now) {
+            final var iterator = values().iterator();
+            while (iterator.hasNext() && iterator.next().expiresAt() - now <= 0) {
+                iterator.remove();
+            }
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > capacity;
+        }
+    }
+}
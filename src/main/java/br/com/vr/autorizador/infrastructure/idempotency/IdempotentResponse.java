@@ -0,0 +1,4 @@
+package br.com.vr.autorizador.infrastructure.idempotency;
+
+public record IdempotentResponse(String fingerprint, int status, String body) {
+}
@@ -0,0 +1,47 @@
+package br.com.vr.autorizador.infrastructure.idempotency.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "idempotency_key", indexes = @Index(name = "idx_idempotency_key_criado_em", columnList = "criado_em"))
+public class IdempotencyKeyJpaEntity {
+    @Id
+    @Column(name = "chave", nullable = false, length = 128)
+    private String chave;
+    @Column(nullable = false, length = 128)
+    private String fingerprint;
+    @Column
+    private Integer status;
+    @Column(length = 1024)
+    private String corpo;
+    @Column(name = "criado_em", nullable = false)
+    private Instant criadoEm;
+
+    public IdempotencyKeyJpaEntity() {}
+
+    public String getChave() {
+        return chave;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public String getCorpo() {
+        return corpo;
+    }
+
+    public Instant getCriadoEm() {
+        return criadoEm;
+    }
+}
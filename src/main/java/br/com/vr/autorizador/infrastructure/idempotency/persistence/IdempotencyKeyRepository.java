@@ -0,0 +1,6 @@
+package br.com.vr.autorizador.infrastructure.idempotency.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyJpaEntity, String> {
+}
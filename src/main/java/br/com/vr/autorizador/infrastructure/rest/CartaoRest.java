@@ -1,14 +1,23 @@
 package br.com.vr.autorizador.infrastructure.rest;
 
+import br.com.vr.autorizador.infrastructure.cartao.importacao.CartaoImporter;
 import br.com.vr.autorizador.infrastructure.cartao.models.CreateCartaoRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.models.ExtratoRestOutput;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RequestMapping(value = "cartoes")
 public interface CartaoRest {
 
+    String SALDO_DISPONIVEL_HEADER = "Saldo-Disponivel";
+
     @PostMapping(
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -16,9 +25,24 @@ public interface CartaoRest {
     @ResponseStatus(HttpStatus.CREATED)
     ResponseEntity<?> createCartao(@RequestBody CreateCartaoRestInput inputRequest);
 
+    @PostMapping(path = "/importacao",
+            consumes = {CartaoImporter.APPLICATION_NDJSON_VALUE, CartaoImporter.TEXT_CSV_VALUE},
+            produces = CartaoImporter.APPLICATION_NDJSON_VALUE
+    )
+    void importCartoes(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body, HttpServletResponse response) throws IOException;
+
     @GetMapping(path = "/{numeroCartao}",
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE
     )
     ResponseEntity<?> getByNumero(@PathVariable("numeroCartao") String numeroCartao);
+
+    @GetMapping(path = "/{numeroCartao}/transacoes",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<ExtratoRestOutput> listTransacoes(
+            @PathVariable("numeroCartao") String numeroCartao,
+            @RequestParam(name = "antesDe", required = false) Long antesDe,
+            @RequestParam(name = "limite", defaultValue = "50") int limite
+    );
 }
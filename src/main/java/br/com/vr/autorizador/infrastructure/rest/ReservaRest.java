@@ -0,0 +1,36 @@
+package br.com.vr.autorizador.infrastructure.rest;
+
+import br.com.vr.autorizador.infrastructure.cartao.models.CaptureReservaRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.models.CreateReservaRestInput;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@RequestMapping(value = "reservas")
+public interface ReservaRest {
+
+    @PostMapping(
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.CREATED)
+    ResponseEntity<?> create(@RequestBody CreateReservaRestInput inputRequest);
+
+    @PostMapping(
+        path = "/{id}/captura",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.CREATED)
+    ResponseEntity<?> capture(@PathVariable("id") String id, @RequestBody CaptureReservaRestInput inputRequest);
+
+    @DeleteMapping(path = "/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    ResponseEntity<?> release(@PathVariable("id") String id);
+}
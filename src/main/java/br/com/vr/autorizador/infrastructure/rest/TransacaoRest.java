@@ -1,14 +1,19 @@
 package br.com.vr.autorizador.infrastructure.rest;
 
+import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoCentavosRestInput;
 import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoRestInput;
+import br.com.vr.autorizador.infrastructure.idempotency.IdempotencyService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.util.List;
+
 @RequestMapping(value = "transacoes")
 public interface TransacaoRest {
 
@@ -17,5 +22,15 @@ public interface TransacaoRest {
         produces = MediaType.APPLICATION_JSON_VALUE
     )
     @ResponseStatus(HttpStatus.CREATED)
-    ResponseEntity<?> debit(@RequestBody DebitCartaoRestInput inputRequest);
+    ResponseEntity<?> debit(
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @RequestBody DebitCartaoCentavosRestInput inputRequest
+    );
+
+    @PostMapping(
+        path = "/lote",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    ResponseEntity<?> debitBatch(@RequestBody List<DebitCartaoRestInput> inputRequest);
 }
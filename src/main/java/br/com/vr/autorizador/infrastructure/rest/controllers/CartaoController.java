@@ -3,22 +3,44 @@ package br.com.vr.autorizador.infrastructure.rest.controllers;
 import br.com.vr.autorizador.application.cartao.create.CreateCartaoInput;
 import br.com.vr.autorizador.application.cartao.create.CreateCartaoUseCase;
 import br.com.vr.autorizador.application.cartao.get.GetCartaoByNumeroUseCase;
+import br.com.vr.autorizador.application.transacao.list.ListTransacaoByCartaoInput;
+import br.com.vr.autorizador.application.transacao.list.ListTransacaoByCartaoUseCase;
 import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.infrastructure.cartao.importacao.CartaoImporter;
+import br.com.vr.autorizador.infrastructure.cartao.models.Centavos;
 import br.com.vr.autorizador.infrastructure.cartao.models.CreateCartaoRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.models.ExtratoRestOutput;
+import br.com.vr.autorizador.infrastructure.cartao.models.TransacaoRestOutput;
 import br.com.vr.autorizador.infrastructure.rest.CartaoRest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CartaoController implements CartaoRest {
 
     private final CreateCartaoUseCase createCartaoUseCase;
     private final GetCartaoByNumeroUseCase getCartaoByNumeroUseCase;
+    private final ListTransacaoByCartaoUseCase listTransacaoByCartaoUseCase;
+    private final CartaoImporter cartaoImporter;
 
-    public CartaoController(CreateCartaoUseCase createCartaoUseCase, GetCartaoByNumeroUseCase getCartaoByNumeroUseCase) {
+    public CartaoController(
+            CreateCartaoUseCase createCartaoUseCase,
+            GetCartaoByNumeroUseCase getCartaoByNumeroUseCase,
+            ListTransacaoByCartaoUseCase listTransacaoByCartaoUseCase,
+            CartaoImporter cartaoImporter
+    ) {
         this.createCartaoUseCase = createCartaoUseCase;
         this.getCartaoByNumeroUseCase = getCartaoByNumeroUseCase;
+        this.listTransacaoByCartaoUseCase = listTransacaoByCartaoUseCase;
+        this.cartaoImporter = cartaoImporter;
     }
 
     @Override
@@ -32,13 +54,37 @@ public class CartaoController implements CartaoRest {
         }
     }
 
+    @Override
+    public void importCartoes(MediaType contentType, InputStream body, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(CartaoImporter.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        cartaoImporter.importFrom(body, contentType, response.getOutputStream());
+    }
+
     @Override
     public ResponseEntity<?> getByNumero(String numeroCartao) {
         try {
             var output = getCartaoByNumeroUseCase.execute(numeroCartao);
-            return ResponseEntity.status(HttpStatus.OK).body(output.saldo());
+            return ResponseEntity.status(HttpStatus.OK)
+                    .header(SALDO_DISPONIVEL_HEADER, Centavos.toDecimal(output.saldoDisponivel()).toPlainString())
+                    .body(Centavos.toDecimal(output.saldo()));
         } catch (NotificationException ne) {
             return ResponseEntity.unprocessableEntity().body(ne);
         }
     }
+
+    @Override
+    public ResponseEntity<ExtratoRestOutput> listTransacoes(String numeroCartao, Long antesDe, int limite) {
+        var output = listTransacaoByCartaoUseCase.execute(ListTransacaoByCartaoInput.with(numeroCartao, antesDe, limite));
+        var transacoes = output.transacoes().stream()
+                .map(item -> new TransacaoRestOutput(
+                        item.sequencia(),
+                        Centavos.toDecimal(item.valor()),
+                        item.resultado().name(),
+                        item.criadoEm()
+                ))
+                .toList();
+        return ResponseEntity.ok(new ExtratoRestOutput(transacoes, output.proximo()));
+    }
 }
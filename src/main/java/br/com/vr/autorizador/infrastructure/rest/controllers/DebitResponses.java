@@ -0,0 +1,51 @@
+package br.com.vr.autorizador.infrastructure.rest.controllers;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+final class DebitResponses {
+
+    private static final Map<DebitResult, ResponseEntity<byte[]>> RESPONSES = new EnumMap<>(DebitResult.class);
+
+    static {
+        for (var result : DebitResult.values()) {
+            if (result.isApproved()) {
+                RESPONSES.put(result, build(HttpStatus.CREATED, "OK"));
+            } else if (result.message() != null) {
+                RESPONSES.put(result, build(HttpStatus.UNPROCESSABLE_ENTITY, result.message()));
+            }
+        }
+    }
+
+    private DebitResponses() {
+    }
+
+    static ResponseEntity<byte[]> of(String numeroCartao, DebitResult result) {
+        final var response = RESPONSES.get(result);
+        if (response != null) {
+            return response;
+        }
+        return build(HttpStatus.UNPROCESSABLE_ENTITY, DebitCartaoUseCase.rejectionMessage(numeroCartao, result));
+    }
+
+    static ResponseEntity<String> stored(String numeroCartao, DebitResult result) {
+        final var response = of(numeroCartao, result);
+        return ResponseEntity.status(response.getStatusCode())
+                .body(new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private static ResponseEntity<byte[]> build(HttpStatus status, String body) {
+        final var bytes = String.valueOf(body).getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(bytes.length)
+                .body(bytes);
+    }
+}
@@ -3,18 +3,23 @@ package br.com.vr.autorizador.infrastructure.rest.controllers;
 import br.com.vr.autorizador.domain.exceptions.DomainException;
 import br.com.vr.autorizador.domain.exceptions.NotFoundException;
 import br.com.vr.autorizador.domain.validation.Error;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final ResponseEntity<?> NOT_FOUND = ResponseEntity.notFound().build();
+    private static final ResponseEntity<?> SERVICE_UNAVAILABLE = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+
     @ExceptionHandler(value = NotFoundException.class)
     public ResponseEntity<?> handleDomainException(NotFoundException dex) {
-        return ResponseEntity.notFound().build();
+        return NOT_FOUND;
     }
 
     @ExceptionHandler(value = DomainException.class)
@@ -22,6 +27,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(dex));
     }
 
+    @ExceptionHandler(value = RejectedExecutionException.class)
+    public ResponseEntity<?> handleRejectedExecutionException(RejectedExecutionException rex) {
+        return SERVICE_UNAVAILABLE;
+    }
+
     record ApiError(String message, List<Error> errors) {
         static ApiError from(DomainException dex) {
             return new ApiError(dex.getMessage(), dex.getErrors());
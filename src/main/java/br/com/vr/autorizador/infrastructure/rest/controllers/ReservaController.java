@@ -0,0 +1,68 @@
+package br.com.vr.autorizador.infrastructure.rest.controllers;
+
+import br.com.vr.autorizador.application.reserva.capture.CaptureReservaInput;
+import br.com.vr.autorizador.application.reserva.capture.CaptureReservaUseCase;
+import br.com.vr.autorizador.application.reserva.create.CreateReservaInput;
+import br.com.vr.autorizador.application.reserva.create.CreateReservaUseCase;
+import br.com.vr.autorizador.application.reserva.release.ReleaseReservaUseCase;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.infrastructure.cartao.models.CaptureReservaRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.models.Centavos;
+import br.com.vr.autorizador.infrastructure.cartao.models.CreateReservaRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.models.ReservaRestOutput;
+import br.com.vr.autorizador.infrastructure.rest.ReservaRest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ReservaController implements ReservaRest {
+
+    private final CreateReservaUseCase createReservaUseCase;
+    private final CaptureReservaUseCase captureReservaUseCase;
+    private final ReleaseReservaUseCase releaseReservaUseCase;
+
+    public ReservaController(
+            CreateReservaUseCase createReservaUseCase,
+            CaptureReservaUseCase captureReservaUseCase,
+            ReleaseReservaUseCase releaseReservaUseCase
+    ) {
+        this.createReservaUseCase = createReservaUseCase;
+        this.captureReservaUseCase = captureReservaUseCase;
+        this.releaseReservaUseCase = releaseReservaUseCase;
+    }
+
+    @Override
+    public ResponseEntity<?> create(CreateReservaRestInput inputRequest) {
+        try {
+            var input = CreateReservaInput.with(inputRequest.numeroCartao(), inputRequest.senhaCartao(), Centavos.from(inputRequest.valor()));
+            var output = createReservaUseCase.execute(input);
+            return ResponseEntity.status(HttpStatus.CREATED).body(new ReservaRestOutput(
+                    output.id(),
+                    output.numeroCartao(),
+                    Centavos.toDecimal(output.valor()),
+                    output.expiraEm()
+            ));
+        } catch (NotificationException ne) {
+            return ResponseEntity.unprocessableEntity().body(ne.firstError().message());
+        }
+    }
+
+    @Override
+    public ResponseEntity<?> capture(String id, CaptureReservaRestInput inputRequest) {
+        try {
+            captureReservaUseCase.execute(CaptureReservaInput.with(id, Centavos.from(inputRequest.valor())));
+            return ResponseEntity.status(HttpStatus.CREATED).body("OK");
+        } catch (NotificationException ne) {
+            return ResponseEntity.unprocessableEntity().body(ne.firstError().message());
+        }
+    }
+
+    @Override
+    public ResponseEntity<?> release(String id) {
+        releaseReservaUseCase.execute(id);
+        return ResponseEntity.noContent().build();
+    }
+}
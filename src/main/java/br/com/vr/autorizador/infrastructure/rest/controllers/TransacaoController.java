@@ -2,30 +2,74 @@ package br.com.vr.autorizador.infrastructure.rest.controllers;
 
 import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
 import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
-import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.application.cartao.debit.batch.BatchDebitCartaoInput;
+import br.com.vr.autorizador.application.cartao.debit.batch.BatchDebitCartaoUseCase;
+import br.com.vr.autorizador.infrastructure.cartao.models.Centavos;
+import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoCentavosRestInput;
 import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoRestInput;
+import br.com.vr.autorizador.infrastructure.idempotency.IdempotencyService;
 import br.com.vr.autorizador.infrastructure.rest.TransacaoRest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+import java.util.Objects;
+
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TransacaoController implements TransacaoRest {
 
     private final DebitCartaoUseCase debitCartaoUseCase;
+    private final BatchDebitCartaoUseCase batchDebitCartaoUseCase;
+    private final IdempotencyService idempotencyService;
+    private final int batchMaxSize;
 
-    public TransacaoController(DebitCartaoUseCase debitCartaoUseCase) {
+    public TransacaoController(
+            DebitCartaoUseCase debitCartaoUseCase,
+            BatchDebitCartaoUseCase batchDebitCartaoUseCase,
+            IdempotencyService idempotencyService,
+            @Value("${autorizador.debit.batch.max-size:1000}") int batchMaxSize
+    ) {
         this.debitCartaoUseCase = debitCartaoUseCase;
+        this.batchDebitCartaoUseCase = batchDebitCartaoUseCase;
+        this.idempotencyService = idempotencyService;
+        this.batchMaxSize = batchMaxSize;
+    }
+
+    @Override
+    public ResponseEntity<?> debit(String idempotencyKey, DebitCartaoCentavosRestInput inputRequest) {
+        final var input = toInput(inputRequest);
+        if (idempotencyKey == null) {
+            return DebitResponses.of(input.numeroCartao(), debitCartaoUseCase.authorize(input));
+        }
+        final var fingerprint = IdempotencyService.fingerprint(input.numeroCartao(), input.valor());
+        return idempotencyService.execute(idempotencyKey, fingerprint,
+                () -> DebitResponses.stored(input.numeroCartao(), debitCartaoUseCase.authorize(input)));
+    }
+
+    private static DebitCartaoInput toInput(DebitCartaoCentavosRestInput inputRequest) {
+        return DebitCartaoInput.with(inputRequest.numeroCartao(), inputRequest.senhaCartao(), inputRequest.valor());
+    }
+
+    private static DebitCartaoInput toInput(DebitCartaoRestInput inputRequest) {
+        return DebitCartaoInput.with(inputRequest.numeroCartao(), inputRequest.senhaCartao(), Centavos.from(inputRequest.valor()));
     }
 
     @Override
-    public ResponseEntity<?> debit(DebitCartaoRestInput inputRequest) {
-        try {
-            var input = DebitCartaoInput.with(inputRequest.numeroCartao(), inputRequest.senhaCartao(), inputRequest.valor());
-            debitCartaoUseCase.execute(input);
-            return ResponseEntity.status(HttpStatus.CREATED).body("OK");
-        } catch (NotificationException ne) {
-            return ResponseEntity.unprocessableEntity().body(ne.firstError().message());
+    public ResponseEntity<?> debitBatch(List<DebitCartaoRestInput> inputRequest) {
+        if (inputRequest.size() > batchMaxSize) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        if (inputRequest.stream().anyMatch(Objects::isNull)) {
+            return ResponseEntity.badRequest().build();
         }
+        var input = BatchDebitCartaoInput.with(inputRequest.stream()
+                .map(TransacaoController::toInput)
+                .toList());
+        var output = batchDebitCartaoUseCase.execute(input);
+        return ResponseEntity.ok(output.items());
     }
 }
@@ -0,0 +1,144 @@
+package br.com.vr.autorizador.infrastructure.rest.converters;
+
+import br.com.vr.autorizador.infrastructure.cartao.models.Centavos;
+import br.com.vr.autorizador.infrastructure.cartao.models.CreateCartaoRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoCentavosRestInput;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+public final class RestInputReader {
+
+    static final long NOT_A_NUMBER = Long.MIN_VALUE;
+
+    private RestInputReader() {
+    }
+
+    public static DebitCartaoCentavosRestInput readDebit(JsonParser parser) throws IOException {
+        startObject(parser);
+        String numeroCartao = null;
+        String senhaCartao = null;
+        long valor = Centavos.INVALID;
+
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            final var token = parser.nextToken();
+            switch (field) {
+                case "numeroCartao" -> numeroCartao = text(parser, token);
+                case "senhaCartao" -> senhaCartao = text(parser, token);
+                case "valor" -> valor = centavos(parser, token);
+                default -> parser.skipChildren();
+            }
+        }
+        endObject(parser);
+        return new DebitCartaoCentavosRestInput(numeroCartao, senhaCartao, valor);
+    }
+
+    public static CreateCartaoRestInput readCreateCartao(JsonParser parser) throws IOException {
+        startObject(parser);
+        String numeroCartao = null;
+        String senha = null;
+
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            final var token = parser.nextToken();
+            switch (field) {
+                case "numeroCartao" -> numeroCartao = text(parser, token);
+                case "senha" -> senha = text(parser, token);
+                default -> parser.skipChildren();
+            }
+        }
+        endObject(parser);
+        return new CreateCartaoRestInput(numeroCartao, senha);
+    }
+
+    static long centavos(char[] chars, int offset, int length) {
+        final int end = offset + length;
+        int i = offset;
+        final boolean negative = i < end && chars[i] == '-';
+        if (negative) {
+            i++;
+        }
+
+        long value = 0;
+        int digits = 0;
+        for (; i < end && isDigit(chars[i]); i++, digits++) {
+            value = value * 10 + (chars[i] - '0');
+            if (value > Long.MAX_VALUE / 1000) {
+                return NOT_A_NUMBER;
+            }
+        }
+
+        int scale = 0;
+        if (i < end && chars[i] == '.') {
+            for (i++; i < end && isDigit(chars[i]); i++, digits++) {
+                if (scale < Centavos.SCALE) {
+                    value = value * 10 + (chars[i] - '0');
+                    scale++;
+                } else if (chars[i] != '0') {
+                    return Centavos.INVALID;
+                }
+            }
+        }
+
+        if (i != end || digits == 0) {
+            return NOT_A_NUMBER;
+        }
+        for (; scale < Centavos.SCALE; scale++) {
+            value *= 10;
+        }
+        return negative ? -value : value;
+    }
+
+    private static long centavos(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_NULL -> Centavos.INVALID;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                final long valor = centavos(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                yield valor == NOT_A_NUMBER ? Centavos.from(parser.getDecimalValue()) : valor;
+            }
+            case VALUE_STRING -> {
+                final long valor = centavos(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                yield valor == NOT_A_NUMBER ? Centavos.from(decimal(parser)) : valor;
+            }
+            default -> throw new JsonParseException(parser, "'valor' deve ser numérico");
+        };
+    }
+
+    private static BigDecimal decimal(JsonParser parser) throws IOException {
+        try {
+            return new BigDecimal(parser.getText());
+        } catch (NumberFormatException e) {
+            throw new JsonParseException(parser, "'valor' deve ser numérico", e);
+        }
+    }
+
+    private static String text(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, "'%s' deve ser um valor simples".formatted(parser.currentName()));
+        }
+        return parser.getText();
+    }
+
+    private static void startObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Esperado objeto JSON");
+        }
+    }
+
+    private static void endObject(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Esperado fim do objeto JSON");
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,337 @@
+package br.com.vr.autorizador.infrastructure.tcp;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class BinaryTransacaoListener implements MeterBinder, AutoCloseable {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final DebitCartaoUseCase debitCartaoUseCase;
+    private final InetSocketAddress address;
+    private final int maxInFlight;
+    private final Executor executor;
+    private final Queue<Connection> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder malformed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private Selector selector;
+    private ServerSocketChannel server;
+    private Thread thread;
+    private volatile boolean running;
+
+    public BinaryTransacaoListener(DebitCartaoUseCase debitCartaoUseCase, InetSocketAddress address, int maxInFlight, Executor executor) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight deve ser maior que zero");
+        }
+        this.debitCartaoUseCase = Objects.requireNonNull(debitCartaoUseCase);
+        this.address = Objects.requireNonNull(address);
+        this.maxInFlight = maxInFlight;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        try {
+            selector = Selector.open();
+            server = ServerSocketChannel.open();
+            server.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            server.bind(address);
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        running = true;
+        thread = new Thread(this::run, "tcp-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public int port() {
+        return server.socket().getLocalPort();
+    }
+
+    public int connections() {
+        return connections.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("autorizador.tcp.connections", connections, AtomicInteger::get)
+                .description("Conexões abertas no listener binário")
+                .register(registry);
+        FunctionCounter.builder("autorizador.tcp.requests", requests, LongAdder::sum)
+                .description("Requisições de débito recebidas pelo listener binário")
+                .register(registry);
+        FunctionCounter.builder("autorizador.tcp.malformed", malformed, LongAdder::sum)
+                .description("Mensagens recusadas por formato inválido")
+                .register(registry);
+        FunctionCounter.builder("autorizador.tcp.failed", failed, LongAdder::sum)
+                .description("Requisições que falharam com erro interno")
+                .register(registry);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                flushPendingWrites();
+                for (var iterator = selector.selectedKeys().iterator(); iterator.hasNext(); ) {
+                    final var key = iterator.next();
+                    iterator.remove();
+                    handle(key);
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            running = false;
+        } finally {
+            closeAll();
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        try {
+            if (!key.isValid()) {
+                return;
+            }
+            if (key.isAcceptable()) {
+                accept();
+                return;
+            }
+            final var connection = (Connection) key.attachment();
+            if (key.isReadable()) {
+                connection.read();
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.flush();
+            }
+        } catch (IOException e) {
+            if (key.attachment() instanceof Connection connection) {
+                connection.close();
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = server.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            final var connection = new Connection(channel);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connections.incrementAndGet();
+        }
+    }
+
+    private void flushPendingWrites() {
+        Connection connection;
+        while ((connection = pendingWrites.poll()) != null) {
+            connection.scheduled.set(false);
+            try {
+                connection.flush();
+            } catch (IOException e) {
+                connection.close();
+            }
+        }
+    }
+
+    private void closeAll() {
+        for (var key : selector.keys()) {
+            if (key.attachment() instanceof Connection connection) {
+                connection.close();
+            }
+        }
+        try {
+            server.close();
+            selector.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private final class Connection {
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private ByteBuffer out = ByteBuffer.allocate(BinaryTransacaoProtocol.LENGTH_SIZE * 256);
+        private SelectionKey key;
+        private boolean closed;
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        private void read() throws IOException {
+            if (channel.read(in) < 0) {
+                close();
+                return;
+            }
+
+            in.flip();
+            while (in.remaining() >= BinaryTransacaoProtocol.LENGTH_SIZE && inFlight.get() < maxInFlight) {
+                final int length = in.getShort(in.position()) & 0xFFFF;
+                if (length < BinaryTransacaoProtocol.MIN_REQUEST_SIZE || length > BinaryTransacaoProtocol.MAX_REQUEST_SIZE) {
+                    malformed.increment();
+                    close();
+                    return;
+                }
+                if (in.remaining() < BinaryTransacaoProtocol.LENGTH_SIZE + length) {
+                    break;
+                }
+
+                final int next = in.position() + BinaryTransacaoProtocol.LENGTH_SIZE + length;
+                in.position(in.position() + BinaryTransacaoProtocol.LENGTH_SIZE);
+                final int id = in.getInt();
+                final var input = BinaryTransacaoProtocol.readInput(in, length);
+                in.position(next);
+
+                requests.increment();
+                if (input == null) {
+                    malformed.increment();
+                    reply(id, BinaryTransacaoProtocol.FORMATO_INVALIDO);
+                } else {
+                    dispatch(id, input);
+                }
+            }
+            in.compact();
+            updateInterest();
+        }
+
+        private void dispatch(int id, DebitCartaoInput input) {
+            inFlight.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    byte code;
+                    try {
+                        code = BinaryTransacaoProtocol.code(debitCartaoUseCase.authorize(input));
+                    } catch (RejectedExecutionException e) {
+                        code = BinaryTransacaoProtocol.INDISPONIVEL;
+                    } catch (RuntimeException e) {
+                        failed.increment();
+                        code = BinaryTransacaoProtocol.ERRO_INTERNO;
+                    }
+                    complete(id, code);
+                });
+            } catch (RejectedExecutionException e) {
+                complete(id, BinaryTransacaoProtocol.INDISPONIVEL);
+            }
+        }
+
+        private void complete(int id, byte code) {
+            inFlight.decrementAndGet();
+            reply(id, code);
+        }
+
+        private void reply(int id, byte code) {
+            synchronized (this) {
+                if (out.remaining() < BinaryTransacaoProtocol.LENGTH_SIZE + BinaryTransacaoProtocol.RESPONSE_SIZE) {
+                    final var grown = ByteBuffer.allocate(out.capacity() * 2);
+                    out.flip();
+                    grown.put(out);
+                    out = grown;
+                }
+                BinaryTransacaoProtocol.writeResponse(out, id, code);
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                pendingWrites.add(this);
+                selector.wakeup();
+            }
+        }
+
+        private void flush() throws IOException {
+            if (closed) {
+                return;
+            }
+            synchronized (this) {
+                out.flip();
+                try {
+                    channel.write(out);
+                } finally {
+                    out.compact();
+                }
+            }
+            if (in.position() > 0 && inFlight.get() < maxInFlight) {
+                read();
+                return;
+            }
+            updateInterest();
+        }
+
+        private void updateInterest() {
+            if (closed || !key.isValid()) {
+                return;
+            }
+            int ops = 0;
+            if (inFlight.get() < maxInFlight) {
+                ops |= SelectionKey.OP_READ;
+            }
+            synchronized (this) {
+                if (out.position() > 0) {
+                    ops |= SelectionKey.OP_WRITE;
+                }
+            }
+            key.interestOps(ops);
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            connections.decrementAndGet();
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
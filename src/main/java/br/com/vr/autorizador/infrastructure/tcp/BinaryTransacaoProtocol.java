@@ -0,0 +1,77 @@
+package br.com.vr.autorizador.infrastructure.tcp;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class BinaryTransacaoProtocol {
+
+    public static final int LENGTH_SIZE = Short.BYTES;
+    public static final int NUMERO_CARTAO_SIZE = 16;
+    public static final int MAX_SENHA_SIZE = 255;
+    public static final int MIN_REQUEST_SIZE = Integer.BYTES + NUMERO_CARTAO_SIZE + Byte.BYTES + Long.BYTES;
+    public static final int MAX_REQUEST_SIZE = MIN_REQUEST_SIZE + MAX_SENHA_SIZE;
+    public static final int RESPONSE_SIZE = Integer.BYTES + Byte.BYTES;
+
+    public static final byte OK = 0;
+    public static final byte SENHA_INVALIDA = 1;
+    public static final byte VALOR_INVALIDO = 2;
+    public static final byte SALDO_INSUFICIENTE = 3;
+    public static final byte CARTAO_INEXISTENTE = 4;
+    public static final byte FORMATO_INVALIDO = 64;
+    public static final byte INDISPONIVEL = 65;
+    public static final byte ERRO_INTERNO = 66;
+
+    private BinaryTransacaoProtocol() {
+    }
+
+    public static byte code(DebitResult result) {
+        return switch (result) {
+            case OK -> OK;
+            case SENHA_INVALIDA -> SENHA_INVALIDA;
+            case VALOR_INVALIDO -> VALOR_INVALIDO;
+            case SALDO_INSUFICIENTE -> SALDO_INSUFICIENTE;
+            case CARTAO_INEXISTENTE, RESERVA_INEXISTENTE -> CARTAO_INEXISTENTE;
+        };
+    }
+
+    static DebitCartaoInput readInput(ByteBuffer frame, int length) {
+        final int senhaLength = frame.get(frame.position() + NUMERO_CARTAO_SIZE) & 0xFF;
+        if (length != MIN_REQUEST_SIZE + senhaLength) {
+            return null;
+        }
+
+        final var numeroCartao = readAscii(frame, NUMERO_CARTAO_SIZE);
+        frame.get();
+        final var senha = readAscii(frame, senhaLength);
+        return DebitCartaoInput.with(numeroCartao, senha, frame.getLong());
+    }
+
+    static void writeResponse(ByteBuffer buffer, int id, byte code) {
+        buffer.putShort((short) RESPONSE_SIZE)
+                .putInt(id)
+                .put(code);
+    }
+
+    public static void writeRequest(ByteBuffer buffer, int id, String numeroCartao, String senha, long valor) {
+        final var numero = numeroCartao.getBytes(StandardCharsets.US_ASCII);
+        final var senhaBytes = senha.getBytes(StandardCharsets.US_ASCII);
+        if (numero.length != NUMERO_CARTAO_SIZE || senhaBytes.length > MAX_SENHA_SIZE) {
+            throw new IllegalArgumentException("'numeroCartao' deve possuir 16 caracteres e 'senha' no máximo 255");
+        }
+        buffer.putShort((short) (MIN_REQUEST_SIZE + senhaBytes.length))
+                .putInt(id)
+                .put(numero)
+                .put((byte) senhaBytes.length)
+                .put(senhaBytes)
+                .putLong(valor);
+    }
+
+    private static String readAscii(ByteBuffer frame, int size) {
+        final var bytes = new byte[size];
+        frame.get(bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
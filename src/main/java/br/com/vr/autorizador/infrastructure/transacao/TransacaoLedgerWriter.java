@@ -0,0 +1,229 @@
+package br.com.vr.autorizador.infrastructure.transacao;
+
+import br.com.vr.autorizador.domain.transacao.Transacao;
+import br.com.vr.autorizador.domain.transacao.TransacaoGateway;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class TransacaoLedgerWriter implements MeterBinder, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransacaoLedgerWriter.class);
+    private static final long MAX_RETRY_BACKOFF_NANOS = Duration.ofSeconds(5).toNanos();
+
+    private final TransacaoGateway gateway;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int retryAttempts;
+    private final long retryBackoffNanos;
+    private final long enqueueTimeoutNanos;
+    private final BlockingQueue<Transacao> queue;
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder overflow = new LongAdder();
+    private final Thread writer;
+
+    private volatile boolean closed;
+
+    public TransacaoLedgerWriter(TransacaoGateway gateway, int batchSize, Duration flushInterval, int queueCapacity) {
+        this(gateway, batchSize, flushInterval, queueCapacity, 5, Duration.ofMillis(100));
+    }
+
+    public TransacaoLedgerWriter(
+            TransacaoGateway gateway,
+            int batchSize,
+            Duration flushInterval,
+            int queueCapacity,
+            int retryAttempts,
+            Duration retryBackoff
+    ) {
+        this(gateway, batchSize, flushInterval, queueCapacity, retryAttempts, retryBackoff, Duration.ofMillis(5));
+    }
+
+    public TransacaoLedgerWriter(
+            TransacaoGateway gateway,
+            int batchSize,
+            Duration flushInterval,
+            int queueCapacity,
+            int retryAttempts,
+            Duration retryBackoff,
+            Duration enqueueTimeout
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("'batch-size' deve ser maior que zero");
+        }
+        if (retryAttempts < 1) {
+            throw new IllegalArgumentException("'retry-attempts' deve ser maior que zero");
+        }
+        this.gateway = Objects.requireNonNull(gateway);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.retryAttempts = retryAttempts;
+        this.retryBackoffNanos = retryBackoff.toNanos();
+        this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::writeLoop, "transacao-ledger");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public void append(Transacao transacao) {
+        closeLock.readLock().lock();
+        try {
+            if (!closed) {
+                if (!queue.offer(transacao, enqueueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    overflow.increment();
+                    LOGGER.warn("Fila do extrato cheia; transação do cartão {} não será gravada", transacao.numeroCartao());
+                }
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            overflow.increment();
+            return;
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        write(List.of(transacao));
+    }
+
+    public long written() {
+        return written.sum();
+    }
+
+    public long failed() {
+        return failed.sum();
+    }
+
+    public long retried() {
+        return retried.sum();
+    }
+
+    public long overflow() {
+        return overflow.sum();
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("autorizador.transacao.ledger.pending", queue, BlockingQueue::size)
+                .description("Transações aguardando gravação no extrato")
+                .register(registry);
+        FunctionCounter.builder("autorizador.transacao.ledger.written", written, LongAdder::sum)
+                .description("Transações gravadas no extrato")
+                .register(registry);
+        FunctionCounter.builder("autorizador.transacao.ledger.failed", failed, LongAdder::sum)
+                .description("Transações descartadas por falha ao gravar no extrato")
+                .register(registry);
+        FunctionCounter.builder("autorizador.transacao.ledger.retried", retried, LongAdder::sum)
+                .description("Novas tentativas de gravação de lotes do extrato")
+                .register(registry);
+        FunctionCounter.builder("autorizador.transacao.ledger.overflow", overflow, LongAdder::sum)
+                .description("Transações descartadas por fila do extrato cheia")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop() {
+        final List<Transacao> batch = new ArrayList<>(batchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                final var first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                final long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    final long remaining = deadline - System.nanoTime();
+                    final var next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Transacao> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long backoff = retryBackoffNanos;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                gateway.appendAll(batch);
+                written.add(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= retryAttempts || !sleep(backoff)) {
+                    failed.add(batch.size());
+                    LOGGER.error("Lote de {} transações descartado após {} tentativas. Cartões: {}",
+                            batch.size(), attempt, numerosCartao(batch), e);
+                    return;
+                }
+                retried.increment();
+                LOGGER.warn("Falha ao gravar lote de {} transações no extrato (tentativa {} de {})",
+                        batch.size(), attempt, retryAttempts, e);
+                backoff = Math.min(backoff * 2, MAX_RETRY_BACKOFF_NANOS);
+            }
+        }
+    }
+
+    private static boolean sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static List<String> numerosCartao(List<Transacao> batch) {
+        return batch.stream()
+                .map(Transacao::numeroCartao)
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.vr.autorizador.infrastructure.transacao;
+
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.transacao.Transacao;
+import br.com.vr.autorizador.domain.transacao.TransacaoGateway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Service
+public class TransacaoMySQLGateway implements TransacaoGateway {
+
+    private static final String INSERT_SQL = """
+            insert into transacao (numero_cartao, valor_centavos, resultado, criado_em)
+            values (?, ?, ?, ?)""";
+    private static final String FIND_FIRST_PAGE_SQL = """
+            select sequencia, numero_cartao, valor_centavos, resultado, criado_em from transacao
+            where numero_cartao = ?
+            order by sequencia desc
+            limit ?""";
+    private static final String FIND_NEXT_PAGE_SQL = """
+            select sequencia, numero_cartao, valor_centavos, resultado, criado_em from transacao
+            where numero_cartao = ? and sequencia < ?
+            order by sequencia desc
+            limit ?""";
+    private static final RowMapper<Transacao> ROW_MAPPER = (rs, rowNum) -> new Transacao(
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getLong(3),
+            DebitResult.valueOf(rs.getString(4)),
+            rs.getTimestamp(5).toInstant()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TransacaoMySQLGateway(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void appendAll(List<Transacao> transacoes) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, transacoes, transacoes.size(), (ps, transacao) -> {
+            ps.setString(1, transacao.numeroCartao());
+            ps.setLong(2, transacao.valor());
+            ps.setString(3, transacao.resultado().name());
+            ps.setTimestamp(4, Timestamp.from(transacao.criadoEm()));
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Transacao> findBy(String numeroCartao, Long antesDe, int limite) {
+        if (antesDe == null) {
+            return jdbcTemplate.query(FIND_FIRST_PAGE_SQL, ROW_MAPPER, numeroCartao, limite);
+        }
+        return jdbcTemplate.query(FIND_NEXT_PAGE_SQL, ROW_MAPPER, numeroCartao, antesDe, limite);
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.vr.autorizador.infrastructure.transacao.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "transacao", indexes = @Index(name = "idx_transacao_cartao_sequencia", columnList = "numero_cartao, sequencia"))
+public class TransacaoJpaEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sequencia", nullable = false)
+    private Long sequencia;
+    @Column(name = "numero_cartao", nullable = false)
+    private String numeroCartao;
+    @Column(name = "valor_centavos", nullable = false)
+    private long valor;
+    @Column(nullable = false, length = 32)
+    private String resultado;
+    @Column(name = "criado_em", nullable = false)
+    private Instant criadoEm;
+
+    public TransacaoJpaEntity() {}
+
+    public Long getSequencia() {
+        return sequencia;
+    }
+
+    public String getNumeroCartao() {
+        return numeroCartao;
+    }
+
+    public long getValor() {
+        return valor;
+    }
+
+    public String getResultado() {
+        return resultado;
+    }
+
+    public Instant getCriadoEm() {
+        return criadoEm;
+    }
+}
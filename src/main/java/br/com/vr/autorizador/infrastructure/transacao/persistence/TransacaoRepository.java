@@ -0,0 +1,6 @@
+package br.com.vr.autorizador.infrastructure.transacao.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TransacaoRepository extends JpaRepository<TransacaoJpaEntity, Long> {
+}
@@ -0,0 +1,57 @@
+package br.com.vr.autorizador.application.cartao.create;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.ReactiveCartaoGateway;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.when;
+
+public class ReactiveCreateCartaoUseCaseTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    private final ReactiveCartaoGateway cartaoGateway = Mockito.mock(ReactiveCartaoGateway.class);
+    private final ReactiveCreateCartaoUseCaseImpl useCase = new ReactiveCreateCartaoUseCaseImpl(cartaoGateway);
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(cartaoGateway);
+    }
+
+    @Test
+    public void deveCriarCartaoComSaldoInicialDe500() {
+        when(cartaoGateway.create(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0, Cartao.class)));
+
+        final var output = useCase.execute(CreateCartaoInput.with(expectedCardNumber, expectedCardPassword)).block();
+
+        Assertions.assertEquals(expectedCardNumber, output.numeroCartao());
+        Assertions.assertEquals(expectedCardPassword, output.senha());
+    }
+
+    @Test
+    public void deveEmitirErroAoCriarCartaoJaExistente() {
+        when(cartaoGateway.create(any())).thenReturn(Mono.empty());
+
+        final var actualException = Assertions.assertThrows(NotificationException.class,
+                () -> useCase.execute(CreateCartaoInput.with(expectedCardNumber, expectedCardPassword)).block());
+
+        Assertions.assertEquals("Cartão já existente", actualException.getMessage());
+    }
+
+    @Test
+    public void deveEmitirErroAoCriarCartaoInvalido() {
+        final var actualException = Assertions.assertThrows(NotificationException.class,
+                () -> useCase.execute(CreateCartaoInput.with("123", expectedCardPassword)).block());
+
+        Assertions.assertEquals("'numeroCartao' deve possuir 16 caracteres", actualException.firstError().message());
+        Mockito.verify(cartaoGateway, never()).create(any());
+    }
+}
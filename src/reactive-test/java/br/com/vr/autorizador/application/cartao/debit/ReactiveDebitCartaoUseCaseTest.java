@@ -0,0 +1,58 @@
+package br.com.vr.autorizador.application.cartao.debit;
+
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.cartao.ReactiveCartaoGateway;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.Mockito.when;
+
+public class ReactiveDebitCartaoUseCaseTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+    private final long debitValue = 10_00L;
+
+    private final ReactiveCartaoGateway cartaoGateway = Mockito.mock(ReactiveCartaoGateway.class);
+    private final ReactiveDebitCartaoUseCaseImpl useCase = new ReactiveDebitCartaoUseCaseImpl(cartaoGateway);
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(cartaoGateway);
+    }
+
+    @Test
+    public void deveDebitarComSucesso() {
+        when(cartaoGateway.debit(expectedCardNumber, expectedCardPassword, debitValue)).thenReturn(Mono.just(DebitResult.OK));
+
+        useCase.execute(DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValue)).block();
+
+        Mockito.verify(cartaoGateway).debit(expectedCardNumber, expectedCardPassword, debitValue);
+    }
+
+    @Test
+    public void deveEmitirErroAoDebitarComSaldoInsuficiente() {
+        when(cartaoGateway.debit(expectedCardNumber, expectedCardPassword, debitValue))
+                .thenReturn(Mono.just(DebitResult.SALDO_INSUFICIENTE));
+
+        final var actualException = Assertions.assertThrows(NotificationException.class,
+                () -> useCase.execute(DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValue)).block());
+
+        Assertions.assertEquals("Saldo insuficiente", actualException.firstError().message());
+    }
+
+    @Test
+    public void deveEmitirErroAoDebitarCartaoInexistente() {
+        when(cartaoGateway.debit(expectedCardNumber, expectedCardPassword, debitValue))
+                .thenReturn(Mono.just(DebitResult.CARTAO_INEXISTENTE));
+
+        final var actualException = Assertions.assertThrows(NotificationException.class,
+                () -> useCase.execute(DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValue)).block());
+
+        Assertions.assertEquals("Cartao %s nao encontrado".formatted(expectedCardNumber), actualException.getMessage());
+    }
+}
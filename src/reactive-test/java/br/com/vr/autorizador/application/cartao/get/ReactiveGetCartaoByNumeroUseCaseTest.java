@@ -0,0 +1,46 @@
+package br.com.vr.autorizador.application.cartao.get;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.ReactiveCartaoGateway;
+import br.com.vr.autorizador.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.Mockito.when;
+
+public class ReactiveGetCartaoByNumeroUseCaseTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    private final ReactiveCartaoGateway cartaoGateway = Mockito.mock(ReactiveCartaoGateway.class);
+    private final ReactiveGetCartaoByNumeroUseCaseImpl useCase = new ReactiveGetCartaoByNumeroUseCaseImpl(cartaoGateway);
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(cartaoGateway);
+    }
+
+    @Test
+    public void deveConsultarCartaoPorNumero() {
+        when(cartaoGateway.findBy(expectedCardNumber))
+                .thenReturn(Mono.just(Cartao.newCartao(expectedCardNumber, expectedCardPassword)));
+
+        final var output = useCase.execute(expectedCardNumber).block();
+
+        Assertions.assertEquals(500_00L, output.saldo());
+    }
+
+    @Test
+    public void deveEmitirErroAoConsultarCartaoInexistente() {
+        when(cartaoGateway.findBy(expectedCardNumber)).thenReturn(Mono.empty());
+
+        final var actualException = Assertions.assertThrows(NotFoundException.class,
+                () -> useCase.execute(expectedCardNumber).block());
+
+        Assertions.assertEquals("Cartao %s não encontrado".formatted(expectedCardNumber), actualException.getMessage());
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.vr.autorizador.infrastructure.rest;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.cartao.ReactiveCartaoGateway;
+import br.com.vr.autorizador.infrastructure.IntegrationTest;
+import br.com.vr.autorizador.infrastructure.cartao.models.CreateCartaoRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoJpaEntity;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoRepository;
+import br.com.vr.autorizador.infrastructure.cartao.r2dbc.CartaoR2dbcGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+
+@IntegrationTest
+@AutoConfigureWebTestClient
+@TestPropertySource(properties = "spring.main.web-application-type=reactive")
+public class ReactiveRestITest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private ReactiveCartaoGateway cartaoGateway;
+    @Autowired
+    private CartaoRepository cartaoRepository;
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    @Test
+    public void deveCriarEConsultarCartao() {
+        Assertions.assertInstanceOf(CartaoR2dbcGateway.class, cartaoGateway);
+
+        webTestClient.post().uri("/cartoes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCartaoRestInput(expectedCardNumber, expectedCardPassword))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.numeroCartao").isEqualTo(expectedCardNumber);
+
+        webTestClient.post().uri("/cartoes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCartaoRestInput(expectedCardNumber, expectedCardPassword))
+                .exchange()
+                .expectStatus().isEqualTo(422);
+
+        webTestClient.get().uri("/cartoes/{numeroCartao}", expectedCardNumber)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(CartaoRest.SALDO_DISPONIVEL_HEADER, "500.00")
+                .expectBody(String.class).isEqualTo("500.00");
+
+        Assertions.assertTrue(cartaoRepository.existsById(expectedCardNumber));
+    }
+
+    @Test
+    public void deveRetornarNotFoundAoConsultarCartaoInexistente() {
+        webTestClient.get().uri("/cartoes/{numeroCartao}", expectedCardNumber)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void deveDebitarERecusarTransacoes() {
+        cartaoRepository.saveAndFlush(CartaoJpaEntity.from(Cartao.newCartao(expectedCardNumber, expectedCardPassword)));
+
+        debit(expectedCardNumber, expectedCardPassword, "10.00")
+                .expectStatus().isCreated()
+                .expectBody(String.class).isEqualTo("OK");
+        debit(expectedCardNumber, "4321", "10.00")
+                .expectStatus().isEqualTo(422)
+                .expectBody(String.class).isEqualTo("Senha incorreta");
+        debit(expectedCardNumber, expectedCardPassword, "1000.00")
+                .expectStatus().isEqualTo(422)
+                .expectBody(String.class).isEqualTo("Saldo insuficiente");
+        debit("7549873025634501", expectedCardPassword, "10.00")
+                .expectStatus().isEqualTo(422);
+
+        Assertions.assertEquals(490_00L, cartaoRepository.findById(expectedCardNumber).get().getSaldo());
+    }
+
+    @Test
+    public void deveManterSaldoConsistenteComDebitosConcorrentes() {
+        cartaoRepository.saveAndFlush(CartaoJpaEntity.from(Cartao.newCartao(expectedCardNumber, expectedCardPassword)));
+
+        final var results = Flux.range(0, 20)
+                .flatMap(i -> cartaoGateway.debit(expectedCardNumber, expectedCardPassword, 100_00L), 20)
+                .collectList()
+                .block();
+
+        Assertions.assertEquals(5, results.stream().filter(result -> result.isApproved()).count());
+        Assertions.assertEquals(15, results.stream().filter(result -> result == DebitResult.SALDO_INSUFICIENTE).count());
+        Assertions.assertEquals(0L, cartaoGateway.findBy(expectedCardNumber).block().getSaldo());
+    }
+
+    private WebTestClient.ResponseSpec debit(String numeroCartao, String senha, String valor) {
+        return webTestClient.post().uri("/transacoes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new DebitCartaoRestInput(numeroCartao, senha, new BigDecimal(valor)))
+                .exchange();
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.vr.autorizador.application;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUseCase<IN, OUT> {
+    Mono<OUT> execute(IN input);
+}
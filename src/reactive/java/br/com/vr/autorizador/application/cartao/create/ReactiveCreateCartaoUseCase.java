@@ -0,0 +1,6 @@
+package br.com.vr.autorizador.application.cartao.create;
+
+import br.com.vr.autorizador.application.ReactiveUseCase;
+
+public interface ReactiveCreateCartaoUseCase extends ReactiveUseCase<CreateCartaoInput, CreateCartaoOutput> {
+}
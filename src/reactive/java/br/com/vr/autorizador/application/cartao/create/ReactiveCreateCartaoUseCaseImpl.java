@@ -0,0 +1,32 @@
+package br.com.vr.autorizador.application.cartao.create;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.ReactiveCartaoGateway;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.domain.validation.handler.NotificationHandler;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class ReactiveCreateCartaoUseCaseImpl implements ReactiveCreateCartaoUseCase {
+    private final ReactiveCartaoGateway cartaoGateway;
+
+    public ReactiveCreateCartaoUseCaseImpl(ReactiveCartaoGateway cartaoGateway) {
+        this.cartaoGateway = Objects.requireNonNull(cartaoGateway);
+    }
+
+    @Override
+    public Mono<CreateCartaoOutput> execute(CreateCartaoInput input) {
+        final var notification = NotificationHandler.create();
+        final var cartao = Cartao.newCartao(input.numeroCartao(), input.senha());
+        cartao.validate(notification);
+
+        if (notification.hasError()) {
+            return Mono.error(NotificationException.with("Não foi possível criar o cartão", notification));
+        }
+
+        return this.cartaoGateway.create(cartao)
+                .map(CreateCartaoOutput::from)
+                .switchIfEmpty(Mono.error(() -> NotificationException.with("Cartão já existente", notification)));
+    }
+}
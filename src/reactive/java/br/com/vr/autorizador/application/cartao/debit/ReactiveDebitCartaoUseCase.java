@@ -0,0 +1,17 @@
+package br.com.vr.autorizador.application.cartao.debit;
+
+import br.com.vr.autorizador.application.ReactiveUseCase;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveDebitCartaoUseCase extends ReactiveUseCase<DebitCartaoInput, Void> {
+
+    Mono<DebitResult> authorize(DebitCartaoInput input);
+
+    @Override
+    default Mono<Void> execute(DebitCartaoInput input) {
+        return authorize(input).flatMap(result -> result.isApproved()
+                ? Mono.empty()
+                : Mono.error(DebitCartaoUseCase.toException(input.numeroCartao(), result)));
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.vr.autorizador.application.cartao.debit;
+
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.cartao.ReactiveCartaoGateway;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class ReactiveDebitCartaoUseCaseImpl implements ReactiveDebitCartaoUseCase {
+
+    private final ReactiveCartaoGateway cartaoGateway;
+
+    public ReactiveDebitCartaoUseCaseImpl(ReactiveCartaoGateway cartaoGateway) {
+        this.cartaoGateway = Objects.requireNonNull(cartaoGateway);
+    }
+
+    @Override
+    public Mono<DebitResult> authorize(DebitCartaoInput input) {
+        return cartaoGateway.debit(input.numeroCartao(), input.senhaCartao(), input.valor());
+    }
+}
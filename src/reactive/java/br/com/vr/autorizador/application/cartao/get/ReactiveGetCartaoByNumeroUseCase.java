@@ -0,0 +1,6 @@
+package br.com.vr.autorizador.application.cartao.get;
+
+import br.com.vr.autorizador.application.ReactiveUseCase;
+
+public interface ReactiveGetCartaoByNumeroUseCase extends ReactiveUseCase<String, GetCartaoByNumeroOutput> {
+}
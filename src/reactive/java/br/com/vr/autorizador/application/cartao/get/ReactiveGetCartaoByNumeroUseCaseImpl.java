@@ -0,0 +1,24 @@
+package br.com.vr.autorizador.application.cartao.get;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.ReactiveCartaoGateway;
+import br.com.vr.autorizador.domain.exceptions.NotFoundException;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class ReactiveGetCartaoByNumeroUseCaseImpl implements ReactiveGetCartaoByNumeroUseCase {
+
+    private final ReactiveCartaoGateway cartaoGateway;
+
+    public ReactiveGetCartaoByNumeroUseCaseImpl(ReactiveCartaoGateway cartaoGateway) {
+        this.cartaoGateway = Objects.requireNonNull(cartaoGateway);
+    }
+
+    @Override
+    public Mono<GetCartaoByNumeroOutput> execute(String numeroCartao) {
+        return cartaoGateway.findBy(numeroCartao)
+                .map(GetCartaoByNumeroOutput::from)
+                .switchIfEmpty(Mono.error(() -> NotFoundException.with(Cartao.class, numeroCartao)));
+    }
+}
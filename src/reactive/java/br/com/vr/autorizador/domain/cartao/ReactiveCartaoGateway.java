@@ -0,0 +1,9 @@
+package br.com.vr.autorizador.domain.cartao;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCartaoGateway {
+    Mono<Cartao> create(Cartao cartao);
+    Mono<Cartao> findBy(String numeroCartao);
+    Mono<DebitResult> debit(String numeroCartao, String senha, long valor);
+}
@@ -0,0 +1,99 @@
+package br.com.vr.autorizador.infrastructure.cartao.r2dbc;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.cartao.ReactiveCartaoGateway;
+import io.r2dbc.pool.ConnectionPool;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class CartaoR2dbcGateway implements ReactiveCartaoGateway, AutoCloseable {
+
+    private static final String FIND_SQL = """
+            select numero_cartao, senha, saldo_centavos, saldo_reservado_centavos from cartao
+            where numero_cartao = :numeroCartao""";
+    private static final String INSERT_SQL = """
+            insert into cartao (numero_cartao, senha, saldo_centavos)
+            values (:numeroCartao, :senha, :saldo)""";
+    private static final String DEBIT_SQL = """
+            update cartao set saldo_centavos = saldo_centavos - :valor
+            where numero_cartao = :numeroCartao and saldo_centavos - saldo_reservado_centavos >= :valor""";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public CartaoR2dbcGateway(ConnectionPool connectionPool) {
+        this.connectionPool = Objects.requireNonNull(connectionPool);
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public Mono<Cartao> create(Cartao cartao) {
+        return databaseClient.sql(INSERT_SQL)
+                .bind("numeroCartao", cartao.getNumeroCartao())
+                .bind("senha", cartao.getSenha())
+                .bind("saldo", cartao.getSaldo())
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(cartao)
+                .onErrorResume(DuplicateKeyException.class, e -> Mono.empty());
+    }
+
+    @Override
+    public Mono<Cartao> findBy(String numeroCartao) {
+        if (numeroCartao == null) {
+            return Mono.empty();
+        }
+        return databaseClient.sql(FIND_SQL)
+                .bind("numeroCartao", numeroCartao)
+                .map((row, metadata) -> Cartao.with(
+                        row.get("numero_cartao", String.class),
+                        row.get("senha", String.class),
+                        row.get("saldo_centavos", Long.class),
+                        row.get("saldo_reservado_centavos", Long.class)
+                ))
+                .one();
+    }
+
+    @Override
+    public Mono<DebitResult> debit(String numeroCartao, String senha, long valor) {
+        return findBy(numeroCartao)
+                .flatMap(cartao -> {
+                    final var result = cartao.authorize(valor, senha);
+                    if (!result.isApproved()) {
+                        return Mono.just(result);
+                    }
+                    return applyDebit(numeroCartao, valor)
+                            .flatMap(applied -> applied
+                                    ? Mono.just(DebitResult.OK)
+                                    : reclassify(numeroCartao, senha, valor));
+                })
+                .defaultIfEmpty(DebitResult.CARTAO_INEXISTENTE);
+    }
+
+    private Mono<DebitResult> reclassify(String numeroCartao, String senha, long valor) {
+        return findBy(numeroCartao)
+                .map(cartao -> cartao.authorize(valor, senha))
+                .defaultIfEmpty(DebitResult.CARTAO_INEXISTENTE)
+                .flatMap(result -> result.isApproved()
+                        ? applyDebit(numeroCartao, valor).map(applied -> applied ? DebitResult.OK : DebitResult.SALDO_INSUFICIENTE)
+                        : Mono.just(result));
+    }
+
+    private Mono<Boolean> applyDebit(String numeroCartao, long valor) {
+        return databaseClient.sql(DEBIT_SQL)
+                .bind("numeroCartao", numeroCartao)
+                .bind("valor", valor)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows == 1);
+    }
+
+    @Override
+    public void close() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.vr.autorizador.infrastructure.configuration;
+
+import br.com.vr.autorizador.application.cartao.create.ReactiveCreateCartaoUseCase;
+import br.com.vr.autorizador.application.cartao.create.ReactiveCreateCartaoUseCaseImpl;
+import br.com.vr.autorizador.application.cartao.debit.ReactiveDebitCartaoUseCase;
+import br.com.vr.autorizador.application.cartao.debit.ReactiveDebitCartaoUseCaseImpl;
+import br.com.vr.autorizador.application.cartao.get.ReactiveGetCartaoByNumeroUseCase;
+import br.com.vr.autorizador.application.cartao.get.ReactiveGetCartaoByNumeroUseCaseImpl;
+import br.com.vr.autorizador.domain.cartao.ReactiveCartaoGateway;
+import br.com.vr.autorizador.infrastructure.cartao.r2dbc.CartaoR2dbcGateway;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CartaoR2dbcGateway cartaoR2dbcGateway(
+            @Value("${autorizador.gateway.r2dbc.url}") String url,
+            @Value("${autorizador.gateway.r2dbc.username:}") String username,
+            @Value("${autorizador.gateway.r2dbc.password:}") String password,
+            @Value("${autorizador.gateway.r2dbc.initial-size:10}") int initialSize,
+            @Value("${autorizador.gateway.r2dbc.max-size:20}") int maxSize,
+            @Value("${autorizador.gateway.r2dbc.max-acquire-time:250ms}") Duration maxAcquireTime
+    ) {
+        final var options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        final var configuration = ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build();
+        return new CartaoR2dbcGateway(new ConnectionPool(configuration));
+    }
+
+    @Bean
+    public ReactiveCreateCartaoUseCase reactiveCreateCartaoUseCase(ReactiveCartaoGateway cartaoGateway) {
+        return new ReactiveCreateCartaoUseCaseImpl(cartaoGateway);
+    }
+
+    @Bean
+    public ReactiveGetCartaoByNumeroUseCase reactiveGetCartaoByNumeroUseCase(ReactiveCartaoGateway cartaoGateway) {
+        return new ReactiveGetCartaoByNumeroUseCaseImpl(cartaoGateway);
+    }
+
+    @Bean
+    public ReactiveDebitCartaoUseCase reactiveDebitCartaoUseCase(ReactiveCartaoGateway cartaoGateway) {
+        return new ReactiveDebitCartaoUseCaseImpl(cartaoGateway);
+    }
+}
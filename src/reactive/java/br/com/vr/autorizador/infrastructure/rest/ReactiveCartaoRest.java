@@ -0,0 +1,24 @@
+package br.com.vr.autorizador.infrastructure.rest;
+
+import br.com.vr.autorizador.infrastructure.cartao.models.CreateCartaoRestInput;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RequestMapping(value = "cartoes")
+public interface ReactiveCartaoRest {
+
+    @PostMapping(
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.CREATED)
+    Mono<ResponseEntity<?>> createCartao(@RequestBody CreateCartaoRestInput inputRequest);
+
+    @GetMapping(path = "/{numeroCartao}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    Mono<ResponseEntity<?>> getByNumero(@PathVariable("numeroCartao") String numeroCartao);
+}
@@ -0,0 +1,22 @@
+package br.com.vr.autorizador.infrastructure.rest;
+
+import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoRestInput;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import reactor.core.publisher.Mono;
+
+@RequestMapping(value = "transacoes")
+public interface ReactiveTransacaoRest {
+
+    @PostMapping(
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.CREATED)
+    Mono<ResponseEntity<byte[]>> debit(@RequestBody DebitCartaoRestInput inputRequest);
+}
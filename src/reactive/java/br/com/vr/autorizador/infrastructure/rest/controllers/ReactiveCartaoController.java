@@ -0,0 +1,47 @@
+package br.com.vr.autorizador.infrastructure.rest.controllers;
+
+import br.com.vr.autorizador.application.cartao.create.CreateCartaoInput;
+import br.com.vr.autorizador.application.cartao.create.ReactiveCreateCartaoUseCase;
+import br.com.vr.autorizador.application.cartao.get.ReactiveGetCartaoByNumeroUseCase;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.infrastructure.cartao.models.Centavos;
+import br.com.vr.autorizador.infrastructure.cartao.models.CreateCartaoRestInput;
+import br.com.vr.autorizador.infrastructure.rest.CartaoRest;
+import br.com.vr.autorizador.infrastructure.rest.ReactiveCartaoRest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCartaoController implements ReactiveCartaoRest {
+
+    private final ReactiveCreateCartaoUseCase createCartaoUseCase;
+    private final ReactiveGetCartaoByNumeroUseCase getCartaoByNumeroUseCase;
+
+    public ReactiveCartaoController(
+            ReactiveCreateCartaoUseCase createCartaoUseCase,
+            ReactiveGetCartaoByNumeroUseCase getCartaoByNumeroUseCase
+    ) {
+        this.createCartaoUseCase = createCartaoUseCase;
+        this.getCartaoByNumeroUseCase = getCartaoByNumeroUseCase;
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> createCartao(CreateCartaoRestInput inputRequest) {
+        var input = CreateCartaoInput.with(inputRequest.numeroCartao(), inputRequest.senha());
+        return createCartaoUseCase.execute(input)
+                .<ResponseEntity<?>>map(output -> ResponseEntity.status(HttpStatus.CREATED).body(output))
+                .onErrorResume(NotificationException.class, ne -> Mono.just(ResponseEntity.unprocessableEntity().body(inputRequest)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> getByNumero(String numeroCartao) {
+        return getCartaoByNumeroUseCase.execute(numeroCartao)
+                .map(output -> ResponseEntity.status(HttpStatus.OK)
+                        .header(CartaoRest.SALDO_DISPONIVEL_HEADER, Centavos.toDecimal(output.saldoDisponivel()).toPlainString())
+                        .body(Centavos.toDecimal(output.saldo())));
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.vr.autorizador.infrastructure.rest.controllers;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.application.cartao.debit.ReactiveDebitCartaoUseCase;
+import br.com.vr.autorizador.infrastructure.cartao.models.Centavos;
+import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoRestInput;
+import br.com.vr.autorizador.infrastructure.rest.ReactiveTransacaoRest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTransacaoController implements ReactiveTransacaoRest {
+
+    private final ReactiveDebitCartaoUseCase debitCartaoUseCase;
+
+    public ReactiveTransacaoController(ReactiveDebitCartaoUseCase debitCartaoUseCase) {
+        this.debitCartaoUseCase = debitCartaoUseCase;
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> debit(DebitCartaoRestInput inputRequest) {
+        var input = DebitCartaoInput.with(inputRequest.numeroCartao(), inputRequest.senhaCartao(), Centavos.from(inputRequest.valor()));
+        return debitCartaoUseCase.authorize(input)
+                .map(result -> DebitResponses.of(input.numeroCartao(), result));
+    }
+}
@@ -1,6 +1,5 @@
 package br.com.vr.autorizador.application.cartao.create;
 
-import br.com.vr.autorizador.domain.cartao.Cartao;
 import br.com.vr.autorizador.domain.cartao.CartaoGateway;
 import br.com.vr.autorizador.domain.exceptions.NotificationException;
 import org.junit.jupiter.api.Assertions;
@@ -15,11 +14,9 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
 import java.util.Objects;
 import java.util.Optional;
 
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.times;
@@ -35,7 +32,7 @@ public class CreateCartaoUseCaseTest {
 
     private final String expectedCardNumber = "6549873025634501";
     private final String expectedCardPassword = "1234";
-    private final BigDecimal expectedCardBalance = new BigDecimal(500);
+    private final long expectedCardBalance = 500_00L;
     private final Integer expectedErrorNumber = 1;
 
     @BeforeEach
@@ -45,7 +42,7 @@ public class CreateCartaoUseCaseTest {
 
     @Test
     public void deveCriarCartaoComSaldoInicialDe500() {
-        Mockito.when(cartaoGateway.create(any())).thenAnswer(returnsFirstArg());
+        Mockito.when(cartaoGateway.create(any())).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
 
         final var input = CreateCartaoInput.with(expectedCardNumber, expectedCardPassword);
         final var cardCreated = useCase.execute(input);
@@ -64,9 +61,8 @@ public class CreateCartaoUseCaseTest {
     public void deveLancarExcecaoAoCriarCartaoComNumeroJaCadastrado() {
         final var expectedErrorMessage = "Cartão já existente";
 
-        Cartao newCartao = Cartao.newCartao(expectedCardNumber, expectedCardPassword);
-        Mockito.when(cartaoGateway.findBy(any()))
-                .thenReturn(Optional.of(newCartao));
+        Mockito.when(cartaoGateway.create(any()))
+                .thenReturn(Optional.empty());
 
         final var input = CreateCartaoInput.with(expectedCardNumber, expectedCardPassword);
         final var actualException = Assertions.assertThrows(
@@ -75,7 +71,8 @@ public class CreateCartaoUseCaseTest {
 
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        Mockito.verify(cartaoGateway, times(0)).create(any());
+        Mockito.verify(cartaoGateway, times(1)).create(any());
+        Mockito.verify(cartaoGateway, times(0)).findBy(any());
     }
 
     @ParameterizedTest
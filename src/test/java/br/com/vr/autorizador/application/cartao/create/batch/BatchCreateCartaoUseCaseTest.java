@@ -0,0 +1,68 @@
+package br.com.vr.autorizador.application.cartao.create.batch;
+
+import br.com.vr.autorizador.application.cartao.create.CreateCartaoInput;
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+
+public class BatchCreateCartaoUseCaseTest {
+
+    private final CartaoGateway cartaoGateway = Mockito.mock(CartaoGateway.class);
+    private BatchCreateCartaoUseCaseImpl useCase;
+
+    private final String expectedCardPassword = "1234";
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(cartaoGateway);
+        useCase = new BatchCreateCartaoUseCaseImpl(cartaoGateway);
+    }
+
+    @Test
+    public void deveCriarCartoesValidosMantendoOrdemDosResultados() {
+        Mockito.when(cartaoGateway.createAll(any()))
+                .thenAnswer(invocation -> invocation.<List<Cartao>>getArgument(0).stream()
+                        .map(cartao -> cartao.getNumeroCartao().endsWith("2") ? Optional.<Cartao>empty() : Optional.of(cartao))
+                        .toList());
+
+        final var input = BatchCreateCartaoInput.with(List.of(
+                CreateCartaoInput.with("6549873025634501", expectedCardPassword),
+                CreateCartaoInput.with("65498730256345", expectedCardPassword),
+                CreateCartaoInput.with("6549873025634502", expectedCardPassword),
+                CreateCartaoInput.with("6549873025634503", "")
+        ));
+
+        final var output = useCase.execute(input);
+
+        Assertions.assertEquals(List.of(
+                new BatchCreateCartaoOutput.Item("6549873025634501", BatchCreateCartaoOutput.Resultado.CRIADO, null),
+                new BatchCreateCartaoOutput.Item("65498730256345", BatchCreateCartaoOutput.Resultado.INVALIDO, "'numeroCartao' deve possuir 16 caracteres"),
+                new BatchCreateCartaoOutput.Item("6549873025634502", BatchCreateCartaoOutput.Resultado.CARTAO_EXISTENTE, "Cartão já existente"),
+                new BatchCreateCartaoOutput.Item("6549873025634503", BatchCreateCartaoOutput.Resultado.INVALIDO, "'senha' é obrigatória")
+        ), output.items());
+
+        Mockito.verify(cartaoGateway, times(1)).createAll(argThat(cartoes -> cartoes.size() == 2));
+    }
+
+    @Test
+    public void naoDeveAcessarGatewayQuandoTodosOsCartoesSaoInvalidos() {
+        final var input = BatchCreateCartaoInput.with(List.of(
+                CreateCartaoInput.with("abc", expectedCardPassword)
+        ));
+
+        final var output = useCase.execute(input);
+
+        Assertions.assertEquals(BatchCreateCartaoOutput.Resultado.INVALIDO, output.items().get(0).resultado());
+        Mockito.verify(cartaoGateway, times(0)).createAll(any());
+    }
+}
@@ -1,7 +1,7 @@
 package br.com.vr.autorizador.application.cartao.debit;
 
-import br.com.vr.autorizador.domain.cartao.Cartao;
 import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
 import br.com.vr.autorizador.domain.exceptions.NotificationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,10 +12,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
-import java.util.Optional;
-
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 
@@ -27,41 +25,37 @@ public class DebitCartaoUseCaseTest {
     @Mock
     private CartaoGateway cartaoGateway;
 
-    private Cartao newCartao;
     private final String expectedCardNumber = "6549873025634501";
     private final String expectedCardPassword = "1234";
-    private final BigDecimal debitValue = BigDecimal.TEN;
+    private final long debitValue = 10_00L;
     private final Integer expectedErrorNumber = 1;
 
     @BeforeEach
     void cleanUp() {
         Mockito.reset(cartaoGateway);
-        newCartao = Cartao.newCartao(expectedCardNumber, expectedCardPassword);
     }
 
     @Test
     public void deveDebitarComSucesso() {
-        final var cardNumber = newCartao.getNumeroCartao();
-        Mockito.when(cartaoGateway.findBy(eq(cardNumber)))
-                .thenReturn(Optional.of(newCartao));
+        Mockito.when(cartaoGateway.debit(eq(expectedCardNumber), eq(expectedCardPassword), eq(debitValue)))
+                .thenReturn(DebitResult.OK);
 
-        final var input = DebitCartaoInput.with(cardNumber, expectedCardPassword, debitValue);
+        final var input = DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValue);
         useCase.execute(input);
 
-        Mockito.verify(cartaoGateway, times(1)).findBy(eq(cardNumber));
-        Mockito.verify(cartaoGateway, times(1)).debit(eq(newCartao));
+        Mockito.verify(cartaoGateway, times(1)).debit(eq(expectedCardNumber), eq(expectedCardPassword), eq(debitValue));
+        Mockito.verify(cartaoGateway, times(0)).findBy(any());
     }
 
     @Test
     public void deveLancarExcecaoAoDebitarComValorInvalido() {
         final String expectedErrorMessage = "Valor da transação inválido";
-        final BigDecimal invalidDebitAmount = null;
+        final long invalidDebitAmount = 0L;
 
-        final var cardNumber = newCartao.getNumeroCartao();
-        Mockito.when(cartaoGateway.findBy(eq(cardNumber)))
-                .thenReturn(Optional.of(newCartao));
+        Mockito.when(cartaoGateway.debit(eq(expectedCardNumber), eq(expectedCardPassword), eq(invalidDebitAmount)))
+                .thenReturn(DebitResult.VALOR_INVALIDO);
 
-        final var input = DebitCartaoInput.with(cardNumber, expectedCardPassword, invalidDebitAmount);
+        final var input = DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, invalidDebitAmount);
         final var actualException = Assertions.assertThrows(
                 NotificationException.class, () -> useCase.execute(input)
         );
@@ -69,20 +63,18 @@ public class DebitCartaoUseCaseTest {
         Assertions.assertEquals(expectedErrorNumber, actualException.numberOfErrors());
         Assertions.assertEquals(expectedErrorMessage, actualException.firstError().message());
 
-        Mockito.verify(cartaoGateway, times(1)).findBy(eq(cardNumber));
-        Mockito.verify(cartaoGateway, times(0)).debit(any());
+        Mockito.verify(cartaoGateway, times(1)).debit(eq(expectedCardNumber), eq(expectedCardPassword), eq(invalidDebitAmount));
     }
 
     @Test
     public void deveLancarExcecaoAoDebitarComValorMaiorQueSaldo() {
         final var expectedErrorMessage = "Saldo insuficiente";
-        final BigDecimal debitValueGreaterThanBalance = new BigDecimal(501);
+        final long debitValueGreaterThanBalance = 501_00L;
 
-        final var cardNumber = newCartao.getNumeroCartao();
-        Mockito.when(cartaoGateway.findBy(eq(cardNumber)))
-                .thenReturn(Optional.of(newCartao));
+        Mockito.when(cartaoGateway.debit(eq(expectedCardNumber), eq(expectedCardPassword), eq(debitValueGreaterThanBalance)))
+                .thenReturn(DebitResult.SALDO_INSUFICIENTE);
 
-        final var input = DebitCartaoInput.with(cardNumber, expectedCardPassword, debitValueGreaterThanBalance);
+        final var input = DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValueGreaterThanBalance);
         final var actualException = Assertions.assertThrows(
                 NotificationException.class, () -> useCase.execute(input)
         );
@@ -90,8 +82,7 @@ public class DebitCartaoUseCaseTest {
         Assertions.assertEquals(expectedErrorNumber, actualException.numberOfErrors());
         Assertions.assertEquals(expectedErrorMessage, actualException.firstError().message());
 
-        Mockito.verify(cartaoGateway, times(1)).findBy(eq(cardNumber));
-        Mockito.verify(cartaoGateway, times(0)).debit(any());
+        Mockito.verify(cartaoGateway, times(1)).debit(eq(expectedCardNumber), eq(expectedCardPassword), eq(debitValueGreaterThanBalance));
     }
 
     @Test
@@ -99,11 +90,10 @@ public class DebitCartaoUseCaseTest {
         final var expectedErrorMessage = "Senha incorreta";
         final String invalidPassword = "4321";
 
-        final var cardNumber = newCartao.getNumeroCartao();
-        Mockito.when(cartaoGateway.findBy(eq(cardNumber)))
-                .thenReturn(Optional.of(newCartao));
+        Mockito.when(cartaoGateway.debit(eq(expectedCardNumber), eq(invalidPassword), eq(debitValue)))
+                .thenReturn(DebitResult.SENHA_INVALIDA);
 
-        final var input = DebitCartaoInput.with(cardNumber, invalidPassword, debitValue);
+        final var input = DebitCartaoInput.with(expectedCardNumber, invalidPassword, debitValue);
         final var actualException = Assertions.assertThrows(
                 NotificationException.class, () -> useCase.execute(input)
         );
@@ -111,8 +101,7 @@ public class DebitCartaoUseCaseTest {
         Assertions.assertEquals(expectedErrorNumber, actualException.numberOfErrors());
         Assertions.assertEquals(expectedErrorMessage, actualException.firstError().message());
 
-        Mockito.verify(cartaoGateway, times(1)).findBy(eq(cardNumber));
-        Mockito.verify(cartaoGateway, times(0)).debit(any());
+        Mockito.verify(cartaoGateway, times(1)).debit(eq(expectedCardNumber), eq(invalidPassword), eq(debitValue));
     }
 
     @Test
@@ -120,8 +109,8 @@ public class DebitCartaoUseCaseTest {
         final String invalidCardNumber = "7549873025634501";
         final String expectedErrorMessage = "Cartao %s nao encontrado".formatted(invalidCardNumber);
 
-        Mockito.when(cartaoGateway.findBy(eq(invalidCardNumber)))
-                .thenReturn(Optional.empty());
+        Mockito.when(cartaoGateway.debit(eq(invalidCardNumber), eq(expectedCardPassword), eq(debitValue)))
+                .thenReturn(DebitResult.CARTAO_INEXISTENTE);
 
         final var input = DebitCartaoInput.with(invalidCardNumber, expectedCardPassword, debitValue);
         final var actualException = Assertions.assertThrows(
@@ -130,21 +119,16 @@ public class DebitCartaoUseCaseTest {
 
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
-        Mockito.verify(cartaoGateway, times(1)).findBy(eq(invalidCardNumber));
-        Mockito.verify(cartaoGateway, times(0)).debit(any());
+        Mockito.verify(cartaoGateway, times(1)).debit(eq(invalidCardNumber), eq(expectedCardPassword), eq(debitValue));
     }
 
     @Test
     public void deveLancarExcecaoAoExcutarGateway() {
         final var expectedErrorMessage = "Gateway error";
 
-        final var cardNumber = newCartao.getNumeroCartao();
-        Mockito.when(cartaoGateway.findBy(eq(cardNumber)))
-                .thenReturn(Optional.of(newCartao));
-
         Mockito.doThrow(new IllegalStateException(expectedErrorMessage))
                 .when(cartaoGateway)
-                .debit(any());
+                .debit(any(), any(), anyLong());
 
         final var input = DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValue);
         final var actualException = Assertions.assertThrows(
@@ -152,7 +136,19 @@ public class DebitCartaoUseCaseTest {
         );
 
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
-        Mockito.verify(cartaoGateway, times(1)).findBy(eq(cardNumber));
-        Mockito.verify(cartaoGateway, times(1)).debit(eq(newCartao));
+        Mockito.verify(cartaoGateway, times(1)).debit(eq(expectedCardNumber), eq(expectedCardPassword), eq(debitValue));
+    }
+
+    @Test
+    public void deveRetornarRecusaSemLancarExcecao() {
+        Mockito.when(cartaoGateway.debit(eq(expectedCardNumber), eq(expectedCardPassword), eq(debitValue)))
+                .thenReturn(DebitResult.SALDO_INSUFICIENTE);
+
+        final var input = DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValue);
+
+        Assertions.assertEquals(DebitResult.SALDO_INSUFICIENTE, useCase.authorize(input));
+        Assertions.assertEquals("Saldo insuficiente", DebitCartaoUseCase.rejectionMessage(expectedCardNumber, DebitResult.SALDO_INSUFICIENTE));
+        Assertions.assertEquals("Cartao %s nao encontrado".formatted(expectedCardNumber),
+                DebitCartaoUseCase.rejectionMessage(expectedCardNumber, DebitResult.CARTAO_INEXISTENTE));
     }
 }
@@ -0,0 +1,72 @@
+package br.com.vr.autorizador.application.cartao.debit.batch;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+
+public class BatchDebitCartaoUseCaseTest {
+
+    private final CartaoGateway cartaoGateway = Mockito.mock(CartaoGateway.class);
+    private BatchDebitCartaoUseCaseImpl useCase;
+
+    private final String expectedCardPassword = "1234";
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(cartaoGateway);
+        useCase = new BatchDebitCartaoUseCaseImpl(cartaoGateway, 2);
+    }
+
+    @Test
+    public void deveDebitarEmChunksMantendoOrdemDosResultados() {
+        Mockito.when(cartaoGateway.debitAll(any()))
+                .thenAnswer(invocation -> invocation.<List<Debit>>getArgument(0).stream()
+                        .map(debit -> debit.valor() > 20_00L ? DebitResult.SALDO_INSUFICIENTE : DebitResult.OK)
+                        .toList());
+
+        final var input = BatchDebitCartaoInput.with(List.of(
+                DebitCartaoInput.with("6549873025634501", expectedCardPassword, 10_00L),
+                DebitCartaoInput.with("6549873025634502", expectedCardPassword, 30_00L),
+                DebitCartaoInput.with("6549873025634503", expectedCardPassword, 20_00L),
+                DebitCartaoInput.with("6549873025634504", expectedCardPassword, 40_00L),
+                DebitCartaoInput.with("6549873025634505", expectedCardPassword, 5_00L)
+        ));
+
+        final var output = useCase.execute(input);
+
+        Assertions.assertEquals(List.of(
+                new BatchDebitCartaoOutput.Item("6549873025634501", DebitResult.OK),
+                new BatchDebitCartaoOutput.Item("6549873025634502", DebitResult.SALDO_INSUFICIENTE),
+                new BatchDebitCartaoOutput.Item("6549873025634503", DebitResult.OK),
+                new BatchDebitCartaoOutput.Item("6549873025634504", DebitResult.SALDO_INSUFICIENTE),
+                new BatchDebitCartaoOutput.Item("6549873025634505", DebitResult.OK)
+        ), output.items());
+
+        Mockito.verify(cartaoGateway, times(2)).debitAll(argThat(debits -> debits.size() == 2));
+        Mockito.verify(cartaoGateway, times(1)).debitAll(argThat(debits -> debits.size() == 1));
+    }
+
+    @Test
+    public void deveRetornarListaVaziaParaLoteVazio() {
+        final var output = useCase.execute(BatchDebitCartaoInput.with(List.of()));
+
+        Assertions.assertTrue(output.items().isEmpty());
+        Mockito.verify(cartaoGateway, times(0)).debitAll(any());
+    }
+
+    @Test
+    public void deveLancarExcecaoAoInformarChunkInvalido() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BatchDebitCartaoUseCaseImpl(cartaoGateway, 0));
+    }
+}
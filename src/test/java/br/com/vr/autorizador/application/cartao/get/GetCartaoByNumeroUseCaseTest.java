@@ -12,7 +12,6 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -34,7 +33,7 @@ public class GetCartaoByNumeroUseCaseTest {
 
     private final String expectedCardNumber = "6549873025634501";
     private final String expectedCardPassword = "1234";
-    private final BigDecimal expectedCardBalance = new BigDecimal(500);
+    private final long expectedCardBalance = 500_00L;
 
     @Test
     public void deveConsultarCartaoPorNumero() {
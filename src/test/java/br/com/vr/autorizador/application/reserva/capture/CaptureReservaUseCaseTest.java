@@ -0,0 +1,83 @@
+package br.com.vr.autorizador.application.reserva.capture;
+
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.exceptions.NotFoundException;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import br.com.vr.autorizador.domain.reserva.ReservaScheduler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+public class CaptureReservaUseCaseTest {
+
+    @InjectMocks
+    private CaptureReservaUseCaseImpl useCase;
+    @Mock
+    private CartaoGateway cartaoGateway;
+    @Mock
+    private ReservaScheduler reservaScheduler;
+
+    private final Reserva reserva = Reserva.newReserva("6549873025634501", 100_00L, Instant.now());
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(cartaoGateway, reservaScheduler);
+    }
+
+    @Test
+    public void deveCapturarECancelarExpiracao() {
+        Mockito.when(cartaoGateway.findReserva(reserva.id())).thenReturn(Optional.of(reserva));
+        Mockito.when(cartaoGateway.capture(reserva, 80_00L)).thenReturn(DebitResult.OK);
+
+        useCase.execute(CaptureReservaInput.with(reserva.id(), 80_00L));
+
+        Mockito.verify(cartaoGateway, times(1)).capture(reserva, 80_00L);
+        Mockito.verify(reservaScheduler, times(1)).cancel(reserva.id());
+    }
+
+    @Test
+    public void deveLancarExcecaoAoCapturarReservaInexistente() {
+        Mockito.when(cartaoGateway.findReserva(reserva.id())).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(CaptureReservaInput.with(reserva.id(), 80_00L)));
+        Mockito.verify(cartaoGateway, never()).capture(any(), anyLong());
+    }
+
+    @Test
+    public void deveLancarExcecaoAoCapturarReservaJaLiberada() {
+        Mockito.when(cartaoGateway.findReserva(reserva.id())).thenReturn(Optional.of(reserva));
+        Mockito.when(cartaoGateway.capture(reserva, 80_00L)).thenReturn(DebitResult.RESERVA_INEXISTENTE);
+
+        Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(CaptureReservaInput.with(reserva.id(), 80_00L)));
+        Mockito.verify(reservaScheduler, never()).cancel(any());
+    }
+
+    @Test
+    public void deveLancarExcecaoAoCapturarValorMaiorQueReserva() {
+        final String expectedErrorMessage = "Valor da transação inválido";
+        Mockito.when(cartaoGateway.findReserva(reserva.id())).thenReturn(Optional.of(reserva));
+        Mockito.when(cartaoGateway.capture(reserva, 100_01L)).thenReturn(DebitResult.VALOR_INVALIDO);
+
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class, () -> useCase.execute(CaptureReservaInput.with(reserva.id(), 100_01L))
+        );
+        Assertions.assertEquals(expectedErrorMessage, actualException.firstError().message());
+        Mockito.verify(reservaScheduler, never()).cancel(any());
+    }
+}
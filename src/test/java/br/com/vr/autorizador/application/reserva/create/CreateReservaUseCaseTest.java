@@ -0,0 +1,75 @@
+package br.com.vr.autorizador.application.reserva.create;
+
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import br.com.vr.autorizador.domain.reserva.ReservaScheduler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+public class CreateReservaUseCaseTest {
+
+    private final CartaoGateway cartaoGateway = Mockito.mock(CartaoGateway.class);
+    private final ReservaScheduler reservaScheduler = Mockito.mock(ReservaScheduler.class);
+    private final Duration validade = Duration.ofMinutes(30);
+    private final CreateReservaUseCaseImpl useCase = new CreateReservaUseCaseImpl(cartaoGateway, reservaScheduler, validade);
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+    private final long holdValue = 100_00L;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(cartaoGateway, reservaScheduler);
+    }
+
+    @Test
+    public void deveReservarEAgendarExpiracao() {
+        Mockito.when(cartaoGateway.hold(any(), eq(expectedCardPassword))).thenReturn(DebitResult.OK);
+
+        final var before = Instant.now();
+        final var output = useCase.execute(CreateReservaInput.with(expectedCardNumber, expectedCardPassword, holdValue));
+
+        final var captor = ArgumentCaptor.forClass(Reserva.class);
+        Mockito.verify(cartaoGateway, times(1)).hold(captor.capture(), eq(expectedCardPassword));
+        Mockito.verify(reservaScheduler, times(1)).schedule(captor.getValue());
+
+        Assertions.assertEquals(captor.getValue().id(), output.id());
+        Assertions.assertEquals(expectedCardNumber, output.numeroCartao());
+        Assertions.assertEquals(holdValue, output.valor());
+        Assertions.assertFalse(output.expiraEm().isBefore(before.plus(validade)));
+    }
+
+    @Test
+    public void deveLancarExcecaoAoReservarComSaldoInsuficiente() {
+        final String expectedErrorMessage = "Saldo insuficiente";
+        Mockito.when(cartaoGateway.hold(any(), any())).thenReturn(DebitResult.SALDO_INSUFICIENTE);
+
+        final var input = CreateReservaInput.with(expectedCardNumber, expectedCardPassword, holdValue);
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(input));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.firstError().message());
+        Mockito.verify(reservaScheduler, never()).schedule(any());
+    }
+
+    @Test
+    public void deveLancarExcecaoAoReservarComCartaoInexistente() {
+        Mockito.when(cartaoGateway.hold(any(), any())).thenReturn(DebitResult.CARTAO_INEXISTENTE);
+
+        final var input = CreateReservaInput.with(expectedCardNumber, expectedCardPassword, holdValue);
+        Assertions.assertThrows(NotificationException.class, () -> useCase.execute(input));
+        Mockito.verify(reservaScheduler, never()).schedule(any());
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.vr.autorizador.application.reserva.release;
+
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.exceptions.NotFoundException;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import br.com.vr.autorizador.domain.reserva.ReservaScheduler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+public class ReleaseReservaUseCaseTest {
+
+    @InjectMocks
+    private ReleaseReservaUseCaseImpl useCase;
+    @Mock
+    private CartaoGateway cartaoGateway;
+    @Mock
+    private ReservaScheduler reservaScheduler;
+
+    private final Reserva reserva = Reserva.newReserva("6549873025634501", 100_00L, Instant.now());
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(cartaoGateway, reservaScheduler);
+    }
+
+    @Test
+    public void deveLiberarECancelarExpiracao() {
+        Mockito.when(cartaoGateway.findReserva(reserva.id())).thenReturn(Optional.of(reserva));
+        Mockito.when(cartaoGateway.release(reserva)).thenReturn(true);
+
+        useCase.execute(reserva.id());
+
+        Mockito.verify(reservaScheduler, times(1)).cancel(reserva.id());
+    }
+
+    @Test
+    public void deveLancarExcecaoAoLiberarReservaJaCapturada() {
+        Mockito.when(cartaoGateway.findReserva(reserva.id())).thenReturn(Optional.of(reserva));
+        Mockito.when(cartaoGateway.release(reserva)).thenReturn(false);
+
+        Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(reserva.id()));
+        Mockito.verify(reservaScheduler, never()).cancel(any());
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.vr.autorizador.application.transacao.list;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.exceptions.NotFoundException;
+import br.com.vr.autorizador.domain.transacao.Transacao;
+import br.com.vr.autorizador.domain.transacao.TransacaoGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ListTransacaoByCartaoUseCaseTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    private final CartaoGateway cartaoGateway = Mockito.mock(CartaoGateway.class);
+    private final TransacaoGateway transacaoGateway = Mockito.mock(TransacaoGateway.class);
+    private final ListTransacaoByCartaoUseCaseImpl useCase = new ListTransacaoByCartaoUseCaseImpl(cartaoGateway, transacaoGateway);
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(cartaoGateway, transacaoGateway);
+    }
+
+    @Test
+    public void deveRetornarPrimeiraPaginaComCursorDaProxima() {
+        when(cartaoGateway.findBy(expectedCardNumber))
+                .thenReturn(Optional.of(Cartao.newCartao(expectedCardNumber, expectedCardPassword)));
+        when(transacaoGateway.findBy(expectedCardNumber, null, 3))
+                .thenReturn(transacoes(10, 9, 8));
+
+        final var output = useCase.execute(ListTransacaoByCartaoInput.with(expectedCardNumber, null, 2));
+
+        Assertions.assertEquals(List.of(10L, 9L), output.transacoes().stream().map(ListTransacaoByCartaoOutput.Item::sequencia).toList());
+        Assertions.assertEquals(9L, output.proximo());
+    }
+
+    @Test
+    public void deveRetornarUltimaPaginaSemCursor() {
+        when(transacaoGateway.findBy(expectedCardNumber, 9L, 3))
+                .thenReturn(transacoes(8));
+
+        final var output = useCase.execute(ListTransacaoByCartaoInput.with(expectedCardNumber, 9L, 2));
+
+        Assertions.assertEquals(1, output.transacoes().size());
+        Assertions.assertNull(output.proximo());
+        verify(cartaoGateway, never()).findBy(any());
+    }
+
+    @Test
+    public void deveLimitarTamanhoDaPagina() {
+        when(transacaoGateway.findBy(any(), any(), anyInt())).thenReturn(List.of());
+
+        useCase.execute(ListTransacaoByCartaoInput.with(expectedCardNumber, 1L, 100_000));
+        useCase.execute(ListTransacaoByCartaoInput.with(expectedCardNumber, 1L, 0));
+
+        verify(transacaoGateway).findBy(expectedCardNumber, 1L, ListTransacaoByCartaoUseCaseImpl.LIMITE_MAXIMO + 1);
+        verify(transacaoGateway).findBy(expectedCardNumber, 1L, 2);
+    }
+
+    @Test
+    public void deveLancarExcecaoAoConsultarCartaoInexistente() {
+        when(cartaoGateway.findBy(expectedCardNumber)).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(NotFoundException.class,
+                () -> useCase.execute(ListTransacaoByCartaoInput.with(expectedCardNumber, null, 50)));
+        verify(transacaoGateway, never()).findBy(any(), any(), anyInt());
+    }
+
+    private List<Transacao> transacoes(long... sequencias) {
+        return LongStream.of(sequencias)
+                .mapToObj(sequencia -> new Transacao(sequencia, expectedCardNumber, 10_00L, DebitResult.OK, Instant.EPOCH))
+                .toList();
+    }
+}
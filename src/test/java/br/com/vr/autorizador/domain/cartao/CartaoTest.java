@@ -1,6 +1,7 @@
 package br.com.vr.autorizador.domain.cartao;
 
 import br.com.vr.autorizador.domain.exceptions.DomainException;
+import br.com.vr.autorizador.domain.reserva.Reserva;
 import br.com.vr.autorizador.domain.validation.handler.ThrowsValidationHandler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,7 +11,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
-import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -28,7 +29,7 @@ public class CartaoTest {
 
     @Test
     public void deveCriarCartaoComSaldoInicialDe500() {
-        final BigDecimal expectedCardBalance = new BigDecimal(500);
+        final long expectedCardBalance = 500_00L;
 
         Assertions.assertDoesNotThrow(() -> cardCreated.validate(new ThrowsValidationHandler()));
         Assertions.assertNotNull(cardCreated);
@@ -99,13 +100,13 @@ public class CartaoTest {
         Assertions.assertEquals(expectedErrorMessage, actualException.firstError().message());
     }
 
-    private static Stream<BigDecimal> invalidDebitAmountProvider() {
-        return Stream.of(null, BigDecimal.ZERO, new BigDecimal("-10"));
+    private static Stream<Long> invalidDebitAmountProvider() {
+        return Stream.of(0L, -10_00L);
     }
 
     @ParameterizedTest
     @MethodSource("invalidDebitAmountProvider")
-    public void deveLancarExcecaoAoDebitarComValorInvalido(BigDecimal valorDebito) {
+    public void deveLancarExcecaoAoDebitarComValorInvalido(long valorDebito) {
         final var expectedErrorMessage = "Valor da transação inválido";
 
         Assertions.assertDoesNotThrow(() -> cardCreated.validate(new ThrowsValidationHandler()));
@@ -123,7 +124,7 @@ public class CartaoTest {
     @Test
     public void deveLancarExcecaoAoDebitarComValorMaiorQueSaldo() {
         final var expectedErrorMessage = "Saldo insuficiente";
-        final BigDecimal debitValueGreaterThanBalance = new BigDecimal(501);
+        final long debitValueGreaterThanBalance = 501_00L;
 
         Assertions.assertDoesNotThrow(() -> cardCreated.validate(new ThrowsValidationHandler()));
         Assertions.assertNotNull(cardCreated);
@@ -141,28 +142,28 @@ public class CartaoTest {
         return Stream.of(
                 new Object[]{
                         List.of(
-                                new BigDecimal("100"), new BigDecimal("100"), new BigDecimal("100"),
-                                new BigDecimal("100"), new BigDecimal("100")
+                                100_00L, 100_00L, 100_00L,
+                                100_00L, 100_00L
                         ),
-                        BigDecimal.ZERO
+                        0L
                 },
                 new Object[]{
                         List.of(
-                                new BigDecimal("5"), new BigDecimal("15"),
-                                new BigDecimal("25"), new BigDecimal("5")
+                                5_00L, 15_00L,
+                                25_00L, 5_00L
                         ),
-                        new BigDecimal("450")
+                        450_00L
                 },
                 new Object[]{
-                        List.of(new BigDecimal("10"), new BigDecimal("5.99"), new BigDecimal("10")),
-                        new BigDecimal("474.01")
+                        List.of(10_00L, 5_99L, 10_00L),
+                        474_01L
                 }
         );
     }
 
     @ParameterizedTest
     @MethodSource("debitAmountProvider")
-    public void deveDebitarComSucesso(List<BigDecimal> listaDebitos, BigDecimal saldoFinal) {
+    public void deveDebitarComSucesso(List<Long> listaDebitos, long saldoFinal) {
         Assertions.assertDoesNotThrow(() -> cardCreated.validate(new ThrowsValidationHandler()));
         Assertions.assertNotNull(cardCreated);
 
@@ -176,7 +177,7 @@ public class CartaoTest {
     @Test
     public void deveLancarExcecaoAoDebitarComSenhaInvalida() {
         final var expectedErrorMessage = "Senha incorreta";
-        final BigDecimal debitValue = BigDecimal.TEN;
+        final long debitValue = 10_00L;
         final String invalidPassword = "4321";
 
         Assertions.assertDoesNotThrow(() -> cardCreated.validate(new ThrowsValidationHandler()));
@@ -190,4 +191,76 @@ public class CartaoTest {
         Assertions.assertEquals(expectedErrorNumber, actualException.numberOfErrors());
         Assertions.assertEquals(expectedErrorMessage, actualException.firstError().message());
     }
+
+    @Test
+    public void deveReservarSaldoSemAlterarSaldoContabil() {
+        cardCreated.hold(100_00L, expectedCardPassword, new ThrowsValidationHandler());
+
+        Assertions.assertEquals(500_00L, cardCreated.getSaldo());
+        Assertions.assertEquals(100_00L, cardCreated.getSaldoReservado());
+        Assertions.assertEquals(400_00L, cardCreated.getSaldoDisponivel());
+    }
+
+    @Test
+    public void deveLancarExcecaoAoDebitarValorReservado() {
+        final var expectedErrorMessage = "Saldo insuficiente";
+        cardCreated.hold(450_00L, expectedCardPassword, new ThrowsValidationHandler());
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class, () -> cardCreated.debit(
+                        100_00L, expectedCardPassword, new ThrowsValidationHandler()
+                )
+        );
+        Assertions.assertEquals(expectedErrorNumber, actualException.numberOfErrors());
+        Assertions.assertEquals(expectedErrorMessage, actualException.firstError().message());
+    }
+
+    @Test
+    public void deveCapturarValorParcialLiberandoRestanteDaReserva() {
+        final var reserva = Reserva.newReserva(expectedCardNumber, 100_00L, Instant.now());
+        cardCreated.hold(reserva.valor(), expectedCardPassword, new ThrowsValidationHandler());
+
+        cardCreated.capture(reserva, 60_00L, new ThrowsValidationHandler());
+
+        Assertions.assertEquals(440_00L, cardCreated.getSaldo());
+        Assertions.assertEquals(0L, cardCreated.getSaldoReservado());
+        Assertions.assertEquals(440_00L, cardCreated.getSaldoDisponivel());
+    }
+
+    @Test
+    public void deveLancarExcecaoAoCapturarValorMaiorQueReserva() {
+        final var expectedErrorMessage = "Valor da transação inválido";
+        final var reserva = Reserva.newReserva(expectedCardNumber, 100_00L, Instant.now());
+        cardCreated.hold(reserva.valor(), expectedCardPassword, new ThrowsValidationHandler());
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class, () -> cardCreated.capture(
+                        reserva, 100_01L, new ThrowsValidationHandler()
+                )
+        );
+        Assertions.assertEquals(expectedErrorNumber, actualException.numberOfErrors());
+        Assertions.assertEquals(expectedErrorMessage, actualException.firstError().message());
+        Assertions.assertEquals(100_00L, cardCreated.getSaldoReservado());
+    }
+
+    @Test
+    public void deveLiberarReserva() {
+        final var reserva = Reserva.newReserva(expectedCardNumber, 100_00L, Instant.now());
+        cardCreated.hold(reserva.valor(), expectedCardPassword, new ThrowsValidationHandler());
+
+        cardCreated.release(reserva);
+
+        Assertions.assertEquals(500_00L, cardCreated.getSaldo());
+        Assertions.assertEquals(500_00L, cardCreated.getSaldoDisponivel());
+    }
+
+    @Test
+    public void deveRetornarResultadoDoDebitoSemAlterarSaldoQuandoRecusado() {
+        Assertions.assertEquals(DebitResult.SENHA_INVALIDA, cardCreated.debit(10_00L, "4321"));
+        Assertions.assertEquals(DebitResult.SALDO_INSUFICIENTE, cardCreated.debit(500_01L, expectedCardPassword));
+        Assertions.assertEquals(500_00L, cardCreated.getSaldo());
+
+        Assertions.assertEquals(DebitResult.OK, cardCreated.debit(10_00L, expectedCardPassword));
+        Assertions.assertEquals(490_00L, cardCreated.getSaldo());
+    }
 }
@@ -17,8 +17,6 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
-import java.math.BigDecimal;
-
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 
@@ -40,7 +38,7 @@ public class CreateCartaoUseCaseITest {
 
     @Test
     public void deveCriarCartaoComSaldoInicialDe500() {
-        final BigDecimal expectedCardBalance = new BigDecimal("500.00");
+        final long expectedCardBalance = 500_00L;
 
         Assertions.assertEquals(0, cartaoRepository.count());
 
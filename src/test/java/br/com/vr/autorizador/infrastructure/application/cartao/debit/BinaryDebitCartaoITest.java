@@ -0,0 +1,67 @@
+package br.com.vr.autorizador.infrastructure.application.cartao.debit;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.infrastructure.IntegrationTest;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoJpaEntity;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoRepository;
+import br.com.vr.autorizador.infrastructure.tcp.BinaryTransacaoListener;
+import br.com.vr.autorizador.infrastructure.tcp.BinaryTransacaoProtocol;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.DataInputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "autorizador.tcp.enabled=true",
+        "autorizador.tcp.host=127.0.0.1",
+        "autorizador.tcp.port=0"
+})
+public class BinaryDebitCartaoITest {
+
+    @Autowired
+    private BinaryTransacaoListener listener;
+    @Autowired
+    private CartaoRepository cartaoRepository;
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    @Test
+    public void deveDebitarPeloListenerBinario() throws Exception {
+        cartaoRepository.saveAndFlush(CartaoJpaEntity.from(Cartao.newCartao(expectedCardNumber, expectedCardPassword)));
+
+        final int requests = 60;
+        try (var socket = new Socket("127.0.0.1", listener.port())) {
+            socket.setSoTimeout(10_000);
+            final var buffer = ByteBuffer.allocate(requests * (BinaryTransacaoProtocol.LENGTH_SIZE + BinaryTransacaoProtocol.MAX_REQUEST_SIZE));
+            for (int id = 0; id < requests; id++) {
+                BinaryTransacaoProtocol.writeRequest(buffer, id, expectedCardNumber, expectedCardPassword, 10_00L);
+            }
+            socket.getOutputStream().write(buffer.array(), 0, buffer.position());
+
+            final var in = new DataInputStream(socket.getInputStream());
+            int approved = 0;
+            int declined = 0;
+            for (int i = 0; i < requests; i++) {
+                in.readUnsignedShort();
+                in.readInt();
+                final byte code = in.readByte();
+                if (code == BinaryTransacaoProtocol.OK) {
+                    approved++;
+                } else if (code == BinaryTransacaoProtocol.SALDO_INSUFICIENTE) {
+                    declined++;
+                }
+            }
+
+            Assertions.assertEquals(50, approved);
+            Assertions.assertEquals(10, declined);
+        }
+
+        Assertions.assertEquals(0L, cartaoRepository.findById(expectedCardNumber).get().getSaldo());
+    }
+}
@@ -4,10 +4,13 @@ import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
 import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
 import br.com.vr.autorizador.domain.cartao.Cartao;
 import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
 import br.com.vr.autorizador.domain.exceptions.NotificationException;
 import br.com.vr.autorizador.infrastructure.IntegrationTest;
 import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoJpaEntity;
+import br.com.vr.autorizador.infrastructure.cartao.metrics.MeteredCartaoGateway;
 import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,9 +18,13 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
-import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.times;
 
 @IntegrationTest
@@ -27,14 +34,16 @@ public class DebitCartaoUseCaseITest {
     private DebitCartaoUseCase useCase;
     @Autowired
     private CartaoRepository cartaoRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
     @SpyBean
     private CartaoGateway cartaoGateway;
 
     private Cartao newCartao;
     private final String expectedCardNumber = "6549873025634501";
     private final String expectedCardPassword = "1234";
-    private final BigDecimal expectedCardBalance = new BigDecimal("500.00");
-    private final BigDecimal debitValue = BigDecimal.TEN;
+    private final long expectedCardBalance = 500_00L;
+    private final long debitValue = 10_00L;
     private final Integer expectedErrorNumber = 1;
 
     @BeforeEach
@@ -45,9 +54,26 @@ public class DebitCartaoUseCaseITest {
         Assertions.assertEquals(1, cartaoRepository.count());
     }
 
+    @Test
+    public void deveContabilizarResultadoDoDebito() {
+        final var approved = meterRegistry.get(MeteredCartaoGateway.DEBIT_COUNTER)
+                .tag("resultado", DebitResult.OK.name()).counter();
+        final var declined = meterRegistry.get(MeteredCartaoGateway.DEBIT_COUNTER)
+                .tag("resultado", DebitResult.SENHA_INVALIDA.name()).counter();
+        final double approvedBefore = approved.count();
+        final double declinedBefore = declined.count();
+
+        useCase.execute(DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValue));
+        Assertions.assertThrows(NotificationException.class,
+                () -> useCase.execute(DebitCartaoInput.with(expectedCardNumber, "4321", debitValue)));
+
+        Assertions.assertEquals(approvedBefore + 1, approved.count());
+        Assertions.assertEquals(declinedBefore + 1, declined.count());
+    }
+
     @Test
     public void deveDebitarComSucesso() {
-        final BigDecimal expectedCardBalance = new BigDecimal("490.00");
+        final long expectedCardBalance = 490_00L;
         final var cardNumber = newCartao.getNumeroCartao();
 
         final var input = DebitCartaoInput.with(cardNumber, expectedCardPassword, debitValue);
@@ -62,7 +88,7 @@ public class DebitCartaoUseCaseITest {
     @Test
     public void deveLancarExcecaoAoDebitarComValorInvalido() {
         final String expectedErrorMessage = "Valor da transação inválido";
-        final BigDecimal invalidDebitAmount = null;
+        final long invalidDebitAmount = 0L;
 
         final var cardNumber = newCartao.getNumeroCartao();
 
@@ -78,13 +104,13 @@ public class DebitCartaoUseCaseITest {
         Assertions.assertEquals(expectedCardNumber, cardFound.getNumeroCartao());
         Assertions.assertEquals(expectedCardPassword, cardFound.getSenha());
         Assertions.assertEquals(expectedCardBalance, cardFound.getSaldo());
-        Mockito.verify(cartaoGateway, times(0)).debit(any());
+        Mockito.verify(cartaoGateway, times(1)).debit(any(), any(), anyLong());
     }
 
     @Test
     public void deveLancarExcecaoAoDebitarComValorMaiorQueSaldo() {
         final var expectedErrorMessage = "Saldo insuficiente";
-        final BigDecimal debitValueGreaterThanBalance = new BigDecimal(501);
+        final long debitValueGreaterThanBalance = 501_00L;
 
         final var cardNumber = newCartao.getNumeroCartao();
 
@@ -100,7 +126,7 @@ public class DebitCartaoUseCaseITest {
         Assertions.assertEquals(expectedCardNumber, cardFound.getNumeroCartao());
         Assertions.assertEquals(expectedCardPassword, cardFound.getSenha());
         Assertions.assertEquals(expectedCardBalance, cardFound.getSaldo());
-        Mockito.verify(cartaoGateway, times(0)).debit(any());
+        Mockito.verify(cartaoGateway, times(1)).debit(any(), any(), anyLong());
     }
 
     @Test
@@ -122,7 +148,7 @@ public class DebitCartaoUseCaseITest {
         Assertions.assertEquals(expectedCardNumber, cardFound.getNumeroCartao());
         Assertions.assertEquals(expectedCardPassword, cardFound.getSenha());
         Assertions.assertEquals(expectedCardBalance, cardFound.getSaldo());
-        Mockito.verify(cartaoGateway, times(0)).debit(any());
+        Mockito.verify(cartaoGateway, times(1)).debit(any(), any(), anyLong());
     }
 
     @Test
@@ -141,7 +167,7 @@ public class DebitCartaoUseCaseITest {
         Assertions.assertEquals(expectedCardNumber, cardFound.getNumeroCartao());
         Assertions.assertEquals(expectedCardPassword, cardFound.getSenha());
         Assertions.assertEquals(expectedCardBalance, cardFound.getSaldo());
-        Mockito.verify(cartaoGateway, times(0)).debit(any());
+        Mockito.verify(cartaoGateway, times(1)).debit(any(), any(), anyLong());
     }
 
     @Test
@@ -152,7 +178,7 @@ public class DebitCartaoUseCaseITest {
 
         Mockito.doThrow(new IllegalStateException(expectedErrorMessage))
                 .when(cartaoGateway)
-                .debit(any());
+                .debit(any(), any(), anyLong());
 
         final var input = DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValue);
         final var actualException = Assertions.assertThrows(
@@ -166,4 +192,40 @@ public class DebitCartaoUseCaseITest {
         Assertions.assertEquals(expectedCardPassword, cardFound.getSenha());
         Assertions.assertEquals(expectedCardBalance, cardFound.getSaldo());
     }
+
+    @Test
+    public void deveManterSaldoConsistenteComDebitosConcorrentes() throws Exception {
+        final var debitAmount = 100_00L;
+        final int attempts = 20;
+        final var approved = new AtomicInteger();
+        final var declined = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(attempts);
+
+        try {
+            for (int i = 0; i < attempts; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        useCase.execute(DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitAmount));
+                        approved.incrementAndGet();
+                    } catch (NotificationException ne) {
+                        declined.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(5, approved.get());
+        Assertions.assertEquals(attempts - 5, declined.get());
+
+        var cardFound = cartaoRepository.findById(expectedCardNumber).get();
+        Assertions.assertEquals(0L, cardFound.getSaldo());
+    }
 }
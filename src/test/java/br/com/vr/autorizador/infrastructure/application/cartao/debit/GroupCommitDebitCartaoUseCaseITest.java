@@ -0,0 +1,77 @@
+package br.com.vr.autorizador.infrastructure.application.cartao.debit;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.infrastructure.IntegrationTest;
+import br.com.vr.autorizador.infrastructure.cartao.groupcommit.GroupCommitCartaoGateway;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoJpaEntity;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "autorizador.gateway.group-commit.enabled=true",
+        "autorizador.gateway.group-commit.window=5ms",
+        "autorizador.gateway.group-commit.max-batch-size=8"
+})
+public class GroupCommitDebitCartaoUseCaseITest {
+
+    @Autowired
+    private DebitCartaoUseCase useCase;
+    @Autowired
+    private CartaoRepository cartaoRepository;
+    @Autowired
+    private GroupCommitCartaoGateway groupCommitCartaoGateway;
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    @Test
+    public void deveManterSaldoConsistenteComDebitosAgrupados() throws Exception {
+        cartaoRepository.saveAndFlush(CartaoJpaEntity.from(Cartao.newCartao(expectedCardNumber, expectedCardPassword)));
+        Assertions.assertNotNull(groupCommitCartaoGateway);
+
+        final var debitAmount = 100_00L;
+        final int attempts = 20;
+        final var approved = new AtomicInteger();
+        final var declined = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(attempts);
+
+        try {
+            for (int i = 0; i < attempts; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        useCase.execute(DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitAmount));
+                        approved.incrementAndGet();
+                    } catch (NotificationException ne) {
+                        declined.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(5, approved.get());
+        Assertions.assertEquals(attempts - 5, declined.get());
+
+        var cardFound = cartaoRepository.findById(expectedCardNumber).get();
+        Assertions.assertEquals(0L, cardFound.getSaldo());
+    }
+}
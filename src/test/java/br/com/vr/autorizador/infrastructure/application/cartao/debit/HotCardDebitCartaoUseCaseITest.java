@@ -0,0 +1,79 @@
+package br.com.vr.autorizador.infrastructure.application.cartao.debit;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.infrastructure.IntegrationTest;
+import br.com.vr.autorizador.infrastructure.cartao.hotcard.HotCardCartaoGateway;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoJpaEntity;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "autorizador.gateway.hot-card.enabled=true",
+        "autorizador.gateway.hot-card.sample-rate=1",
+        "autorizador.gateway.hot-card.threshold=2",
+        "autorizador.gateway.hot-card.cool-down=1m"
+})
+public class HotCardDebitCartaoUseCaseITest {
+
+    @Autowired
+    private DebitCartaoUseCase useCase;
+    @Autowired
+    private CartaoRepository cartaoRepository;
+    @Autowired
+    private HotCardCartaoGateway hotCardCartaoGateway;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    @Test
+    public void deveManterSaldoConsistenteComCartaoDisputado() throws Exception {
+        cartaoRepository.saveAndFlush(CartaoJpaEntity.from(Cartao.newCartao(expectedCardNumber, expectedCardPassword)));
+
+        final var debitAmount = 10_00L;
+        final int attempts = 80;
+        final var approved = new AtomicInteger();
+        final var declined = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(16);
+        try {
+            for (int i = 0; i < attempts; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        useCase.execute(DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitAmount));
+                        approved.incrementAndGet();
+                    } catch (NotificationException ne) {
+                        declined.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(50, approved.get());
+        Assertions.assertEquals(attempts - 50, declined.get());
+        Assertions.assertEquals(0L, cartaoRepository.findById(expectedCardNumber).get().getSaldo());
+        Assertions.assertEquals(hotCardCartaoGateway.hotCards().size(),
+                (int) meterRegistry.get("autorizador.cartao.hot").gauge().value());
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.vr.autorizador.infrastructure.application.cartao.debit;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.infrastructure.IntegrationTest;
+import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoCentavosRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoJpaEntity;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoRepository;
+import br.com.vr.autorizador.infrastructure.idempotency.persistence.IdempotencyKeyRepository;
+import br.com.vr.autorizador.infrastructure.rest.TransacaoRest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpStatus;
+
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+
+@IntegrationTest
+public class IdempotentDebitCartaoITest {
+
+    @Autowired
+    private TransacaoRest transacaoRest;
+    @Autowired
+    private CartaoRepository cartaoRepository;
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+    @SpyBean
+    private CartaoGateway cartaoGateway;
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    @Test
+    public void deveDebitarApenasUmaVezAoRepetirRequisicaoComMesmaChave() {
+        cartaoRepository.saveAndFlush(CartaoJpaEntity.from(Cartao.newCartao(expectedCardNumber, expectedCardPassword)));
+        final var input = new DebitCartaoCentavosRestInput(expectedCardNumber, expectedCardPassword, 10_00L);
+
+        final var first = transacaoRest.debit("7c1d5e0a-terminal-42", input);
+        final var retry = transacaoRest.debit("7c1d5e0a-terminal-42", input);
+
+        Assertions.assertEquals(HttpStatus.CREATED, first.getStatusCode());
+        Assertions.assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        Assertions.assertEquals("OK", retry.getBody());
+        Assertions.assertEquals(490_00L, cartaoRepository.findById(expectedCardNumber).get().getSaldo());
+        Assertions.assertEquals(1, idempotencyKeyRepository.count());
+        Mockito.verify(cartaoGateway, times(1)).debit(any(), any(), anyLong());
+    }
+}
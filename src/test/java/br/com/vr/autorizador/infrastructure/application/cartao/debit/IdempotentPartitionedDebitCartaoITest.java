@@ -0,0 +1,80 @@
+package br.com.vr.autorizador.infrastructure.application.cartao.debit;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.infrastructure.IntegrationTest;
+import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoCentavosRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoJpaEntity;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoRepository;
+import br.com.vr.autorizador.infrastructure.rest.TransacaoRest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "autorizador.debit.lanes.enabled=true",
+        "autorizador.debit.lanes.count=1",
+        "autorizador.debit.lanes.timeout=100ms"
+})
+public class IdempotentPartitionedDebitCartaoITest {
+
+    @Autowired
+    private TransacaoRest transacaoRest;
+    @Autowired
+    private CartaoRepository cartaoRepository;
+    @SpyBean
+    private CartaoGateway cartaoGateway;
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+    private final String idempotencyKey = "3f9a2b71-terminal-07";
+
+    @Test
+    public void deveDebitarUmaVezQuandoDebitoIniciadoExcedeTempoDaLaneERequisicaoERepetida() throws Exception {
+        cartaoRepository.saveAndFlush(CartaoJpaEntity.from(Cartao.newCartao(expectedCardNumber, expectedCardPassword)));
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return invocation.callRealMethod();
+        }).when(cartaoGateway).debit(any(), any(), anyLong());
+        final var input = new DebitCartaoCentavosRestInput(expectedCardNumber, expectedCardPassword, 10_00L);
+
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            final var first = executor.submit(() -> transacaoRest.debit(idempotencyKey, input));
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread.sleep(300);
+            Assertions.assertFalse(first.isDone());
+            release.countDown();
+
+            Assertions.assertEquals(HttpStatus.CREATED, first.get(5, TimeUnit.SECONDS).getStatusCode());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        final var retry = transacaoRest.debit(idempotencyKey, input);
+
+        Assertions.assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        Assertions.assertEquals("OK", retry.getBody());
+        Assertions.assertEquals(490_00L, cartaoRepository.findById(expectedCardNumber).get().getSaldo());
+        Mockito.verify(cartaoGateway, times(1)).debit(any(), any(), anyLong());
+    }
+}
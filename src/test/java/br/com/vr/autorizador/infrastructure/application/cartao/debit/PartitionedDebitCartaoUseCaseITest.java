@@ -0,0 +1,46 @@
+package br.com.vr.autorizador.infrastructure.application.cartao.debit;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.infrastructure.IntegrationTest;
+import br.com.vr.autorizador.infrastructure.cartao.debit.PartitionedDebitCartaoUseCase;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoJpaEntity;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "autorizador.debit.lanes.enabled=true",
+        "autorizador.debit.lanes.count=2"
+})
+public class PartitionedDebitCartaoUseCaseITest {
+
+    @Autowired
+    private DebitCartaoUseCase useCase;
+    @Autowired
+    private CartaoRepository cartaoRepository;
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    @Test
+    public void deveDebitarPelaLaneDoCartao() {
+        final long expectedCardBalance = 490_00L;
+        cartaoRepository.saveAndFlush(CartaoJpaEntity.from(Cartao.newCartao(expectedCardNumber, expectedCardPassword)));
+
+        Assertions.assertInstanceOf(PartitionedDebitCartaoUseCase.class, useCase);
+
+        useCase.execute(DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, 10_00L));
+
+        var cardFound = cartaoRepository.findById(expectedCardNumber).get();
+        Assertions.assertEquals(expectedCardBalance, cardFound.getSaldo());
+
+        final var stats = ((PartitionedDebitCartaoUseCase) useCase).stats();
+        Assertions.assertEquals(2, stats.size());
+        Assertions.assertEquals(1, stats.stream().mapToLong(PartitionedDebitCartaoUseCase.LaneStats::completed).sum());
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.vr.autorizador.infrastructure.application.cartao.debit;
+
+import br.com.vr.autorizador.application.cartao.create.CreateCartaoInput;
+import br.com.vr.autorizador.application.cartao.create.CreateCartaoUseCase;
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
+import br.com.vr.autorizador.application.cartao.get.GetCartaoByNumeroUseCase;
+import br.com.vr.autorizador.infrastructure.IntegrationTest;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoRepository;
+import br.com.vr.autorizador.infrastructure.cartao.shard.ShardedCartaoGateway;
+import br.com.vr.autorizador.infrastructure.cartao.shard.ShardsEndpoint;
+import br.com.vr.autorizador.infrastructure.cartao.shard.persistence.ShardMapRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Arrays;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "autorizador.gateway.type=sharded",
+        "autorizador.gateway.shards.buckets=16",
+        "autorizador.gateway.shards.initialize-schema=true",
+        "autorizador.gateway.shards.datasources[0].url=jdbc:h2:mem:shard0;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "autorizador.gateway.shards.datasources[0].minimum-idle=1",
+        "autorizador.gateway.shards.datasources[1].url=jdbc:h2:mem:shard1;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+        "autorizador.gateway.shards.datasources[1].minimum-idle=1"
+})
+public class ShardedDebitCartaoUseCaseITest {
+
+    @Autowired
+    private CreateCartaoUseCase createCartaoUseCase;
+    @Autowired
+    private DebitCartaoUseCase useCase;
+    @Autowired
+    private GetCartaoByNumeroUseCase getCartaoByNumeroUseCase;
+    @Autowired
+    private ShardedCartaoGateway shardedCartaoGateway;
+    @Autowired
+    private ShardsEndpoint shardsEndpoint;
+    @Autowired
+    private CartaoRepository cartaoRepository;
+    @Autowired
+    private ShardMapRepository shardMapRepository;
+
+    private final String expectedCardPassword = "1234";
+
+    @Test
+    public void deveDebitarCartoesDistribuidosEntreShards() {
+        final var numeros = new String[]{"6549873025634501", "6549873025634502", "6549873025634503", "6549873025634504"};
+        Arrays.stream(numeros).forEach(numero -> createCartaoUseCase.execute(CreateCartaoInput.with(numero, expectedCardPassword)));
+
+        Arrays.stream(numeros).forEach(numero -> useCase.execute(DebitCartaoInput.with(numero, expectedCardPassword, 10_00L)));
+
+        Arrays.stream(numeros).forEach(numero -> Assertions.assertEquals(490_00L, getCartaoByNumeroUseCase.execute(numero).saldo()));
+        Assertions.assertEquals(0, cartaoRepository.count());
+        Assertions.assertArrayEquals(new int[]{8, 8}, shardedCartaoGateway.bucketsPerShard());
+        Assertions.assertEquals(0, shardsEndpoint.rebalance().moved());
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.vr.autorizador.infrastructure.application.cartao.get;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
+import br.com.vr.autorizador.application.cartao.get.GetCartaoByNumeroUseCase;
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.infrastructure.IntegrationTest;
+import br.com.vr.autorizador.infrastructure.cartao.cache.CachingCartaoGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "autorizador.gateway.cache.enabled=true",
+        "autorizador.gateway.filter.enabled=true"
+})
+public class CachingGetCartaoByNumeroUseCaseITest {
+
+    @Autowired
+    private GetCartaoByNumeroUseCase useCase;
+    @Autowired
+    private DebitCartaoUseCase debitCartaoUseCase;
+    @Autowired
+    private CartaoGateway cartaoGateway;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    @Test
+    public void deveRetornarSaldoAtualizadoAposDebito() {
+        cartaoGateway.create(Cartao.newCartao(expectedCardNumber, expectedCardPassword));
+
+        Assertions.assertInstanceOf(CachingCartaoGateway.class, cartaoGateway);
+        Assertions.assertEquals(500_00L, useCase.execute(expectedCardNumber).saldo());
+
+        debitCartaoUseCase.execute(DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, 10_00L));
+
+        Assertions.assertEquals(490_00L, useCase.execute(expectedCardNumber).saldo());
+        Assertions.assertEquals(490_00L, useCase.execute(expectedCardNumber).saldo());
+        Assertions.assertEquals(1, ((CachingCartaoGateway) cartaoGateway).stats().hitCount());
+    }
+
+    @Test
+    public void deveRegistrarMetricasDoCacheEDoFiltro() {
+        Assertions.assertNotNull(meterRegistry.find("cache.size").tag("cache", "cartao").gauge());
+        Assertions.assertNotNull(meterRegistry.find("autorizador.cartao.filter.size").gauge());
+    }
+}
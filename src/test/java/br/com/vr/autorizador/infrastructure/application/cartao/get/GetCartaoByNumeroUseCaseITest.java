@@ -12,8 +12,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
-import java.math.BigDecimal;
-
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 
@@ -28,7 +26,7 @@ public class GetCartaoByNumeroUseCaseITest {
     private CartaoGateway cartaoGateway;
     private final String expectedCardNumber = "6549873025634501";
     private final String expectedCardPassword = "1234";
-    private final BigDecimal expectedCardBalance = new BigDecimal("500.00");
+    private final long expectedCardBalance = 500_00L;
 
     @Test
     public void deveConsultarCartaoPorNumero() {
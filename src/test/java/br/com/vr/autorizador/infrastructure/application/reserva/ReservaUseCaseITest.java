@@ -0,0 +1,77 @@
+package br.com.vr.autorizador.infrastructure.application.reserva;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
+import br.com.vr.autorizador.application.cartao.get.GetCartaoByNumeroUseCase;
+import br.com.vr.autorizador.application.reserva.capture.CaptureReservaInput;
+import br.com.vr.autorizador.application.reserva.capture.CaptureReservaUseCase;
+import br.com.vr.autorizador.application.reserva.create.CreateReservaInput;
+import br.com.vr.autorizador.application.reserva.create.CreateReservaUseCase;
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.exceptions.NotFoundException;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.infrastructure.IntegrationTest;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoJpaEntity;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoRepository;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.ReservaRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "autorizador.gateway.cache.enabled=true",
+        "autorizador.reserva.validade=2s",
+        "autorizador.reserva.tick=10ms"
+})
+public class ReservaUseCaseITest {
+
+    @Autowired
+    private CreateReservaUseCase createReservaUseCase;
+    @Autowired
+    private CaptureReservaUseCase captureReservaUseCase;
+    @Autowired
+    private DebitCartaoUseCase debitCartaoUseCase;
+    @Autowired
+    private GetCartaoByNumeroUseCase getCartaoByNumeroUseCase;
+    @Autowired
+    private CartaoRepository cartaoRepository;
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    @Test
+    public void deveLiberarSaldoQuandoReservaExpira() throws InterruptedException {
+        cartaoRepository.saveAndFlush(CartaoJpaEntity.from(Cartao.newCartao(expectedCardNumber, expectedCardPassword)));
+
+        createReservaUseCase.execute(CreateReservaInput.with(expectedCardNumber, expectedCardPassword, 450_00L));
+        final var debit = DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, 100_00L);
+        Assertions.assertThrows(NotificationException.class, () -> debitCartaoUseCase.execute(debit));
+        Assertions.assertEquals(1, reservaRepository.count());
+
+        final long deadline = System.nanoTime() + 15_000_000_000L;
+        while (reservaRepository.count() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        Assertions.assertEquals(0, reservaRepository.count());
+        Assertions.assertDoesNotThrow(() -> debitCartaoUseCase.execute(debit));
+        Assertions.assertEquals(400_00L, getCartaoByNumeroUseCase.execute(expectedCardNumber).saldo());
+    }
+
+    @Test
+    public void deveCapturarReservaAntesDeExpirar() throws InterruptedException {
+        cartaoRepository.saveAndFlush(CartaoJpaEntity.from(Cartao.newCartao(expectedCardNumber, expectedCardPassword)));
+
+        final var reserva = createReservaUseCase.execute(CreateReservaInput.with(expectedCardNumber, expectedCardPassword, 100_00L));
+        captureReservaUseCase.execute(CaptureReservaInput.with(reserva.id(), 75_00L));
+        Thread.sleep(2_500);
+
+        Assertions.assertEquals(425_00L, getCartaoByNumeroUseCase.execute(expectedCardNumber).saldo());
+        Assertions.assertThrows(NotFoundException.class,
+                () -> captureReservaUseCase.execute(CaptureReservaInput.with(reserva.id(), 25_00L)));
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.vr.autorizador.infrastructure.application.transacao.list;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
+import br.com.vr.autorizador.application.transacao.list.ListTransacaoByCartaoInput;
+import br.com.vr.autorizador.application.transacao.list.ListTransacaoByCartaoOutput;
+import br.com.vr.autorizador.application.transacao.list.ListTransacaoByCartaoUseCase;
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.infrastructure.IntegrationTest;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoJpaEntity;
+import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoRepository;
+import br.com.vr.autorizador.infrastructure.transacao.persistence.TransacaoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+@IntegrationTest
+@TestPropertySource(properties = "autorizador.transacao.ledger.enabled=true")
+public class ListTransacaoByCartaoUseCaseITest {
+
+    @Autowired
+    private ListTransacaoByCartaoUseCase useCase;
+    @Autowired
+    private DebitCartaoUseCase debitCartaoUseCase;
+    @Autowired
+    private CartaoRepository cartaoRepository;
+    @Autowired
+    private TransacaoRepository transacaoRepository;
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    @Test
+    public void deveListarTransacoesRegistradasNoDebito() throws Exception {
+        cartaoRepository.saveAndFlush(CartaoJpaEntity.from(Cartao.newCartao(expectedCardNumber, expectedCardPassword)));
+
+        debitCartaoUseCase.execute(DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, 10_00L));
+        debitCartaoUseCase.execute(DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, 20_00L));
+        Assertions.assertThrows(NotificationException.class,
+                () -> debitCartaoUseCase.execute(DebitCartaoInput.with(expectedCardNumber, "4321", 30_00L)));
+
+        final long deadline = System.nanoTime() + 5_000_000_000L;
+        while (transacaoRepository.count() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        final var first = useCase.execute(ListTransacaoByCartaoInput.with(expectedCardNumber, null, 2));
+        Assertions.assertEquals(List.of(DebitResult.SENHA_INVALIDA, DebitResult.OK),
+                first.transacoes().stream().map(ListTransacaoByCartaoOutput.Item::resultado).toList());
+        Assertions.assertNotNull(first.proximo());
+
+        final var second = useCase.execute(ListTransacaoByCartaoInput.with(expectedCardNumber, first.proximo(), 2));
+        Assertions.assertEquals(List.of(10_00L),
+                second.transacoes().stream().map(ListTransacaoByCartaoOutput.Item::valor).toList());
+        Assertions.assertNull(second.proximo());
+    }
+}
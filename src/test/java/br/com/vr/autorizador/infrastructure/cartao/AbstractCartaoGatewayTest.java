@@ -0,0 +1,205 @@
+package br.com.vr.autorizador.infrastructure.cartao;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public abstract class AbstractCartaoGatewayTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    protected abstract CartaoGateway cartaoGateway();
+
+    @Test
+    public void gatewayDeveCriarEConsultarCartaoComSaldoInicialDe500() {
+        final var cardCreated = cartaoGateway().create(Cartao.newCartao(expectedCardNumber, expectedCardPassword)).get();
+        Assertions.assertEquals(expectedCardNumber, cardCreated.getNumeroCartao());
+
+        final var cardFound = cartaoGateway().findBy(expectedCardNumber).get();
+        Assertions.assertEquals(expectedCardNumber, cardFound.getNumeroCartao());
+        Assertions.assertEquals(expectedCardPassword, cardFound.getSenha());
+        Assertions.assertEquals(500_00L, cardFound.getSaldo());
+    }
+
+    @Test
+    public void gatewayNaoDeveSobrescreverCartaoJaCadastrado() {
+        Assertions.assertTrue(cartaoGateway().create(Cartao.newCartao(expectedCardNumber, expectedCardPassword)).isPresent());
+        Assertions.assertEquals(DebitResult.OK, cartaoGateway().debit(expectedCardNumber, expectedCardPassword, 10_00L));
+
+        Assertions.assertTrue(cartaoGateway().create(Cartao.newCartao(expectedCardNumber, "4321")).isEmpty());
+
+        final var cardFound = cartaoGateway().findBy(expectedCardNumber).get();
+        Assertions.assertEquals(expectedCardPassword, cardFound.getSenha());
+        Assertions.assertEquals(490_00L, cardFound.getSaldo());
+    }
+
+    @Test
+    public void gatewayDeveRetornarVazioParaCartaoInexistenteOuInvalido() {
+        cartaoGateway().create(Cartao.newCartao(expectedCardNumber, expectedCardPassword));
+
+        Assertions.assertTrue(cartaoGateway().findBy("7549873025634501").isEmpty());
+        Assertions.assertTrue(cartaoGateway().findBy("123").isEmpty());
+    }
+
+    @Test
+    public void gatewayDeveDebitarERecusarConformeRegrasDoCartao() {
+        cartaoGateway().create(Cartao.newCartao(expectedCardNumber, expectedCardPassword));
+
+        Assertions.assertEquals(DebitResult.OK, cartaoGateway().debit(expectedCardNumber, expectedCardPassword, 10_00L));
+        Assertions.assertEquals(DebitResult.SENHA_INVALIDA, cartaoGateway().debit(expectedCardNumber, "4321", 10_00L));
+        Assertions.assertEquals(DebitResult.SENHA_INVALIDA, cartaoGateway().debit(expectedCardNumber, "1234 ", 10_00L));
+        Assertions.assertEquals(DebitResult.VALOR_INVALIDO, cartaoGateway().debit(expectedCardNumber, expectedCardPassword, 0L));
+        Assertions.assertEquals(DebitResult.SALDO_INSUFICIENTE, cartaoGateway().debit(expectedCardNumber, expectedCardPassword, 491_00L));
+        Assertions.assertEquals(DebitResult.CARTAO_INEXISTENTE, cartaoGateway().debit("7549873025634501", expectedCardPassword, 10_00L));
+
+        Assertions.assertEquals(490_00L, cartaoGateway().findBy(expectedCardNumber).get().getSaldo());
+    }
+
+    @Test
+    public void gatewayDeveDebitarEmLoteNaOrdemRecebida() {
+        cartaoGateway().create(Cartao.newCartao(expectedCardNumber, expectedCardPassword));
+
+        final var results = cartaoGateway().debitAll(List.of(
+                Debit.with(expectedCardNumber, expectedCardPassword, 300_00L),
+                Debit.with("7549873025634501", expectedCardPassword, 10_00L),
+                Debit.with(expectedCardNumber, expectedCardPassword, 150_00L),
+                Debit.with(expectedCardNumber, "4321", 10_00L),
+                Debit.with(expectedCardNumber, expectedCardPassword, 100_00L),
+                Debit.with(expectedCardNumber, expectedCardPassword, 0L),
+                Debit.with(expectedCardNumber, expectedCardPassword, 50_00L)
+        ));
+
+        Assertions.assertEquals(List.of(
+                DebitResult.OK,
+                DebitResult.CARTAO_INEXISTENTE,
+                DebitResult.OK,
+                DebitResult.SENHA_INVALIDA,
+                DebitResult.SALDO_INSUFICIENTE,
+                DebitResult.VALOR_INVALIDO,
+                DebitResult.OK
+        ), results);
+        Assertions.assertEquals(0L, cartaoGateway().findBy(expectedCardNumber).get().getSaldo());
+    }
+
+    @Test
+    public void gatewayDeveCriarEmLoteIgnorandoCartoesJaCadastrados() {
+        cartaoGateway().create(Cartao.newCartao(expectedCardNumber, expectedCardPassword));
+        final var second = Cartao.newCartao("6549873025634502", expectedCardPassword);
+        final var third = Cartao.newCartao("0549873025634503", expectedCardPassword);
+
+        final var results = cartaoGateway().createAll(List.of(
+                Cartao.newCartao(expectedCardNumber, "4321"),
+                second,
+                third,
+                Cartao.newCartao("6549873025634502", "4321")
+        ));
+
+        Assertions.assertEquals(List.of(Optional.empty(), Optional.of(second), Optional.of(third), Optional.empty()), results);
+        Assertions.assertEquals(expectedCardPassword, cartaoGateway().findBy(expectedCardNumber).get().getSenha());
+        Assertions.assertEquals(expectedCardPassword, cartaoGateway().findBy("6549873025634502").get().getSenha());
+        Assertions.assertEquals(500_00L, cartaoGateway().findBy("0549873025634503").get().getSaldo());
+    }
+
+    @Test
+    public void gatewayDevePercorrerTodosOsNumerosDeCartao() {
+        cartaoGateway().create(Cartao.newCartao(expectedCardNumber, expectedCardPassword));
+        cartaoGateway().create(Cartao.newCartao("0549873025634502", expectedCardPassword));
+
+        final Set<String> numerosCartao = new HashSet<>();
+        cartaoGateway().forEachNumeroCartao(numerosCartao::add);
+
+        Assertions.assertEquals(Set.of(expectedCardNumber, "0549873025634502"), numerosCartao);
+    }
+
+    @Test
+    public void gatewayDeveReservarSaldoERecusarDebitoAcimaDoDisponivel() {
+        cartaoGateway().create(Cartao.newCartao(expectedCardNumber, expectedCardPassword));
+        final var reserva = newReserva(450_00L);
+
+        Assertions.assertEquals(DebitResult.OK, cartaoGateway().hold(reserva, expectedCardPassword));
+        Assertions.assertEquals(DebitResult.SALDO_INSUFICIENTE, cartaoGateway().debit(expectedCardNumber, expectedCardPassword, 100_00L));
+
+        final var cardFound = cartaoGateway().findBy(expectedCardNumber).get();
+        Assertions.assertEquals(500_00L, cardFound.getSaldo());
+        Assertions.assertEquals(450_00L, cardFound.getSaldoReservado());
+        Assertions.assertEquals(Optional.of(reserva), cartaoGateway().findReserva(reserva.id()));
+    }
+
+    @Test
+    public void gatewayDeveRecusarReservaComSenhaInvalidaOuSaldoInsuficiente() {
+        cartaoGateway().create(Cartao.newCartao(expectedCardNumber, expectedCardPassword));
+
+        Assertions.assertEquals(DebitResult.SENHA_INVALIDA, cartaoGateway().hold(newReserva(10_00L), "4321"));
+        Assertions.assertEquals(DebitResult.SALDO_INSUFICIENTE, cartaoGateway().hold(newReserva(500_01L), expectedCardPassword));
+        Assertions.assertEquals(DebitResult.CARTAO_INEXISTENTE, cartaoGateway().hold(
+                Reserva.newReserva("7549873025634501", 10_00L, Instant.now()), expectedCardPassword));
+
+        final List<Reserva> reservas = new ArrayList<>();
+        cartaoGateway().forEachReserva(reservas::add);
+        Assertions.assertTrue(reservas.isEmpty());
+    }
+
+    @Test
+    public void gatewayDeveCapturarReservaUmaUnicaVez() {
+        cartaoGateway().create(Cartao.newCartao(expectedCardNumber, expectedCardPassword));
+        final var reserva = newReserva(100_00L);
+        cartaoGateway().hold(reserva, expectedCardPassword);
+
+        Assertions.assertEquals(DebitResult.VALOR_INVALIDO, cartaoGateway().capture(reserva, 100_01L));
+        Assertions.assertEquals(DebitResult.OK, cartaoGateway().capture(reserva, 80_00L));
+        Assertions.assertEquals(DebitResult.RESERVA_INEXISTENTE, cartaoGateway().capture(reserva, 80_00L));
+
+        final var cardFound = cartaoGateway().findBy(expectedCardNumber).get();
+        Assertions.assertEquals(420_00L, cardFound.getSaldo());
+        Assertions.assertEquals(0L, cardFound.getSaldoReservado());
+        Assertions.assertTrue(cartaoGateway().findReserva(reserva.id()).isEmpty());
+    }
+
+    @Test
+    public void gatewayDeveLiberarReservaUmaUnicaVez() {
+        cartaoGateway().create(Cartao.newCartao(expectedCardNumber, expectedCardPassword));
+        final var reserva = newReserva(100_00L);
+        cartaoGateway().hold(reserva, expectedCardPassword);
+
+        Assertions.assertTrue(cartaoGateway().release(reserva));
+        Assertions.assertFalse(cartaoGateway().release(reserva));
+
+        final var cardFound = cartaoGateway().findBy(expectedCardNumber).get();
+        Assertions.assertEquals(500_00L, cardFound.getSaldo());
+        Assertions.assertEquals(0L, cardFound.getSaldoReservado());
+    }
+
+    @Test
+    public void gatewayDevePercorrerTodasAsReservas() {
+        cartaoGateway().create(Cartao.newCartao(expectedCardNumber, expectedCardPassword));
+        final List<Reserva> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final var reserva = newReserva(10_00L);
+            cartaoGateway().hold(reserva, expectedCardPassword);
+            expected.add(reserva);
+        }
+
+        final List<Reserva> actual = new ArrayList<>();
+        cartaoGateway().forEachReserva(actual::add);
+
+        Assertions.assertEquals(expected.size(), actual.size());
+        Assertions.assertTrue(actual.containsAll(expected));
+    }
+
+    protected Reserva newReserva(long valor) {
+        return Reserva.newReserva(expectedCardNumber, valor, Instant.now().plus(30, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MILLIS));
+    }
+}
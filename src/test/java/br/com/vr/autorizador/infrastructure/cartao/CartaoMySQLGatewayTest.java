@@ -1,7 +1,9 @@
 package br.com.vr.autorizador.infrastructure.cartao;
 
 import br.com.vr.autorizador.domain.cartao.Cartao;
-import br.com.vr.autorizador.domain.validation.handler.NotificationHandler;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
 import br.com.vr.autorizador.infrastructure.MySQLGatewayTest;
 import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoJpaEntity;
 import br.com.vr.autorizador.infrastructure.cartao.persistence.CartaoRepository;
@@ -10,10 +12,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 @MySQLGatewayTest
-public class CartaoMySQLGatewayTest {
+public class CartaoMySQLGatewayTest extends AbstractCartaoGatewayTest {
 
     @Autowired
     private CartaoMySQLGateway cartaoGateway;
@@ -29,12 +33,17 @@ public class CartaoMySQLGatewayTest {
         newCard = Cartao.newCartao("6549873025634501", "1234");
     }
 
+    @Override
+    protected CartaoGateway cartaoGateway() {
+        return cartaoGateway;
+    }
+
     @Test
     public void deveCriarCartaoComSaldoInicialDe500() {
-        final BigDecimal expectedCardBalance = new BigDecimal(500);
+        final long expectedCardBalance = 500_00L;
         Assertions.assertEquals(0, cartaoRepository.count());
 
-        Cartao cardCreated = cartaoGateway.create(newCard);
+        Cartao cardCreated = cartaoGateway.create(newCard).get();
 
         Assertions.assertEquals(1, cartaoRepository.count());
         Assertions.assertEquals(expectedCardNumber, cardCreated.getNumeroCartao());
@@ -51,10 +60,10 @@ public class CartaoMySQLGatewayTest {
     public void deveLancarExcecaoAoCriarCartaoComNumeroJaCadastrado() {
         final var expectedErrorMessage = "Cartão já existente";
 
-        final BigDecimal expectedCardBalance = new BigDecimal(500);
+        final long expectedCardBalance = 500_00L;
         Assertions.assertEquals(0, cartaoRepository.count());
 
-        Cartao cardCreated = cartaoGateway.create(newCard);
+        Cartao cardCreated = cartaoGateway.create(newCard).get();
 
         Assertions.assertEquals(1, cartaoRepository.count());
         Assertions.assertEquals(expectedCardNumber, cardCreated.getNumeroCartao());
@@ -65,11 +74,15 @@ public class CartaoMySQLGatewayTest {
         Assertions.assertEquals(expectedCardNumber, cardFound.getNumeroCartao());
         Assertions.assertEquals(expectedCardPassword, cardFound.getSenha());
         Assertions.assertEquals(expectedCardBalance, cardFound.getSaldo());
+
+        Assertions.assertTrue(cartaoGateway.create(Cartao.newCartao(expectedCardNumber, "4321")).isEmpty());
+        Assertions.assertEquals(1, cartaoRepository.count());
+        Assertions.assertEquals(expectedCardPassword, cartaoRepository.findById(expectedCardNumber).get().getSenha());
     }
 
     @Test
     public void deveRetornarCartaoAoConsultarComNumeroCartaoValido() {
-        final BigDecimal expectedCardBalance = new BigDecimal(500);
+        final long expectedCardBalance = 500_00L;
         Assertions.assertEquals(0, cartaoRepository.count());
 
         cartaoRepository.save(CartaoJpaEntity.from(newCard));
@@ -94,15 +107,14 @@ public class CartaoMySQLGatewayTest {
 
     @Test
     public void deveDebitarComSucesso() {
-        final var expectedBalance = new BigDecimal(490);
+        final var expectedBalance = 490_00L;
         Assertions.assertEquals(0, cartaoRepository.count());
 
         cartaoRepository.save(CartaoJpaEntity.from(newCard));
         Assertions.assertEquals(1, cartaoRepository.count());
 
-        final var notification = NotificationHandler.create();
-        newCard.debit(BigDecimal.TEN, expectedCardPassword, notification);
-        cartaoGateway.debit(newCard);
+        final var result = cartaoGateway.debit(expectedCardNumber, expectedCardPassword, 10_00L);
+        Assertions.assertEquals(DebitResult.OK, result);
         Assertions.assertEquals(1, cartaoRepository.count());
 
         var cardFound = cartaoRepository.findById(newCard.getNumeroCartao()).get();
@@ -114,55 +126,129 @@ public class CartaoMySQLGatewayTest {
     @Test
     public void deveLancarExcecaoAoDebitarComSenhaInvalida() {
         final String invalidPassword = "4321";
-        final BigDecimal debitAmount = BigDecimal.TEN;
+        final long debitAmount = 10_00L;
         Assertions.assertEquals(0, cartaoRepository.count());
 
         cartaoRepository.save(CartaoJpaEntity.from(newCard));
         Assertions.assertEquals(1, cartaoRepository.count());
 
-        final var notification = NotificationHandler.create();
-        newCard.debit(debitAmount, invalidPassword, notification);
-        cartaoGateway.debit(newCard);
+        final var result = cartaoGateway.debit(expectedCardNumber, invalidPassword, debitAmount);
+        Assertions.assertEquals(DebitResult.SENHA_INVALIDA, result);
 
-        var cardFound = cartaoRepository.findById(newCard.getNumeroCartao()).get();
-        Assertions.assertEquals(newCard.getNumeroCartao(), cardFound.getNumeroCartao());
-        Assertions.assertEquals(newCard.getSenha(), cardFound.getSenha());
-        Assertions.assertEquals(newCard.getSaldo(), cardFound.getSaldo());
+        assertBalanceUnchanged();
+    }
+
+    @Test
+    public void deveRecusarSenhaComDiferencaDeMaiusculasOuEspacos() {
+        final var cardWithLetters = Cartao.newCartao("6549873025634502", "abcd");
+        Assertions.assertEquals(0, cartaoRepository.count());
+
+        cartaoRepository.save(CartaoJpaEntity.from(cardWithLetters));
+
+        Assertions.assertEquals(DebitResult.SENHA_INVALIDA,
+                cartaoGateway.debit(cardWithLetters.getNumeroCartao(), "ABCD", 10_00L));
+        Assertions.assertEquals(DebitResult.SENHA_INVALIDA,
+                cartaoGateway.debit(cardWithLetters.getNumeroCartao(), "abcd ", 10_00L));
     }
 
     @Test
     public void deveLancarExcecaoAoDebitarComValorMaiorQueSaldo() {
-        final BigDecimal debitValueGreaterThanBalance = new BigDecimal(501);
+        final long debitValueGreaterThanBalance = 501_00L;
         Assertions.assertEquals(0, cartaoRepository.count());
 
         cartaoRepository.save(CartaoJpaEntity.from(newCard));
         Assertions.assertEquals(1, cartaoRepository.count());
 
-        final var notification = NotificationHandler.create();
-        newCard.debit(debitValueGreaterThanBalance, expectedCardPassword, notification);
-        cartaoGateway.debit(newCard);
+        final var result = cartaoGateway.debit(expectedCardNumber, expectedCardPassword, debitValueGreaterThanBalance);
+        Assertions.assertEquals(DebitResult.SALDO_INSUFICIENTE, result);
 
-        var cardFound = cartaoRepository.findById(newCard.getNumeroCartao()).get();
-        Assertions.assertEquals(newCard.getNumeroCartao(), cardFound.getNumeroCartao());
-        Assertions.assertEquals(newCard.getSenha(), cardFound.getSenha());
-        Assertions.assertEquals(newCard.getSaldo(), cardFound.getSaldo());
+        assertBalanceUnchanged();
     }
 
     @Test
     public void deveLancarExcecaoAoDebitarComValorInvalido() {
-        final BigDecimal invalidDebitAmount = null;
+        final long invalidDebitAmount = 0L;
         Assertions.assertEquals(0, cartaoRepository.count());
 
         cartaoRepository.save(CartaoJpaEntity.from(newCard));
         Assertions.assertEquals(1, cartaoRepository.count());
 
-        final var notification = NotificationHandler.create();
-        newCard.debit(invalidDebitAmount, expectedCardPassword, notification);
-        cartaoGateway.debit(newCard);
+        final var result = cartaoGateway.debit(expectedCardNumber, expectedCardPassword, invalidDebitAmount);
+        Assertions.assertEquals(DebitResult.VALOR_INVALIDO, result);
 
+        assertBalanceUnchanged();
+    }
+
+    @Test
+    public void deveRetornarCartaoInexistenteAoDebitarComNumeroNaoCadastrado() {
+        Assertions.assertEquals(0, cartaoRepository.count());
+
+        final var result = cartaoGateway.debit(expectedCardNumber, expectedCardPassword, 10_00L);
+        Assertions.assertEquals(DebitResult.CARTAO_INEXISTENTE, result);
+        Assertions.assertEquals(0, cartaoRepository.count());
+    }
+
+    @Test
+    public void deveDebitarEmLoteRetornandoResultadoPorItemNaOrdemRecebida() {
+        cartaoRepository.saveAndFlush(CartaoJpaEntity.from(newCard));
+
+        final var results = cartaoGateway.debitAll(List.of(
+                Debit.with(expectedCardNumber, expectedCardPassword, 300_00L),
+                Debit.with("7549873025634501", expectedCardPassword, 10_00L),
+                Debit.with(expectedCardNumber, expectedCardPassword, 150_00L),
+                Debit.with(expectedCardNumber, "4321", 10_00L),
+                Debit.with(expectedCardNumber, expectedCardPassword, 100_00L),
+                Debit.with(expectedCardNumber, expectedCardPassword, 0L),
+                Debit.with(expectedCardNumber, expectedCardPassword, 50_00L)
+        ));
+
+        Assertions.assertEquals(List.of(
+                DebitResult.OK,
+                DebitResult.CARTAO_INEXISTENTE,
+                DebitResult.OK,
+                DebitResult.SENHA_INVALIDA,
+                DebitResult.SALDO_INSUFICIENTE,
+                DebitResult.VALOR_INVALIDO,
+                DebitResult.OK
+        ), results);
+        Assertions.assertEquals(0L, cartaoGateway.findBy(expectedCardNumber).get().getSaldo());
+    }
+
+    private void assertBalanceUnchanged() {
         var cardFound = cartaoRepository.findById(newCard.getNumeroCartao()).get();
         Assertions.assertEquals(newCard.getNumeroCartao(), cardFound.getNumeroCartao());
         Assertions.assertEquals(newCard.getSenha(), cardFound.getSenha());
         Assertions.assertEquals(newCard.getSaldo(), cardFound.getSaldo());
     }
+
+    @Test
+    public void devePercorrerTodosOsNumerosDeCartao() {
+        cartaoGateway.create(newCard);
+        cartaoGateway.create(Cartao.newCartao("6549873025634502", expectedCardPassword));
+
+        final List<String> numerosCartao = new ArrayList<>();
+        cartaoGateway.forEachNumeroCartao(numerosCartao::add);
+
+        Assertions.assertEquals(List.of(expectedCardNumber, "6549873025634502"), numerosCartao);
+    }
+
+    @Test
+    public void deveCriarEmLoteIgnorandoCartoesJaCadastrados() {
+        cartaoGateway.create(newCard);
+        final var second = Cartao.newCartao("6549873025634502", expectedCardPassword);
+        final var third = Cartao.newCartao("6549873025634503", expectedCardPassword);
+
+        final var results = cartaoGateway.createAll(List.of(
+                Cartao.newCartao(expectedCardNumber, "4321"),
+                second,
+                third,
+                Cartao.newCartao("6549873025634502", "4321")
+        ));
+
+        Assertions.assertEquals(List.of(Optional.empty(), Optional.of(second), Optional.of(third), Optional.empty()), results);
+        Assertions.assertEquals(3, cartaoRepository.count());
+        Assertions.assertEquals(expectedCardPassword, cartaoRepository.findById(expectedCardNumber).get().getSenha());
+        Assertions.assertEquals(expectedCardPassword, cartaoRepository.findById("6549873025634502").get().getSenha());
+        Assertions.assertEquals(500_00L, cartaoRepository.findById("6549873025634503").get().getSaldo());
+    }
 }
@@ -0,0 +1,121 @@
+package br.com.vr.autorizador.infrastructure.cartao.cache;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingCartaoGatewayTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    private final CartaoGateway delegate = Mockito.mock(CartaoGateway.class);
+    private final AtomicLong ticker = new AtomicLong();
+    private CachingCartaoGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.reset(delegate);
+        gateway = new CachingCartaoGateway(delegate, 2, Duration.ofSeconds(30), ticker::get);
+    }
+
+    @Test
+    public void deveBuscarNoGatewayApenasNaPrimeiraConsulta() {
+        when(delegate.findBy(expectedCardNumber))
+                .thenReturn(Optional.of(Cartao.with(expectedCardNumber, expectedCardPassword, 500_00L)));
+
+        var first = gateway.findBy(expectedCardNumber);
+        var second = gateway.findBy(expectedCardNumber);
+
+        Assertions.assertEquals(500_00L, first.get().getSaldo());
+        Assertions.assertEquals(500_00L, second.get().getSaldo());
+        Assertions.assertNotSame(first.get(), second.get());
+        verify(delegate, times(1)).findBy(expectedCardNumber);
+
+        var stats = gateway.stats();
+        Assertions.assertEquals(1, stats.hitCount());
+        Assertions.assertEquals(1, stats.missCount());
+    }
+
+    @Test
+    public void deveInvalidarSaldoAoDebitarComSucesso() {
+        when(delegate.findBy(expectedCardNumber))
+                .thenReturn(Optional.of(Cartao.with(expectedCardNumber, expectedCardPassword, 500_00L)))
+                .thenReturn(Optional.of(Cartao.with(expectedCardNumber, expectedCardPassword, 490_00L)));
+        when(delegate.debit(expectedCardNumber, expectedCardPassword, 10_00L)).thenReturn(DebitResult.OK);
+
+        gateway.findBy(expectedCardNumber);
+        Assertions.assertEquals(DebitResult.OK, gateway.debit(expectedCardNumber, expectedCardPassword, 10_00L));
+
+        Assertions.assertEquals(490_00L, gateway.findBy(expectedCardNumber).get().getSaldo());
+        verify(delegate, times(2)).findBy(expectedCardNumber);
+    }
+
+    @Test
+    public void deveManterSaldoEmCacheAoRecusarDebito() {
+        when(delegate.findBy(expectedCardNumber))
+                .thenReturn(Optional.of(Cartao.with(expectedCardNumber, expectedCardPassword, 500_00L)));
+        when(delegate.debit(any(), any(), anyLong())).thenReturn(DebitResult.SENHA_INVALIDA);
+
+        gateway.findBy(expectedCardNumber);
+        Assertions.assertEquals(DebitResult.SENHA_INVALIDA, gateway.debit(expectedCardNumber, "4321", 10_00L));
+        gateway.findBy(expectedCardNumber);
+
+        verify(delegate, times(1)).findBy(expectedCardNumber);
+    }
+
+    @Test
+    public void deveInvalidarCacheAoCriarCartao() {
+        final var cartao = Cartao.newCartao(expectedCardNumber, expectedCardPassword);
+        when(delegate.findBy(expectedCardNumber))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(cartao));
+        when(delegate.create(cartao)).thenReturn(Optional.of(cartao));
+
+        Assertions.assertTrue(gateway.findBy(expectedCardNumber).isEmpty());
+        gateway.create(cartao);
+
+        Assertions.assertTrue(gateway.findBy(expectedCardNumber).isPresent());
+        verify(delegate, times(2)).findBy(expectedCardNumber);
+    }
+
+    @Test
+    public void deveExpirarEntradasAposTtl() {
+        when(delegate.findBy(expectedCardNumber))
+                .thenReturn(Optional.of(Cartao.with(expectedCardNumber, expectedCardPassword, 500_00L)));
+
+        gateway.findBy(expectedCardNumber);
+        ticker.addAndGet(Duration.ofSeconds(31).toNanos());
+        gateway.findBy(expectedCardNumber);
+
+        verify(delegate, times(2)).findBy(expectedCardNumber);
+    }
+
+    @Test
+    public void deveRemoverEntradasAoExcederTamanhoMaximo() {
+        when(delegate.findBy(any()))
+                .thenAnswer(invocation -> Optional.of(Cartao.newCartao(invocation.getArgument(0), expectedCardPassword)));
+
+        gateway.findBy("6549873025634501");
+        gateway.findBy("6549873025634502");
+        gateway.findBy("6549873025634503");
+        gateway.cleanUp();
+
+        Assertions.assertEquals(2, gateway.estimatedSize());
+        Assertions.assertEquals(1, gateway.stats().evictionCount());
+    }
+}
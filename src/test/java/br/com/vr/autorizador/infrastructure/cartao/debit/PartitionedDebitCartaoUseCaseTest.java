@@ -0,0 +1,214 @@
+package br.com.vr.autorizador.infrastructure.cartao.debit;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PartitionedDebitCartaoUseCaseTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+    private final long debitValue = 10_00L;
+
+    private PartitionedDebitCartaoUseCase useCase;
+
+    @AfterEach
+    void tearDown() {
+        if (useCase != null) {
+            useCase.close();
+        }
+    }
+
+    @Test
+    public void deveExecutarDebitosDoMesmoCartaoSempreNaMesmaLane() throws Exception {
+        final Map<String, Set<String>> threadsByCard = new ConcurrentHashMap<>();
+        useCase = new PartitionedDebitCartaoUseCase(input -> {
+            threadsByCard
+                    .computeIfAbsent(input.numeroCartao(), key -> ConcurrentHashMap.newKeySet())
+                    .add(Thread.currentThread().getName());
+            return DebitResult.OK;
+        }, 4, 64, Duration.ofSeconds(5));
+
+        final var executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 200; i++) {
+                final var cardNumber = "654987302563450" + (i % 10);
+                executor.submit(() -> useCase.execute(DebitCartaoInput.with(cardNumber, expectedCardPassword, debitValue)));
+            }
+        } finally {
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        Assertions.assertEquals(10, threadsByCard.size());
+        threadsByCard.forEach((cardNumber, threads) -> {
+            Assertions.assertEquals(1, threads.size());
+            Assertions.assertEquals("debit-lane-" + useCase.laneOf(cardNumber), threads.iterator().next());
+        });
+        Assertions.assertEquals(200, useCase.stats().stream().mapToLong(PartitionedDebitCartaoUseCase.LaneStats::completed).sum());
+    }
+
+    @Test
+    public void deveExporLatenciaDeCadaLaneNasMetricas() {
+        useCase = new PartitionedDebitCartaoUseCase(input -> {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return DebitResult.OK;
+        }, 2, 8, Duration.ofSeconds(5));
+        final var registry = new SimpleMeterRegistry();
+        useCase.bindTo(registry);
+
+        final var input = DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValue);
+        useCase.execute(input);
+        useCase.execute(input);
+
+        final var lane = String.valueOf(useCase.laneOf(expectedCardNumber));
+        final var other = String.valueOf(1 - useCase.laneOf(expectedCardNumber));
+        final var timer = registry.get("autorizador.debit.lane.latency").tag("lane", lane).functionTimer();
+        Assertions.assertEquals(2.0, timer.count());
+        Assertions.assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 10.0);
+        Assertions.assertTrue(registry.get("autorizador.debit.lane.latency.max").tag("lane", lane).gauge().value() >= 0.005);
+        Assertions.assertEquals(0.0, registry.get("autorizador.debit.lane.latency").tag("lane", other).functionTimer().count());
+    }
+
+    @Test
+    public void deveExecutarLanesEmVirtualThreadsQuandoHabilitado() {
+        final Set<Boolean> virtualThreads = ConcurrentHashMap.newKeySet();
+        final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        useCase = new PartitionedDebitCartaoUseCase(input -> {
+            virtualThreads.add(Thread.currentThread().isVirtual());
+            threadNames.add(Thread.currentThread().getName());
+            return DebitResult.OK;
+        }, 2, 8, Duration.ofSeconds(5), true);
+
+        useCase.execute(DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValue));
+
+        Assertions.assertEquals(Set.of(true), virtualThreads);
+        Assertions.assertEquals(Set.of("debit-lane-" + useCase.laneOf(expectedCardNumber)), threadNames);
+    }
+
+    @Test
+    public void devePropagarExcecaoDoUseCase() {
+        final var expectedErrorMessage = "Saldo insuficiente";
+        useCase = new PartitionedDebitCartaoUseCase(input -> DebitResult.SALDO_INSUFICIENTE, 2, 8, Duration.ofSeconds(5));
+
+        final var input = DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValue);
+        Assertions.assertEquals(DebitResult.SALDO_INSUFICIENTE, useCase.authorize(input));
+        final var actualException = Assertions.assertThrows(
+                NotificationException.class, () -> useCase.execute(input)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.firstError().message());
+    }
+
+    @Test
+    public void deveRejeitarDebitoQuandoFilaDaLaneEstiverCheia() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        useCase = new PartitionedDebitCartaoUseCase(input -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return DebitResult.OK;
+        }, 1, 1, Duration.ofSeconds(5));
+
+        final var input = DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValue);
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(() -> useCase.execute(input));
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            executor.submit(() -> useCase.execute(input));
+            Thread.sleep(100);
+
+            Assertions.assertThrows(RejectedExecutionException.class, () -> useCase.execute(input));
+            Assertions.assertEquals(1, useCase.stats().get(0).rejected());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void deveCancelarDebitoQueNaoIniciouDentroDoTempoLimite() throws Exception {
+        final var release = new CountDownLatch(1);
+        useCase = new PartitionedDebitCartaoUseCase(input -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return DebitResult.OK;
+        }, 1, 8, Duration.ofMillis(100));
+
+        final var input = DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValue);
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> useCase.execute(input));
+            Thread.sleep(50);
+
+            Assertions.assertThrows(RejectedExecutionException.class, () -> useCase.execute(input));
+            Assertions.assertEquals(1, useCase.stats().get(0).rejected());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void deveAguardarDebitoJaIniciadoMesmoAposTempoLimite() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var executions = new AtomicInteger();
+        useCase = new PartitionedDebitCartaoUseCase(input -> {
+            executions.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return DebitResult.OK;
+        }, 1, 8, Duration.ofMillis(100));
+
+        final var input = DebitCartaoInput.with(expectedCardNumber, expectedCardPassword, debitValue);
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            final var result = executor.submit(() -> useCase.authorize(input));
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread.sleep(300);
+            Assertions.assertFalse(result.isDone());
+
+            release.countDown();
+
+            Assertions.assertEquals(DebitResult.OK, result.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, executions.get());
+            Assertions.assertEquals(0, useCase.stats().get(0).rejected());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.vr.autorizador.infrastructure.cartao.filter;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BloomFilterCartaoGatewayTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String unknownCardNumber = "7549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    private final CartaoGateway delegate = Mockito.mock(CartaoGateway.class);
+    private BloomFilterCartaoGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.reset(delegate);
+        gateway = new BloomFilterCartaoGateway(delegate, new CartaoBloomFilter(1_000, 0.001));
+    }
+
+    @Test
+    public void deveRecusarCartaoDesconhecidoSemConsultarArmazenamento() {
+        Assertions.assertTrue(gateway.findBy(unknownCardNumber).isEmpty());
+        Assertions.assertEquals(DebitResult.CARTAO_INEXISTENTE, gateway.debit(unknownCardNumber, expectedCardPassword, 10_00L));
+
+        verify(delegate, never()).findBy(any());
+        verify(delegate, never()).debit(any(), any(), anyLong());
+        Assertions.assertEquals(2, gateway.rejected());
+    }
+
+    @Test
+    public void deveCarregarCartoesExistentesDoArmazenamento() {
+        final var cartao = Cartao.newCartao(expectedCardNumber, expectedCardPassword);
+        doAnswer(invocation -> {
+            final Consumer<String> action = invocation.getArgument(0);
+            action.accept(expectedCardNumber);
+            return null;
+        }).when(delegate).forEachNumeroCartao(any());
+        when(delegate.findBy(expectedCardNumber)).thenReturn(Optional.of(cartao));
+
+        gateway.load(delegate);
+
+        Assertions.assertTrue(gateway.findBy(expectedCardNumber).isPresent());
+        verify(delegate).findBy(expectedCardNumber);
+    }
+
+    @Test
+    public void deveConsultarArmazenamentoAposCriarCartao() {
+        final var cartao = Cartao.newCartao(expectedCardNumber, expectedCardPassword);
+        when(delegate.create(cartao)).thenReturn(Optional.of(cartao));
+        when(delegate.debit(expectedCardNumber, expectedCardPassword, 10_00L)).thenReturn(DebitResult.OK);
+
+        Assertions.assertEquals(DebitResult.CARTAO_INEXISTENTE, gateway.debit(expectedCardNumber, expectedCardPassword, 10_00L));
+        gateway.create(cartao);
+
+        Assertions.assertEquals(DebitResult.OK, gateway.debit(expectedCardNumber, expectedCardPassword, 10_00L));
+        verify(delegate).debit(expectedCardNumber, expectedCardPassword, 10_00L);
+    }
+
+    @Test
+    public void deveReconhecerCartaoCriadoEmOutraInstanciaAposRecarga() {
+        doAnswer(invocation -> {
+            final Consumer<String> action = invocation.getArgument(0);
+            action.accept(expectedCardNumber);
+            return null;
+        }).when(delegate).forEachNumeroCartao(any());
+        when(delegate.debit(expectedCardNumber, expectedCardPassword, 10_00L)).thenReturn(DebitResult.OK);
+
+        Assertions.assertEquals(DebitResult.CARTAO_INEXISTENTE, gateway.debit(expectedCardNumber, expectedCardPassword, 10_00L));
+        gateway.refresh(delegate);
+
+        Assertions.assertEquals(DebitResult.OK, gateway.debit(expectedCardNumber, expectedCardPassword, 10_00L));
+        Assertions.assertEquals(1, gateway.refreshed());
+    }
+
+    @Test
+    public void naoDevePerderCartaoCriadoDuranteRecarga() {
+        final var cartao = Cartao.newCartao(expectedCardNumber, expectedCardPassword);
+        when(delegate.create(cartao)).thenReturn(Optional.of(cartao));
+        doAnswer(invocation -> {
+            gateway.create(cartao);
+            return null;
+        }).when(delegate).forEachNumeroCartao(any());
+
+        gateway.refresh(delegate);
+
+        Assertions.assertTrue(gateway.filter().mightContain(expectedCardNumber));
+        Assertions.assertFalse(gateway.filter().mightContain(unknownCardNumber));
+    }
+
+    @Test
+    public void deveDebitarEmLoteApenasCartoesConhecidosMantendoOrdem() {
+        final var cartao = Cartao.newCartao(expectedCardNumber, expectedCardPassword);
+        when(delegate.create(cartao)).thenReturn(Optional.of(cartao));
+        gateway.create(cartao);
+
+        final var known = Debit.with(expectedCardNumber, expectedCardPassword, 10_00L);
+        final var unknown = Debit.with(unknownCardNumber, expectedCardPassword, 10_00L);
+        when(delegate.debitAll(List.of(known, known))).thenReturn(List.of(DebitResult.OK, DebitResult.SALDO_INSUFICIENTE));
+
+        final var results = gateway.debitAll(List.of(unknown, known, unknown, known));
+
+        Assertions.assertEquals(List.of(
+                DebitResult.CARTAO_INEXISTENTE,
+                DebitResult.OK,
+                DebitResult.CARTAO_INEXISTENTE,
+                DebitResult.SALDO_INSUFICIENTE
+        ), results);
+        verify(delegate).debitAll(List.of(known, known));
+    }
+}
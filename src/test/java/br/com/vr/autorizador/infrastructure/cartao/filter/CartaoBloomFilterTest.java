@@ -0,0 +1,60 @@
+package br.com.vr.autorizador.infrastructure.cartao.filter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CartaoBloomFilterTest {
+
+    @Test
+    public void naoDeveRetornarFalsoNegativo() {
+        final var filter = new CartaoBloomFilter(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(cardNumber(i));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            Assertions.assertTrue(filter.mightContain(cardNumber(i)));
+        }
+    }
+
+    @Test
+    public void deveManterTaxaDeFalsoPositivoProximaDaConfigurada() {
+        final var filter = new CartaoBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(cardNumber(i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 10_000; i < 110_000; i++) {
+            if (filter.mightContain(cardNumber(i))) {
+                falsePositives++;
+            }
+        }
+
+        Assertions.assertTrue(falsePositives / 100_000d < 0.02);
+        Assertions.assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+        Assertions.assertEquals(10_000, filter.approximateCount(), 500);
+    }
+
+    @Test
+    public void deveInformarMemoriaOcupada() {
+        final var filter = new CartaoBloomFilter(1_000_000, 0.01);
+
+        Assertions.assertEquals(filter.bitSize() / 8, filter.memoryBytes());
+        Assertions.assertTrue(filter.memoryBytes() < 1_300_000);
+        Assertions.assertEquals(7, filter.hashFunctions());
+        Assertions.assertEquals(0, filter.expectedFalsePositiveRate());
+    }
+
+    @Test
+    public void deveLancarExcecaoComParametrosInvalidos() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CartaoBloomFilter(0, 0.01));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CartaoBloomFilter(1_000, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CartaoBloomFilter(1_000, 1));
+    }
+
+    private static String cardNumber(int i) {
+        return "%016d".formatted(6549873025634501L + i);
+    }
+}
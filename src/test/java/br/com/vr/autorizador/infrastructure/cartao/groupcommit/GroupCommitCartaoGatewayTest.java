@@ -0,0 +1,169 @@
+package br.com.vr.autorizador.infrastructure.cartao.groupcommit;
+
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GroupCommitCartaoGatewayTest {
+
+    private final String expectedCardPassword = "1234";
+
+    private final CartaoGateway delegate = Mockito.mock(CartaoGateway.class);
+    private final List<List<Debit>> batches = new ArrayList<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private GroupCommitCartaoGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.reset(delegate);
+        when(delegate.debitAll(anyList())).thenAnswer(invocation -> {
+            final List<Debit> debits = invocation.getArgument(0);
+            synchronized (batches) {
+                batches.add(List.copyOf(debits));
+            }
+            return debits.stream()
+                    .map(debit -> debit.valor() > 0 ? DebitResult.OK : DebitResult.VALOR_INVALIDO)
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (gateway != null) {
+            gateway.close();
+        }
+    }
+
+    @Test
+    public void deveAgruparDebitosConcorrentesEmUmaUnicaTransacao() throws Exception {
+        gateway = new GroupCommitCartaoGateway(delegate, Duration.ofSeconds(1), 8);
+
+        final var results = debitConcurrently(8, 10_00L);
+
+        for (var result : results) {
+            Assertions.assertEquals(DebitResult.OK, result.get(5, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(1, batches.size());
+        Assertions.assertEquals(8, batches.get(0).size());
+        verify(delegate, never()).debit(any(), any(), anyLong());
+    }
+
+    @Test
+    public void deveRespeitarTamanhoMaximoDoLote() throws Exception {
+        gateway = new GroupCommitCartaoGateway(delegate, Duration.ofMillis(200), 3);
+
+        final var results = debitConcurrently(8, 10_00L);
+
+        for (var result : results) {
+            Assertions.assertEquals(DebitResult.OK, result.get(5, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(8, batches.stream().mapToInt(List::size).sum());
+        Assertions.assertTrue(batches.stream().allMatch(batch -> batch.size() <= 3));
+    }
+
+    @Test
+    public void deveDevolverResultadoDeCadaDebitoAoSeuSolicitante() throws Exception {
+        gateway = new GroupCommitCartaoGateway(delegate, Duration.ofMillis(50), 8);
+
+        final var approved = executor.submit(() -> gateway.debit("6549873025634501", expectedCardPassword, 10_00L));
+        final var declined = executor.submit(() -> gateway.debit("6549873025634502", expectedCardPassword, 0L));
+
+        Assertions.assertEquals(DebitResult.OK, approved.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(DebitResult.VALOR_INVALIDO, declined.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void devePropagarExcecaoDoLoteParaTodosOsSolicitantes() {
+        when(delegate.debitAll(anyList())).thenThrow(new IllegalStateException("Gateway error"));
+        gateway = new GroupCommitCartaoGateway(delegate, Duration.ofMillis(1), 8);
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class,
+                () -> gateway.debit("6549873025634501", expectedCardPassword, 10_00L));
+
+        Assertions.assertEquals("Gateway error", actualException.getMessage());
+    }
+
+    @Test
+    public void deveRecusarDebitoQuandoFilaEstiverCheia() throws Exception {
+        final var committing = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        when(delegate.debitAll(anyList())).thenAnswer(invocation -> {
+            committing.countDown();
+            release.await();
+            final List<Debit> debits = invocation.getArgument(0);
+            return debits.stream().map(debit -> DebitResult.OK).toList();
+        });
+        gateway = new GroupCommitCartaoGateway(delegate, Duration.ofMillis(1), 1, 1);
+
+        final var first = executor.submit(() -> gateway.debit("6549873025634501", expectedCardPassword, 10_00L));
+        Assertions.assertTrue(committing.await(5, TimeUnit.SECONDS));
+        final var second = executor.submit(() -> gateway.debit("6549873025634502", expectedCardPassword, 10_00L));
+        final var third = executor.submit(() -> gateway.debit("6549873025634503", expectedCardPassword, 10_00L));
+
+        final var rejected = new ArrayList<Future<DebitResult>>();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (rejected.isEmpty() && System.nanoTime() < deadline) {
+            for (var pending : List.of(second, third)) {
+                if (pending.isDone()) {
+                    rejected.add(pending);
+                }
+            }
+            Thread.sleep(1);
+        }
+        Assertions.assertEquals(1, rejected.size());
+        final var exception = Assertions.assertThrows(ExecutionException.class, () -> rejected.get(0).get());
+        Assertions.assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+
+        release.countDown();
+        Assertions.assertEquals(DebitResult.OK, first.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(DebitResult.OK, (rejected.get(0) == second ? third : second).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void deveDebitarDiretamenteAposFechamento() {
+        when(delegate.debit("6549873025634501", expectedCardPassword, 10_00L)).thenReturn(DebitResult.OK);
+        gateway = new GroupCommitCartaoGateway(delegate, Duration.ofMillis(1), 8);
+        gateway.close();
+
+        Assertions.assertEquals(DebitResult.OK, gateway.debit("6549873025634501", expectedCardPassword, 10_00L));
+        verify(delegate, never()).debitAll(anyList());
+    }
+
+    private List<Future<DebitResult>> debitConcurrently(int count, long valor) {
+        final var start = new CountDownLatch(1);
+        final List<Future<DebitResult>> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final var numeroCartao = "65498730256345%02d".formatted(i);
+            results.add(executor.submit(() -> {
+                start.await();
+                return gateway.debit(numeroCartao, expectedCardPassword, valor);
+            }));
+        }
+        start.countDown();
+        return results;
+    }
+}
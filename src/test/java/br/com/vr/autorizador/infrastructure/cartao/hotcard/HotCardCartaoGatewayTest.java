@@ -0,0 +1,183 @@
+package br.com.vr.autorizador.infrastructure.cartao.hotcard;
+
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class HotCardCartaoGatewayTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    private final CartaoGateway delegate = Mockito.mock(CartaoGateway.class);
+    private final AtomicLong ticker = new AtomicLong();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private HotCardCartaoGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.reset(delegate);
+        when(delegate.debitAll(anyList())).thenAnswer(invocation -> {
+            final List<Debit> debits = invocation.getArgument(0);
+            return debits.stream().map(debit -> DebitResult.OK).toList();
+        });
+        gateway = new HotCardCartaoGateway(delegate, 1, 2, 16, 64, Duration.ofSeconds(1), ticker::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.close();
+    }
+
+    @Test
+    public void deveManterCaminhoDiretoParaCartaoSemDisputa() {
+        when(delegate.debit(expectedCardNumber, expectedCardPassword, 10_00L)).thenReturn(DebitResult.OK);
+
+        Assertions.assertEquals(DebitResult.OK, gateway.debit(expectedCardNumber, expectedCardPassword, 10_00L));
+        Assertions.assertEquals(DebitResult.OK, gateway.debit(expectedCardNumber, expectedCardPassword, 10_00L));
+
+        Assertions.assertTrue(gateway.hotCards().isEmpty());
+        verify(delegate, times(2)).debit(expectedCardNumber, expectedCardPassword, 10_00L);
+        verify(delegate, never()).debitAll(anyList());
+    }
+
+    @Test
+    public void deveSerializarCartaoComDebitosConcorrentes() throws Exception {
+        makeHot(expectedCardNumber);
+
+        Assertions.assertEquals(Set.of(expectedCardNumber), gateway.hotCards());
+        Assertions.assertEquals(DebitResult.OK, gateway.debit(expectedCardNumber, expectedCardPassword, 10_00L));
+
+        verify(delegate, times(1)).debit(any(), any(), anyLong());
+        verify(delegate, times(2)).debitAll(List.of(Debit.with(expectedCardNumber, expectedCardPassword, 10_00L)));
+    }
+
+    @Test
+    public void deveAgruparDebitosEnfileiradosDoCartaoDisputado() throws Exception {
+        makeHot(expectedCardNumber);
+        Mockito.reset(delegate);
+
+        final var firstBatchStarted = new CountDownLatch(1);
+        final var releaseFirstBatch = new CountDownLatch(1);
+        when(delegate.debitAll(anyList())).thenAnswer(invocation -> {
+            final List<Debit> debits = invocation.getArgument(0);
+            if (firstBatchStarted.getCount() > 0) {
+                firstBatchStarted.countDown();
+                releaseFirstBatch.await();
+            }
+            return debits.stream()
+                    .map(debit -> debit.valor() > 100_00L ? DebitResult.SALDO_INSUFICIENTE : DebitResult.OK)
+                    .toList();
+        });
+
+        final var first = CompletableFuture.supplyAsync(() -> gateway.debit(expectedCardNumber, expectedCardPassword, 1_00L), executor);
+        Assertions.assertTrue(firstBatchStarted.await(5, TimeUnit.SECONDS));
+        final var queued = List.of(
+                CompletableFuture.supplyAsync(() -> gateway.debit(expectedCardNumber, expectedCardPassword, 2_00L), executor),
+                CompletableFuture.supplyAsync(() -> gateway.debit(expectedCardNumber, expectedCardPassword, 200_00L), executor),
+                CompletableFuture.supplyAsync(() -> gateway.debit(expectedCardNumber, expectedCardPassword, 3_00L), executor));
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queuedDebits() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        releaseFirstBatch.countDown();
+
+        Assertions.assertEquals(DebitResult.OK, first.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(DebitResult.OK, queued.get(0).get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(DebitResult.SALDO_INSUFICIENTE, queued.get(1).get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(DebitResult.OK, queued.get(2).get(5, TimeUnit.SECONDS));
+        verify(delegate, times(2)).debitAll(anyList());
+        verify(delegate, never()).debit(any(), any(), anyLong());
+    }
+
+    @Test
+    public void deveVoltarAoCaminhoDiretoAposPeriodoSemDisputa() throws Exception {
+        makeHot(expectedCardNumber);
+        when(delegate.debit(expectedCardNumber, expectedCardPassword, 10_00L)).thenReturn(DebitResult.OK);
+
+        gateway.sweep();
+        Assertions.assertEquals(Set.of(expectedCardNumber), gateway.hotCards());
+
+        ticker.addAndGet(Duration.ofSeconds(2).toNanos());
+        gateway.sweep();
+
+        Assertions.assertTrue(gateway.hotCards().isEmpty());
+        Assertions.assertEquals(DebitResult.OK, gateway.debit(expectedCardNumber, expectedCardPassword, 10_00L));
+        verify(delegate, times(2)).debit(expectedCardNumber, expectedCardPassword, 10_00L);
+    }
+
+    @Test
+    public void deveExporCartoesDisputadosComoMetrica() throws Exception {
+        final var registry = new SimpleMeterRegistry();
+        gateway.bindTo(registry);
+
+        makeHot(expectedCardNumber);
+
+        Assertions.assertEquals(1.0, registry.get("autorizador.cartao.hot").gauge().value());
+        Assertions.assertEquals(1.0, registry.get("autorizador.cartao.hot.promoted").functionCounter().count());
+        Assertions.assertEquals(1.0, registry.get("autorizador.cartao.hot.serialized").functionCounter().count());
+        Assertions.assertEquals(0.0, registry.get("autorizador.cartao.hot.queued")
+                .tag("cartao", "654987******4501").gauge().value());
+    }
+
+    @Test
+    public void deveLimitarQuantidadeDeCartoesSerializados() throws Exception {
+        gateway.close();
+        gateway = new HotCardCartaoGateway(delegate, 1, 2, 1, 64, Duration.ofSeconds(1), ticker::get);
+
+        makeHot(expectedCardNumber);
+        makeHot("6549873025634502");
+
+        Assertions.assertEquals(Set.of(expectedCardNumber), gateway.hotCards());
+    }
+
+    private void makeHot(String numeroCartao) throws Exception {
+        final var blocked = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        when(delegate.debit(numeroCartao, expectedCardPassword, 10_00L)).thenAnswer(invocation -> {
+            if (blocked.getCount() > 0) {
+                blocked.countDown();
+                release.await();
+            }
+            return DebitResult.OK;
+        });
+
+        final var first = CompletableFuture.supplyAsync(() -> gateway.debit(numeroCartao, expectedCardPassword, 10_00L), executor);
+        Assertions.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(DebitResult.OK, gateway.debit(numeroCartao, expectedCardPassword, 10_00L));
+
+        release.countDown();
+        Assertions.assertEquals(DebitResult.OK, first.get(5, TimeUnit.SECONDS));
+    }
+
+    private int queuedDebits() {
+        final var registry = new SimpleMeterRegistry();
+        gateway.bindTo(registry);
+        return (int) registry.get("autorizador.cartao.hot.queued").gauge().value();
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.vr.autorizador.infrastructure.cartao.ledger;
+
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.transacao.Transacao;
+import br.com.vr.autorizador.infrastructure.transacao.TransacaoLedgerWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LedgerCartaoGatewayTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+    private final Instant now = Instant.parse("2024-08-01T12:00:00Z");
+
+    private final CartaoGateway delegate = Mockito.mock(CartaoGateway.class);
+    private final TransacaoLedgerWriter writer = Mockito.mock(TransacaoLedgerWriter.class);
+    private final LedgerCartaoGateway gateway = new LedgerCartaoGateway(delegate, writer, Clock.fixed(now, ZoneOffset.UTC));
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(delegate, writer);
+    }
+
+    @Test
+    public void deveRegistrarDebitoAprovado() {
+        when(delegate.debit(expectedCardNumber, expectedCardPassword, 10_00L)).thenReturn(DebitResult.OK);
+
+        Assertions.assertEquals(DebitResult.OK, gateway.debit(expectedCardNumber, expectedCardPassword, 10_00L));
+
+        verify(writer).append(Transacao.newTransacao(expectedCardNumber, 10_00L, DebitResult.OK, now));
+    }
+
+    @Test
+    public void deveRegistrarDebitoRecusado() {
+        when(delegate.debit(expectedCardNumber, "4321", 10_00L)).thenReturn(DebitResult.SENHA_INVALIDA);
+
+        gateway.debit(expectedCardNumber, "4321", 10_00L);
+
+        verify(writer).append(Transacao.newTransacao(expectedCardNumber, 10_00L, DebitResult.SENHA_INVALIDA, now));
+    }
+
+    @Test
+    public void naoDeveRegistrarDebitoDeCartaoInexistente() {
+        when(delegate.debit(any(), any(), Mockito.anyLong())).thenReturn(DebitResult.CARTAO_INEXISTENTE);
+
+        gateway.debit(expectedCardNumber, expectedCardPassword, 10_00L);
+
+        verify(writer, never()).append(any());
+    }
+
+    @Test
+    public void deveRegistrarDebitosEmLote() {
+        final var debits = List.of(
+                Debit.with(expectedCardNumber, expectedCardPassword, 10_00L),
+                Debit.with("7549873025634501", expectedCardPassword, 20_00L),
+                Debit.with(expectedCardNumber, expectedCardPassword, 600_00L)
+        );
+        when(delegate.debitAll(debits))
+                .thenReturn(List.of(DebitResult.OK, DebitResult.CARTAO_INEXISTENTE, DebitResult.SALDO_INSUFICIENTE));
+
+        gateway.debitAll(debits);
+
+        final var captor = ArgumentCaptor.forClass(Transacao.class);
+        verify(writer, times(2)).append(captor.capture());
+        Assertions.assertEquals(List.of(DebitResult.OK, DebitResult.SALDO_INSUFICIENTE),
+                captor.getAllValues().stream().map(Transacao::resultado).toList());
+    }
+}
@@ -0,0 +1,284 @@
+package br.com.vr.autorizador.infrastructure.cartao.memory;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import br.com.vr.autorizador.infrastructure.cartao.AbstractCartaoGatewayTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+public class CartaoInMemoryGatewayTest extends AbstractCartaoGatewayTest {
+
+    @TempDir
+    Path directory;
+
+    private CartaoInMemoryGateway cartaoGateway;
+    private Cartao newCard;
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    @BeforeEach
+    void setUp() {
+        cartaoGateway = open(64 * 1024);
+        newCard = Cartao.newCartao(expectedCardNumber, expectedCardPassword);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartaoGateway.close();
+    }
+
+    @Override
+    protected CartaoGateway cartaoGateway() {
+        return cartaoGateway;
+    }
+
+    @Test
+    public void deveCriarEConsultarCartao() {
+        cartaoGateway.create(newCard);
+
+        final var cardFound = cartaoGateway.findBy(expectedCardNumber).get();
+        Assertions.assertEquals(expectedCardNumber, cardFound.getNumeroCartao());
+        Assertions.assertEquals(expectedCardPassword, cardFound.getSenha());
+        Assertions.assertEquals(500_00L, cardFound.getSaldo());
+        Assertions.assertTrue(cartaoGateway.findBy("7549873025634501").isEmpty());
+    }
+
+    @Test
+    public void naoDeveSobrescreverCartaoJaCadastrado() {
+        Assertions.assertTrue(cartaoGateway.create(newCard).isPresent());
+        cartaoGateway.debit(expectedCardNumber, expectedCardPassword, 10_00L);
+
+        Assertions.assertTrue(cartaoGateway.create(Cartao.newCartao(expectedCardNumber, "4321")).isEmpty());
+
+        final var cardFound = cartaoGateway.findBy(expectedCardNumber).get();
+        Assertions.assertEquals(expectedCardPassword, cardFound.getSenha());
+        Assertions.assertEquals(490_00L, cardFound.getSaldo());
+    }
+
+    @Test
+    public void deveDebitarERecusarConformeRegrasDoCartao() {
+        cartaoGateway.create(newCard);
+
+        Assertions.assertEquals(DebitResult.OK, cartaoGateway.debit(expectedCardNumber, expectedCardPassword, 10_00L));
+        Assertions.assertEquals(DebitResult.SENHA_INVALIDA, cartaoGateway.debit(expectedCardNumber, "4321", 10_00L));
+        Assertions.assertEquals(DebitResult.VALOR_INVALIDO, cartaoGateway.debit(expectedCardNumber, expectedCardPassword, 0L));
+        Assertions.assertEquals(DebitResult.SALDO_INSUFICIENTE, cartaoGateway.debit(expectedCardNumber, expectedCardPassword, 491_00L));
+        Assertions.assertEquals(DebitResult.CARTAO_INEXISTENTE, cartaoGateway.debit("7549873025634501", expectedCardPassword, 10_00L));
+
+        Assertions.assertEquals(490_00L, cartaoGateway.findBy(expectedCardNumber).get().getSaldo());
+    }
+
+    @Test
+    public void deveRecuperarSaldosDoJournalAoReiniciar() {
+        cartaoGateway.create(newCard);
+        cartaoGateway.debit(expectedCardNumber, expectedCardPassword, 10_50L);
+        cartaoGateway.close();
+
+        cartaoGateway = open(64 * 1024);
+
+        Assertions.assertEquals(489_50L, cartaoGateway.findBy(expectedCardNumber).get().getSaldo());
+    }
+
+    @Test
+    public void deveRecuperarSaldosDoSnapshotMaisJournalAoReiniciar() {
+        cartaoGateway.create(newCard);
+        cartaoGateway.debit(expectedCardNumber, expectedCardPassword, 10_00L);
+        cartaoGateway.snapshot();
+        cartaoGateway.debit(expectedCardNumber, expectedCardPassword, 10_00L);
+        cartaoGateway.close();
+
+        cartaoGateway = open(64 * 1024);
+
+        Assertions.assertEquals(480_00L, cartaoGateway.findBy(expectedCardNumber).get().getSaldo());
+    }
+
+    @Test
+    public void deveRecuperarReservasDoJournalAoReiniciar() {
+        cartaoGateway.create(newCard);
+        final var capturada = newReserva(100_00L);
+        final var liberada = newReserva(50_00L);
+        final var pendente = newReserva(30_00L);
+        cartaoGateway.hold(capturada, expectedCardPassword);
+        cartaoGateway.hold(liberada, expectedCardPassword);
+        cartaoGateway.hold(pendente, expectedCardPassword);
+        cartaoGateway.capture(capturada, 80_00L);
+        cartaoGateway.release(liberada);
+        cartaoGateway.close();
+
+        cartaoGateway = open(64 * 1024);
+
+        assertReservaPendenteRecuperada(pendente);
+    }
+
+    @Test
+    public void deveRecuperarReservasDoSnapshotMaisJournalAoReiniciar() {
+        cartaoGateway.create(newCard);
+        final var capturada = newReserva(100_00L);
+        final var liberada = newReserva(50_00L);
+        final var pendente = newReserva(30_00L);
+        cartaoGateway.hold(capturada, expectedCardPassword);
+        cartaoGateway.hold(liberada, expectedCardPassword);
+        cartaoGateway.snapshot();
+        cartaoGateway.hold(pendente, expectedCardPassword);
+        cartaoGateway.capture(capturada, 80_00L);
+        cartaoGateway.release(liberada);
+        cartaoGateway.close();
+
+        cartaoGateway = open(64 * 1024);
+
+        assertReservaPendenteRecuperada(pendente);
+    }
+
+    @Test
+    public void deveRotacionarJournalQuandoCapacidadeEsgotar() {
+        cartaoGateway.close();
+        cartaoGateway = open(256);
+        cartaoGateway.create(newCard);
+
+        for (int i = 0; i < 50; i++) {
+            Assertions.assertEquals(DebitResult.OK, cartaoGateway.debit(expectedCardNumber, expectedCardPassword, 1_00L));
+        }
+        cartaoGateway.close();
+
+        cartaoGateway = open(256);
+
+        Assertions.assertEquals(450_00L, cartaoGateway.findBy(expectedCardNumber).get().getSaldo());
+    }
+
+    @Test
+    public void deveManterSaldoConsistenteComDebitosConcorrentes() throws Exception {
+        cartaoGateway.create(newCard);
+        final var approved = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(16);
+
+        for (int i = 0; i < 100; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (cartaoGateway.debit(expectedCardNumber, expectedCardPassword, 10_00L).isApproved()) {
+                    approved.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(50, approved.get());
+        Assertions.assertEquals(0L, cartaoGateway.findBy(expectedCardNumber).get().getSaldo());
+    }
+
+    @Test
+    public void deveRecuperarMuitosCartoesDoSnapshotCompacto() {
+        final var numeros = IntStream.range(0, 10_000)
+                .mapToObj(i -> "%016d".formatted(i * 7919L))
+                .toList();
+        numeros.forEach(numero -> cartaoGateway.create(Cartao.newCartao(numero, expectedCardPassword)));
+        Assertions.assertEquals(DebitResult.OK, cartaoGateway.debit("0000000000007919", expectedCardPassword, 1_00L));
+        cartaoGateway.snapshot();
+        cartaoGateway.close();
+
+        cartaoGateway = open(64 * 1024);
+
+        final var recovered = new HashSet<String>();
+        cartaoGateway.forEachNumeroCartao(recovered::add);
+        Assertions.assertEquals(new HashSet<>(numeros), recovered);
+        Assertions.assertEquals(499_00L, cartaoGateway.findBy("0000000000007919").get().getSaldo());
+        Assertions.assertEquals(500_00L, cartaoGateway.findBy("0000000000000000").get().getSaldo());
+    }
+
+    @Test
+    public void deveRecuperarSnapshotNoFormatoAnterior() throws Exception {
+        cartaoGateway.close();
+        try (var files = Files.list(directory)) {
+            for (var file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+
+        final var crc = new CRC32();
+        try (var out = new DataOutputStream(new CheckedOutputStream(
+                Files.newOutputStream(directory.resolve("snapshot-%020d.bin".formatted(1))), crc))) {
+            out.writeInt(0x43415254);
+            out.writeInt(2);
+            out.writeInt(1);
+            out.writeUTF(expectedCardNumber);
+            out.writeUTF(expectedCardPassword);
+            out.writeLong(123_45L);
+            out.flush();
+            out.writeLong(crc.getValue());
+        }
+
+        cartaoGateway = open(64 * 1024);
+
+        Assertions.assertEquals(123_45L, cartaoGateway.findBy(expectedCardNumber).get().getSaldo());
+    }
+
+    @Test
+    public void deveRecusarCriacaoDeCartaoComNumeroForaDoFormato() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> cartaoGateway.create(Cartao.newCartao("654987302563450A", expectedCardPassword)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> cartaoGateway.create(Cartao.newCartao("123", expectedCardPassword)));
+    }
+
+    @Test
+    public void deveFalharEsperaERecusarNovasGravacoesQuandoForceDoJournalFalhar() throws Exception {
+        final var journal = new CartaoJournal(directory.resolve("falha.log"), 4 * 1024, 0, buffer -> {
+            throw new UncheckedIOException(new IOException("disco cheio"));
+        });
+        try {
+            final int position = journal.appendDebit(expectedCardNumber, 10_00L);
+            final var executor = Executors.newSingleThreadExecutor();
+            final var waiter = executor.submit(() -> journal.awaitDurable(position));
+
+            final var failure = Assertions.assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+            executor.shutdown();
+            Assertions.assertInstanceOf(IllegalStateException.class, failure.getCause());
+            Assertions.assertTrue(journal.failed());
+            Assertions.assertThrows(IllegalStateException.class, () -> journal.appendDebit(expectedCardNumber, 10_00L));
+        } finally {
+            journal.close();
+        }
+    }
+
+    private void assertReservaPendenteRecuperada(Reserva pendente) {
+        final var cardFound = cartaoGateway.findBy(expectedCardNumber).get();
+        Assertions.assertEquals(420_00L, cardFound.getSaldo());
+        Assertions.assertEquals(30_00L, cardFound.getSaldoReservado());
+
+        final var reservas = new ArrayList<Reserva>();
+        cartaoGateway.forEachReserva(reservas::add);
+        Assertions.assertEquals(List.of(pendente), reservas);
+        Assertions.assertEquals(Optional.of(pendente), cartaoGateway.findReserva(pendente.id()));
+    }
+
+    private CartaoInMemoryGateway open(int journalCapacity) {
+        return new CartaoInMemoryGateway(directory, journalCapacity, Duration.ofMillis(1), Duration.ofMinutes(5));
+    }
+}
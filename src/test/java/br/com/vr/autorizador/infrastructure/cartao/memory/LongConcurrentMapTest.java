@@ -0,0 +1,80 @@
+package br.com.vr.autorizador.infrastructure.cartao.memory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LongConcurrentMapTest {
+
+    @Test
+    public void deveInserirUmaVezEConsultarPorChavePrimitiva() {
+        final var map = new LongConcurrentMap<String>(4);
+        final var created = new AtomicInteger();
+
+        Assertions.assertEquals("a", map.computeIfAbsent(6549873025634501L, key -> {
+            created.incrementAndGet();
+            return "a";
+        }));
+        Assertions.assertEquals("a", map.computeIfAbsent(6549873025634501L, key -> "b"));
+
+        Assertions.assertEquals("a", map.get(6549873025634501L));
+        Assertions.assertNull(map.get(7549873025634501L));
+        Assertions.assertNull(map.get(-1L));
+        Assertions.assertEquals(1, created.get());
+        Assertions.assertEquals(1, map.size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> map.computeIfAbsent(-1L, key -> "c"));
+    }
+
+    @Test
+    public void deveCrescerMantendoTodasAsEntradas() {
+        final var map = new LongConcurrentMap<Long>(2);
+        for (long key = 0; key < 100_000; key++) {
+            map.computeIfAbsent(key * 31, Long::valueOf);
+        }
+
+        Assertions.assertEquals(100_000, map.size());
+        for (long key = 0; key < 100_000; key++) {
+            Assertions.assertEquals(key * 31, map.get(key * 31));
+        }
+
+        final Map<Long, Long> entries = new HashMap<>();
+        map.forEach(entries::put);
+        Assertions.assertEquals(100_000, entries.size());
+        entries.forEach((key, value) -> Assertions.assertEquals(key, value));
+    }
+
+    @Test
+    public void deveCriarApenasUmValorPorChaveComInsercoesConcorrentes() throws Exception {
+        final var map = new LongConcurrentMap<Long>(8);
+        final var created = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(8);
+
+        for (int thread = 0; thread < 8; thread++) {
+            executor.submit(() -> {
+                start.await();
+                for (long key = 0; key < 20_000; key++) {
+                    final long expected = key;
+                    Assertions.assertEquals(expected, map.computeIfAbsent(key, value -> {
+                        created.incrementAndGet();
+                        return expected;
+                    }));
+                    Assertions.assertEquals(expected, map.get(key));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(20_000, created.get());
+        Assertions.assertEquals(20_000, map.size());
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.vr.autorizador.infrastructure.cartao.metrics;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class MeteredCartaoGatewayTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    private final CartaoGateway delegate = Mockito.mock(CartaoGateway.class);
+    private SimpleMeterRegistry registry;
+    private MeteredCartaoGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.reset(delegate);
+        registry = new SimpleMeterRegistry();
+        gateway = new MeteredCartaoGateway(delegate, registry);
+    }
+
+    @Test
+    public void deveContabilizarDebitosPorResultado() {
+        when(delegate.debit(expectedCardNumber, expectedCardPassword, 10_00L)).thenReturn(DebitResult.OK);
+        when(delegate.debit(expectedCardNumber, "4321", 10_00L)).thenReturn(DebitResult.SENHA_INVALIDA);
+        when(delegate.debit(expectedCardNumber, expectedCardPassword, 600_00L)).thenReturn(DebitResult.SALDO_INSUFICIENTE);
+
+        gateway.debit(expectedCardNumber, expectedCardPassword, 10_00L);
+        gateway.debit(expectedCardNumber, expectedCardPassword, 10_00L);
+        gateway.debit(expectedCardNumber, "4321", 10_00L);
+        gateway.debit(expectedCardNumber, expectedCardPassword, 600_00L);
+
+        Assertions.assertEquals(2, count(DebitResult.OK));
+        Assertions.assertEquals(1, count(DebitResult.SENHA_INVALIDA));
+        Assertions.assertEquals(1, count(DebitResult.SALDO_INSUFICIENTE));
+        Assertions.assertEquals(0, count(DebitResult.CARTAO_INEXISTENTE));
+        Assertions.assertEquals(4, stage("persist").count());
+    }
+
+    @Test
+    public void deveContabilizarCadaItemDoLote() {
+        when(delegate.debitAll(any())).thenReturn(List.of(DebitResult.OK, DebitResult.CARTAO_INEXISTENTE, DebitResult.VALOR_INVALIDO));
+
+        gateway.debitAll(List.of(
+                Debit.with(expectedCardNumber, expectedCardPassword, 10_00L),
+                Debit.with("7549873025634501", expectedCardPassword, 10_00L),
+                Debit.with(expectedCardNumber, expectedCardPassword, 0L)
+        ));
+
+        Assertions.assertEquals(1, count(DebitResult.OK));
+        Assertions.assertEquals(1, count(DebitResult.CARTAO_INEXISTENTE));
+        Assertions.assertEquals(1, count(DebitResult.VALOR_INVALIDO));
+        Assertions.assertEquals(1, stage("persist-batch").count());
+    }
+
+    @Test
+    public void deveMedirLatenciaDaConsultaECriacao() {
+        final var cartao = Cartao.newCartao(expectedCardNumber, expectedCardPassword);
+        when(delegate.findBy(expectedCardNumber)).thenReturn(Optional.of(cartao));
+        when(delegate.create(cartao)).thenReturn(Optional.of(cartao));
+
+        Assertions.assertSame(cartao, gateway.findBy(expectedCardNumber).get());
+        Assertions.assertSame(cartao, gateway.create(cartao).get());
+
+        Assertions.assertEquals(1, stage("lookup").count());
+        Assertions.assertEquals(1, stage("create").count());
+    }
+
+    private double count(DebitResult result) {
+        return registry.get(MeteredCartaoGateway.DEBIT_COUNTER).tag("resultado", result.name()).counter().count();
+    }
+
+    private Timer stage(String stage) {
+        return registry.get(MeteredCartaoGateway.STAGE_TIMER).tag("stage", stage).timer();
+    }
+}
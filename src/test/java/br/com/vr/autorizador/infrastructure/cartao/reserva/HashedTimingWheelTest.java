@@ -0,0 +1,99 @@
+package br.com.vr.autorizador.infrastructure.cartao.reserva;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class HashedTimingWheelTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+    private final List<String> expired = new ArrayList<>();
+    private HashedTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        ticker.set(0);
+        expired.clear();
+        wheel = new HashedTimingWheel(Duration.ofMillis(10), 8, Runnable::run, ticker::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    @Test
+    public void deveExpirarApenasAposOPrazo() {
+        wheel.schedule(() -> expired.add("a"), Duration.ofMillis(25));
+
+        advance(Duration.ofMillis(20));
+        Assertions.assertTrue(expired.isEmpty());
+        Assertions.assertEquals(1, wheel.active());
+
+        advance(Duration.ofMillis(10));
+        Assertions.assertEquals(List.of("a"), expired);
+        Assertions.assertEquals(0, wheel.active());
+    }
+
+    @Test
+    public void deveExpirarPrazosMaioresQueUmaVoltaDaRoda() {
+        wheel.schedule(() -> expired.add("curto"), Duration.ofMillis(30));
+        wheel.schedule(() -> expired.add("longo"), Duration.ofMillis(170));
+
+        advance(Duration.ofMillis(100));
+        Assertions.assertEquals(List.of("curto"), expired);
+
+        advance(Duration.ofMillis(60));
+        Assertions.assertEquals(List.of("curto"), expired);
+
+        advance(Duration.ofMillis(20));
+        Assertions.assertEquals(List.of("curto", "longo"), expired);
+    }
+
+    @Test
+    public void deveIgnorarTimeoutCancelado() {
+        final var timeout = wheel.schedule(() -> expired.add("a"), Duration.ofMillis(10));
+        wheel.schedule(() -> expired.add("b"), Duration.ofMillis(10));
+
+        Assertions.assertTrue(timeout.cancel());
+        Assertions.assertFalse(timeout.cancel());
+        Assertions.assertEquals(1, wheel.active());
+
+        advance(Duration.ofMillis(30));
+        Assertions.assertEquals(List.of("b"), expired);
+        Assertions.assertFalse(timeout.isExpired());
+    }
+
+    @Test
+    public void deveExpirarPrazoJaVencidoNoProximoTick() {
+        advance(Duration.ofMillis(50));
+        final var timeout = wheel.schedule(() -> expired.add("a"), Duration.ofMillis(-5));
+
+        advance(Duration.ofMillis(10));
+        Assertions.assertEquals(List.of("a"), expired);
+        Assertions.assertTrue(timeout.isExpired());
+        Assertions.assertFalse(timeout.cancel());
+    }
+
+    @Test
+    public void deveExpirarComRelogioReal() throws InterruptedException {
+        final var latch = new CountDownLatch(1);
+        try (var realWheel = new HashedTimingWheel(Duration.ofMillis(5), 16, Runnable::run)) {
+            realWheel.schedule(latch::countDown, Duration.ofMillis(20));
+            Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private void advance(Duration duration) {
+        ticker.addAndGet(duration.toNanos());
+        wheel.advance();
+    }
+}
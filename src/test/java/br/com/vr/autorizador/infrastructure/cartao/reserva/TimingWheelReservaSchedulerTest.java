@@ -0,0 +1,138 @@
+package br.com.vr.autorizador.infrastructure.cartao.reserva;
+
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TimingWheelReservaSchedulerTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final Instant now = Instant.parse("2024-08-01T12:00:00Z");
+
+    private final CartaoGateway cartaoGateway = Mockito.mock(CartaoGateway.class);
+    private final AtomicLong ticker = new AtomicLong();
+    private HashedTimingWheel wheel;
+    private TimingWheelReservaScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.reset(cartaoGateway);
+        ticker.set(0);
+        wheel = new HashedTimingWheel(Duration.ofSeconds(1), 64, Runnable::run, ticker::get);
+        scheduler = new TimingWheelReservaScheduler(cartaoGateway, wheel, Duration.ofSeconds(2), Duration.ofSeconds(4),
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void deveLiberarReservaExpirada() {
+        final var reserva = Reserva.newReserva(expectedCardNumber, 10_00L, now.plusSeconds(30));
+        when(cartaoGateway.release(reserva)).thenReturn(true);
+
+        scheduler.schedule(reserva);
+        advance(Duration.ofSeconds(29));
+        verify(cartaoGateway, never()).release(any());
+
+        advance(Duration.ofSeconds(2));
+        verify(cartaoGateway, times(1)).release(reserva);
+        Assertions.assertEquals(1, scheduler.expired());
+    }
+
+    @Test
+    public void deveReagendarLiberacaoComBackoffQuandoFalhar() {
+        final var reserva = Reserva.newReserva(expectedCardNumber, 10_00L, now.plusSeconds(30));
+        when(cartaoGateway.release(reserva))
+                .thenThrow(new IllegalStateException("banco indisponível"))
+                .thenThrow(new IllegalStateException("banco indisponível"))
+                .thenReturn(true);
+
+        scheduler.schedule(reserva);
+        advance(Duration.ofSeconds(31));
+        verify(cartaoGateway, times(1)).release(reserva);
+        Assertions.assertEquals(1, wheel.active());
+
+        advance(Duration.ofSeconds(3));
+        verify(cartaoGateway, times(2)).release(reserva);
+
+        advance(Duration.ofSeconds(3));
+        verify(cartaoGateway, times(2)).release(reserva);
+
+        advance(Duration.ofSeconds(2));
+        verify(cartaoGateway, times(3)).release(reserva);
+        Assertions.assertEquals(1, scheduler.expired());
+        Assertions.assertEquals(2, scheduler.retried());
+        Assertions.assertEquals(0, wheel.active());
+    }
+
+    @Test
+    public void naoDeveReagendarLiberacaoDeReservaCanceladaAposFalha() {
+        final var reserva = Reserva.newReserva(expectedCardNumber, 10_00L, now.plusSeconds(30));
+        when(cartaoGateway.release(reserva)).thenThrow(new IllegalStateException("banco indisponível"));
+
+        scheduler.schedule(reserva);
+        advance(Duration.ofSeconds(31));
+        scheduler.cancel(reserva.id());
+        advance(Duration.ofSeconds(60));
+
+        verify(cartaoGateway, times(1)).release(reserva);
+        Assertions.assertEquals(0, wheel.active());
+    }
+
+    @Test
+    public void naoDeveLiberarReservaCancelada() {
+        final var reserva = Reserva.newReserva(expectedCardNumber, 10_00L, now.plusSeconds(30));
+
+        scheduler.schedule(reserva);
+        scheduler.cancel(reserva.id());
+        advance(Duration.ofSeconds(60));
+
+        verify(cartaoGateway, never()).release(any());
+        Assertions.assertEquals(0, wheel.active());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void deveAgendarReservasExistentesAoCarregar() {
+        final var vencida = Reserva.newReserva(expectedCardNumber, 10_00L, now.minusSeconds(5));
+        final var ativa = Reserva.newReserva(expectedCardNumber, 20_00L, now.plusSeconds(300));
+        Mockito.doAnswer(invocation -> {
+            final Consumer<Reserva> action = invocation.getArgument(0);
+            action.accept(vencida);
+            action.accept(ativa);
+            return null;
+        }).when(cartaoGateway).forEachReserva(any());
+        when(cartaoGateway.release(any())).thenReturn(true);
+
+        scheduler.load();
+        advance(Duration.ofSeconds(1));
+
+        verify(cartaoGateway, times(1)).release(vencida);
+        verify(cartaoGateway, never()).release(ativa);
+
+        final var registry = new SimpleMeterRegistry();
+        scheduler.bindTo(registry);
+        Assertions.assertEquals(1.0, registry.get("autorizador.reserva.active").gauge().value());
+        Assertions.assertEquals(1.0, registry.get("autorizador.reserva.expired").functionCounter().count());
+    }
+
+    private void advance(Duration duration) {
+        ticker.addAndGet(duration.toNanos());
+        wheel.advance();
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.vr.autorizador.infrastructure.cartao.shard;
+
+import br.com.vr.autorizador.infrastructure.MySQLGatewayTest;
+import br.com.vr.autorizador.infrastructure.cartao.shard.persistence.ShardMapRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Map;
+
+@MySQLGatewayTest
+public class ShardMapMySQLGatewayTest {
+
+    @Autowired
+    private ShardMapMySQLGateway gateway;
+    @Autowired
+    private ShardMapRepository repository;
+
+    @Test
+    public void deveGravarECarregarMapaDeShards() {
+        Assertions.assertTrue(gateway.load().isEmpty());
+
+        gateway.saveAll(Map.of(0, 0, 1, 1, 2, 0));
+        gateway.save(2, 1);
+        gateway.save(3, 0);
+
+        Assertions.assertEquals(Map.of(0, 0, 1, 1, 2, 1, 3, 0), gateway.load());
+        Assertions.assertEquals(4, repository.count());
+    }
+}
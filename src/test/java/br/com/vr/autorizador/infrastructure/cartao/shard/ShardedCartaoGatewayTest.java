@@ -0,0 +1,221 @@
+package br.com.vr.autorizador.infrastructure.cartao.shard;
+
+import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.CartaoGateway;
+import br.com.vr.autorizador.domain.cartao.Debit;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import br.com.vr.autorizador.infrastructure.cartao.AbstractCartaoGatewayTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+public class ShardedCartaoGatewayTest extends AbstractCartaoGatewayTest {
+
+    private static final int BUCKETS = 64;
+
+    private final String expectedCardPassword = "1234";
+    private final InMemoryShardMapStore store = new InMemoryShardMapStore();
+    private final List<CartaoShard> shards = new ArrayList<>();
+    private ShardedCartaoGateway cartaoGateway;
+
+    @BeforeEach
+    void setUp() {
+        store.assignments.clear();
+        final var database = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            final var dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:shard-%s-%d;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1".formatted(database, i));
+            final var shard = new CartaoShard(i, BUCKETS, dataSource);
+            shard.initializeSchema();
+            shards.add(shard);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        shards.clear();
+        cartaoGateway = null;
+    }
+
+    @Override
+    protected CartaoGateway cartaoGateway() {
+        if (cartaoGateway == null) {
+            cartaoGateway = new ShardedCartaoGateway(shards, BUCKETS, store);
+        }
+        return cartaoGateway;
+    }
+
+    @Test
+    public void deveDistribuirCartoesPorHashEstavelDoNumero() {
+        final var gateway = new ShardedCartaoGateway(shards, BUCKETS, store);
+        final var numeros = numerosCartao(300);
+        numeros.forEach(numero -> Assertions.assertTrue(gateway.create(Cartao.newCartao(numero, expectedCardPassword)).isPresent()));
+
+        for (var numero : numeros) {
+            final int expectedShard = ShardMap.bucketOf(numero, BUCKETS) % shards.size();
+            for (var shard : shards) {
+                Assertions.assertEquals(shard.id() == expectedShard, shard.findBy(numero).isPresent());
+            }
+        }
+        Assertions.assertTrue(shards.stream().allMatch(shard -> count(shard) > 50));
+        Assertions.assertEquals(BUCKETS, store.assignments.size());
+        Assertions.assertEquals(ShardMap.bucketOf("6549873025634501", BUCKETS), ShardMap.bucketOf("6549873025634501", BUCKETS));
+    }
+
+    @Test
+    public void deveCriarConsultarEDebitarNoShardDoCartao() {
+        final var gateway = new ShardedCartaoGateway(shards, BUCKETS, store);
+        final var numero = "6549873025634501";
+
+        Assertions.assertTrue(gateway.create(Cartao.newCartao(numero, expectedCardPassword)).isPresent());
+        Assertions.assertTrue(gateway.create(Cartao.newCartao(numero, expectedCardPassword)).isEmpty());
+
+        Assertions.assertEquals(DebitResult.OK, gateway.debit(numero, expectedCardPassword, 100_00L));
+        Assertions.assertEquals(DebitResult.SENHA_INVALIDA, gateway.debit(numero, "4321", 100_00L));
+        Assertions.assertEquals(DebitResult.SALDO_INSUFICIENTE, gateway.debit(numero, expectedCardPassword, 500_00L));
+        Assertions.assertEquals(DebitResult.CARTAO_INEXISTENTE, gateway.debit("7549873025634501", expectedCardPassword, 1_00L));
+        Assertions.assertEquals(400_00L, gateway.findBy(numero).get().getSaldo());
+        Assertions.assertTrue(gateway.findBy(null).isEmpty());
+    }
+
+    @Test
+    public void deveProcessarLotesEntreShardsMantendoOrdem() {
+        final var gateway = new ShardedCartaoGateway(shards, BUCKETS, store);
+        final var numeros = numerosCartao(30);
+
+        final var created = gateway.createAll(numeros.stream().map(numero -> Cartao.newCartao(numero, expectedCardPassword)).toList());
+        Assertions.assertTrue(created.stream().allMatch(Optional::isPresent));
+        Assertions.assertTrue(gateway.createAll(List.of(Cartao.newCartao(numeros.get(0), expectedCardPassword))).get(0).isEmpty());
+
+        final List<Debit> debits = new ArrayList<>();
+        numeros.forEach(numero -> debits.add(Debit.with(numero, expectedCardPassword, 300_00L)));
+        debits.add(Debit.with(numeros.get(5), expectedCardPassword, 300_00L));
+        debits.add(Debit.with(null, expectedCardPassword, 1_00L));
+
+        final var results = gateway.debitAll(debits);
+
+        Assertions.assertTrue(results.subList(0, 30).stream().allMatch(DebitResult::isApproved));
+        Assertions.assertEquals(DebitResult.SALDO_INSUFICIENTE, results.get(30));
+        Assertions.assertEquals(DebitResult.CARTAO_INEXISTENTE, results.get(31));
+
+        final var visited = new HashSet<String>();
+        gateway.forEachNumeroCartao(visited::add);
+        Assertions.assertEquals(new HashSet<>(numeros), visited);
+    }
+
+    @Test
+    public void deveRebalancearAoAdicionarShardSemPerderSaldo() {
+        final var twoShards = new ShardedCartaoGateway(shards.subList(0, 2), BUCKETS, store);
+        final var numeros = numerosCartao(200);
+        numeros.forEach(numero -> twoShards.create(Cartao.newCartao(numero, expectedCardPassword)));
+        numeros.forEach(numero -> twoShards.debit(numero, expectedCardPassword, 10_00L));
+        final var reservas = numeros.stream()
+                .map(numero -> Reserva.newReserva(numero, 20_00L, Instant.now().plus(30, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MILLIS)))
+                .toList();
+        reservas.forEach(reserva -> twoShards.hold(reserva, expectedCardPassword));
+        Assertions.assertEquals(0, count(shards.get(2)));
+
+        final var gateway = new ShardedCartaoGateway(shards, BUCKETS, store);
+        Assertions.assertArrayEquals(new int[]{32, 32, 0}, gateway.bucketsPerShard());
+
+        final int moved = gateway.rebalance();
+
+        Assertions.assertEquals(21, moved);
+        Assertions.assertArrayEquals(new int[]{22, 21, 21}, gateway.bucketsPerShard());
+        Assertions.assertEquals(200, shards.stream().mapToInt(this::count).sum());
+        Assertions.assertTrue(count(shards.get(2)) > 0);
+        numeros.forEach(numero -> Assertions.assertEquals(490_00L, gateway.findBy(numero).get().getSaldo()));
+        numeros.forEach(numero -> Assertions.assertEquals(20_00L, gateway.findBy(numero).get().getSaldoReservado()));
+        final var visited = new HashSet<Reserva>();
+        gateway.forEachReserva(visited::add);
+        Assertions.assertEquals(new HashSet<>(reservas), visited);
+        reservas.forEach(reserva -> Assertions.assertEquals(Optional.of(reserva), gateway.findReserva(reserva.id())));
+
+        final var reloaded = new ShardedCartaoGateway(shards, BUCKETS, store);
+        Assertions.assertArrayEquals(new int[]{22, 21, 21}, reloaded.bucketsPerShard());
+        Assertions.assertEquals(0, reloaded.rebalance());
+    }
+
+    @Test
+    public void deveRemoverSobrasDeMovimentacaoInterrompidaAoReiniciar() {
+        final var gateway = new ShardedCartaoGateway(shards, BUCKETS, store);
+        final var numeros = numerosCartao(200);
+        numeros.forEach(numero -> gateway.create(Cartao.newCartao(numero, expectedCardPassword)));
+        final int copiado = ShardMap.bucketOf(numeros.get(0), BUCKETS);
+        final int movido = ShardMap.bucketOf(numeros.stream()
+                .filter(numero -> ShardMap.bucketOf(numero, BUCKETS) != copiado)
+                .findFirst()
+                .get(), BUCKETS);
+        final int origemCopiado = store.assignments.get(copiado);
+        final int origemMovido = store.assignments.get(movido);
+
+        shards.get(origemCopiado).copyBucket(copiado, shards.get((origemCopiado + 1) % shards.size()));
+        shards.get(origemMovido).copyBucket(movido, shards.get((origemMovido + 1) % shards.size()));
+        store.save(movido, (origemMovido + 1) % shards.size());
+        Assertions.assertTrue(shards.stream().mapToInt(this::count).sum() > 200);
+
+        final var restarted = new ShardedCartaoGateway(shards, BUCKETS, store);
+
+        Assertions.assertEquals(200, shards.stream().mapToInt(this::count).sum());
+        Assertions.assertEquals(0, restarted.purgeForeignBuckets());
+        numeros.forEach(numero -> Assertions.assertEquals(500_00L, restarted.findBy(numero).get().getSaldo()));
+        Assertions.assertTrue(restarted.moveBucket(copiado, (origemCopiado + 1) % shards.size()));
+        Assertions.assertEquals(200, shards.stream().mapToInt(this::count).sum());
+    }
+
+    @Test
+    public void deveRecusarMapaComQuantidadeDeBucketsDiferente() {
+        new ShardedCartaoGateway(shards, BUCKETS, store);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> new ShardedCartaoGateway(shards, BUCKETS * 2, store));
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            store.save(0, 5);
+            new ShardedCartaoGateway(shards, BUCKETS, store);
+        });
+    }
+
+    private List<String> numerosCartao(int quantidade) {
+        return IntStream.range(0, quantidade)
+                .mapToObj(i -> "6549873%09d".formatted(i))
+                .toList();
+    }
+
+    private int count(CartaoShard shard) {
+        final var count = new int[1];
+        shard.forEachNumeroCartao(numero -> count[0]++);
+        return count[0];
+    }
+
+    private static class InMemoryShardMapStore implements ShardMapStore {
+        private final Map<Integer, Integer> assignments = new HashMap<>();
+
+        @Override
+        public Map<Integer, Integer> load() {
+            return new HashMap<>(assignments);
+        }
+
+        @Override
+        public void save(int bucket, int shard) {
+            assignments.put(bucket, shard);
+        }
+
+        @Override
+        public void saveAll(Map<Integer, Integer> values) {
+            assignments.putAll(values);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.vr.autorizador.infrastructure.idempotency;
+
+import br.com.vr.autorizador.infrastructure.MySQLGatewayTest;
+import br.com.vr.autorizador.infrastructure.idempotency.persistence.IdempotencyKeyRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@MySQLGatewayTest
+public class IdempotencyKeyMySQLGatewayTest {
+
+    @Autowired
+    private IdempotencyKeyMySQLGateway gateway;
+    @Autowired
+    private IdempotencyKeyRepository repository;
+
+    private final String key = "7c1d5e0a-terminal-42";
+    private final String fingerprint = "fingerprint";
+
+    @Test
+    public void deveReservarChaveApenasUmaVez() {
+        Assertions.assertTrue(gateway.reserve(key, fingerprint));
+        Assertions.assertFalse(gateway.reserve(key, fingerprint));
+        Assertions.assertEquals(1, repository.count());
+        Assertions.assertTrue(gateway.findCompleted(key).isEmpty());
+    }
+
+    @Test
+    public void deveRetornarRespostaConcluida() {
+        final var response = new IdempotentResponse(fingerprint, 201, "OK");
+        gateway.reserve(key, fingerprint);
+
+        gateway.complete(key, response);
+
+        Assertions.assertEquals(response, gateway.findCompleted(key).get());
+    }
+
+    @Test
+    public void deveLiberarApenasChavePendente() {
+        gateway.reserve(key, fingerprint);
+        gateway.reserve("outra-chave", fingerprint);
+        gateway.complete("outra-chave", new IdempotentResponse(fingerprint, 201, "OK"));
+
+        gateway.release(key);
+        gateway.release("outra-chave");
+
+        Assertions.assertFalse(repository.existsById(key));
+        Assertions.assertTrue(repository.existsById("outra-chave"));
+    }
+
+    @Test
+    public void deveRemoverChavesExpiradas() {
+        gateway.reserve(key, fingerprint);
+
+        Assertions.assertEquals(0, gateway.purgeOlderThan(Instant.now().minus(Duration.ofHours(1))));
+        Assertions.assertEquals(1, gateway.purgeOlderThan(Instant.now().plus(Duration.ofHours(1))));
+        Assertions.assertEquals(0, repository.count());
+    }
+}
@@ -0,0 +1,168 @@
+package br.com.vr.autorizador.infrastructure.idempotency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IdempotencyServiceTest {
+
+    private final IdempotencyKeyMySQLGateway gateway = Mockito.mock(IdempotencyKeyMySQLGateway.class);
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyService service;
+
+    private final String key = "7c1d5e0a-terminal-42";
+    private final String fingerprint = IdempotencyService.fingerprint("6549873025634501", 10_00L);
+
+    @BeforeEach
+    void setUp() {
+        Mockito.reset(gateway);
+        executions.set(0);
+        service = new IdempotencyService(new IdempotencyTable(4, 16, Duration.ofMinutes(1)), gateway, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    public void deveRetornarRespostaOriginalSemExecutarNovamente() {
+        when(gateway.reserve(key, fingerprint)).thenReturn(true);
+
+        final var first = service.execute(key, fingerprint, this::debit);
+        final var second = service.execute(key, fingerprint, this::debit);
+
+        Assertions.assertEquals(HttpStatus.CREATED, first.getStatusCode());
+        Assertions.assertEquals(first.getStatusCode(), second.getStatusCode());
+        Assertions.assertEquals(first.getBody(), second.getBody());
+        Assertions.assertEquals(1, executions.get());
+        verify(gateway, times(1)).reserve(key, fingerprint);
+        verify(gateway, times(1)).complete(key, new IdempotentResponse(fingerprint, 201, "OK"));
+    }
+
+    @Test
+    public void deveRecusarChaveReutilizadaEmOutraTransacao() {
+        when(gateway.reserve(key, fingerprint)).thenReturn(true);
+        service.execute(key, fingerprint, this::debit);
+
+        final var response = service.execute(key, IdempotencyService.fingerprint("6549873025634501", 20_00L), this::debit);
+
+        Assertions.assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        Assertions.assertEquals(1, executions.get());
+    }
+
+    @Test
+    public void deveRetornarRespostaPersistidaQuandoNaoEstiverEmMemoria() {
+        when(gateway.reserve(key, fingerprint)).thenReturn(false);
+        when(gateway.findCompleted(key)).thenReturn(Optional.of(new IdempotentResponse(fingerprint, 422, "Saldo insuficiente")));
+
+        final var response = service.execute(key, fingerprint, this::debit);
+
+        Assertions.assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        Assertions.assertEquals("Saldo insuficiente", response.getBody());
+        Assertions.assertEquals(0, executions.get());
+    }
+
+    @Test
+    public void deveRetornarConflitoQuandoChaveAindaEstiverEmProcessamento() {
+        when(gateway.reserve(key, fingerprint)).thenReturn(false);
+        when(gateway.findCompleted(key)).thenReturn(Optional.empty());
+
+        final var response = service.execute(key, fingerprint, this::debit);
+
+        Assertions.assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        Assertions.assertEquals(0, executions.get());
+    }
+
+    @Test
+    public void deveLiberarChaveQuandoDebitoNaoForExecutado() {
+        when(gateway.reserve(key, fingerprint)).thenReturn(true);
+
+        Assertions.assertThrows(RejectedExecutionException.class, () -> service.execute(key, fingerprint, () -> {
+            throw new RejectedExecutionException("Fila cheia");
+        }));
+
+        verify(gateway, times(1)).release(key);
+        verify(gateway, never()).complete(anyString(), any());
+    }
+
+    @Test
+    public void deveManterChaveComResultadoDesconhecidoQuandoExecucaoFalhar() {
+        when(gateway.reserve(key, fingerprint)).thenReturn(true);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> service.execute(key, fingerprint, () -> {
+            throw new IllegalStateException("Timeout");
+        }));
+        final var retry = service.execute(key, fingerprint, this::debit);
+
+        final var unknown = new IdempotentResponse(fingerprint, 500, IdempotencyService.UNKNOWN_OUTCOME);
+        verify(gateway, never()).release(key);
+        verify(gateway, times(1)).complete(key, unknown);
+        Assertions.assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, retry.getStatusCode());
+        Assertions.assertEquals(IdempotencyService.UNKNOWN_OUTCOME, retry.getBody());
+        Assertions.assertEquals(0, executions.get());
+    }
+
+    @Test
+    public void deveRetornarRespostaEReagendarGravacaoQuandoCompleteFalhar() {
+        final var completed = new IdempotentResponse(fingerprint, 201, "OK");
+        when(gateway.reserve(key, fingerprint)).thenReturn(true);
+        Mockito.doThrow(new IllegalStateException("Banco indisponível"))
+                .doNothing()
+                .when(gateway).complete(key, completed);
+
+        final var first = service.execute(key, fingerprint, this::debit);
+        final var retry = service.execute(key, fingerprint, this::debit);
+
+        Assertions.assertEquals(HttpStatus.CREATED, first.getStatusCode());
+        Assertions.assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        Assertions.assertEquals(1, executions.get());
+        verify(gateway, Mockito.timeout(5_000).times(2)).complete(key, completed);
+    }
+
+    @Test
+    public void deveRetornarConflitoParaMesmaChaveEmProcessamentoNaInstancia() {
+        when(gateway.reserve(key, fingerprint)).thenReturn(true);
+        final var concurrent = new AtomicReference<ResponseEntity<String>>();
+
+        final var response = service.execute(key, fingerprint, () -> {
+            concurrent.set(service.execute(key, fingerprint, this::debit));
+            return debit();
+        });
+
+        Assertions.assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        Assertions.assertEquals(HttpStatus.CONFLICT, concurrent.get().getStatusCode());
+        Assertions.assertEquals(1, executions.get());
+        verify(gateway, times(1)).reserve(key, fingerprint);
+    }
+
+    @Test
+    public void deveRecusarChaveInvalida() {
+        final var response = service.execute(" ", fingerprint, this::debit);
+
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(gateway, never()).reserve(anyString(), anyString());
+    }
+
+    private ResponseEntity<String> debit() {
+        executions.incrementAndGet();
+        return ResponseEntity.status(HttpStatus.CREATED).body("OK");
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.vr.autorizador.infrastructure.idempotency;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class IdempotencyTableTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+    private final IdempotentResponse response = new IdempotentResponse("fingerprint", 201, "OK");
+
+    @Test
+    public void deveRetornarRespostaArmazenada() {
+        final var table = new IdempotencyTable(4, 16, Duration.ofMinutes(1), ticker::get);
+
+        table.put("chave-1", response);
+
+        Assertions.assertEquals(response, table.get("chave-1").get());
+        Assertions.assertTrue(table.get("chave-2").isEmpty());
+    }
+
+    @Test
+    public void deveExpirarChavesAposTtl() {
+        final var table = new IdempotencyTable(1, 16, Duration.ofMinutes(1), ticker::get);
+
+        table.put("chave-1", response);
+        ticker.addAndGet(Duration.ofSeconds(30).toNanos());
+        table.put("chave-2", response);
+        ticker.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        Assertions.assertTrue(table.get("chave-1").isEmpty());
+        Assertions.assertTrue(table.get("chave-2").isPresent());
+        Assertions.assertEquals(1, table.size());
+    }
+
+    @Test
+    public void deveRemoverChavesMaisAntigasAoExcederTamanhoMaximo() {
+        final var table = new IdempotencyTable(1, 2, Duration.ofMinutes(1), ticker::get);
+
+        table.put("chave-1", response);
+        table.put("chave-2", response);
+        table.put("chave-3", response);
+
+        Assertions.assertTrue(table.get("chave-1").isEmpty());
+        Assertions.assertTrue(table.get("chave-2").isPresent());
+        Assertions.assertTrue(table.get("chave-3").isPresent());
+        Assertions.assertEquals(2, table.size());
+    }
+
+    @Test
+    public void deveLancarExcecaoComParametrosInvalidos() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new IdempotencyTable(0, 16, Duration.ofMinutes(1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new IdempotencyTable(8, 4, Duration.ofMinutes(1)));
+    }
+}
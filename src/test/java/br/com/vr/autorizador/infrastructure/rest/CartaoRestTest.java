@@ -2,15 +2,22 @@ package br.com.vr.autorizador.infrastructure.rest;
 
 import br.com.vr.autorizador.application.cartao.create.CreateCartaoOutput;
 import br.com.vr.autorizador.application.cartao.create.CreateCartaoUseCase;
+import br.com.vr.autorizador.application.cartao.create.batch.BatchCreateCartaoOutput;
+import br.com.vr.autorizador.application.cartao.create.batch.BatchCreateCartaoUseCase;
 import br.com.vr.autorizador.application.cartao.get.GetCartaoByNumeroOutput;
 import br.com.vr.autorizador.application.cartao.get.GetCartaoByNumeroUseCase;
+import br.com.vr.autorizador.application.transacao.list.ListTransacaoByCartaoInput;
+import br.com.vr.autorizador.application.transacao.list.ListTransacaoByCartaoOutput;
+import br.com.vr.autorizador.application.transacao.list.ListTransacaoByCartaoUseCase;
 import br.com.vr.autorizador.domain.cartao.Cartao;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
 import br.com.vr.autorizador.domain.exceptions.DomainException;
 import br.com.vr.autorizador.domain.exceptions.NotFoundException;
 import br.com.vr.autorizador.domain.exceptions.NotificationException;
 import br.com.vr.autorizador.domain.validation.Error;
 import br.com.vr.autorizador.infrastructure.ControllerTest;
 import br.com.vr.autorizador.infrastructure.cartao.models.CreateCartaoRestInput;
+import br.com.vr.autorizador.infrastructure.configuration.CartaoImportConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,19 +28,22 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
-import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.times;
 
 @ControllerTest(controllers = CartaoRest.class)
+@Import(CartaoImportConfig.class)
 public class CartaoRestTest {
 
     private static final String STRING_WITH_SPACE_ONLY = "    ";
@@ -46,6 +56,10 @@ public class CartaoRestTest {
     CreateCartaoUseCase createCartaoUseCase;
     @MockBean
     GetCartaoByNumeroUseCase getCartaoByNumeroUseCase;
+    @MockBean
+    BatchCreateCartaoUseCase batchCreateCartaoUseCase;
+    @MockBean
+    ListTransacaoByCartaoUseCase listTransacaoByCartaoUseCase;
 
     private Cartao newCartao;
     private final String expectedCardNumber = "6549873025634501";
@@ -195,11 +209,28 @@ public class CartaoRestTest {
         mockMvc.perform(request)
                 .andDo(MockMvcResultHandlers.print())
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andExpect(MockMvcResultMatchers.content().string(new BigDecimal("500").toString()));
+                .andExpect(MockMvcResultMatchers.content().string("500.00"))
+                .andExpect(MockMvcResultMatchers.header().string(CartaoRest.SALDO_DISPONIVEL_HEADER, "500.00"));
 
         Mockito.verify(getCartaoByNumeroUseCase, times(1)).execute(eq(expectedCardNumber));
     }
 
+    @Test
+    public void deveInformarSaldoDisponivelDescontandoReservas() throws Exception {
+        Mockito.when(getCartaoByNumeroUseCase.execute(any()))
+                .thenReturn(GetCartaoByNumeroOutput.from(Cartao.with(expectedCardNumber, expectedCardPassword, 500_00L, 30_00L)));
+
+        final var request = MockMvcRequestBuilders
+                .get("/cartoes/{numeroCartao}", expectedCardNumber)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string("500.00"))
+                .andExpect(MockMvcResultMatchers.header().string(CartaoRest.SALDO_DISPONIVEL_HEADER, "470.00"));
+    }
+
     @Test
     public void deveLancarExcecaoAoConsultarCartaoComNumeroInexistente() throws Exception {
         final String cardNumber = "7549873025634501";
@@ -235,4 +266,122 @@ public class CartaoRestTest {
                 .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));
     }
+
+    @Test
+    public void deveImportarCartoesEmNdjson() throws Exception {
+        Mockito.when(batchCreateCartaoUseCase.execute(any()))
+                .thenReturn(BatchCreateCartaoOutput.from(List.of(
+                        new BatchCreateCartaoOutput.Item(expectedCardNumber, BatchCreateCartaoOutput.Resultado.CRIADO, null),
+                        new BatchCreateCartaoOutput.Item("6549873025634502", BatchCreateCartaoOutput.Resultado.CARTAO_EXISTENTE, "Cartão já existente")
+                )));
+
+        final var content = """
+                {"numeroCartao":"6549873025634501","senha":"1234"}
+                {"numeroCartao":
+                {"numeroCartao":"6549873025634502","senha":"1234"}
+                """;
+        final var request = MockMvcRequestBuilders
+                .post("/cartoes/importacao")
+                .contentType("application/x-ndjson")
+                .content(content);
+
+        mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(MockMvcResultMatchers.content().string(Matchers.stringContainsInOrder(
+                        "{\"linha\":1,\"numeroCartao\":\"6549873025634501\",\"resultado\":\"CRIADO\",\"mensagem\":null}\n",
+                        "{\"linha\":2,\"numeroCartao\":null,\"resultado\":\"ERRO\",\"mensagem\":\"JSON inválido\"}\n",
+                        "{\"linha\":3,\"numeroCartao\":\"6549873025634502\",\"resultado\":\"CARTAO_EXISTENTE\",\"mensagem\":\"Cartão já existente\"}\n")));
+
+        Mockito.verify(batchCreateCartaoUseCase, times(1)).execute(argThat(input ->
+                input.cartoes().size() == 2
+                        && Objects.equals(expectedCardNumber, input.cartoes().get(0).numeroCartao())
+                        && Objects.equals("6549873025634502", input.cartoes().get(1).numeroCartao())));
+    }
+
+    @Test
+    public void deveMarcarLoteComoErroQuandoImportacaoFalhar() throws Exception {
+        Mockito.when(batchCreateCartaoUseCase.execute(any())).thenThrow(new IllegalStateException("banco indisponível"));
+
+        final var content = """
+                {"numeroCartao":"6549873025634501","senha":"1234"}
+                """;
+        final var request = MockMvcRequestBuilders
+                .post("/cartoes/importacao")
+                .contentType("application/x-ndjson")
+                .content(content);
+
+        mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string(
+                        "{\"linha\":1,\"numeroCartao\":\"6549873025634501\",\"resultado\":\"ERRO\",\"mensagem\":\"Não foi possível importar o lote\"}\n"));
+    }
+
+    @Test
+    public void deveImportarCartoesEmCsv() throws Exception {
+        Mockito.when(batchCreateCartaoUseCase.execute(any()))
+                .thenReturn(BatchCreateCartaoOutput.from(List.of(
+                        new BatchCreateCartaoOutput.Item(expectedCardNumber, BatchCreateCartaoOutput.Resultado.CRIADO, null)
+                )));
+
+        final var content = """
+                numeroCartao,senha
+                "6549873025634501","1234"
+                6549873025634502
+                """;
+        final var request = MockMvcRequestBuilders
+                .post("/cartoes/importacao")
+                .contentType("text/csv")
+                .content(content);
+
+        mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string(Matchers.containsString(
+                        "{\"linha\":2,\"numeroCartao\":\"6549873025634501\",\"resultado\":\"CRIADO\",\"mensagem\":null}")))
+                .andExpect(MockMvcResultMatchers.content().string(Matchers.containsString(
+                        "{\"linha\":3,\"numeroCartao\":null,\"resultado\":\"ERRO\"")));
+
+        Mockito.verify(batchCreateCartaoUseCase, times(1)).execute(argThat(input ->
+                input.cartoes().size() == 1
+                        && Objects.equals(expectedCardNumber, input.cartoes().get(0).numeroCartao())
+                        && Objects.equals(expectedCardPassword, input.cartoes().get(0).senha())));
+    }
+
+    @Test
+    public void deveListarTransacoesDoCartao() throws Exception {
+        Mockito.when(listTransacaoByCartaoUseCase.execute(any()))
+                .thenReturn(new ListTransacaoByCartaoOutput(List.of(
+                        new ListTransacaoByCartaoOutput.Item(42L, 10_00L, DebitResult.OK, Instant.parse("2024-08-01T12:00:00Z")),
+                        new ListTransacaoByCartaoOutput.Item(41L, 900_00L, DebitResult.SALDO_INSUFICIENTE, Instant.parse("2024-08-01T11:00:00Z"))
+                ), 41L));
+
+        final var request = MockMvcRequestBuilders
+                .get("/cartoes/{numeroCartao}/transacoes", expectedCardNumber)
+                .param("antesDe", "50")
+                .param("limite", "2");
+
+        mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.transacoes[0].sequencia", Matchers.equalTo(42)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.transacoes[0].valor", Matchers.equalTo(10.00)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.transacoes[1].resultado", Matchers.equalTo("SALDO_INSUFICIENTE")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.proximo", Matchers.equalTo(41)));
+
+        Mockito.verify(listTransacaoByCartaoUseCase, times(1))
+                .execute(eq(ListTransacaoByCartaoInput.with(expectedCardNumber, 50L, 2)));
+    }
+
+    @Test
+    public void deveRetornarNotFoundAoListarTransacoesDeCartaoInexistente() throws Exception {
+        Mockito.when(listTransacaoByCartaoUseCase.execute(any()))
+                .thenThrow(NotFoundException.with(Cartao.class, expectedCardNumber));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/cartoes/{numeroCartao}/transacoes", expectedCardNumber))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
 }
@@ -0,0 +1,119 @@
+package br.com.vr.autorizador.infrastructure.rest;
+
+import br.com.vr.autorizador.application.reserva.capture.CaptureReservaUseCase;
+import br.com.vr.autorizador.application.reserva.create.CreateReservaOutput;
+import br.com.vr.autorizador.application.reserva.create.CreateReservaUseCase;
+import br.com.vr.autorizador.application.reserva.release.ReleaseReservaUseCase;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.exceptions.NotFoundException;
+import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.domain.reserva.Reserva;
+import br.com.vr.autorizador.domain.validation.handler.NotificationHandler;
+import br.com.vr.autorizador.infrastructure.ControllerTest;
+import br.com.vr.autorizador.infrastructure.cartao.models.CaptureReservaRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.models.CreateReservaRestInput;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+
+@ControllerTest(controllers = ReservaRest.class)
+public class ReservaRestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @MockBean
+    private CreateReservaUseCase createReservaUseCase;
+    @MockBean
+    private CaptureReservaUseCase captureReservaUseCase;
+    @MockBean
+    private ReleaseReservaUseCase releaseReservaUseCase;
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+    private final String expectedReservaId = "0b6f3c1e-3b5a-4c59-9a53-5f0d4b1f8a21";
+
+    @Test
+    public void deveCriarReserva() throws Exception {
+        Mockito.when(createReservaUseCase.execute(any()))
+                .thenReturn(new CreateReservaOutput(expectedReservaId, expectedCardNumber, 100_00L, Instant.parse("2024-08-01T12:30:00Z")));
+
+        final var inputRequest = new CreateReservaRestInput(expectedCardNumber, expectedCardPassword, new BigDecimal("100.00"));
+        final var request = MockMvcRequestBuilders
+                .post("/reservas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(inputRequest));
+
+        mockMvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(expectedReservaId))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.valor").value(100.00));
+
+        Mockito.verify(createReservaUseCase, times(1)).execute(argThat(input -> input.valor() == 100_00L));
+    }
+
+    @Test
+    public void deveRetornar422AoReservarComSaldoInsuficiente() throws Exception {
+        final var notification = NotificationHandler.create();
+        notification.append(DebitResult.SALDO_INSUFICIENTE.message());
+        Mockito.when(createReservaUseCase.execute(any()))
+                .thenThrow(NotificationException.with("Não foi possível reservar saldo do cartão", notification));
+
+        final var inputRequest = new CreateReservaRestInput(expectedCardNumber, expectedCardPassword, new BigDecimal("600.00"));
+        final var request = MockMvcRequestBuilders
+                .post("/reservas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(inputRequest));
+
+        mockMvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.content().string("Saldo insuficiente"));
+    }
+
+    @Test
+    public void deveCapturarReserva() throws Exception {
+        Mockito.doNothing().when(captureReservaUseCase).execute(any());
+
+        final var request = MockMvcRequestBuilders
+                .post("/reservas/{id}/captura", expectedReservaId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CaptureReservaRestInput(new BigDecimal("80.00"))));
+
+        mockMvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.content().string("OK"));
+
+        Mockito.verify(captureReservaUseCase, times(1))
+                .execute(argThat(input -> input.reservaId().equals(expectedReservaId) && input.valor() == 80_00L));
+    }
+
+    @Test
+    public void deveRetornar404AoLiberarReservaInexistente() throws Exception {
+        Mockito.doThrow(NotFoundException.with(Reserva.class, expectedReservaId)).when(releaseReservaUseCase).execute(expectedReservaId);
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/reservas/{id}", expectedReservaId))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    public void deveLiberarReserva() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.delete("/reservas/{id}", expectedReservaId))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        Mockito.verify(releaseReservaUseCase, times(1)).execute(expectedReservaId);
+    }
+}
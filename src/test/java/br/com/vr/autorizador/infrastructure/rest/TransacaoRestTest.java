@@ -1,26 +1,39 @@
 package br.com.vr.autorizador.infrastructure.rest;
 
-import br.com.vr.autorizador.application.cartao.debit.DebitCartaoInput;
 import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
-import br.com.vr.autorizador.domain.exceptions.NotificationException;
+import br.com.vr.autorizador.application.cartao.debit.batch.BatchDebitCartaoOutput;
+import br.com.vr.autorizador.application.cartao.debit.batch.BatchDebitCartaoUseCase;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
 import br.com.vr.autorizador.infrastructure.ControllerTest;
+import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoRestInput;
+import br.com.vr.autorizador.infrastructure.idempotency.IdempotencyService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ControllerTest(controllers = TransacaoRest.class)
+@TestPropertySource(properties = "autorizador.debit.batch.max-size=2")
 public class TransacaoRestTest {
 
     @Autowired
@@ -29,6 +42,10 @@ public class TransacaoRestTest {
     private ObjectMapper objectMapper;
     @MockBean
     private DebitCartaoUseCase debitCartaoUseCase;
+    @MockBean
+    private BatchDebitCartaoUseCase batchDebitCartaoUseCase;
+    @MockBean
+    private IdempotencyService idempotencyService;
 
     private final String expectedCardNumber = "6549873025634501";
     private final String expectedCardPassword = "1234";
@@ -36,9 +53,9 @@ public class TransacaoRestTest {
 
     @Test
     public void deveDebitarComSucesso() throws Exception {
-        Mockito.doNothing().when(debitCartaoUseCase).execute(any());
+        Mockito.when(debitCartaoUseCase.authorize(any())).thenReturn(DebitResult.OK);
 
-        final var inputRequest = new DebitCartaoInput(expectedCardNumber, expectedCardPassword, debitValue);
+        final var inputRequest = new DebitCartaoRestInput(expectedCardNumber, expectedCardPassword, debitValue);
         final var request = MockMvcRequestBuilders
                 .post("/transacoes")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -47,20 +64,20 @@ public class TransacaoRestTest {
         mockMvc.perform(request)
                 .andDo(MockMvcResultHandlers.print())
                 .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.content().string("OK"));
 
-        Mockito.verify(debitCartaoUseCase, times(1)).execute(any());
+        Mockito.verify(debitCartaoUseCase, times(1)).authorize(any());
     }
 
     @Test
     public void deveLancarExcecaoAoDebitarComValorInvalido() throws Exception {
-        final String expectedErrorMessage = "Valor da transacao invalido";
+        final String expectedErrorMessage = "Valor da transação inválido";
         final BigDecimal invalidDebitAmount = null;
 
-        Mockito.doThrow(new NotificationException(expectedErrorMessage))
-                .when(debitCartaoUseCase).execute(any());
+        Mockito.when(debitCartaoUseCase.authorize(any())).thenReturn(DebitResult.VALOR_INVALIDO);
 
-        final var inputRequest = new DebitCartaoInput(expectedCardNumber, expectedCardPassword, invalidDebitAmount);
+        final var inputRequest = new DebitCartaoRestInput(expectedCardNumber, expectedCardPassword, invalidDebitAmount);
         final var request = MockMvcRequestBuilders
                 .post("/transacoes")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -69,7 +86,7 @@ public class TransacaoRestTest {
         mockMvc.perform(request)
                 .andDo(MockMvcResultHandlers.print())
                 .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
-                .andExpect(MockMvcResultMatchers.content().string(expectedErrorMessage));
+                .andExpect(MockMvcResultMatchers.content().bytes(expectedErrorMessage.getBytes(StandardCharsets.UTF_8)));
     }
 
     @Test
@@ -77,10 +94,9 @@ public class TransacaoRestTest {
         final var expectedErrorMessage = "Saldo insuficiente";
         final BigDecimal debitValueGreaterThanBalance = new BigDecimal(501);
 
-        Mockito.doThrow(new NotificationException(expectedErrorMessage))
-                .when(debitCartaoUseCase).execute(any());
+        Mockito.when(debitCartaoUseCase.authorize(any())).thenReturn(DebitResult.SALDO_INSUFICIENTE);
 
-        final var inputRequest = new DebitCartaoInput(expectedCardNumber, expectedCardPassword, debitValueGreaterThanBalance);
+        final var inputRequest = new DebitCartaoRestInput(expectedCardNumber, expectedCardPassword, debitValueGreaterThanBalance);
         final var request = MockMvcRequestBuilders
                 .post("/transacoes")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -97,10 +113,9 @@ public class TransacaoRestTest {
         final var expectedErrorMessage = "Senha incorreta";
         final String invalidPassword = "4321";
 
-        Mockito.doThrow(new NotificationException(expectedErrorMessage))
-                .when(debitCartaoUseCase).execute(any());
+        Mockito.when(debitCartaoUseCase.authorize(any())).thenReturn(DebitResult.SENHA_INVALIDA);
 
-        final var inputRequest = new DebitCartaoInput(expectedCardNumber, invalidPassword, debitValue);
+        final var inputRequest = new DebitCartaoRestInput(expectedCardNumber, invalidPassword, debitValue);
         final var request = MockMvcRequestBuilders
                 .post("/transacoes")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -117,10 +132,9 @@ public class TransacaoRestTest {
         final String invalidCardNumber = "7549873025634501";
         final String expectedErrorMessage = "Cartao %s nao encontrado".formatted(invalidCardNumber);
 
-        Mockito.doThrow(new NotificationException(expectedErrorMessage))
-                .when(debitCartaoUseCase).execute(any());
+        Mockito.when(debitCartaoUseCase.authorize(any())).thenReturn(DebitResult.CARTAO_INEXISTENTE);
 
-        final var inputRequest = new DebitCartaoInput(invalidCardNumber, expectedCardPassword, debitValue);
+        final var inputRequest = new DebitCartaoRestInput(invalidCardNumber, expectedCardPassword, debitValue);
         final var request = MockMvcRequestBuilders
                 .post("/transacoes")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -131,4 +145,137 @@ public class TransacaoRestTest {
                 .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
                 .andExpect(MockMvcResultMatchers.content().string(expectedErrorMessage));
     }
+
+    @Test
+    public void deveConverterValorParaCentavos() throws Exception {
+        Mockito.when(debitCartaoUseCase.authorize(any())).thenReturn(DebitResult.OK);
+
+        final var request = MockMvcRequestBuilders
+                .post("/transacoes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"numeroCartao": "%s", "senhaCartao": "%s", "valor": 10.50}
+                        """.formatted(expectedCardNumber, expectedCardPassword));
+
+        mockMvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+        Mockito.verify(debitCartaoUseCase, times(1)).authorize(argThat(input -> input.valor() == 10_50L));
+    }
+
+    @Test
+    public void deveConverterValorComMaisDeDuasCasasDecimaisParaValorInvalido() throws Exception {
+        Mockito.when(debitCartaoUseCase.authorize(any())).thenReturn(DebitResult.OK);
+
+        final var request = MockMvcRequestBuilders
+                .post("/transacoes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"numeroCartao": "%s", "senhaCartao": "%s", "valor": 10.005}
+                        """.formatted(expectedCardNumber, expectedCardPassword));
+
+        mockMvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+        Mockito.verify(debitCartaoUseCase, times(1)).authorize(argThat(input -> input.valor() == 0L));
+    }
+
+    @Test
+    public void deveRejeitarValorNaoNumericoAntesDeDebitar() throws Exception {
+        final var request = MockMvcRequestBuilders
+                .post("/transacoes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"numeroCartao": "%s", "senhaCartao": "%s", "valor": "dez"}
+                        """.formatted(expectedCardNumber, expectedCardPassword));
+
+        mockMvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        Mockito.verify(debitCartaoUseCase, never()).authorize(any());
+    }
+
+    @Test
+    public void deveDebitarEmLote() throws Exception {
+        Mockito.when(batchDebitCartaoUseCase.execute(any()))
+                .thenReturn(BatchDebitCartaoOutput.from(List.of(
+                        new BatchDebitCartaoOutput.Item(expectedCardNumber, DebitResult.OK),
+                        new BatchDebitCartaoOutput.Item(expectedCardNumber, DebitResult.SENHA_INVALIDA)
+                )));
+
+        final var inputRequest = List.of(
+                new DebitCartaoRestInput(expectedCardNumber, expectedCardPassword, debitValue),
+                new DebitCartaoRestInput(expectedCardNumber, "4321", new BigDecimal("0.01"))
+        );
+        final var request = MockMvcRequestBuilders
+                .post("/transacoes/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(inputRequest));
+
+        mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].numeroCartao").value(expectedCardNumber))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].resultado").value("OK"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].resultado").value("SENHA_INVALIDA"));
+
+        Mockito.verify(batchDebitCartaoUseCase, times(1)).execute(argThat(input ->
+                input.debits().size() == 2
+                        && input.debits().get(0).valor() == 10_00L
+                        && input.debits().get(1).valor() == 1L));
+    }
+
+    @Test
+    public void deveRecusarLoteAcimaDoTamanhoMaximo() throws Exception {
+        final var item = new DebitCartaoRestInput(expectedCardNumber, expectedCardPassword, debitValue);
+        final var request = MockMvcRequestBuilders
+                .post("/transacoes/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(item, item, item)));
+
+        mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isPayloadTooLarge());
+
+        Mockito.verify(batchDebitCartaoUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void deveRecusarLoteComItemNulo() throws Exception {
+        final var inputRequest = Arrays.asList(
+                new DebitCartaoRestInput(expectedCardNumber, expectedCardPassword, debitValue),
+                null
+        );
+        final var request = MockMvcRequestBuilders
+                .post("/transacoes/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(inputRequest));
+
+        mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        Mockito.verify(batchDebitCartaoUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void deveRepetirRespostaOriginalComIdempotencyKey() throws Exception {
+        final var fingerprint = IdempotencyService.fingerprint(expectedCardNumber, 10_00L);
+        Mockito.when(idempotencyService.execute(eq("7c1d5e0a-terminal-42"), eq(fingerprint), any()))
+                .thenReturn(ResponseEntity.status(HttpStatus.CREATED).body("OK"));
+
+        final var inputRequest = new DebitCartaoRestInput(expectedCardNumber, expectedCardPassword, debitValue);
+        final var request = MockMvcRequestBuilders
+                .post("/transacoes")
+                .header(IdempotencyService.HEADER, "7c1d5e0a-terminal-42")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(inputRequest));
+
+        mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.content().string("OK"));
+
+        Mockito.verify(debitCartaoUseCase, times(0)).authorize(any());
+    }
 }
@@ -0,0 +1,49 @@
+package br.com.vr.autorizador.infrastructure.rest.controllers;
+
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+public class DebitResponsesTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+
+    @Test
+    public void deveReutilizarRespostaPreCodificadaParaResultadosFixos() {
+        final var approved = DebitResponses.of(expectedCardNumber, DebitResult.OK);
+
+        Assertions.assertSame(approved, DebitResponses.of("6549873025634502", DebitResult.OK));
+        Assertions.assertEquals(HttpStatus.CREATED, approved.getStatusCode());
+        Assertions.assertEquals(MediaType.APPLICATION_JSON, approved.getHeaders().getContentType());
+        Assertions.assertEquals(2, approved.getHeaders().getContentLength());
+        Assertions.assertEquals("OK", new String(approved.getBody(), StandardCharsets.UTF_8));
+
+        final var declined = DebitResponses.of(expectedCardNumber, DebitResult.SALDO_INSUFICIENTE);
+        Assertions.assertSame(declined, DebitResponses.of(expectedCardNumber, DebitResult.SALDO_INSUFICIENTE));
+        Assertions.assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, declined.getStatusCode());
+        Assertions.assertEquals("Saldo insuficiente", new String(declined.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void deveMontarMensagemDeCartaoInexistenteComNumeroDoCartao() {
+        final var response = DebitResponses.of(expectedCardNumber, DebitResult.CARTAO_INEXISTENTE);
+
+        Assertions.assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        Assertions.assertEquals("Cartao %s nao encontrado".formatted(expectedCardNumber), new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void deveGerarFormaArmazenavelIgualARespostaPreCodificada() {
+        for (var result : DebitResult.values()) {
+            final var response = DebitResponses.of(expectedCardNumber, result);
+            final var stored = DebitResponses.stored(expectedCardNumber, result);
+
+            Assertions.assertEquals(response.getStatusCode(), stored.getStatusCode());
+            Assertions.assertEquals(new String(response.getBody(), StandardCharsets.UTF_8), stored.getBody());
+        }
+    }
+}
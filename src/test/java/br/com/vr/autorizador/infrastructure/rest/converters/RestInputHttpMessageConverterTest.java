@@ -0,0 +1,98 @@
+package br.com.vr.autorizador.infrastructure.rest.converters;
+
+import br.com.vr.autorizador.infrastructure.cartao.models.Centavos;
+import br.com.vr.autorizador.infrastructure.cartao.models.CreateCartaoRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoCentavosRestInput;
+import br.com.vr.autorizador.infrastructure.cartao.models.DebitCartaoRestInput;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class RestInputHttpMessageConverterTest {
+
+    private final RestInputHttpMessageConverter converter = new RestInputHttpMessageConverter(new ObjectMapper());
+
+    @Test
+    public void deveLerSomenteOsPayloadsSuportados() {
+        Assertions.assertTrue(converter.canRead(DebitCartaoCentavosRestInput.class, MediaType.APPLICATION_JSON));
+        Assertions.assertTrue(converter.canRead(CreateCartaoRestInput.class, MediaType.APPLICATION_JSON));
+        Assertions.assertFalse(converter.canRead(DebitCartaoRestInput.class, MediaType.APPLICATION_JSON));
+        Assertions.assertFalse(converter.canRead(DebitCartaoCentavosRestInput.class, MediaType.APPLICATION_XML));
+        Assertions.assertFalse(converter.canWrite(DebitCartaoCentavosRestInput.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    public void deveConverterValorDiretamenteEmCentavos() throws IOException {
+        final var input = readDebit("{\"numeroCartao\":\"6549873025634501\",\"senhaCartao\":\"1234\",\"valor\":10.50}");
+
+        Assertions.assertEquals(new DebitCartaoCentavosRestInput("6549873025634501", "1234", 10_50L), input);
+    }
+
+    @Test
+    public void deveConverterValoresComoJacksonEBigDecimal() throws IOException {
+        final var expected = List.of(
+                "10", "10.5", "10.50", "10.500", "0.01", "-1.25", "1e2", "1.5E1", "10.005", "0.001", "92233720368547758.07", "92233720368547758.08"
+        );
+        for (var valor : expected) {
+            final var centavos = Centavos.from(new BigDecimal(valor));
+            Assertions.assertEquals(centavos, readDebit("{\"valor\":%s}".formatted(valor)).valor(), valor);
+            Assertions.assertEquals(centavos, readDebit("{\"valor\":\"%s\"}".formatted(valor)).valor(), valor);
+        }
+    }
+
+    @Test
+    public void deveTratarValorNuloOuAusenteComoInvalido() throws IOException {
+        Assertions.assertEquals(Centavos.INVALID, readDebit("{\"numeroCartao\":\"6549873025634501\",\"valor\":null}").valor());
+        Assertions.assertEquals(Centavos.INVALID, readDebit("{\"numeroCartao\":\"6549873025634501\"}").valor());
+    }
+
+    @Test
+    public void deveIgnorarCamposDesconhecidos() throws IOException {
+        final var input = readDebit("{\"extra\":{\"a\":[1,2,{\"b\":3}]},\"numeroCartao\":\"6549873025634501\",\"outro\":[],\"senhaCartao\":null,\"valor\":1}");
+
+        Assertions.assertEquals(new DebitCartaoCentavosRestInput("6549873025634501", null, 1_00L), input);
+    }
+
+    @Test
+    public void deveLerPayloadDeCriacaoDeCartao() throws IOException {
+        final var message = message("{\"numeroCartao\":\"6549873025634501\",\"senha\":\"1234\"}");
+
+        Assertions.assertEquals(new CreateCartaoRestInput("6549873025634501", "1234"), converter.read(CreateCartaoRestInput.class, message));
+    }
+
+    @Test
+    public void deveRejeitarJsonMalformado() {
+        final var payloads = List.of(
+                "[]",
+                "\"texto\"",
+                "{\"numeroCartao\":\"6549873025634501\"",
+                "{\"numeroCartao\":{\"a\":1}}",
+                "{\"senhaCartao\":[1234]}",
+                "{\"valor\":\"dez\"}",
+                "{\"valor\":true}",
+                "{\"valor\":{}}",
+                "{\"valor\":10.50,}"
+        );
+        for (var payload : payloads) {
+            Assertions.assertThrows(HttpMessageNotReadableException.class, () -> readDebit(payload), payload);
+        }
+    }
+
+    private DebitCartaoCentavosRestInput readDebit(String json) throws IOException {
+        return (DebitCartaoCentavosRestInput) converter.read(DebitCartaoCentavosRestInput.class, message(json));
+    }
+
+    private static MockHttpInputMessage message(String json) {
+        final var message = new MockHttpInputMessage(json.getBytes(StandardCharsets.UTF_8));
+        message.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return message;
+    }
+}
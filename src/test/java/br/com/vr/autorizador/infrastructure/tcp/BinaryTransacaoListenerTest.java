@@ -0,0 +1,171 @@
+package br.com.vr.autorizador.infrastructure.tcp;
+
+import br.com.vr.autorizador.application.cartao.debit.DebitCartaoUseCase;
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BinaryTransacaoListenerTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String expectedCardPassword = "1234";
+
+    private BinaryTransacaoListener listener;
+
+    @AfterEach
+    void tearDown() {
+        if (listener != null) {
+            listener.close();
+        }
+    }
+
+    @Test
+    public void deveResponderRequisicoesEnviadasEmPipeline() throws Exception {
+        start(input -> input.valor() > 500_00L ? DebitResult.SALDO_INSUFICIENTE : DebitResult.OK, 256);
+
+        try (var socket = connect()) {
+            final var buffer = ByteBuffer.allocate(200 * BinaryTransacaoProtocol.MAX_REQUEST_SIZE);
+            for (int id = 0; id < 200; id++) {
+                BinaryTransacaoProtocol.writeRequest(buffer, id, expectedCardNumber, expectedCardPassword, id % 2 == 0 ? 10_00L : 600_00L);
+            }
+            socket.getOutputStream().write(buffer.array(), 0, buffer.position());
+
+            final var responses = readResponses(socket, 200);
+            Assertions.assertEquals(200, responses.size());
+            responses.forEach((id, code) -> Assertions.assertEquals(
+                    id % 2 == 0 ? BinaryTransacaoProtocol.OK : BinaryTransacaoProtocol.SALDO_INSUFICIENTE, code));
+        }
+    }
+
+    @Test
+    public void deveRepassarCampoDaMensagemParaOUseCase() throws Exception {
+        final Map<String, Object> received = new ConcurrentHashMap<>();
+        start(input -> {
+            received.put("numeroCartao", input.numeroCartao());
+            received.put("senha", input.senhaCartao());
+            received.put("valor", input.valor());
+            return DebitResult.SENHA_INVALIDA;
+        }, 8);
+
+        try (var socket = connect()) {
+            send(socket, 7, expectedCardNumber, "4321", 10_50L);
+
+            Assertions.assertEquals(Map.of(7, BinaryTransacaoProtocol.SENHA_INVALIDA), readResponses(socket, 1));
+            Assertions.assertEquals(Map.of("numeroCartao", expectedCardNumber, "senha", "4321", "valor", 10_50L), received);
+        }
+    }
+
+    @Test
+    public void deveResponderFormatoInvalidoSemDerrubarConexao() throws Exception {
+        start(input -> DebitResult.OK, 8);
+
+        try (var socket = connect()) {
+            final var buffer = ByteBuffer.allocate(2 * BinaryTransacaoProtocol.MAX_REQUEST_SIZE);
+            BinaryTransacaoProtocol.writeRequest(buffer, 1, expectedCardNumber, expectedCardPassword, 10_00L);
+            buffer.put(BinaryTransacaoProtocol.LENGTH_SIZE + 4 + BinaryTransacaoProtocol.NUMERO_CARTAO_SIZE, (byte) 9);
+            BinaryTransacaoProtocol.writeRequest(buffer, 2, expectedCardNumber, expectedCardPassword, 10_00L);
+            socket.getOutputStream().write(buffer.array(), 0, buffer.position());
+
+            Assertions.assertEquals(
+                    Map.of(1, BinaryTransacaoProtocol.FORMATO_INVALIDO, 2, BinaryTransacaoProtocol.OK),
+                    readResponses(socket, 2));
+        }
+    }
+
+    @Test
+    public void deveResponderIndisponivelQuandoUseCaseRejeitar() throws Exception {
+        start(input -> {
+            throw new RejectedExecutionException();
+        }, 8);
+
+        try (var socket = connect()) {
+            send(socket, 3, expectedCardNumber, expectedCardPassword, 10_00L);
+
+            Assertions.assertEquals(Map.of(3, BinaryTransacaoProtocol.INDISPONIVEL), readResponses(socket, 1));
+        }
+    }
+
+    @Test
+    public void deveLimitarRequisicoesEmAndamentoPorConexao() throws Exception {
+        final var started = new AtomicInteger();
+        final var release = new CountDownLatch(1);
+        start(input -> {
+            started.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return DebitResult.OK;
+        }, 2);
+
+        try (var socket = connect()) {
+            for (int id = 0; id < 5; id++) {
+                send(socket, id, expectedCardNumber, expectedCardPassword, 10_00L);
+            }
+            Thread.sleep(200);
+            Assertions.assertEquals(2, started.get());
+
+            release.countDown();
+            Assertions.assertEquals(5, readResponses(socket, 5).size());
+            Assertions.assertEquals(5, started.get());
+        }
+    }
+
+    @Test
+    public void deveFecharConexaoComTamanhoDeMensagemInvalido() throws Exception {
+        start(input -> DebitResult.OK, 8);
+
+        try (var socket = connect()) {
+            socket.getOutputStream().write(new byte[]{0x7F, 0x7F, 0, 0});
+            Assertions.assertEquals(-1, socket.getInputStream().read());
+        }
+
+        final var registry = new SimpleMeterRegistry();
+        listener.bindTo(registry);
+        Assertions.assertEquals(1.0, registry.get("autorizador.tcp.malformed").functionCounter().count());
+    }
+
+    private void start(DebitCartaoUseCase useCase, int maxInFlight) {
+        listener = new BinaryTransacaoListener(useCase, new InetSocketAddress("127.0.0.1", 0), maxInFlight, Executors.newCachedThreadPool());
+        listener.start();
+    }
+
+    private Socket connect() throws IOException {
+        final var socket = new Socket("127.0.0.1", listener.port());
+        socket.setSoTimeout((int) TimeUnit.SECONDS.toMillis(5));
+        return socket;
+    }
+
+    private static void send(Socket socket, int id, String numeroCartao, String senha, long valor) throws IOException {
+        final var buffer = ByteBuffer.allocate(BinaryTransacaoProtocol.LENGTH_SIZE + BinaryTransacaoProtocol.MAX_REQUEST_SIZE);
+        BinaryTransacaoProtocol.writeRequest(buffer, id, numeroCartao, senha, valor);
+        socket.getOutputStream().write(buffer.array(), 0, buffer.position());
+    }
+
+    private static Map<Integer, Byte> readResponses(Socket socket, int count) throws IOException {
+        final var in = new DataInputStream(socket.getInputStream());
+        final Map<Integer, Byte> responses = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            Assertions.assertEquals(BinaryTransacaoProtocol.RESPONSE_SIZE, in.readUnsignedShort());
+            responses.put(in.readInt(), in.readByte());
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.vr.autorizador.infrastructure.transacao;
+
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.transacao.Transacao;
+import br.com.vr.autorizador.domain.transacao.TransacaoGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TransacaoLedgerWriterTest {
+
+    private final String expectedCardNumber = "6549873025634501";
+
+    @Test
+    public void deveAgruparTransacoesEmLotes() {
+        final var gateway = new RecordingTransacaoGateway();
+
+        try (var writer = new TransacaoLedgerWriter(gateway, 4, Duration.ofMillis(50), 1024)) {
+            for (int i = 0; i < 10; i++) {
+                writer.append(transacao(i));
+            }
+        }
+
+        Assertions.assertEquals(10, gateway.transacoes().size());
+        Assertions.assertTrue(gateway.batches.stream().allMatch(batch -> batch.size() <= 4));
+        Assertions.assertTrue(gateway.batches.size() < 10);
+        Assertions.assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L),
+                gateway.transacoes().stream().map(Transacao::valor).toList());
+    }
+
+    @Test
+    public void deveGravarPendentesAoFechar() {
+        final var gateway = new RecordingTransacaoGateway();
+        final var writer = new TransacaoLedgerWriter(gateway, 1000, Duration.ofSeconds(1), 1024);
+
+        writer.append(transacao(1));
+        writer.close();
+
+        Assertions.assertEquals(1, gateway.transacoes().size());
+        Assertions.assertEquals(1, writer.written());
+        Assertions.assertEquals(0, writer.pending());
+    }
+
+    @Test
+    public void deveGravarDiretamenteAposFechar() {
+        final var gateway = new RecordingTransacaoGateway();
+        final var writer = new TransacaoLedgerWriter(gateway, 10, Duration.ofMillis(1), 1024);
+        writer.close();
+
+        writer.append(transacao(1));
+
+        Assertions.assertEquals(1, gateway.transacoes().size());
+    }
+
+    @Test
+    public void deveDescartarSemBloquearQuandoFilaEstiverCheia() throws Exception {
+        final var writing = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var gateway = new RecordingTransacaoGateway() {
+            @Override
+            public void appendAll(List<Transacao> transacoes) {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.appendAll(transacoes);
+            }
+        };
+
+        final var writer = new TransacaoLedgerWriter(gateway, 1, Duration.ofMillis(1), 1, 1, Duration.ofMillis(1), Duration.ofMillis(10));
+        writer.append(transacao(1));
+        Assertions.assertTrue(writing.await(5, TimeUnit.SECONDS));
+        writer.append(transacao(2));
+
+        final long start = System.nanoTime();
+        writer.append(transacao(3));
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        Assertions.assertEquals(1, writer.overflow());
+
+        release.countDown();
+        writer.close();
+        Assertions.assertEquals(List.of(1L, 2L), gateway.transacoes().stream().map(Transacao::valor).toList());
+    }
+
+    @Test
+    public void deveContarTransacoesNaoGravadas() {
+        final TransacaoGateway gateway = new RecordingTransacaoGateway() {
+            @Override
+            public void appendAll(List<Transacao> transacoes) {
+                throw new IllegalStateException("Gateway error");
+            }
+        };
+
+        final var writer = new TransacaoLedgerWriter(gateway, 10, Duration.ofMillis(1), 1024, 3, Duration.ofMillis(1));
+        writer.append(transacao(1));
+        writer.append(transacao(2));
+        writer.close();
+
+        Assertions.assertEquals(2, writer.failed());
+        Assertions.assertEquals(0, writer.written());
+        Assertions.assertTrue(writer.retried() >= 2);
+    }
+
+    @Test
+    public void deveRegravarLoteAposFalhaTemporaria() {
+        final var failures = new AtomicInteger(2);
+        final RecordingTransacaoGateway gateway = new RecordingTransacaoGateway() {
+            @Override
+            public void appendAll(List<Transacao> transacoes) {
+                if (failures.getAndDecrement() > 0) {
+                    throw new IllegalStateException("Gateway error");
+                }
+                super.appendAll(transacoes);
+            }
+        };
+
+        final var writer = new TransacaoLedgerWriter(gateway, 10, Duration.ofMillis(1), 1024, 3, Duration.ofMillis(1));
+        writer.append(transacao(1));
+        writer.close();
+
+        Assertions.assertEquals(1, gateway.transacoes().size());
+        Assertions.assertEquals(1, writer.written());
+        Assertions.assertEquals(2, writer.retried());
+        Assertions.assertEquals(0, writer.failed());
+    }
+
+    private Transacao transacao(long valor) {
+        return Transacao.newTransacao(expectedCardNumber, valor, DebitResult.OK, Instant.EPOCH);
+    }
+
+    private static class RecordingTransacaoGateway implements TransacaoGateway {
+        private final List<List<Transacao>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void appendAll(List<Transacao> transacoes) {
+            batches.add(List.copyOf(transacoes));
+        }
+
+        @Override
+        public List<Transacao> findBy(String numeroCartao, Long antesDe, int limite) {
+            return List.of();
+        }
+
+        List<Transacao> transacoes() {
+            final List<Transacao> transacoes = new ArrayList<>();
+            batches.forEach(transacoes::addAll);
+            return transacoes;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.vr.autorizador.infrastructure.transacao;
+
+import br.com.vr.autorizador.domain.cartao.DebitResult;
+import br.com.vr.autorizador.domain.transacao.Transacao;
+import br.com.vr.autorizador.infrastructure.MySQLGatewayTest;
+import br.com.vr.autorizador.infrastructure.transacao.persistence.TransacaoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@MySQLGatewayTest
+public class TransacaoMySQLGatewayTest {
+
+    @Autowired
+    private TransacaoMySQLGateway gateway;
+    @Autowired
+    private TransacaoRepository repository;
+
+    private final String expectedCardNumber = "6549873025634501";
+    private final String otherCardNumber = "6549873025634502";
+    private final Instant criadoEm = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @Test
+    public void deveGravarTransacoesEmLote() {
+        gateway.appendAll(List.of(
+                Transacao.newTransacao(expectedCardNumber, 10_00L, DebitResult.OK, criadoEm),
+                Transacao.newTransacao(expectedCardNumber, 900_00L, DebitResult.SALDO_INSUFICIENTE, criadoEm)
+        ));
+
+        Assertions.assertEquals(2, repository.count());
+
+        final var transacoes = gateway.findBy(expectedCardNumber, null, 10);
+        Assertions.assertEquals(2, transacoes.size());
+        Assertions.assertEquals(DebitResult.SALDO_INSUFICIENTE, transacoes.get(0).resultado());
+        Assertions.assertEquals(900_00L, transacoes.get(0).valor());
+        Assertions.assertEquals(criadoEm, transacoes.get(0).criadoEm());
+        Assertions.assertTrue(transacoes.get(0).sequencia() > transacoes.get(1).sequencia());
+    }
+
+    @Test
+    public void devePaginarPorSequenciaDecrescente() {
+        gateway.appendAll(IntStream.range(0, 25)
+                .mapToObj(i -> Transacao.newTransacao(i % 2 == 0 ? expectedCardNumber : otherCardNumber, i, DebitResult.OK, criadoEm))
+                .toList());
+
+        final List<Long> valores = new ArrayList<>();
+        Long antesDe = null;
+        while (true) {
+            final var pagina = gateway.findBy(expectedCardNumber, antesDe, 5);
+            pagina.forEach(transacao -> valores.add(transacao.valor()));
+            if (pagina.size() < 5) {
+                break;
+            }
+            antesDe = pagina.get(pagina.size() - 1).sequencia();
+        }
+
+        Assertions.assertEquals(List.of(24L, 22L, 20L, 18L, 16L, 14L, 12L, 10L, 8L, 6L, 4L, 2L, 0L), valores);
+    }
+}